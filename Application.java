@@ -1,3 +1,5 @@
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Represents an internship application submitted by a student in the system.
  * <p>
@@ -13,6 +15,10 @@
  * Career Center Staff approval. The withdrawal request state is tracked separately.
  * </p>
  * <p>
+ * Each application receives a stable, system-assigned ID (e.g. "APP001") on creation,
+ * which is used for equality and constant-time lookup by {@link ApplicationManager}.
+ * </p>
+ * <p>
  * <b>Business Rules:</b>
  * <ul>
  *   <li>Students can have maximum 3 active applications</li>
@@ -29,22 +35,33 @@
  * @since 2025-11-20
  */
 public class Application {
+    /** Source of application IDs; numbers are assigned in creation order and never reused */
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+    
+    /** Unique, immutable identifier in the form APP001 */
+    private final String applicationID;
+    /** The number in {@link #applicationID}; key of the primitive per-application indexes */
+    private final int ordinal;
     private Student student;
     private InternshipOpportunity internship;
     private String status; // Pending, Successful, Unsuccessful, Accepted
     private boolean withdrawalRequested;
+    /** Observer notified after every status change (set by the owning ApplicationManager) */
+    private IApplicationChangeListener changeListener;
     
     /**
      * Constructs a new Application for the specified student and internship.
      * <p>
-     * The application is created with a default status of "Pending" and
-     * no withdrawal request.
+     * The application is created with a default status of "Pending",
+     * no withdrawal request, and the next application ID.
      * </p>
      *
      * @param student    the {@link Student} submitting the application
      * @param internship the {@link InternshipOpportunity} being applied for
      */
     public Application(Student student, InternshipOpportunity internship) {
+        this.ordinal = NEXT_ID.getAndIncrement();
+        this.applicationID = String.format("APP%03d", ordinal);
         this.student = student;
         this.internship = internship;
         this.status = "Pending";
@@ -59,12 +76,17 @@ public class Application {
      *   <li>Pending → Successful (company representative approval)</li>
      *   <li>Pending → Unsuccessful (company representative rejection)</li>
      *   <li>Successful → Accepted (student acceptance)</li>
+     *   <li>Pending/Unsuccessful → Waitlisted → Successful (promotion when a slot is released)</li>
      * </ul>
      *
      * @param newStatus the new status to set
      */
     public void updateStatus(String newStatus) {
+        String oldStatus = this.status;
         this.status = newStatus;
+        if (changeListener != null) {
+            changeListener.applicationStatusChanged(this, oldStatus);
+        }
     }
     
     /**
@@ -75,7 +97,29 @@ public class Application {
      * </p>
      */
     public void markWithdrawalRequested() {
+        boolean alreadyRequested = this.withdrawalRequested;
         this.withdrawalRequested = true;
+        if (!alreadyRequested && changeListener != null) {
+            changeListener.withdrawalRequested(this);
+        }
+    }
+    
+    /**
+     * Retrieves the unique identifier of this application.
+     *
+     * @return the application ID (e.g. "APP001")
+     */
+    public String getApplicationID() {
+        return applicationID;
+    }
+    
+    /**
+     * Retrieves the number of this application, unique for the process and never reused.
+     *
+     * @return the ordinal, the numeric part of the application ID
+     */
+    int getOrdinal() {
+        return ordinal;
     }
     
     /**
@@ -123,4 +167,45 @@ public class Application {
     public void setWithdrawalRequested(boolean withdrawalRequested) {
         this.withdrawalRequested = withdrawalRequested;
     }
+    
+    /**
+     * Registers the observer to notify after every status change and withdrawal request of this application.
+     * <p>
+     * {@link ApplicationManager} registers itself when the application is submitted so that
+     * its per-status groupings stay consistent with direct calls to {@link #updateStatus(String)}.
+     * Pass {@code null} to detach.
+     * </p>
+     *
+     * @param changeListener the listener to notify, or null to stop notifications
+     */
+    public void setChangeListener(IApplicationChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+    
+    /**
+     * Compares applications by their application ID.
+     *
+     * @param other the object to compare with
+     * @return {@code true} if {@code other} is an application with the same ID
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Application)) {
+            return false;
+        }
+        return applicationID.equals(((Application) other).applicationID);
+    }
+    
+    /**
+     * Computes the hash code from the application ID, consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return applicationID.hashCode();
+    }
 }
@@ -0,0 +1,222 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cold storage tier for finalized applications, kept in append-only segment files on disk.
+ * <p>
+ * Applications whose outcome can no longer change are moved here from the
+ * {@link ApplicationManager}, so the in-memory working set (and every scan and index over
+ * it) stays proportional to the current cycle:
+ * <ul>
+ *   <li><strong>Segments:</strong> records are appended as tab-separated lines to
+ *       {@code applications-NNNNN.tsv} files of at most {@link #SEGMENT_SIZE} records; each
+ *       archiving run is written in one batch</li>
+ *   <li><strong>Lazy queries:</strong> {@link #stream()} reads the segments line by line on
+ *       demand, so reports can query the archive without loading it into memory</li>
+ *   <li><strong>Summary:</strong> the only in-memory state is, per student, the number of
+ *       archived applications and the internships they were for, which keep the
+ *       3-application limit and the duplicate-application check exact</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Applications live only as long as the running system, so the archive belongs to one run:
+ * {@link #createTemporary()} places it in a temporary directory that is deleted on exit.
+ * </p>
+ *
+ * @see ApplicationManager#archiveFinalizedApplications()
+ * @see ArchivedApplication
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class ApplicationArchive {
+    /** Maximum number of records per segment file */
+    public static final int SEGMENT_SIZE = 10_000;
+
+    private final Path directory;
+    private final List<Path> segments;
+    private int recordsInLastSegment;
+    private long size;
+    /** student ID -> number of archived applications that count towards the application limit */
+    private final Map<String, Integer> countedByStudent;
+    /** student ID -> IDs of the internships of the student's archived applications */
+    private final Map<String, Set<String>> internshipsByStudent;
+    private boolean deleteSegmentsOnExit;
+
+    /**
+     * Constructs an empty archive writing its segments to the given directory.
+     *
+     * @param directory an existing directory; segment files are created in it
+     */
+    public ApplicationArchive(Path directory) {
+        this.directory = directory;
+        this.segments = new ArrayList<>();
+        this.countedByStudent = new HashMap<>();
+        this.internshipsByStudent = new HashMap<>();
+    }
+
+    /**
+     * Creates an archive in a new temporary directory that is deleted when the JVM exits.
+     *
+     * @return the archive
+     * @throws IOException if the directory cannot be created
+     */
+    public static ApplicationArchive createTemporary() throws IOException {
+        Path directory = Files.createTempDirectory("application-archive");
+        directory.toFile().deleteOnExit();
+        ApplicationArchive archive = new ApplicationArchive(directory);
+        archive.deleteSegmentsOnExit = true;
+        return archive;
+    }
+
+    /**
+     * Appends finalized applications to the archive in one batch.
+     * <p>
+     * If writing fails, an exception is thrown and the caller should keep the applications
+     * in memory; the summary is only updated after the whole batch was written.
+     * </p>
+     *
+     * @param apps the applications to archive
+     * @throws IOException if the segment files cannot be written
+     */
+    public synchronized void append(List<Application> apps) throws IOException {
+        LocalDate today = LocalDate.now();
+        int index = 0;
+        while (index < apps.size()) {
+            if (segments.isEmpty() || recordsInLastSegment == SEGMENT_SIZE) {
+                Path segment = directory.resolve(String.format("applications-%05d.tsv", segments.size() + 1));
+                if (deleteSegmentsOnExit) {
+                    segment.toFile().deleteOnExit();
+                }
+                segments.add(segment);
+                recordsInLastSegment = 0;
+            }
+            int end = Math.min(apps.size(), index + SEGMENT_SIZE - recordsInLastSegment);
+            try (BufferedWriter writer = Files.newBufferedWriter(segments.get(segments.size() - 1),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (int i = index; i < end; i++) {
+                    writer.write(toRecord(apps.get(i), today));
+                    writer.newLine();
+                }
+            }
+            recordsInLastSegment += end - index;
+            index = end;
+        }
+        size += apps.size();
+        for (Application app : apps) {
+            String studentID = app.getStudent().getUserID();
+            if (!"Withdrawn".equals(app.getStatus())) {
+                countedByStudent.merge(studentID, 1, Integer::sum);
+            }
+            internshipsByStudent.computeIfAbsent(studentID, k -> new HashSet<>())
+                .add(app.getInternship().getInternshipID());
+        }
+    }
+
+    /**
+     * Streams every archived application, reading the segment files lazily.
+     * <p>
+     * The stream must be closed (for example with try-with-resources) to release open files.
+     * </p>
+     *
+     * @return the archived applications in archiving order
+     */
+    public Stream<ArchivedApplication> stream() {
+        List<Path> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(segments);
+        }
+        return snapshot.stream().flatMap(segment -> {
+            try {
+                return Files.lines(segment, StandardCharsets.UTF_8).map(ApplicationArchive::fromRecord);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Retrieves the archived applications of a student by scanning the segments.
+     *
+     * @param studentID the student's user ID
+     * @return the student's archived applications
+     */
+    public List<ArchivedApplication> findByStudent(String studentID) {
+        try (Stream<ArchivedApplication> archived = stream()) {
+            return archived.filter(a -> a.getStudentID().equals(studentID)).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Counts a student's archived applications that still count towards the application limit
+     * (all except "Withdrawn"). Answered from memory without reading the segments.
+     *
+     * @param studentID the student's user ID
+     * @return the number of counted archived applications
+     */
+    public synchronized int getCountedApplications(String studentID) {
+        return countedByStudent.getOrDefault(studentID, 0);
+    }
+
+    /**
+     * Checks whether a student has an archived application for an internship. Answered from
+     * memory without reading the segments.
+     *
+     * @param studentID    the student's user ID
+     * @param internshipID the internship's ID
+     * @return true if one of the student's archived applications is for the internship
+     */
+    public synchronized boolean hasApplication(String studentID, String internshipID) {
+        Set<String> internships = internshipsByStudent.get(studentID);
+        return internships != null && internships.contains(internshipID);
+    }
+
+    /**
+     * Counts the archived applications.
+     *
+     * @return the number of records in the archive
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    /**
+     * Counts the segment files.
+     *
+     * @return the number of segments
+     */
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    private static String toRecord(Application app, LocalDate archivedDate) {
+        InternshipOpportunity internship = app.getInternship();
+        return String.join("\t", app.getApplicationID(), app.getStudent().getUserID(),
+            internship.getInternshipID(), clean(internship.getTitle()), clean(internship.getCompanyName()),
+            app.getStatus(), archivedDate.toString());
+    }
+
+    private static ArchivedApplication fromRecord(String line) {
+        String[] parts = line.split("\t", -1);
+        return new ArchivedApplication(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5],
+                                       LocalDate.parse(parts[6]));
+    }
+
+    private static String clean(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
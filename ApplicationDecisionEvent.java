@@ -0,0 +1,85 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for a decision on applications.
+ * <p>
+ * Emitted for single status updates, for accepted placements and for every batch decided by
+ * {@link ApplicationManager#decideApplications(java.util.List, java.util.List)}, which also
+ * carries the batches of {@code approveTopApplications}, {@code matchPlacements} and
+ * {@code applyDecisionFile}.
+ * </p>
+ *
+ * @see ApplicationManager
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+@Name("sc2002.placement.ApplicationDecision")
+@Label("Application Decision")
+@Category({"Internship Placement", "Applications"})
+@Description("Status change of one application, or an approve/reject batch")
+public class ApplicationDecisionEvent extends Event {
+    @Label("Operation")
+    @Description("The ApplicationManager method, e.g. decideApplications")
+    private String operation;
+
+    @Label("Application ID")
+    @Description("The application decided; empty for batches")
+    private String applicationID;
+
+    @Label("Status")
+    @Description("The status requested for a single application; empty for batches")
+    private String status;
+
+    @Label("Approvals")
+    private int approvals;
+
+    @Label("Rejections")
+    private int rejections;
+
+    @Label("Decided")
+    @Description("Number of applications changed; 0 if the decision was refused")
+    private int decided;
+
+    /**
+     * Commits the event for one application if it is enabled and over its threshold.
+     *
+     * @param operation the ApplicationManager method
+     * @param app       the application
+     * @param status    the status requested
+     * @param applied   true if the status was changed
+     */
+    public void finish(String operation, Application app, String status, boolean applied) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.applicationID = app.getApplicationID();
+            this.status = status;
+            this.decided = applied ? 1 : 0;
+            commit();
+        }
+    }
+
+    /**
+     * Commits the event for a batch if it is enabled and over its threshold.
+     *
+     * @param operation  the ApplicationManager method
+     * @param approvals  the number of applications to approve
+     * @param rejections the number of applications to reject
+     * @param decided    the number of applications changed
+     */
+    public void finish(String operation, int approvals, int rejections, int decided) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.applicationID = "";
+            this.status = "";
+            this.approvals = approvals;
+            this.rejections = rejections;
+            this.decided = decided;
+            commit();
+        }
+    }
+}
@@ -1,5 +1,17 @@
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -9,7 +21,10 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>Application submission with validation (3-application limit, eligibility checks)</li>
  *   <li>Application status management (Pending, Shortlisted, Successful, Unsuccessful, Accepted)</li>
+ *   <li>Batch application decisions (explicit lists, top N, CSV file) applied all-or-nothing</li>
+ *   <li>Stable matching of oversubscribed cycles from student and posting rankings</li>
  *   <li>Withdrawal request handling and approval workflow</li>
+ *   <li>Ranked waitlists with automatic promotion when a slot is released</li>
  *   <li>Automatic withdrawal of competing applications when a placement is accepted</li>
  *   <li>Integration with InternshipManager for slot availability updates</li>
  *   <li>Business rule enforcement (year-based eligibility, maximum applications)</li>
@@ -30,6 +45,20 @@ import java.util.stream.Collectors;
  *   <li><strong>Open/Closed:</strong> Business rules are encapsulated in methods, easy to extend</li>
  *   <li><strong>Dependency:</strong> Coordinates with InternshipManager for status updates</li>
  * </ul>
+ * <p>
+ * <strong>Storage:</strong> Applications are held in an {@link IndexedSlotList} keyed by
+ * application ID, so withdrawals and placement clean-up remove applications in constant time
+ * instead of searching the whole list. Outstanding withdrawal requests are kept in a
+ * {@link WithdrawalQueue} in the order they were made. Applications are also grouped by
+ * internship and status in an {@link InternshipApplicationIndex}, kept current through
+ * {@link IApplicationChangeListener}, so per-posting lists and counts do not scan the system.
+ * A {@link StudentApplicationIndex} does the same per student, for duplicate checks, the
+ * active application limit and a student's application list.
+ * Waitlisted applications are kept per internship in an {@link InternshipWaitlist}, from
+ * which the best-ranked eligible candidate is promoted whenever a slot is released.
+ * Finalized applications of closed postings can be moved to an on-disk
+ * {@link ApplicationArchive}, so the in-memory working set covers the current cycle only.
+ * </p>
  *
  * @see Application
  * @see Student
@@ -39,8 +68,16 @@ import java.util.stream.Collectors;
  * @version 1.0
  * @since 2025-11-20
  */
-public class ApplicationManager {
-    private List<Application> applicationList;
+public class ApplicationManager implements IApplicationChangeListener {
+    private IndexedSlotList<Application> applications;
+    private WithdrawalQueue withdrawalQueue;
+    private InternshipApplicationIndex applicationIndex;
+    private StudentApplicationIndex studentIndex;
+    private InternshipWaitlist waitlist;
+    private List<String> changeLog;
+    private EventBus eventBus;
+    private MetricsRegistry metrics = MetricsRegistry.DISABLED;
+    private ApplicationArchive archive;
     
     /**
      * Constructs a new ApplicationManager with an empty application list.
@@ -49,7 +86,12 @@ public class ApplicationManager {
      * </p>
      */
     public ApplicationManager() {
-        this.applicationList = new ArrayList<>();
+        this.applications = new IndexedSlotList<>(Application::getApplicationID);
+        this.withdrawalQueue = new WithdrawalQueue();
+        this.applicationIndex = new InternshipApplicationIndex();
+        this.studentIndex = new StudentApplicationIndex();
+        this.waitlist = new InternshipWaitlist();
+        this.changeLog = new ArrayList<>();
     }
     
     /**
@@ -69,35 +111,70 @@ public class ApplicationManager {
      * @return true if the application was successfully created, false if validation failed
      */
     public boolean submitApplication(Student student, InternshipOpportunity internship) {
-        // Check if student has already applied for this opportunity
-        if (hasApplied(student, internship)) {
-            System.out.println("You have already applied for this internship.");
-            return false;
-        }
-        
-        // Check if student has reached maximum applications (3)
-        long activeApplications = getActiveApplicationsCount(student);
-        if (activeApplications >= 3) {
-            System.out.println("You have reached the maximum number of applications (3).");
-            return false;
-        }
-        
-        // Check student eligibility based on year of study
-        if (student.getYearOfStudy() <= 2 && !"Basic".equals(internship.getLevel())) {
-            System.out.println("Year 1 and 2 students can only apply for Basic-level internships.");
-            return false;
-        }
-        
-        // Check if internship is open for applications
-        if (!internship.isOpenForApplications()) {
-            System.out.println("This internship is not currently open for applications.");
-            return false;
+        long start = metrics.startSampled("ApplicationManager.submitApplication");
+        ApplicationSubmissionEvent event = new ApplicationSubmissionEvent();
+        event.begin();
+        boolean submitted = false;
+        try {
+            // Check if student has already applied for this opportunity
+            if (hasApplied(student, internship)) {
+                System.out.println("You have already applied for this internship.");
+                return false;
+            }
+            
+            // Check if student has reached maximum applications (3)
+            long activeApplications = getActiveApplicationsCount(student);
+            if (activeApplications >= 3) {
+                System.out.println("You have reached the maximum number of applications (3).");
+                return false;
+            }
+            
+            // Check student eligibility based on year of study
+            if (student.getYearOfStudy() <= 2 && !"Basic".equals(internship.getLevel())) {
+                System.out.println("Year 1 and 2 students can only apply for Basic-level internships.");
+                return false;
+            }
+            
+            // Check if internship is open for applications
+            if (!internship.isOpenForApplications()) {
+                System.out.println("This internship is not currently open for applications.");
+                return false;
+            }
+            
+            // Create and add the application
+            Application application = new Application(student, internship);
+            applications.add(application);
+            applicationIndex.add(application);
+            studentIndex.add(application);
+            application.setChangeListener(this);
+            if (eventBus != null) {
+                eventBus.publish(StateChangeEvent.forApplication(
+                    StateChangeEvent.Type.APPLICATION_SUBMITTED, application, null, application.getStatus()));
+            }
+            submitted = true;
+            return true;
+        } finally {
+            metrics.recordSampled("ApplicationManager.submitApplication", start);
+            event.finish(student, internship, submitted);
         }
-        
-        // Create and add the application
-        Application application = new Application(student, internship);
-        applicationList.add(application);
-        return true;
+    }
+    
+    /**
+     * Adds an application restored from storage or generated for a benchmark, without the
+     * submission checks.
+     * <p>
+     * The application keeps its current status and joins the store and the per-internship
+     * index like a submitted one. No event is published. The caller is responsible for the
+     * data being consistent (no duplicates, at most 3 active applications per student).
+     * </p>
+     *
+     * @param application the Application to add
+     */
+    void loadApplication(Application application) {
+        applications.add(application);
+        applicationIndex.add(application);
+        studentIndex.add(application);
+        application.setChangeListener(this);
     }
     
     /**
@@ -118,29 +195,318 @@ public class ApplicationManager {
      * @param status the new status to set ("Pending", "Shortlisted", "Successful", "Unsuccessful", "Accepted")
      */
     public void updateApplicationStatus(Application app, String status) {
-        String currentStatus = app.getStatus();
-        
-        // Prevent changing finalized statuses
-        if ("Successful".equals(currentStatus) || "Unsuccessful".equals(currentStatus)) {
-            System.out.println("Cannot change status of a finalized application (" + currentStatus + ").");
-            return;
+        long start = metrics.startSampled("ApplicationManager.updateApplicationStatus");
+        ApplicationDecisionEvent event = new ApplicationDecisionEvent();
+        event.begin();
+        boolean applied = false;
+        try {
+            String currentStatus = app.getStatus();
+            
+            // Prevent changing finalized statuses
+            if ("Successful".equals(currentStatus) || "Unsuccessful".equals(currentStatus)) {
+                System.out.println("Cannot change status of a finalized application (" + currentStatus + ").");
+                return;
+            }
+            
+            app.updateStatus(status);
+            applied = true;
+        } finally {
+            metrics.recordSampled("ApplicationManager.updateApplicationStatus", start);
+            event.finish("updateApplicationStatus", app, status, applied);
+        }
+    }
+    
+    /**
+     * Approves and rejects several applications as one all-or-nothing batch.
+     * <p>
+     * The whole batch is validated before any status is changed:
+     * <ul>
+     *   <li>every application must be held by this manager and not yet finalized
+     *       (Successful, Unsuccessful or Accepted)</li>
+     *   <li>no application may be listed twice, or be both approved and rejected</li>
+     *   <li>for each internship, the approvals must fit into the slots left after its
+     *       "Successful" and "Accepted" applications, read once per internship from the
+     *       per-internship index</li>
+     * </ul>
+     * If any check fails, a message is printed and no application is changed. Otherwise the
+     * approved applications become "Successful" and the rejected ones "Unsuccessful".
+     * </p>
+     * <p>
+     * This method does not check who owns the internships; it is for callers that have
+     * already selected the applications, such as {@link #matchPlacements(Map, Map)}. Batches
+     * submitted on behalf of a company representative go through
+     * {@link #decideApplications(String, List, List)}.
+     * </p>
+     *
+     * @param approve the Applications to approve
+     * @param reject  the Applications to reject
+     * @return the number of applications decided; 0 if the batch was refused
+     */
+    public int decideApplications(List<Application> approve, List<Application> reject) {
+        return decide(null, approve, reject);
+    }
+    
+    /**
+     * Approves and rejects several applications of one company representative's internships
+     * as one all-or-nothing batch.
+     * <p>
+     * In addition to the checks of {@link #decideApplications(List, List)}, every application
+     * must be for an internship created by the representative; otherwise a message is printed
+     * and no application is changed.
+     * </p>
+     *
+     * @param repID   the user ID of the company representative deciding the batch
+     * @param approve the Applications to approve
+     * @param reject  the Applications to reject
+     * @return the number of applications decided; 0 if the batch was refused
+     */
+    public int decideApplications(String repID, List<Application> approve, List<Application> reject) {
+        if (repID == null) {
+            System.out.println("A company representative is required to decide applications.");
+            return 0;
+        }
+        return decide(repID, approve, reject);
+    }
+    
+    /**
+     * Validates and applies a batch of decisions, checking ownership if {@code repID} is set.
+     */
+    private int decide(String repID, List<Application> approve, List<Application> reject) {
+        long start = System.nanoTime();
+        ApplicationDecisionEvent event = new ApplicationDecisionEvent();
+        event.begin();
+        int decided = 0;
+        try {
+            Set<Application> seen = new HashSet<>();
+            Map<InternshipOpportunity, Integer> approvalsPerInternship = new LinkedHashMap<>();
+            List<Application> batch = new ArrayList<>(approve);
+            batch.addAll(reject);
+            for (int i = 0; i < batch.size(); i++) {
+                Application app = batch.get(i);
+                if (!seen.add(app)) {
+                    System.out.println("Application " + app.getApplicationID() + " is listed more than once.");
+                    return 0;
+                }
+                if (!applications.containsID(app.getApplicationID())) {
+                    System.out.println("Application " + app.getApplicationID() + " does not exist.");
+                    return 0;
+                }
+                if (repID != null && !repID.equals(app.getInternship().getCompanyRepID())) {
+                    System.out.println("Application " + app.getApplicationID() + " is not for one of your internships.");
+                    return 0;
+                }
+                if (RepresentativeDashboard.isFinalized(app.getStatus())) {
+                    System.out.println("Application " + app.getApplicationID() + " has already been finalized as: " + app.getStatus());
+                    return 0;
+                }
+                if (i < approve.size()) {
+                    approvalsPerInternship.merge(app.getInternship(), 1, Integer::sum);
+                }
+            }
+            
+            // Slot check once per internship against the maintained counters
+            for (Map.Entry<InternshipOpportunity, Integer> entry : approvalsPerInternship.entrySet()) {
+                InternshipOpportunity internship = entry.getKey();
+                int taken = applicationIndex.count(internship, "Successful")
+                    + applicationIndex.count(internship, "Accepted");
+                if (taken + entry.getValue() > internship.getNumSlots()) {
+                    System.out.println("Cannot approve " + entry.getValue() + " application(s) for " + internship.getTitle()
+                        + ": only " + Math.max(0, internship.getNumSlots() - taken) + " of "
+                        + internship.getNumSlots() + " slots are free.");
+                    return 0;
+                }
+            }
+            
+            for (Application app : approve) {
+                app.updateStatus("Successful");
+            }
+            for (Application app : reject) {
+                app.updateStatus("Unsuccessful");
+            }
+            decided = batch.size();
+            return decided;
+        } finally {
+            metrics.record("ApplicationManager.decideApplications", start);
+            event.finish("decideApplications", approve.size(), reject.size(), decided);
+        }
+    }
+    
+    /**
+     * Approves the first applications awaiting a decision for an internship and rejects the rest.
+     * <p>
+     * Applications are ranked in submission order. The decisions are applied as one batch
+     * through {@link #decideApplications(List, List)}, so nothing changes if the approvals do
+     * not fit into the free slots.
+     * </p>
+     *
+     * @param internship the InternshipOpportunity whose applications are decided
+     * @param count      the number of applications to approve
+     * @return the number of applications decided; 0 if the batch was refused
+     */
+    public int approveTopApplications(InternshipOpportunity internship, int count) {
+        long start = System.nanoTime();
+        try {
+            List<Application> reviewable = new ArrayList<>();
+            for (Application app : applicationIndex.getApplications(internship)) {
+                if (!RepresentativeDashboard.isFinalized(app.getStatus())) {
+                    reviewable.add(app);
+                }
+            }
+            if (count < 0 || count > reviewable.size()) {
+                System.out.println("Number to approve must be between 0 and " + reviewable.size() + ".");
+                return 0;
+            }
+            return decideApplications(reviewable.subList(0, count), reviewable.subList(count, reviewable.size()));
+        } finally {
+            metrics.record("ApplicationManager.approveTopApplications", start);
+        }
+    }
+    
+    /**
+     * Decides the applications of an oversubscribed cycle by stable matching.
+     * <p>
+     * The internships in {@code postingRankings} take part. Their applications that are
+     * held by this manager and not yet finalized are matched by a {@link PlacementMatcher}
+     * against the free slots of each internship ({@code numSlots} minus its "Successful" and
+     * "Accepted" applications). Students missing from {@code studentPreferences} rank their
+     * applications in submission order. Matched applications become "Successful" and every
+     * other participating application "Unsuccessful", applied as one batch through
+     * {@link #decideApplications(List, List)}.
+     * </p>
+     *
+     * @param studentPreferences each student's applications, most preferred first
+     * @param postingRankings    each participating internship's applications, best candidate first
+     * @return the number of applications decided; 0 if the batch was refused
+     */
+    public int matchPlacements(Map<Student, List<Application>> studentPreferences,
+                               Map<InternshipOpportunity, List<Application>> postingRankings) {
+        long start = System.nanoTime();
+        try {
+            // Keep only reviewable applications held by this manager
+            Map<InternshipOpportunity, List<Application>> rankings = new LinkedHashMap<>();
+            Set<Application> participating = new LinkedHashSet<>();
+            for (Map.Entry<InternshipOpportunity, List<Application>> entry : postingRankings.entrySet()) {
+                List<Application> ranking = new ArrayList<>();
+                for (Application app : entry.getValue()) {
+                    if (app.getInternship() == entry.getKey() && applications.containsID(app.getApplicationID())
+                            && !RepresentativeDashboard.isFinalized(app.getStatus()) && participating.add(app)) {
+                        ranking.add(app);
+                    }
+                }
+                rankings.put(entry.getKey(), ranking);
+            }
+            
+            // Students without explicit preferences rank their applications in submission order
+            Map<Student, List<Application>> preferences = new LinkedHashMap<>(studentPreferences);
+            for (Application app : applications) {
+                if (participating.contains(app) && !studentPreferences.containsKey(app.getStudent())) {
+                    preferences.computeIfAbsent(app.getStudent(), k -> new ArrayList<>()).add(app);
+                }
+            }
+            
+            List<Application> matched = new PlacementMatcher().match(preferences, rankings,
+                internship -> internship.getNumSlots()
+                    - applicationIndex.count(internship, "Successful")
+                    - applicationIndex.count(internship, "Accepted"));
+            matched.forEach(participating::remove);
+            return decideApplications(matched, new ArrayList<>(participating));
+        } finally {
+            metrics.record("ApplicationManager.matchPlacements", start);
+        }
+    }
+    
+    /**
+     * Applies application decisions listed in a CSV file as one batch.
+     * <p>
+     * Expected CSV format (with header): ApplicationID, Decision
+     * <br>Example: APP001, Approve
+     * </p>
+     * <p>
+     * The decision is "Approve" (or "Successful") or "Reject" (or "Unsuccessful"), ignoring
+     * case. Every listed application must belong to one of the given internships. The file is
+     * read and checked completely before {@link #decideApplications(List, List)} applies it,
+     * so a malformed line or an invalid decision leaves every application unchanged.
+     * </p>
+     *
+     * @param filename    the path to the decision CSV file
+     * @param internships the internships whose applications the file may decide
+     * @return the number of applications decided; 0 if the file was refused
+     */
+    public int applyDecisionFile(String filename, Collection<InternshipOpportunity> internships) {
+        long start = System.nanoTime();
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int rows = 0;
+        boolean loaded = false;
+        try {
+            Set<InternshipOpportunity> allowed = new HashSet<>(internships);
+            List<Application> approve = new ArrayList<>();
+            List<Application> reject = new ArrayList<>();
+            try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
+                String line;
+                int lineNumber = 0;
+                while ((line = br.readLine()) != null) {
+                    lineNumber++;
+                    if (lineNumber == 1 || line.trim().isEmpty()) {
+                        continue; // Skip header and empty lines
+                    }
+                    String[] parts = line.split(",");
+                    if (parts.length < 2) {
+                        System.out.println("Line " + lineNumber + ": expected ApplicationID, Decision.");
+                        return 0;
+                    }
+                    Application app = applications.get(parts[0].trim());
+                    if (app == null || !allowed.contains(app.getInternship())) {
+                        System.out.println("Line " + lineNumber + ": unknown application " + parts[0].trim() + ".");
+                        return 0;
+                    }
+                    String decision = parts[1].trim();
+                    if ("Approve".equalsIgnoreCase(decision) || "Successful".equalsIgnoreCase(decision)) {
+                        approve.add(app);
+                    } else if ("Reject".equalsIgnoreCase(decision) || "Unsuccessful".equalsIgnoreCase(decision)) {
+                        reject.add(app);
+                    } else {
+                        System.out.println("Line " + lineNumber + ": unknown decision " + decision + ".");
+                        return 0;
+                    }
+                    rows++;
+                }
+            } catch (IOException e) {
+                System.out.println("Error reading decisions: " + e.getMessage());
+                return 0;
+            }
+            loaded = true;
+            return decideApplications(approve, reject);
+        } finally {
+            metrics.record("ApplicationManager.applyDecisionFile", start);
+            event.finish(filename, "Decisions", rows, loaded);
         }
-        
-        app.updateStatus(status);
     }
     
     /**
      * Initiates a withdrawal request for an application.
      * <p>
-     * This method marks the application as having a pending withdrawal request.
-     * The actual withdrawal must be approved by Career Center Staff using
-     * {@link #approveWithdrawal(Application, InternshipManager)}.
+     * This method marks the application as having a pending withdrawal request and appends
+     * it to the withdrawal queue reviewed by Career Center Staff. The actual withdrawal must be
+     * approved using {@link #approveWithdrawal(Application, InternshipManager)}.
+     * Requesting withdrawal again while a request is queued keeps the original position.
      * </p>
      *
      * @param app the Application for which withdrawal is requested
      */
     public void handleWithdrawal(Application app) {
-        app.markWithdrawalRequested();
+        long start = metrics.startSampled("ApplicationManager.handleWithdrawal");
+        WithdrawalEvent event = new WithdrawalEvent();
+        event.begin();
+        try {
+            app.markWithdrawalRequested();
+            if (applications.containsID(app.getApplicationID())) {
+                withdrawalQueue.enqueue(app);
+            }
+        } finally {
+            metrics.recordSampled("ApplicationManager.handleWithdrawal", start);
+            event.finishRequest(app);
+        }
     }
     
     /**
@@ -158,18 +524,54 @@ public class ApplicationManager {
      * @param internshipManager  the InternshipManager to coordinate status updates with
      */
     public void approveWithdrawal(Application app, InternshipManager internshipManager) {
-        InternshipOpportunity internship = app.getInternship();
-        String appStatus = app.getStatus();
-        
-        // Remove the application
-        applicationList.remove(app);
-        
-        // If the application was Accepted and internship is Filled, revert to Approved
-        if ("Accepted".equals(appStatus) && "Filled".equals(internship.getStatus())) {
-            long remainingAccepted = getAcceptedCount(internship);
-            if (remainingAccepted < internship.getNumSlots()) {
-                internshipManager.revertFilledStatus(internship);
+        approveWithdrawals(Collections.singletonList(app), internshipManager);
+    }
+    
+    /**
+     * Approves several withdrawal requests in one operation.
+     * <p>
+     * All applications are removed from the system and the withdrawal queue first; each
+     * internship that lost an "Accepted" application is then checked once, and reverted from
+     * "Filled" to "Approved" if it has free slots again. This gives the same outcome as
+     * approving the requests one by one. Every internship that lost a "Successful" or
+     * "Accepted" application then promotes candidates from its waitlist into the released slots.
+     * </p>
+     *
+     * @param apps              the Applications to approve withdrawal for
+     * @param internshipManager the InternshipManager to coordinate status updates with
+     * @return the number of applications removed
+     */
+    public int approveWithdrawals(List<Application> apps, InternshipManager internshipManager) {
+        long start = System.nanoTime();
+        WithdrawalEvent event = new WithdrawalEvent();
+        event.begin();
+        int removed = 0;
+        try {
+            withdrawalQueue.removeAll(apps);
+            
+            Set<InternshipOpportunity> freedInternships = new LinkedHashSet<>();
+            for (Application app : apps) {
+                if (!removeApplication(app)) {
+                    continue;
+                }
+                removed++;
+                if ("Successful".equals(app.getStatus()) || "Accepted".equals(app.getStatus())) {
+                    freedInternships.add(app.getInternship());
+                }
+            }
+            
+            // If an Accepted application was removed from a Filled internship, revert to Approved
+            for (InternshipOpportunity internship : freedInternships) {
+                if ("Filled".equals(internship.getStatus())
+                        && getAcceptedCount(internship) < internship.getNumSlots()) {
+                    internshipManager.revertFilledStatus(internship);
+                }
+                promoteFromWaitlist(internship);
             }
+            return removed;
+        } finally {
+            metrics.record("ApplicationManager.approveWithdrawals", start);
+            event.finish("Approve", apps.size(), removed);
         }
     }
     
@@ -182,59 +584,105 @@ public class ApplicationManager {
      * @param app the Application to reject withdrawal for
      */
     public void rejectWithdrawal(Application app) {
-        app.setWithdrawalRequested(false);
-        // Status remains as it was before withdrawal request
+        rejectWithdrawals(Collections.singletonList(app));
+    }
+    
+    /**
+     * Rejects several withdrawal requests in one operation.
+     * <p>
+     * The requests are removed from the withdrawal queue and the withdrawal request flag of
+     * each application is cleared; statuses are unchanged.
+     * </p>
+     *
+     * @param apps the Applications to reject withdrawal for
+     * @return the number of applications whose request was rejected
+     */
+    public int rejectWithdrawals(List<Application> apps) {
+        long start = System.nanoTime();
+        WithdrawalEvent event = new WithdrawalEvent();
+        event.begin();
+        int rejected = 0;
+        try {
+            withdrawalQueue.removeAll(apps);
+            for (Application app : apps) {
+                if (app.isWithdrawalRequested()) {
+                    rejected++;
+                }
+                app.setWithdrawalRequested(false);
+                // Status remains as it was before withdrawal request
+            }
+            return rejected;
+        } finally {
+            metrics.record("ApplicationManager.rejectWithdrawals", start);
+            event.finish("Reject", apps.size(), rejected);
+        }
     }
     
     /**
      * Retrieves all applications submitted by a specific student.
      * <p>
-     * This method uses streams for efficient filtering and returns all applications
-     * regardless of status (including withdrawn applications).
+     * Returns all applications regardless of status (including withdrawn applications), in
+     * submission order. They are read from the per-student index, so the cost depends only
+     * on the student's own applications.
      * </p>
      *
      * @param student the Student whose applications to retrieve
      * @return a list of Application objects submitted by the student
      */
     public List<Application> getApplicationsByStudent(Student student) {
-        return applicationList.stream()
-            .filter(app -> app.getStudent().equals(student))
-            .collect(Collectors.toList());
+        return studentIndex.getApplications(student);
     }
     
     /**
      * Retrieves all applications for a specific internship opportunity.
      * <p>
      * Used by company representatives to view applicants for their internship postings.
+     * The applications are read from the per-internship index in submission order.
      * </p>
      *
      * @param internship the InternshipOpportunity to get applications for
      * @return a list of Application objects for the specified internship
      */
     public List<Application> getApplicationsByInternship(InternshipOpportunity internship) {
-        return applicationList.stream()
-            .filter(app -> app.getInternship().equals(internship))
-            .collect(Collectors.toList());
+        return applicationIndex.getApplications(internship);
+    }
+    
+    /**
+     * Builds the dashboard view model for a company representative's postings.
+     * <p>
+     * The dashboard reads application lists and counts from the per-internship index, so
+     * its cost depends only on the given postings and their applications.
+     * </p>
+     *
+     * @param postings the representative's internship opportunities
+     * @return a dashboard over the postings
+     * @see SystemManager#getRepresentativeDashboard(String)
+     */
+    public RepresentativeDashboard getRepresentativeDashboard(List<InternshipOpportunity> postings) {
+        return new RepresentativeDashboard(postings, applicationIndex);
     }
     
     /**
      * Retrieves all applications with pending withdrawal requests.
      * <p>
      * Used by Career Center Staff to review and process withdrawal requests from students.
+     * The requests are read from the withdrawal queue, oldest request first, without scanning
+     * the other applications in the system.
      * </p>
      *
      * @return a list of Application objects with pending withdrawal requests
      */
     public List<Application> getWithdrawalRequests() {
-        return applicationList.stream()
-            .filter(Application::isWithdrawalRequested)
-            .collect(Collectors.toList());
+        return withdrawalQueue.snapshot();
     }
     
     /**
      * Checks if a student has already applied for a specific internship.
      * <p>
      * This is a helper method used during application submission to prevent duplicate applications.
+     * Only the student's own applications are checked, through the per-student index, and
+     * through the archive for applications moved there. An archived rejection must keep
+     * blocking, since its posting can reopen when an accepted student withdraws.
      * </p>
      *
      * @param student    the Student to check
@@ -242,26 +690,27 @@ public class ApplicationManager {
      * @return true if the student has already applied, false otherwise
      */
     private boolean hasApplied(Student student, InternshipOpportunity internship) {
-        return applicationList.stream()
-            .anyMatch(app -> app.getStudent().equals(student) && 
-                           app.getInternship().equals(internship));
+        if (studentIndex.contains(student, internship)) {
+            return true;
+        }
+        return archive != null && archive.hasApplication(student.getUserID(), internship.getInternshipID());
     }
     
     /**
      * Counts the number of active applications for a student.
      * <p>
      * Active applications are those with any status except "Withdrawn".
-     * This count is used to enforce the 3-application limit per student.
+     * This count is used to enforce the 3-application limit per student. Applications held by
+     * this manager are counted by the per-student index as their status changes; finalized
+     * applications moved to the archive are counted by the archive.
      * </p>
      *
      * @param student the Student to count applications for
      * @return the number of active applications (non-withdrawn)
      */
     private long getActiveApplicationsCount(Student student) {
-        return applicationList.stream()
-            .filter(app -> app.getStudent().equals(student))
-            .filter(app -> !"Withdrawn".equals(app.getStatus()))
-            .count();
+        long archived = archive == null ? 0 : archive.getCountedApplications(student.getUserID());
+        return archived + studentIndex.countActive(student);
     }
     
     /**
@@ -284,25 +733,45 @@ public class ApplicationManager {
      * @return true if acceptance was successful, false if the application is not in "Successful" status
      */
     public boolean acceptInternshipPlacement(Student student, Application acceptedApp) {
-        // Check if the application is successful
-        if (!"Successful".equals(acceptedApp.getStatus())) {
-            System.out.println("Can only accept successful applications.");
-            return false;
-        }
-        
-        // Update the accepted application status
-        acceptedApp.updateStatus("Accepted");
-        
-        // Withdraw all other applications for this student
-        List<Application> otherApps = getApplicationsByStudent(student).stream()
-            .filter(app -> !app.equals(acceptedApp))
-            .collect(Collectors.toList());
-        
-        for (Application app : otherApps) {
-            applicationList.remove(app);
+        long start = metrics.startSampled("ApplicationManager.acceptInternshipPlacement");
+        ApplicationDecisionEvent event = new ApplicationDecisionEvent();
+        event.begin();
+        boolean accepted = false;
+        try {
+            // Check if the application is successful
+            if (!"Successful".equals(acceptedApp.getStatus())) {
+                System.out.println("Can only accept successful applications.");
+                return false;
+            }
+            
+            // Update the accepted application status
+            acceptedApp.updateStatus("Accepted");
+            
+            // Withdraw all other applications for this student
+            List<Application> otherApps = getApplicationsByStudent(student).stream()
+                .filter(app -> !app.equals(acceptedApp))
+                .collect(Collectors.toList());
+            
+            Set<InternshipOpportunity> freedInternships = new LinkedHashSet<>();
+            for (Application app : otherApps) {
+                removeApplication(app);
+                withdrawalQueue.remove(app);
+                if ("Successful".equals(app.getStatus())) {
+                    freedInternships.add(app.getInternship());
+                }
+            }
+            
+            // Offers the student gave up release their slots to the waitlists
+            for (InternshipOpportunity internship : freedInternships) {
+                promoteFromWaitlist(internship);
+            }
+            
+            accepted = true;
+            return true;
+        } finally {
+            metrics.recordSampled("ApplicationManager.acceptInternshipPlacement", start);
+            event.finish("acceptInternshipPlacement", acceptedApp, "Accepted", accepted);
         }
-        
-        return true;
     }
     
     /**
@@ -314,7 +783,31 @@ public class ApplicationManager {
      * @return a new ArrayList containing all applications
      */
     public List<Application> getAllApplications() {
-        return new ArrayList<>(applicationList);
+        return applications.toList();
+    }
+    
+    /**
+     * Retrieves an application by its application ID.
+     *
+     * @param applicationID the ID assigned to the application (e.g. "APP001")
+     * @return the matching Application, or null if not found
+     */
+    public Application getApplicationByID(String applicationID) {
+        return applications.get(applicationID);
+    }
+    
+    /**
+     * Checks whether an application is still held by this manager.
+     * <p>
+     * Applications are removed when a withdrawal is approved or when the student accepts
+     * another placement.
+     * </p>
+     *
+     * @param app the Application to check
+     * @return true if the application has been submitted and not removed
+     */
+    public boolean containsApplication(Application app) {
+        return applications.containsID(app.getApplicationID());
     }
     
     /**
@@ -322,15 +815,287 @@ public class ApplicationManager {
      * <p>
      * This count is used to determine if an internship has reached its slot limit
      * and should be marked as "Filled". Only applications with "Accepted" status are counted.
+     * The count is read from the per-internship index.
      * </p>
      *
      * @param internship the InternshipOpportunity to count accepted applications for
      * @return the number of accepted applications
      */
     public long getAcceptedCount(InternshipOpportunity internship) {
-        return applicationList.stream()
-            .filter(app -> app.getInternship().equals(internship))
-            .filter(app -> "Accepted".equals(app.getStatus()))
-            .count();
+        return applicationIndex.count(internship, "Accepted");
+    }
+    
+    /**
+     * Places an application on the waitlist of its internship.
+     * <p>
+     * The application's status becomes "Waitlisted". Pending, Shortlisted and Unsuccessful
+     * applications can be waitlisted; waitlisting an application again changes its rank.
+     * When a slot of the internship is released, waitlisted applications are promoted in
+     * rank order (see {@link #promoteFromWaitlist(InternshipOpportunity)}). Any other status
+     * change takes the application off the waitlist.
+     * </p>
+     *
+     * @param app  the Application to waitlist
+     * @param rank the representative's rank; lower ranks are promoted first
+     * @return true if the application was waitlisted
+     */
+    public boolean waitlistApplication(Application app, int rank) {
+        long start = metrics.startSampled("ApplicationManager.waitlistApplication");
+        try {
+            if (!applications.containsID(app.getApplicationID())) {
+                System.out.println("Application " + app.getApplicationID() + " does not exist.");
+                return false;
+            }
+            if ("Successful".equals(app.getStatus()) || "Accepted".equals(app.getStatus())) {
+                System.out.println("Cannot waitlist an application that holds a slot (" + app.getStatus() + ").");
+                return false;
+            }
+            
+            waitlist.add(app, rank);
+            app.updateStatus("Waitlisted");
+            return true;
+        } finally {
+            metrics.recordSampled("ApplicationManager.waitlistApplication", start);
+        }
+    }
+    
+    /**
+     * Retrieves the waitlist of an internship in promotion order.
+     *
+     * @param internship the InternshipOpportunity
+     * @return the waitlisted applications, best-ranked first
+     */
+    public List<Application> getWaitlist(InternshipOpportunity internship) {
+        return waitlist.getWaitlist(internship);
+    }
+    
+    /**
+     * Retrieves the log of automatic application changes, oldest first.
+     * <p>
+     * Each entry records a timestamp, the application and the change, for example a
+     * promotion from the waitlist after a slot was released.
+     * </p>
+     *
+     * @return a new list of log entries
+     */
+    public List<String> getChangeLog() {
+        return new ArrayList<>(changeLog);
+    }
+    
+    /**
+     * Promotes waitlisted applications into the free slots of an internship.
+     * <p>
+     * While the internship has free slots ({@code numSlots} minus its "Successful" and
+     * "Accepted" applications), the best-ranked waitlisted application is taken from the
+     * waitlist in O(log n) and its eligibility is rechecked:
+     * <ul>
+     *   <li>the internship must still be "Approved"</li>
+     *   <li>the student's major must match the preferred major</li>
+     *   <li>Year 1-2 students are only eligible for Basic level internships</li>
+     * </ul>
+     * An eligible candidate becomes "Successful"; an ineligible one becomes "Unsuccessful".
+     * Both outcomes are recorded in the change log. A student who accepted another placement
+     * no longer holds the application, so it is never promoted.
+     * </p>
+     *
+     * @param internship the InternshipOpportunity whose slots were released
+     * @return the number of applications promoted
+     */
+    private int promoteFromWaitlist(InternshipOpportunity internship) {
+        int promoted = 0;
+        long free = internship.getNumSlots()
+            - applicationIndex.count(internship, "Successful")
+            - applicationIndex.count(internship, "Accepted");
+        while (free > 0) {
+            Application candidate = waitlist.poll(internship);
+            if (candidate == null) {
+                break;
+            }
+            Student student = candidate.getStudent();
+            boolean eligible = "Approved".equals(internship.getStatus())
+                && internship.getPreferredMajor().equalsIgnoreCase(student.getMajor())
+                && (student.getYearOfStudy() > 2 || "Basic".equals(internship.getLevel()));
+            if (eligible) {
+                candidate.updateStatus("Successful");
+                logChange(candidate, "promoted from waitlist to Successful for " + internship.getTitle());
+                promoted++;
+                free--;
+            } else {
+                candidate.updateStatus("Unsuccessful");
+                logChange(candidate, "skipped on waitlist promotion (no longer eligible) for " + internship.getTitle());
+            }
+        }
+        return promoted;
+    }
+    
+    /**
+     * Appends a timestamped entry to the change log.
+     *
+     * @param app    the Application that changed
+     * @param change a description of the change
+     */
+    private void logChange(Application app, String change) {
+        changeLog.add(LocalDateTime.now() + " " + app.getApplicationID() + " ("
+            + app.getStudent().getUserID() + ") " + change);
+    }
+    
+    /**
+     * Sets the archive that finalized applications are moved to.
+     *
+     * @param archive the application archive, or null to disable archiving
+     */
+    public void setArchive(ApplicationArchive archive) {
+        this.archive = archive;
+    }
+    
+    /**
+     * Retrieves the archive of finalized applications.
+     *
+     * @return the application archive, or null if archiving is disabled
+     */
+    public ApplicationArchive getArchive() {
+        return archive;
+    }
+    
+    /**
+     * Moves the finalized applications of closed postings from memory to the archive.
+     * <p>
+     * Each application is archived on its own, once no decision about it can change:
+     * <ul>
+     *   <li>its internship is past its closing date, or "Filled"</li>
+     *   <li>it is "Unsuccessful", "Withdrawn" or "Accepted", and has no pending withdrawal
+     *       request</li>
+     *   <li>"Accepted" placements are only archived after the closing date, since students
+     *       may still request withdrawal from a filled internship that is open</li>
+     * </ul>
+     * Applications of the same internship that are still pending or hold an offer stay in
+     * memory without holding back the others.
+     * Archived applications leave every in-memory structure (store, index, waitlist) and are
+     * written to the archive in one batch. They still count towards the student's application
+     * limit. If the archive cannot be written, the applications stay in memory.
+     * </p>
+     *
+     * @return the number of applications archived
+     */
+    public int archiveFinalizedApplications() {
+        long start = System.nanoTime();
+        try {
+            if (archive == null) {
+                return 0;
+            }
+            LocalDate today = LocalDate.now();
+            List<Application> archivable = new ArrayList<>();
+            for (InternshipOpportunity internship : applicationIndex.getInternships()) {
+                boolean closed = today.isAfter(internship.getClosingDate());
+                if (!closed && !"Filled".equals(internship.getStatus())) {
+                    continue;
+                }
+                for (Application app : applicationIndex.getApplications(internship)) {
+                    boolean finalized = !app.isWithdrawalRequested()
+                        && ("Unsuccessful".equals(app.getStatus()) || "Withdrawn".equals(app.getStatus())
+                            || ("Accepted".equals(app.getStatus()) && closed));
+                    if (finalized) {
+                        archivable.add(app);
+                    }
+                }
+            }
+            if (archivable.isEmpty()) {
+                return 0;
+            }
+            
+            try {
+                archive.append(archivable);
+            } catch (IOException e) {
+                System.out.println("Error archiving applications: " + e.getMessage());
+                return 0;
+            }
+            for (Application app : archivable) {
+                removeApplication(app);
+            }
+            return archivable.size();
+        } finally {
+            metrics.record("ApplicationManager.archiveFinalizedApplications", start);
+        }
+    }
+    
+    /**
+     * Regroups an application in the per-internship index after its status changed.
+     * <p>
+     * Invoked by managed applications through {@link IApplicationChangeListener}, so direct
+     * calls to {@link Application#updateStatus(String)} are reflected as well. The change is
+     * also published on the event bus, if one is set.
+     * </p>
+     *
+     * @param app       the application that changed
+     * @param oldStatus the previous status
+     */
+    @Override
+    public void applicationStatusChanged(Application app, String oldStatus) {
+        applicationIndex.statusChanged(app, oldStatus);
+        studentIndex.statusChanged(app, oldStatus);
+        if ("Waitlisted".equals(oldStatus) && !"Waitlisted".equals(app.getStatus())) {
+            waitlist.remove(app);
+        }
+        if (eventBus != null) {
+            eventBus.publish(StateChangeEvent.forApplication(
+                StateChangeEvent.Type.APPLICATION_STATUS_CHANGED, app, oldStatus, app.getStatus()));
+        }
+    }
+    
+    /**
+     * Publishes a withdrawal request of a managed application on the event bus.
+     *
+     * @param app the application whose withdrawal was requested
+     */
+    @Override
+    public void withdrawalRequested(Application app) {
+        if (eventBus != null) {
+            eventBus.publish(StateChangeEvent.forApplication(
+                StateChangeEvent.Type.WITHDRAWAL_REQUESTED, app, Boolean.FALSE, Boolean.TRUE));
+        }
+    }
+    
+    /**
+     * Sets the bus on which submissions, status changes and withdrawal requests of managed
+     * applications are published.
+     *
+     * @param eventBus the event bus, or null to stop publishing
+     */
+    public void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+    
+    /**
+     * Sets the registry into which submissions, decisions and withdrawals are recorded.
+     * <p>
+     * Operations on many applications at once (batch decisions, withdrawal approvals and
+     * rejections, matching, decision files and archiving) are timed on every call. Operations
+     * on a single application take about as long as a timing would, so they are sampled with
+     * {@link MetricsRegistry#startSampled(String)}: every call is counted and one in
+     * {@link MetricsRegistry#getSampleRate()} is timed.
+     * </p>
+     *
+     * @param metrics the metrics registry; {@link MetricsRegistry#DISABLED} to stop timing
+     */
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Removes an application from the application store and the per-internship and
+     * per-student indexes.
+     *
+     * @param app the Application to remove
+     * @return true if the application was held by this manager
+     */
+    private boolean removeApplication(Application app) {
+        if (applications.remove(app.getApplicationID()) == null) {
+            return false;
+        }
+        applicationIndex.remove(app);
+        studentIndex.remove(app);
+        waitlist.remove(app);
+        app.setChangeListener(null);
+        return true;
     }
 }
@@ -0,0 +1,49 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for an application submission.
+ * <p>
+ * Emitted by {@link ApplicationManager#submitApplication(Student, InternshipOpportunity)}
+ * whether or not the submission passed its checks.
+ * </p>
+ *
+ * @see ApplicationManager#submitApplication(Student, InternshipOpportunity)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+@Name("sc2002.placement.ApplicationSubmission")
+@Label("Application Submission")
+@Category({"Internship Placement", "Applications"})
+@Description("A student applying for an internship opportunity")
+public class ApplicationSubmissionEvent extends Event {
+    @Label("Student ID")
+    private String studentID;
+
+    @Label("Internship ID")
+    private String internshipID;
+
+    @Label("Accepted")
+    @Description("True if the application was created; false if a check refused it")
+    private boolean accepted;
+
+    /**
+     * Commits the event if it is enabled and over its threshold.
+     *
+     * @param student    the student applying
+     * @param internship the internship applied for
+     * @param accepted   true if the application was created
+     */
+    public void finish(Student student, InternshipOpportunity internship, boolean accepted) {
+        if (shouldCommit()) {
+            this.studentID = student.getUserID();
+            this.internshipID = internship.getInternshipID();
+            this.accepted = accepted;
+            commit();
+        }
+    }
+}
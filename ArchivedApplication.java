@@ -0,0 +1,68 @@
+import java.time.LocalDate;
+
+/**
+ * Read-only snapshot of an application that was moved to the {@link ApplicationArchive}.
+ * <p>
+ * Archived applications no longer reference live {@link Student} or
+ * {@link InternshipOpportunity} objects; they keep the identifiers and the few descriptive
+ * fields that reports and the student's history need.
+ * </p>
+ *
+ * @see ApplicationArchive
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public final class ArchivedApplication {
+    private final String applicationID;
+    private final String studentID;
+    private final String internshipID;
+    private final String internshipTitle;
+    private final String companyName;
+    private final String status;
+    private final LocalDate archivedDate;
+
+    /**
+     * Constructs an archived application snapshot.
+     *
+     * @param applicationID   the application's ID
+     * @param studentID       the applicant's user ID
+     * @param internshipID    the internship's ID
+     * @param internshipTitle the internship's title
+     * @param companyName     the internship's company
+     * @param status          the final application status
+     * @param archivedDate    the date the application was archived
+     */
+    public ArchivedApplication(String applicationID, String studentID, String internshipID,
+                               String internshipTitle, String companyName, String status,
+                               LocalDate archivedDate) {
+        this.applicationID = applicationID;
+        this.studentID = studentID;
+        this.internshipID = internshipID;
+        this.internshipTitle = internshipTitle;
+        this.companyName = companyName;
+        this.status = status;
+        this.archivedDate = archivedDate;
+    }
+
+    /** @return the application's ID */
+    public String getApplicationID() { return applicationID; }
+
+    /** @return the applicant's user ID */
+    public String getStudentID() { return studentID; }
+
+    /** @return the internship's ID */
+    public String getInternshipID() { return internshipID; }
+
+    /** @return the internship's title */
+    public String getInternshipTitle() { return internshipTitle; }
+
+    /** @return the internship's company */
+    public String getCompanyName() { return companyName; }
+
+    /** @return the final application status */
+    public String getStatus() { return status; }
+
+    /** @return the date the application was archived */
+    public LocalDate getArchivedDate() { return archivedDate; }
+}
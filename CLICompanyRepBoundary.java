@@ -104,6 +104,7 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
         }
         
         while (true) {
+            showNotifications();
             System.out.println("\n=== Company Representative Menu ===");
             System.out.println("Welcome, " + representative.getName() + " (" + representative.getCompanyName() + ")");
             System.out.println("1. Create Internship Opportunity");
@@ -240,7 +241,8 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
     public void createInternshipOpportunity() {
         // Check if limit reached
         if (systemManager.getInternshipManager().hasReachedCreationLimit(representative.getUserID())) {
-            System.out.println("You have reached the maximum limit of 5 internship opportunities.");
+            System.out.println("You have reached the maximum limit of "
+                + InternshipManager.MAX_POSTINGS_PER_REPRESENTATIVE + " internship opportunities.");
             return;
         }
         
@@ -431,16 +433,16 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
      * <p><strong>User Feedback:</strong> If no internships exist or match filters,
      * displays appropriate informative message.
      * 
-     * @see InternshipManager#getInternshipsByRepresentative(String)
-     * @see ApplicationManager#getApplicationsByInternship(InternshipOpportunity)
+     * @see SystemManager#getRepresentativeDashboard(String)
+     * @see RepresentativeDashboard
      */
     public void viewMyOpportunities() {
-        List<InternshipOpportunity> allOpportunities = systemManager.getInternshipManager()
-            .getInternshipsByRepresentative(representative.getUserID());
+        RepresentativeDashboard dashboard = systemManager.getRepresentativeDashboard(representative.getUserID());
+        List<InternshipOpportunity> allOpportunities = dashboard.getPostings();
         
         // Apply filter if criteria is set
         List<InternshipOpportunity> opportunities;
-        if (representative.getFilterCriteria() != null) {
+        if (representative.getFilterCriteria().hasFilters()) {
             opportunities = systemManager.getInternshipManager()
                 .filterInternships(representative.getFilterCriteria()).stream()
                 .filter(opp -> opp.getCompanyRepID().equals(representative.getUserID()))
@@ -469,12 +471,8 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
                 System.out.println("   Closing: " + opp.getClosingDate());
                 
                 // Show application count and slots taken
-                List<Application> applications = systemManager.getApplicationManager()
-                    .getApplicationsByInternship(opp);
-                long appCount = applications.size();
-                long slotsTaken = applications.stream()
-                    .filter(app -> "Successful".equals(app.getStatus()) || "Accepted".equals(app.getStatus()))
-                    .count();
+                long appCount = dashboard.getApplicationCount(opp);
+                long slotsTaken = dashboard.getSlotsTaken(opp);
                 System.out.println("   Applications: " + appCount);
                 System.out.println("   Slots: " + slotsTaken + " / " + opp.getNumSlots() + " filled");
             }
@@ -505,18 +503,16 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
      * and processed applications across their internship postings before making decisions
      * in the approve/reject flow.
      * 
-     * @see ApplicationManager#getApplicationsByInternship(InternshipOpportunity)
+     * @see RepresentativeDashboard#getApplications(InternshipOpportunity)
      */
     public void viewApplications() {
-        List<InternshipOpportunity> opportunities = systemManager.getInternshipManager()
-            .getInternshipsByRepresentative(representative.getUserID());
+        RepresentativeDashboard dashboard = systemManager.getRepresentativeDashboard(representative.getUserID());
         
         System.out.println("\n=== Applications for My Opportunities ===");
         boolean hasApplications = false;
         
-        for (InternshipOpportunity opp : opportunities) {
-            List<Application> applications = systemManager.getApplicationManager()
-                .getApplicationsByInternship(opp);
+        for (InternshipOpportunity opp : dashboard.getPostings()) {
+            List<Application> applications = dashboard.getApplications(opp);
             
             if (!applications.isEmpty()) {
                 System.out.println("\n" + opp.getTitle() + ":");
@@ -541,7 +537,13 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
     /**
      * Guides representative through approving or rejecting student applications.
      * <p>
-     * This method implements a multi-step selection process:
+     * This method first asks for a decision mode.
+     * 
+     * <p><strong>Modes:</strong> a single decision, approving the first N applications of
+     * an internship and rejecting the rest, or applying decisions from a CSV file. Batch modes
+     * are applied all-or-nothing by the ApplicationManager.
+     * 
+     * <p><strong>Single decision workflow:</strong>
      * <ol>
      *   <li>Display internships with pending applications</li>
      *   <li>Representative selects an internship</li>
@@ -575,90 +577,73 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
      * usage information after each decision.
      * 
      * @see ApplicationManager#updateApplicationStatus(Application, String)
+     * @see ApplicationManager#approveTopApplications(InternshipOpportunity, int)
+     * @see ApplicationManager#applyDecisionFile(String, java.util.Collection)
+     * @see RepresentativeDashboard
      */
     public void approveRejectApplication() {
-        List<InternshipOpportunity> opportunities = systemManager.getInternshipManager()
-            .getInternshipsByRepresentative(representative.getUserID());
-        
-        // Build list of opportunities with applications
-        List<InternshipOpportunity> oppsWithApps = new ArrayList<>();
+        RepresentativeDashboard dashboard = systemManager.getRepresentativeDashboard(representative.getUserID());
         System.out.println("\n=== Approve/Reject Applications ===");
         
-        for (InternshipOpportunity opp : opportunities) {
-            List<Application> applications = systemManager.getApplicationManager()
-                .getApplicationsByInternship(opp);
-            
-            // Filter out finalized applications (Successful, Unsuccessful, Accepted)
-            List<Application> pendingApplications = applications.stream()
-                .filter(app -> !"Successful".equals(app.getStatus()) 
-                            && !"Unsuccessful".equals(app.getStatus())
-                            && !"Accepted".equals(app.getStatus()))
-                .collect(java.util.stream.Collectors.toList());
-            
-            if (!pendingApplications.isEmpty()) {
-                oppsWithApps.add(opp);
-            }
-        }
+        // Opportunities with applications that are not yet finalized (Successful, Unsuccessful, Accepted)
+        List<InternshipOpportunity> oppsWithApps = dashboard.getPostingsWithReviewableApplications();
         
         if (oppsWithApps.isEmpty()) {
             System.out.println("No applications to approve/reject.");
             return;
         }
         
-        // Display numbered list of internships with applications
-        System.out.println("\nSelect an internship:");
-        for (int i = 0; i < oppsWithApps.size(); i++) {
-            InternshipOpportunity opp = oppsWithApps.get(i);
-            // Count only pending applications that can be approved/rejected
-            long pendingCount = systemManager.getApplicationManager()
-                .getApplicationsByInternship(opp).stream()
-                .filter(app -> !"Successful".equals(app.getStatus()) 
-                            && !"Unsuccessful".equals(app.getStatus())
-                            && !"Accepted".equals(app.getStatus()))
-                .count();
-            System.out.println((i + 1) + ". " + opp.getTitle() + " (" + pendingCount + " pending application" + (pendingCount != 1 ? "s" : "") + ")");
-        }
+        System.out.println("1. Decide a single application");
+        System.out.println("2. Approve the first N applications and reject the rest");
+        System.out.println("3. Apply decisions from a CSV file");
+        System.out.print("Choice (or 0 to cancel): ");
         
-        System.out.print("\nEnter number (or 0 to cancel): ");
-        int oppChoice;
         try {
-            oppChoice = Integer.parseInt(scanner.nextLine());
-            if (oppChoice == 0) return;
-            
-            if (oppChoice < 1 || oppChoice > oppsWithApps.size()) {
-                System.out.println("Invalid selection!");
-                return;
+            int mode = Integer.parseInt(scanner.nextLine());
+            switch (mode) {
+                case 0:
+                    return;
+                case 1:
+                    decideSingleApplication(dashboard, oppsWithApps);
+                    break;
+                case 2:
+                    decideTopApplications(dashboard, oppsWithApps);
+                    break;
+                case 3:
+                    applyDecisionFile(dashboard);
+                    break;
+                default:
+                    System.out.println("Invalid choice!");
             }
         } catch (NumberFormatException e) {
             System.out.println("Please enter a valid number!");
-            return;
         }
+    }
+    
+    /**
+     * Approves, rejects or waitlists one application of a selected internship.
+     * <p>
+     * Checks the slots of the internship before approving, as in the original single
+     * decision flow. Waitlisted applications are promoted automatically by the
+     * ApplicationManager when a slot is released.
+     * </p>
+     *
+     * @param dashboard    the representative's dashboard
+     * @param oppsWithApps the internships that have applications awaiting a decision
+     */
+    private void decideSingleApplication(RepresentativeDashboard dashboard, List<InternshipOpportunity> oppsWithApps) {
+        InternshipOpportunity selectedOpp = selectReviewablePosting(dashboard, oppsWithApps);
+        if (selectedOpp == null) return;
         
-        InternshipOpportunity selectedOpp = oppsWithApps.get(oppChoice - 1);
-        List<Application> allApplications = systemManager.getApplicationManager()
-            .getApplicationsByInternship(selectedOpp);
-        
-        // Filter out finalized applications
-        List<Application> applications = allApplications.stream()
-            .filter(app -> !"Successful".equals(app.getStatus()) 
-                        && !"Unsuccessful".equals(app.getStatus())
-                        && !"Accepted".equals(app.getStatus()))
-            .collect(java.util.stream.Collectors.toList());
+        // Only applications that are not finalized
+        List<Application> applications = dashboard.getReviewableApplications(selectedOpp);
         
         if (applications.isEmpty()) {
             System.out.println("No pending applications for this internship.");
             return;
         }
         
-        // Display numbered list of applications
-        System.out.println("\nApplications for: " + selectedOpp.getTitle());
-        for (int i = 0; i < applications.size(); i++) {
-            Application app = applications.get(i);
-            Student student = app.getStudent();
-            System.out.println((i + 1) + ". " + student.getName() + " (ID: " + student.getUserID() + ")");
-            System.out.println("   Year: " + student.getYearOfStudy() + ", Major: " + student.getMajor());
-            System.out.println("   Status: " + app.getStatus());
-        }
+        displayReviewableApplications(selectedOpp, applications);
         
         System.out.print("\nEnter application number (or 0 to cancel): ");
         int appChoice;
@@ -678,7 +663,7 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
         Application selectedApp = applications.get(appChoice - 1);
         
         // Check if application is already finalized
-        if ("Successful".equals(selectedApp.getStatus()) || "Unsuccessful".equals(selectedApp.getStatus()) || "Accepted".equals(selectedApp.getStatus())) {
+        if (RepresentativeDashboard.isFinalized(selectedApp.getStatus())) {
             System.out.println("\nThis application has already been finalized as: " + selectedApp.getStatus());
             System.out.println("Cannot change the status of a finalized application.");
             return;
@@ -686,15 +671,14 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
         
         System.out.println("\n1. Approve (Successful)");
         System.out.println("2. Reject (Unsuccessful)");
+        System.out.println("3. Waitlist (promoted when a slot is released)");
         System.out.print("Choice: ");
         
         try {
             int choice = Integer.parseInt(scanner.nextLine());
             if (choice == 1) {
                 // Check if there are available slots before approving
-                long successfulCount = allApplications.stream()
-                    .filter(app -> "Successful".equals(app.getStatus()) || "Accepted".equals(app.getStatus()))
-                    .count();
+                long successfulCount = dashboard.getSlotsTaken(selectedOpp);
                 
                 if (successfulCount >= selectedOpp.getNumSlots()) {
                     System.out.println("Cannot approve: All slots (" + selectedOpp.getNumSlots() + ") for this internship are already filled.");
@@ -708,6 +692,12 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
             } else if (choice == 2) {
                 systemManager.getApplicationManager().updateApplicationStatus(selectedApp, "Unsuccessful");
                 System.out.println("Application rejected.");
+            } else if (choice == 3) {
+                System.out.print("Waitlist rank (1 = promoted first): ");
+                int rank = Integer.parseInt(scanner.nextLine().trim());
+                if (systemManager.getApplicationManager().waitlistApplication(selectedApp, rank)) {
+                    System.out.println("Application waitlisted with rank " + rank + ".");
+                }
             } else {
                 System.out.println("Invalid choice!");
             }
@@ -716,6 +706,116 @@ public class CLICompanyRepBoundary extends CLIUserBoundary {
         }
     }
     
+    /**
+     * Approves the first N applications of a selected internship and rejects the rest.
+     * <p>
+     * Applications are ranked in submission order. The batch is applied by
+     * {@link ApplicationManager#approveTopApplications(InternshipOpportunity, int)}, which
+     * refuses it as a whole if the approvals do not fit into the free slots.
+     * </p>
+     *
+     * @param dashboard    the representative's dashboard
+     * @param oppsWithApps the internships that have applications awaiting a decision
+     */
+    private void decideTopApplications(RepresentativeDashboard dashboard, List<InternshipOpportunity> oppsWithApps) {
+        InternshipOpportunity selectedOpp = selectReviewablePosting(dashboard, oppsWithApps);
+        if (selectedOpp == null) return;
+        
+        List<Application> applications = dashboard.getReviewableApplications(selectedOpp);
+        displayReviewableApplications(selectedOpp, applications);
+        
+        long freeSlots = Math.max(0, selectedOpp.getNumSlots() - dashboard.getSlotsTaken(selectedOpp));
+        System.out.println("\nFree slots: " + freeSlots + " / " + selectedOpp.getNumSlots());
+        System.out.print("Number of applications to approve (the rest are rejected): ");
+        
+        try {
+            int count = Integer.parseInt(scanner.nextLine().trim());
+            int decided = systemManager.getApplicationManager().approveTopApplications(selectedOpp, count);
+            if (decided > 0) {
+                System.out.println(count + " application(s) approved, " + (decided - count) + " rejected.");
+                System.out.println("Slots used: " + dashboard.getSlotsTaken(selectedOpp) + " / " + selectedOpp.getNumSlots());
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Please enter a valid number!");
+        }
+    }
+    
+    /**
+     * Applies application decisions from a CSV file to the representative's postings.
+     * <p>
+     * The file lists one "ApplicationID, Decision" pair per line after a header. It is
+     * applied by {@link ApplicationManager#applyDecisionFile(String, java.util.Collection)},
+     * which leaves every application unchanged if any line is invalid.
+     * </p>
+     *
+     * @param dashboard the representative's dashboard
+     */
+    private void applyDecisionFile(RepresentativeDashboard dashboard) {
+        System.out.println("CSV format: ApplicationID, Decision (Approve/Reject), with a header line");
+        System.out.print("Enter file path (or 0 to cancel): ");
+        String filename = scanner.nextLine().trim();
+        if (filename.equals("0") || filename.isEmpty()) return;
+        
+        int decided = systemManager.getApplicationManager().applyDecisionFile(filename, dashboard.getPostings());
+        if (decided > 0) {
+            System.out.println(decided + " application decision(s) applied.");
+        } else {
+            System.out.println("No decisions were applied.");
+        }
+    }
+    
+    /**
+     * Displays the internships with applications awaiting a decision and prompts for one.
+     *
+     * @param dashboard    the representative's dashboard
+     * @param oppsWithApps the internships that have applications awaiting a decision
+     * @return the selected internship, or null if cancelled or invalid
+     */
+    private InternshipOpportunity selectReviewablePosting(RepresentativeDashboard dashboard,
+                                                          List<InternshipOpportunity> oppsWithApps) {
+        // Display numbered list of internships with applications
+        System.out.println("\nSelect an internship:");
+        for (int i = 0; i < oppsWithApps.size(); i++) {
+            InternshipOpportunity opp = oppsWithApps.get(i);
+            // Count only pending applications that can be approved/rejected
+            long pendingCount = dashboard.getReviewableCount(opp);
+            System.out.println((i + 1) + ". " + opp.getTitle() + " (" + pendingCount + " pending application" + (pendingCount != 1 ? "s" : "") + ")");
+        }
+        
+        System.out.print("\nEnter number (or 0 to cancel): ");
+        try {
+            int oppChoice = Integer.parseInt(scanner.nextLine());
+            if (oppChoice == 0) return null;
+            
+            if (oppChoice < 1 || oppChoice > oppsWithApps.size()) {
+                System.out.println("Invalid selection!");
+                return null;
+            }
+            return oppsWithApps.get(oppChoice - 1);
+        } catch (NumberFormatException e) {
+            System.out.println("Please enter a valid number!");
+            return null;
+        }
+    }
+    
+    /**
+     * Displays a numbered list of applications awaiting a decision.
+     *
+     * @param opp          the internship the applications belong to
+     * @param applications the applications to display
+     */
+    private void displayReviewableApplications(InternshipOpportunity opp, List<Application> applications) {
+        System.out.println("\nApplications for: " + opp.getTitle());
+        for (int i = 0; i < applications.size(); i++) {
+            Application app = applications.get(i);
+            Student student = app.getStudent();
+            System.out.println((i + 1) + ". " + student.getName() + " (ID: " + student.getUserID() + ")");
+            System.out.println("   Application ID: " + app.getApplicationID());
+            System.out.println("   Year: " + student.getYearOfStudy() + ", Major: " + student.getMajor());
+            System.out.println("   Status: " + app.getStatus());
+        }
+    }
+    
     /**
      * Toggles the visibility status of an internship opportunity.
      * <p>
@@ -1,3 +1,4 @@
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -14,6 +15,7 @@ import java.util.List;
  *   <li>Approve or reject internship opportunity postings</li>
  *   <li>Approve or reject student withdrawal requests</li>
  *   <li>Generate comprehensive reports with filtering options</li>
+ *   <li>Search all internship opportunities by keyword</li>
  *   <li>Monitor system activity and application statuses</li>
  * </ul>
  * 
@@ -90,6 +92,7 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      *   <li>Approve/Reject Internship Opportunities - Vet new postings</li>
      *   <li>Approve/Reject Withdrawal Requests - Handle student withdrawal requests</li>
      *   <li>Generate Reports - Create filtered reports with statistics</li>
+     *   <li>Search Internships - Find internships of any status by keyword</li>
      *   <li>Change Password - Update account security</li>
      *   <li>Logout - End session</li>
      * </ol>
@@ -100,14 +103,16 @@ public class CLIStaffBoundary extends CLIUserBoundary {
     @Override
     public void displayMenu() {
         while (true) {
+            showNotifications();
             System.out.println("\n=== Career Center Staff Menu ===");
             System.out.println("Welcome, " + staff.getName());
             System.out.println("1. Approve/Reject Company Representatives");
             System.out.println("2. Approve/Reject Internship Opportunities");
             System.out.println("3. Approve/Reject Withdrawal Requests");
             System.out.println("4. Generate Reports");
-            System.out.println("5. Change Password");
-            System.out.println("6. Logout");
+            System.out.println("5. Search Internships");
+            System.out.println("6. Change Password");
+            System.out.println("7. Logout");
             System.out.print("Choose an option: ");
             
             try {
@@ -127,9 +132,12 @@ public class CLIStaffBoundary extends CLIUserBoundary {
                         generateReport();
                         break;
                     case 5:
-                        promptChangePassword();
+                        searchInternships();
                         break;
                     case 6:
+                        promptChangePassword();
+                        break;
+                    case 7:
                         logout();
                         return;
                     default:
@@ -148,9 +156,9 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      * <ol>
      *   <li>Retrieves all pending company representatives from system</li>
      *   <li>Displays detailed information about each pending representative</li>
-     *   <li>Prompts staff to select a representative for review</li>
+     *   <li>Prompts staff to select one or more representatives (e.g. "2", "1,3-5" or "all")</li>
      *   <li>Presents approve/reject decision options</li>
-     *   <li>Updates representative status based on decision</li>
+     *   <li>Updates the status of every selected representative based on the decision</li>
      * </ol>
      * 
      * <p><strong>Representative Information Displayed:</strong>
@@ -173,6 +181,8 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      * cancellation with 0 input.
      * 
      * @see SystemManager#getPendingRepresentatives()
+     * @see SystemManager#approveRepresentatives(List)
+     * @see SystemManager#rejectRepresentatives(List)
      */
     public void approveRepresentative() {
         List<CompanyRepresentative> pending = systemManager.getPendingRepresentatives();
@@ -192,29 +202,32 @@ public class CLIStaffBoundary extends CLIUserBoundary {
             System.out.println("   Position: " + rep.getPosition());
         }
         
-        System.out.print("\nSelect representative to review (or 0 to cancel): ");
+        System.out.print("\nSelect representative(s) to review, e.g. 2, 1,3-5 or all (or 0 to cancel): ");
+        String input = scanner.nextLine().trim();
+        if (input.equals("0")) return;
+        
+        List<Integer> indices = parseSelection(input, pending.size());
+        if (indices == null || indices.isEmpty()) {
+            System.out.println("Invalid selection!");
+            return;
+        }
+        List<CompanyRepresentative> selected = new ArrayList<>();
+        for (int index : indices) {
+            selected.add(pending.get(index));
+        }
+        
         try {
-            int choice = Integer.parseInt(scanner.nextLine());
-            if (choice == 0) return;
-            
-            if (choice < 1 || choice > pending.size()) {
-                System.out.println("Invalid selection!");
-                return;
-            }
-            
-            CompanyRepresentative selected = pending.get(choice - 1);
-            
             System.out.println("\n1. Approve");
             System.out.println("2. Reject");
-            System.out.print("Decision: ");
+            System.out.print("Decision for " + selected.size() + " representative(s): ");
             
             int decision = Integer.parseInt(scanner.nextLine());
             if (decision == 1) {
-                selected.setStatus("Approved");
-                System.out.println("Representative approved!");
+                int approved = systemManager.approveRepresentatives(selected);
+                System.out.println(approved + " representative(s) approved!");
             } else if (decision == 2) {
-                selected.setStatus("Rejected");
-                System.out.println("Representative rejected.");
+                int rejected = systemManager.rejectRepresentatives(selected);
+                System.out.println(rejected + " representative(s) rejected.");
             } else {
                 System.out.println("Invalid choice!");
             }
@@ -230,9 +243,9 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      * <ol>
      *   <li>Retrieves all pending internship opportunities</li>
      *   <li>Displays comprehensive details about each internship</li>
-     *   <li>Prompts staff to select an internship for review</li>
+     *   <li>Prompts staff to select one or more internships (e.g. "2", "1,3-5" or "all")</li>
      *   <li>Presents approve/reject decision options</li>
-     *   <li>Updates internship status through InternshipManager</li>
+     *   <li>Updates the status of every selected internship in one batch through InternshipManager</li>
      * </ol>
      * 
      * <p><strong>Internship Information Displayed:</strong>
@@ -257,8 +270,8 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      * cancellation with 0 input.
      * 
      * @see InternshipManager#getPendingInternships()
-     * @see InternshipManager#approveInternship(InternshipOpportunity)
-     * @see InternshipManager#rejectInternship(InternshipOpportunity)
+     * @see InternshipManager#approveInternships(List)
+     * @see InternshipManager#rejectInternships(List)
      */
     public void approveInternship() {
         List<InternshipOpportunity> pending = systemManager.getInternshipManager()
@@ -282,29 +295,32 @@ public class CLIStaffBoundary extends CLIUserBoundary {
             System.out.println("   Closing: " + opp.getClosingDate());
         }
         
-        System.out.print("\nSelect opportunity to review (or 0 to cancel): ");
+        System.out.print("\nSelect opportunity(ies) to review, e.g. 2, 1,3-5 or all (or 0 to cancel): ");
+        String input = scanner.nextLine().trim();
+        if (input.equals("0")) return;
+        
+        List<Integer> indices = parseSelection(input, pending.size());
+        if (indices == null || indices.isEmpty()) {
+            System.out.println("Invalid selection!");
+            return;
+        }
+        List<InternshipOpportunity> selected = new ArrayList<>();
+        for (int index : indices) {
+            selected.add(pending.get(index));
+        }
+        
         try {
-            int choice = Integer.parseInt(scanner.nextLine());
-            if (choice == 0) return;
-            
-            if (choice < 1 || choice > pending.size()) {
-                System.out.println("Invalid selection!");
-                return;
-            }
-            
-            InternshipOpportunity selected = pending.get(choice - 1);
-            
             System.out.println("\n1. Approve");
             System.out.println("2. Reject");
-            System.out.print("Decision: ");
+            System.out.print("Decision for " + selected.size() + " opportunity(ies): ");
             
             int decision = Integer.parseInt(scanner.nextLine());
             if (decision == 1) {
-                systemManager.getInternshipManager().approveInternship(selected);
-                System.out.println("Internship opportunity approved!");
+                int approved = systemManager.getInternshipManager().approveInternships(selected);
+                System.out.println(approved + " internship opportunity(ies) approved!");
             } else if (decision == 2) {
-                systemManager.getInternshipManager().rejectInternship(selected);
-                System.out.println("Internship opportunity rejected.");
+                int rejected = systemManager.getInternshipManager().rejectInternships(selected);
+                System.out.println(rejected + " internship opportunity(ies) rejected.");
             } else {
                 System.out.println("Invalid choice!");
             }
@@ -320,9 +336,9 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      * <ol>
      *   <li>Retrieves all pending withdrawal requests</li>
      *   <li>Displays student and internship details for each request</li>
-     *   <li>Prompts staff to select a request for review</li>
+     *   <li>Prompts staff to select one or more requests (e.g. "2", "1,3-5" or "all")</li>
      *   <li>Presents approve/reject decision options</li>
-     *   <li>Updates application status based on decision</li>
+     *   <li>Applies the decision to every selected request in a single batch</li>
      * </ol>
      * 
      * <p><strong>Request Information Displayed:</strong>
@@ -351,8 +367,9 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      * cancellation with 0 input.
      * 
      * @see ApplicationManager#getWithdrawalRequests()
-     * @see ApplicationManager#approveWithdrawal(Application, InternshipManager)
-     * @see ApplicationManager#rejectWithdrawal(Application)
+     * @see ApplicationManager#approveWithdrawals(List, InternshipManager)
+     * @see ApplicationManager#rejectWithdrawals(List)
+     * @see #parseSelection(String, int)
      */
     public void approveWithdrawal() {
         List<Application> withdrawalRequests = systemManager.getApplicationManager()
@@ -376,29 +393,33 @@ public class CLIStaffBoundary extends CLIUserBoundary {
             System.out.println("   Current Status: " + app.getStatus());
         }
         
-        System.out.print("\nSelect withdrawal request to review (or 0 to cancel): ");
+        System.out.print("\nSelect withdrawal request(s) to review, e.g. 2, 1,3-5 or all (or 0 to cancel): ");
+        String input = scanner.nextLine().trim();
+        if (input.equals("0")) return;
+        
+        List<Integer> indices = parseSelection(input, withdrawalRequests.size());
+        if (indices == null || indices.isEmpty()) {
+            System.out.println("Invalid selection!");
+            return;
+        }
+        List<Application> selected = new ArrayList<>();
+        for (int index : indices) {
+            selected.add(withdrawalRequests.get(index));
+        }
+        
         try {
-            int choice = Integer.parseInt(scanner.nextLine());
-            if (choice == 0) return;
-            
-            if (choice < 1 || choice > withdrawalRequests.size()) {
-                System.out.println("Invalid selection!");
-                return;
-            }
-            
-            Application selected = withdrawalRequests.get(choice - 1);
-            
             System.out.println("\n1. Approve Withdrawal (Remove application)");
             System.out.println("2. Reject Withdrawal");
-            System.out.print("Decision: ");
+            System.out.print("Decision for " + selected.size() + " request(s): ");
             
             int decision = Integer.parseInt(scanner.nextLine());
             if (decision == 1) {
-                systemManager.getApplicationManager().approveWithdrawal(selected, systemManager.getInternshipManager());
-                System.out.println("Withdrawal approved. Application removed from system.");
+                int removed = systemManager.getApplicationManager()
+                    .approveWithdrawals(selected, systemManager.getInternshipManager());
+                System.out.println("Withdrawal approved. " + removed + " application(s) removed from system.");
             } else if (decision == 2) {
-                systemManager.getApplicationManager().rejectWithdrawal(selected);
-                System.out.println("Withdrawal rejected. Application status restored.");
+                int rejected = systemManager.getApplicationManager().rejectWithdrawals(selected);
+                System.out.println("Withdrawal rejected. " + rejected + " application status(es) restored.");
             } else {
                 System.out.println("Invalid choice!");
             }
@@ -419,6 +440,8 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      *   <li><strong>Filter by Major:</strong> Internships for specific academic programs</li>
      *   <li><strong>Filter by Level:</strong> Basic, Intermediate, or Advanced</li>
      *   <li><strong>Custom Filter:</strong> Multiple criteria combined for detailed analysis</li>
+     *   <li><strong>Archived Applications:</strong> Status breakdown of finalized applications
+     *       moved to the application archive</li>
      * </ol>
      * 
      * <p><strong>Report Output:</strong>
@@ -445,6 +468,7 @@ public class CLIStaffBoundary extends CLIUserBoundary {
      * 
      * @see ReportGenerator#displayReport(List)
      * @see ReportGenerator#displaySummaryStats(List)
+     * @see ReportGenerator#displayArchiveReport(ApplicationArchive)
      * @see FilterBoundary#promptForCriteria(FilterCriteria)
      */
     public void generateReport() {
@@ -454,11 +478,22 @@ public class CLIStaffBoundary extends CLIUserBoundary {
         System.out.println("3. Filter by Major");
         System.out.println("4. Filter by Level");
         System.out.println("5. Custom Filter");
+        System.out.println("6. Archived Applications");
         System.out.print("Choice: ");
         
         try {
             int choice = Integer.parseInt(scanner.nextLine());
-            FilterCriteria criteria = new FilterCriteria();
+            FilterCriteria.Builder criteria = FilterCriteria.builder();
+            
+            if (choice == 6) {
+                ApplicationArchive archive = systemManager.getApplicationManager().getArchive();
+                if (archive == null) {
+                    System.out.println("The application archive is not enabled.");
+                } else {
+                    systemManager.getReportGenerator().displayArchiveReport(archive);
+                }
+                return;
+            }
             
             switch (choice) {
                 case 1:
@@ -473,10 +508,10 @@ public class CLIStaffBoundary extends CLIUserBoundary {
                     System.out.print("Choice: ");
                     int statusChoice = Integer.parseInt(scanner.nextLine());
                     switch (statusChoice) {
-                        case 1: criteria.setStatus("Pending"); break;
-                        case 2: criteria.setStatus("Approved"); break;
-                        case 3: criteria.setStatus("Rejected"); break;
-                        case 4: criteria.setStatus("Filled"); break;
+                        case 1: criteria.status("Pending"); break;
+                        case 2: criteria.status("Approved"); break;
+                        case 3: criteria.status("Rejected"); break;
+                        case 4: criteria.status("Filled"); break;
                         default:
                             System.out.println("Invalid choice!");
                             return;
@@ -484,7 +519,7 @@ public class CLIStaffBoundary extends CLIUserBoundary {
                     break;
                 case 3:
                     System.out.print("Enter major: ");
-                    criteria.setMajor(scanner.nextLine());
+                    criteria.major(scanner.nextLine());
                     break;
                 case 4:
                     System.out.println("Select level:");
@@ -494,14 +529,14 @@ public class CLIStaffBoundary extends CLIUserBoundary {
                     System.out.print("Choice: ");
                     int levelChoice = Integer.parseInt(scanner.nextLine());
                     switch (levelChoice) {
-                        case 1: criteria.setLevel("Basic"); break;
-                        case 2: criteria.setLevel("Intermediate"); break;
-                        case 3: criteria.setLevel("Advanced"); break;
+                        case 1: criteria.level("Basic"); break;
+                        case 2: criteria.level("Intermediate"); break;
+                        case 3: criteria.level("Advanced"); break;
                     }
                     break;
                 case 5:
                     FilterBoundary filterBoundary = new FilterBoundary();
-                    criteria = filterBoundary.promptForCriteria(criteria);
+                    criteria = filterBoundary.promptForCriteria(criteria.build()).toBuilder();
                     break;
                 default:
                     System.out.println("Invalid choice!");
@@ -509,7 +544,7 @@ public class CLIStaffBoundary extends CLIUserBoundary {
             }
             
             List<InternshipOpportunity> filtered = systemManager.getInternshipManager()
-                .filterInternships(criteria);
+                .filterInternships(criteria.build());
             
             systemManager.getReportGenerator().displayReport(filtered);
             systemManager.getReportGenerator().displaySummaryStats(filtered);
@@ -519,6 +554,38 @@ public class CLIStaffBoundary extends CLIUserBoundary {
         }
     }
     
+    /**
+     * Searches all internship opportunities by keyword and displays them as a report.
+     * <p>
+     * Matches are ranked by relevance of the keywords to each internship's title and
+     * description. Unlike the student search, internships of every status and visibility
+     * are included so staff can locate any posting quickly. Keywords must be whole words;
+     * when nothing matches, internships whose title starts with the input are shown instead,
+     * so a partially typed title still finds its posting.
+     * 
+     * @see InternshipManager#searchInternships(String)
+     * @see InternshipManager#findInternshipsByTitlePrefix(String, int)
+     * @see ReportGenerator#displayReport(List)
+     */
+    public void searchInternships() {
+        System.out.print("\nEnter keywords to search (or blank to cancel): ");
+        String query = scanner.nextLine().trim();
+        if (query.isEmpty()) {
+            return;
+        }
+        
+        List<InternshipOpportunity> results = systemManager.getInternshipManager()
+            .searchInternships(query);
+        if (results.isEmpty()) {
+            results = systemManager.getInternshipManager()
+                .findInternshipsByTitlePrefix(query, TITLE_SUGGESTION_LIMIT);
+            if (!results.isEmpty()) {
+                System.out.println("\nNo keyword matches. Internships with titles starting with \"" + query + "\":");
+            }
+        }
+        systemManager.getReportGenerator().displayReport(results);
+    }
+    
     /**
      * Checks if a field can be edited by staff members.
      * <p>
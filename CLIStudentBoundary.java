@@ -11,6 +11,7 @@ import java.util.List;
  * <p><strong>Student Operations:</strong>
  * <ul>
  *   <li>View available internship opportunities (filtered by eligibility and preferences)</li>
+ *   <li>Search eligible internship opportunities by keyword</li>
  *   <li>Apply for internships</li>
  *   <li>View and track application status</li>
  *   <li>Accept internship placements</li>
@@ -41,6 +42,8 @@ import java.util.List;
 public class CLIStudentBoundary extends CLIUserBoundary {
     /** Reference to the student user for type-specific operations */
     private Student student;
+    /** Internships the student may apply for, refreshed by internship events */
+    private StudentInternshipView internshipView;
     
     /**
      * Constructs a student boundary for the specified student user.
@@ -54,6 +57,8 @@ public class CLIStudentBoundary extends CLIUserBoundary {
     public CLIStudentBoundary(SystemManager systemManager, User currentUser) {
         super(systemManager, currentUser);
         this.student = (Student) currentUser;
+        this.internshipView = new StudentInternshipView(systemManager.getInternshipManager(),
+                                                        systemManager.getEventBus(), student);
     }
     
     /**
@@ -66,6 +71,7 @@ public class CLIStudentBoundary extends CLIUserBoundary {
      * <p><strong>Menu Options:</strong>
      * <ol>
      *   <li>View Internship Opportunities - Browse available, eligible internships</li>
+     *   <li>Search Internships - Find eligible internships by title/description keywords</li>
      *   <li>Apply for Internship - Submit application for selected opportunity</li>
      *   <li>View My Applications - Check status of submitted applications</li>
      *   <li>Accept Internship Placement - Accept a successful placement offer</li>
@@ -81,16 +87,18 @@ public class CLIStudentBoundary extends CLIUserBoundary {
     @Override
     public void displayMenu() {
         while (true) {
+            showNotifications();
             System.out.println("\n=== Student Menu ===");
             System.out.println("Welcome, " + student.getName());
             System.out.println("1. View Internship Opportunities");
-            System.out.println("2. Apply for Internship");
-            System.out.println("3. View My Applications");
-            System.out.println("4. Accept Internship Placement");
-            System.out.println("5. Request Withdrawal");
-            System.out.println("6. Update Filter Settings");
-            System.out.println("7. Change Password");
-            System.out.println("8. Logout");
+            System.out.println("2. Search Internships");
+            System.out.println("3. Apply for Internship");
+            System.out.println("4. View My Applications");
+            System.out.println("5. Accept Internship Placement");
+            System.out.println("6. Request Withdrawal");
+            System.out.println("7. Update Filter Settings");
+            System.out.println("8. Change Password");
+            System.out.println("9. Logout");
             System.out.print("Choose an option: ");
             
             try {
@@ -101,24 +109,27 @@ public class CLIStudentBoundary extends CLIUserBoundary {
                         viewInternships();
                         break;
                     case 2:
-                        applyForInternship();
+                        searchInternships();
                         break;
                     case 3:
-                        viewApplications();
+                        applyForInternship();
                         break;
                     case 4:
-                        acceptInternship();
+                        viewApplications();
                         break;
                     case 5:
-                        requestWithdrawal();
+                        acceptInternship();
                         break;
                     case 6:
-                        updateFilter();
+                        requestWithdrawal();
                         break;
                     case 7:
-                        promptChangePassword();
+                        updateFilter();
                         break;
                     case 8:
+                        promptChangePassword();
+                        break;
+                    case 9:
                         logout();
                         return;
                     default:
@@ -146,27 +157,74 @@ public class CLIStudentBoundary extends CLIUserBoundary {
      * 
      * <p><strong>User Experience:</strong> If no opportunities match criteria, displays
      * helpful message explaining no matches were found.
+     * 
+     * @see StudentInternshipView
      */
     public void viewInternships() {
-        List<InternshipOpportunity> opportunities = systemManager.getInternshipManager()
-            .getVisibleInternshipsForStudent(student, student.getFilterCriteria());
+        List<InternshipOpportunity> opportunities = internshipView.getInternships(student.getFilterCriteria());
         
         System.out.println("\n=== Available Internship Opportunities ===");
         if (opportunities.isEmpty()) {
             System.out.println("No opportunities available matching your criteria.");
         } else {
-            for (int i = 0; i < opportunities.size(); i++) {
-                InternshipOpportunity opp = opportunities.get(i);
-                System.out.println("\n" + (i + 1) + ". " + opp.getTitle());
-                System.out.println("   Company: " + opp.getCompanyName());
-                System.out.println("   Level: " + opp.getLevel());
-                System.out.println("   Preferred Major: " + opp.getPreferredMajor());
-                System.out.println("   Description: " + opp.getDescription());
-                System.out.println("   Opening Date: " + opp.getOpeningDate());
-                System.out.println("   Closing Date: " + opp.getClosingDate());
-                System.out.println("   Slots: " + opp.getNumSlots());
+            displayOpportunities(opportunities);
+        }
+    }
+    
+    /**
+     * Searches the internships the student is eligible for by keyword.
+     * <p>
+     * Prompts for free-text keywords and displays matching opportunities ranked by relevance
+     * to the title and description. Only internships the student could apply for are shown,
+     * using the same eligibility rules as {@link #viewInternships()}. Keywords must be whole
+     * words; when nothing matches, eligible internships whose title starts with the input are
+     * suggested instead.
+     * 
+     * @see InternshipManager#searchInternshipsForStudent(Student, String)
+     * @see InternshipManager#findInternshipsByTitlePrefixForStudent(Student, String, int)
+     */
+    public void searchInternships() {
+        System.out.print("\nEnter keywords to search (or blank to cancel): ");
+        String query = scanner.nextLine().trim();
+        if (query.isEmpty()) {
+            return;
+        }
+        
+        List<InternshipOpportunity> results = systemManager.getInternshipManager()
+            .searchInternshipsForStudent(student, query);
+        
+        System.out.println("\n=== Search Results for \"" + query + "\" ===");
+        if (results.isEmpty()) {
+            results = systemManager.getInternshipManager()
+                .findInternshipsByTitlePrefixForStudent(student, query, TITLE_SUGGESTION_LIMIT);
+            if (!results.isEmpty()) {
+                System.out.println("No keyword matches. Titles starting with \"" + query + "\":");
             }
         }
+        if (results.isEmpty()) {
+            System.out.println("No eligible opportunities match your search.");
+        } else {
+            displayOpportunities(results);
+        }
+    }
+    
+    /**
+     * Prints a numbered list of internship opportunities with their details.
+     * 
+     * @param opportunities the opportunities to display
+     */
+    private void displayOpportunities(List<InternshipOpportunity> opportunities) {
+        for (int i = 0; i < opportunities.size(); i++) {
+            InternshipOpportunity opp = opportunities.get(i);
+            System.out.println("\n" + (i + 1) + ". " + opp.getTitle());
+            System.out.println("   Company: " + opp.getCompanyName());
+            System.out.println("   Level: " + opp.getLevel());
+            System.out.println("   Preferred Major: " + opp.getPreferredMajor());
+            System.out.println("   Description: " + opp.getDescription());
+            System.out.println("   Opening Date: " + opp.getOpeningDate());
+            System.out.println("   Closing Date: " + opp.getClosingDate());
+            System.out.println("   Slots: " + opp.getNumSlots());
+        }
     }
     
     /**
@@ -196,8 +254,7 @@ public class CLIStudentBoundary extends CLIUserBoundary {
      * </ul>
      */
     public void applyForInternship() {
-        List<InternshipOpportunity> opportunities = systemManager.getInternshipManager()
-            .getVisibleInternshipsForStudent(student, student.getFilterCriteria());
+        List<InternshipOpportunity> opportunities = internshipView.getInternships(student.getFilterCriteria());
         
         System.out.println("\n=== Available Internship Opportunities ===");
         if (opportunities.isEmpty()) {
@@ -205,17 +262,7 @@ public class CLIStudentBoundary extends CLIUserBoundary {
             return;
         }
         
-        for (int i = 0; i < opportunities.size(); i++) {
-            InternshipOpportunity opp = opportunities.get(i);
-            System.out.println("\n" + (i + 1) + ". " + opp.getTitle());
-            System.out.println("   Company: " + opp.getCompanyName());
-            System.out.println("   Level: " + opp.getLevel());
-            System.out.println("   Preferred Major: " + opp.getPreferredMajor());
-            System.out.println("   Description: " + opp.getDescription());
-            System.out.println("   Opening Date: " + opp.getOpeningDate());
-            System.out.println("   Closing Date: " + opp.getClosingDate());
-            System.out.println("   Slots: " + opp.getNumSlots());
-        }
+        displayOpportunities(opportunities);
         
         System.out.print("\nEnter the number of the internship to apply (or 0 to cancel): ");
         try {
@@ -244,7 +291,7 @@ public class CLIStudentBoundary extends CLIUserBoundary {
      * Shows a numbered list of all applications including:
      * <ul>
      *   <li>Internship title and company name</li>
-     *   <li>Application status (Pending, Successful, Unsuccessful, Accepted, Withdrawn)</li>
+     *   <li>Application status (Pending, Successful, Unsuccessful, Waitlisted, Accepted, Withdrawn)</li>
      *   <li>Withdrawal request status (if applicable)</li>
      * </ul>
      * 
@@ -253,10 +300,15 @@ public class CLIStudentBoundary extends CLIUserBoundary {
      *   <li><em>Pending</em> - Awaiting company representative review</li>
      *   <li><em>Successful</em> - Approved by company, awaiting student acceptance</li>
      *   <li><em>Unsuccessful</em> - Rejected by company</li>
+     *   <li><em>Waitlisted</em> - On the company's waitlist; promoted to Successful when a slot is released</li>
      *   <li><em>Accepted</em> - Student has accepted the placement</li>
      *   <li><em>Withdrawn</em> - Application withdrawn (after staff approval)</li>
      * </ul>
      * 
+     * <p><strong>Past Applications:</strong> Applications moved to the application archive
+     * (finalized applications of closed postings) are listed afterwards without numbers,
+     * since no further action is possible on them.
+     * 
      * <p><strong>User Experience:</strong> If student has no applications, displays
      * informative message indicating empty application list.
      */
@@ -277,6 +329,18 @@ public class CLIStudentBoundary extends CLIUserBoundary {
                 System.out.println("   Withdrawal Requested: " + app.isWithdrawalRequested());
             }
         }
+        
+        ApplicationArchive archive = systemManager.getApplicationManager().getArchive();
+        if (archive != null) {
+            List<ArchivedApplication> archived = archive.findByStudent(student.getUserID());
+            if (!archived.isEmpty()) {
+                System.out.println("\n--- Past Applications ---");
+                for (ArchivedApplication past : archived) {
+                    System.out.println("- " + past.getInternshipTitle() + " (" + past.getCompanyName()
+                        + "): " + past.getStatus());
+                }
+            }
+        }
     }
     
     /**
@@ -435,7 +499,17 @@ public class CLIStudentBoundary extends CLIUserBoundary {
     @Override
     public void updateFilter() {
         FilterBoundary filterBoundary = new FilterBoundary();
-        filterBoundary.displayStudentFilterMenu(this, currentUser.getFilterCriteria(), student);
+        currentUser.setFilterCriteria(
+            filterBoundary.displayStudentFilterMenu(this, currentUser.getFilterCriteria(), student));
+    }
+    
+    /**
+     * Logs out the student after cancelling the event subscription of the internship view.
+     */
+    @Override
+    public void logout() {
+        internshipView.close();
+        super.logout();
     }
     
     /**
@@ -1,4 +1,7 @@
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.TreeSet;
 
 /**
  * Abstract base class for all command-line interface user boundaries in the View layer.
@@ -18,6 +21,7 @@ import java.util.Scanner;
  *   <li>Providing default implementations for common operations</li>
  *   <li>Maintaining reference to system manager for business logic delegation</li>
  *   <li>Storing current user context for session management</li>
+ *   <li>Showing unread notifications from the user's inbox before each menu</li>
  * </ul>
  * 
  * <p><strong>MVC Architecture:</strong> Belongs to the View layer, handling presentation logic
@@ -51,6 +55,9 @@ public abstract class CLIUserBoundary implements IUserBoundary {
     /** Scanner for reading user input from command line */
     protected Scanner scanner;
     
+    /** Maximum number of title suggestions shown when a search finds no keyword matches */
+    protected static final int TITLE_SUGGESTION_LIMIT = 10;
+    
     /**
      * Constructs a new CLI user boundary with the specified system manager and user.
      * <p>
@@ -143,7 +150,7 @@ public abstract class CLIUserBoundary implements IUserBoundary {
     public void updateFilter() {
         FilterBoundary filterBoundary = new FilterBoundary();
         FilterCriteria criteria = currentUser.getFilterCriteria();
-        filterBoundary.displayFilterMenu(this, criteria);
+        currentUser.setFilterCriteria(filterBoundary.displayFilterMenu(this, criteria));
     }
     
     /**
@@ -182,6 +189,30 @@ public abstract class CLIUserBoundary implements IUserBoundary {
         systemManager.endSession();
     }
     
+    /**
+     * Displays the user's unread notifications and marks them as read.
+     * <p>
+     * Called by subclasses before showing their menu, so the unread count appears at login
+     * and after every operation. The unread count is read from the user's
+     * {@link NotificationInbox} in O(1), without scanning applications. Displays nothing if
+     * there is no news.
+     * </p>
+     *
+     * @see SystemManager#getNotificationInbox(String)
+     */
+    protected void showNotifications() {
+        NotificationInbox inbox = systemManager.getNotificationInbox(currentUser.getUserID());
+        int unread = inbox.getUnreadCount();
+        if (unread == 0) {
+            return;
+        }
+        System.out.println("\n*** " + unread + " unread notification(s) ***");
+        for (String notification : inbox.getUnread()) {
+            System.out.println(" - " + notification);
+        }
+        systemManager.markNotificationsRead(currentUser.getUserID());
+    }
+    
     /**
      * Returns the Scanner instance for reading user input.
      * <p>
@@ -194,4 +225,43 @@ public abstract class CLIUserBoundary implements IUserBoundary {
     protected Scanner getScanner() {
         return scanner;
     }
+    
+    /**
+     * Parses a selection of list items entered as numbers, ranges or "all".
+     * <p>
+     * Accepts comma-separated 1-based item numbers and inclusive ranges, for example
+     * {@code "2"}, {@code "1,3-5"} or {@code "all"}. Used by batch operations so that
+     * several items can be processed in one command. Duplicates are ignored and the
+     * selection is returned in ascending order.
+     * 
+     * @param input     the text entered by the user
+     * @param itemCount the number of items in the displayed list
+     * @return the selected 0-based indices, or null if the input is malformed or out of range
+     */
+    protected List<Integer> parseSelection(String input, int itemCount) {
+        TreeSet<Integer> selected = new TreeSet<>();
+        String trimmed = input.trim();
+        if (trimmed.equalsIgnoreCase("all")) {
+            for (int i = 0; i < itemCount; i++) {
+                selected.add(i);
+            }
+            return new ArrayList<>(selected);
+        }
+        try {
+            for (String part : trimmed.split(",")) {
+                String[] bounds = part.trim().split("-", 2);
+                int from = Integer.parseInt(bounds[0].trim());
+                int to = bounds.length == 2 ? Integer.parseInt(bounds[1].trim()) : from;
+                if (from < 1 || to > itemCount || from > to) {
+                    return null;
+                }
+                for (int i = from; i <= to; i++) {
+                    selected.add(i - 1);
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return new ArrayList<>(selected);
+    }
 }
@@ -97,6 +97,9 @@ public class CompanyRepresentative extends User {
      * Updates the approval status of this representative.
      * <p>
      * This method is typically called by Career Center Staff during the approval process.
+     * Staff workflows should go through
+     * {@link SystemManager#updateRepresentativeStatus(CompanyRepresentative, String)} so the
+     * pending-registration queue stays in sync.
      * </p>
      *
      * @param status the new status ("Pending", "Approved", or "Rejected")
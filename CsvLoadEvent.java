@@ -0,0 +1,54 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for the loading of a CSV file: a user list at start-up or a
+ * decision file.
+ *
+ * @see SystemManager#initializeSystem(String, String, String)
+ * @see ApplicationManager#applyDecisionFile(String, java.util.Collection)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+@Name("sc2002.placement.CsvLoad")
+@Label("CSV Load")
+@Category({"Internship Placement", "Data"})
+@Description("Reading of a CSV data file")
+public class CsvLoadEvent extends Event {
+    @Label("File")
+    private String file;
+
+    @Label("Content")
+    @Description("Students, Staff, CompanyRepresentatives or Decisions")
+    private String content;
+
+    @Label("Rows")
+    @Description("Number of records read")
+    private int rows;
+
+    @Label("Success")
+    @Description("False if the file could not be read or was refused")
+    private boolean success;
+
+    /**
+     * Commits the event if it is enabled and over its threshold.
+     *
+     * @param file    the file path
+     * @param content what the file holds
+     * @param rows    the number of records read
+     * @param success false if the file could not be read or was refused
+     */
+    public void finish(String file, String content, int rows, boolean success) {
+        if (shouldCommit()) {
+            this.file = file;
+            this.content = content;
+            this.rows = rows;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process publish/subscribe bus for application and internship state changes.
+ * <p>
+ * Students, representatives and staff used to discover changes by re-listing and re-scanning
+ * applications and internships. The managers now publish a {@link StateChangeEvent} for every
+ * status change, withdrawal request and visibility change, and interested parties subscribe:
+ * <ul>
+ *   <li><strong>Bounded queues:</strong> each subscription buffers its events in its own
+ *       bounded queue; when a slow subscriber's queue is full the oldest event is dropped and
+ *       counted, so publishing never blocks and never grows memory without bound</li>
+ *   <li><strong>Type filters:</strong> a subscription only queues the event types it asked for</li>
+ *   <li><strong>Batched delivery:</strong> queued events are handed to the subscriber in
+ *       batches of up to {@link #DEFAULT_BATCH_SIZE} when the subscription is delivered, on the
+ *       thread that delivers it (for the CLI, the menu loop of the logged-in user, as the
+ *       {@link StudentInternshipView} does)</li>
+ *   <li><strong>Synchronous subscriptions:</strong> a subscriber that must not lose events
+ *       ({@link #subscribeSynchronous(IEventSubscriber, Set)}) has no queue; each event is
+ *       handed to it on the publishing thread</li>
+ * </ul>
+ * Publishing and delivery are thread-safe; events of one subscription are delivered in the
+ * order they were published.
+ * </p>
+ *
+ * @see StateChangeEvent
+ * @see IEventSubscriber
+ * @see SystemManager#getEventBus()
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class EventBus {
+    /** Default number of events buffered per subscription */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+    /** Maximum number of events handed to a subscriber in one call */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * A registration of one subscriber with its bounded event queue.
+     */
+    public final class Subscription {
+        private final IEventSubscriber subscriber;
+        private final Set<StateChangeEvent.Type> types;
+        /** Buffered events; null for a synchronous subscription */
+        private final BlockingQueue<StateChangeEvent> queue;
+        private final AtomicLong dropped;
+
+        private Subscription(IEventSubscriber subscriber, Set<StateChangeEvent.Type> types, int capacity) {
+            this.subscriber = subscriber;
+            this.types = EnumSet.copyOf(types);
+            this.queue = capacity == 0 ? null : new ArrayBlockingQueue<>(capacity);
+            this.dropped = new AtomicLong();
+        }
+
+        private void enqueue(StateChangeEvent event) {
+            if (!types.contains(event.getType())) {
+                return;
+            }
+            if (queue == null) {
+                synchronized (this) {
+                    subscriber.onEvents(Collections.singletonList(event));
+                }
+                return;
+            }
+            while (!queue.offer(event)) {
+                if (queue.poll() != null) {
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * Delivers every queued event to the subscriber, in batches.
+         *
+         * @return the number of events delivered; always 0 for a synchronous subscription
+         */
+        public synchronized int deliver() {
+            if (queue == null) {
+                return 0;
+            }
+            int delivered = 0;
+            List<StateChangeEvent> batch = new ArrayList<>(DEFAULT_BATCH_SIZE);
+            while (queue.drainTo(batch, DEFAULT_BATCH_SIZE) > 0) {
+                delivered += batch.size();
+                subscriber.onEvents(batch);
+                batch = new ArrayList<>(DEFAULT_BATCH_SIZE);
+            }
+            return delivered;
+        }
+
+        /**
+         * Counts the events currently waiting for delivery.
+         *
+         * @return the queue length
+         */
+        public int getPendingCount() {
+            return queue == null ? 0 : queue.size();
+        }
+
+        /**
+         * Counts the events dropped because the queue was full.
+         *
+         * @return the number of dropped events
+         */
+        public long getDroppedCount() {
+            return dropped.get();
+        }
+
+        /**
+         * Removes this subscription from the bus and discards its queued events.
+         */
+        public void cancel() {
+            subscriptions.remove(this);
+            if (queue != null) {
+                queue.clear();
+            }
+        }
+    }
+
+    private final List<Subscription> subscriptions;
+
+    /**
+     * Constructs a bus without subscribers.
+     */
+    public EventBus() {
+        this.subscriptions = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Subscribes to every event type with the default queue capacity.
+     *
+     * @param subscriber the subscriber to deliver events to
+     * @return the subscription
+     */
+    public Subscription subscribe(IEventSubscriber subscriber) {
+        return subscribe(subscriber, EnumSet.allOf(StateChangeEvent.Type.class), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Subscribes to the given event types with the default queue capacity.
+     *
+     * @param subscriber the subscriber to deliver events to
+     * @param types      the event types to receive
+     * @return the subscription
+     */
+    public Subscription subscribe(IEventSubscriber subscriber, Set<StateChangeEvent.Type> types) {
+        return subscribe(subscriber, types, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Subscribes to the given event types.
+     *
+     * @param subscriber    the subscriber to deliver events to
+     * @param types         the event types to receive
+     * @param queueCapacity the maximum number of undelivered events to keep
+     * @return the subscription
+     */
+    public Subscription subscribe(IEventSubscriber subscriber, Set<StateChangeEvent.Type> types, int queueCapacity) {
+        Subscription subscription = new Subscription(subscriber, types, Math.max(1, queueCapacity));
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Subscribes to the given event types without a queue: each event is handed to the
+     * subscriber on the publishing thread, so none is ever dropped.
+     * <p>
+     * For subscribers that must see every event, such as persistent notifications. The
+     * subscriber should be quick, as it runs inside the publishing operation.
+     * </p>
+     *
+     * @param subscriber the subscriber to deliver events to
+     * @param types      the event types to receive
+     * @return the subscription
+     */
+    public Subscription subscribeSynchronous(IEventSubscriber subscriber, Set<StateChangeEvent.Type> types) {
+        Subscription subscription = new Subscription(subscriber, types, 0);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Publishes an event to the queue of every subscription that accepts its type.
+     *
+     * @param event the event to publish
+     */
+    public void publish(StateChangeEvent event) {
+        for (Subscription subscription : subscriptions) {
+            subscription.enqueue(event);
+        }
+    }
+
+    /**
+     * Delivers the queued events of every subscription.
+     *
+     * @return the total number of events delivered
+     */
+    public int deliverAll() {
+        int delivered = 0;
+        for (Subscription subscription : subscriptions) {
+            delivered += subscription.deliver();
+        }
+        return delivered;
+    }
+
+    /**
+     * Counts the active subscriptions.
+     *
+     * @return the number of subscriptions
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+}
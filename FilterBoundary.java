@@ -100,17 +100,19 @@ public class FilterBoundary {
      * <p><strong>Display Format:</strong> Shows "None" for unset filters, making it
      * clear which filters are active.
      * 
-     * <p><strong>Persistence:</strong> Changes are made directly to the provided
-     * {@link FilterCriteria} object, which is typically stored in the User model.
+     * <p><strong>Persistence:</strong> Criteria are immutable, so each change builds new
+     * criteria; the criteria in effect when the user leaves the menu are returned, for the
+     * caller to store in the User model.
      * 
      * <p><strong>Navigation:</strong> Menu loops until user chooses to return to main menu.
      * 
      * @param boundary the user boundary that invoked this filter menu (for context)
-     * @param criteria the filter criteria object to modify
+     * @param criteria the filter criteria to start from
+     * @return the criteria as edited by the user
      * 
      * @see FilterCriteria
      */
-    public void displayFilterMenu(IUserBoundary boundary, FilterCriteria criteria) {
+    public FilterCriteria displayFilterMenu(IUserBoundary boundary, FilterCriteria criteria) {
         while (true) {
             System.out.println("\n=== Filter Settings ===");
             System.out.println("Current Filters:");
@@ -127,23 +129,23 @@ public class FilterBoundary {
                 
                 switch (choice) {
                     case 1:
-                        setLevelFilter(criteria);
+                        criteria = setLevelFilter(criteria);
                         break;
                     case 2:
-                        setMajorFilter(criteria);
+                        criteria = setMajorFilter(criteria);
                         break;
                     case 3:
-                        setStatusFilter(criteria);
+                        criteria = setStatusFilter(criteria);
                         break;
                     case 4:
-                        setClosingDateFilter(criteria);
+                        criteria = setClosingDateFilter(criteria);
                         break;
                     case 5:
-                        criteria.reset();
+                        criteria = FilterCriteria.EMPTY;
                         System.out.println("All filters reset.");
                         break;
                     case 6:
-                        return;
+                        return criteria;
                     default:
                         System.out.println("Invalid choice!");
                 }
@@ -191,14 +193,15 @@ public class FilterBoundary {
      * </ol>
      * 
      * @param boundary the student boundary that invoked this filter menu
-     * @param criteria the filter criteria object to modify
+     * @param criteria the filter criteria to start from
      * @param student the student user for checking year of study and major
+     * @return the criteria as edited by the student
      * 
      * @see Student#getYearOfStudy()
      * @see Student#getMajor()
      * @see IStudentEligibilityFilter
      */
-    public void displayStudentFilterMenu(IUserBoundary boundary, FilterCriteria criteria, Student student) {
+    public FilterCriteria displayStudentFilterMenu(IUserBoundary boundary, FilterCriteria criteria, Student student) {
         while (true) {
             System.out.println("\n=== Filter Settings ===");
             System.out.println("Current Filters:");
@@ -232,7 +235,7 @@ public class FilterBoundary {
                 switch (choice) {
                     case 1:
                         if (canEditLevel) {
-                            setLevelFilter(criteria);
+                            criteria = setLevelFilter(criteria);
                         } else {
                             System.out.println("Level filter is locked for Year 1-2 students (Basic only).");
                         }
@@ -244,14 +247,14 @@ public class FilterBoundary {
                         System.out.println("Status filter is locked to: Approved");
                         break;
                     case 4:
-                        setClosingDateFilter(criteria);
+                        criteria = setClosingDateFilter(criteria);
                         break;
                     case 5:
-                        criteria.reset();
+                        criteria = FilterCriteria.EMPTY;
                         System.out.println("Filters reset.");
                         break;
                     case 6:
-                        return;
+                        return criteria;
                     default:
                         System.out.println("Invalid choice!");
                 }
@@ -277,9 +280,10 @@ public class FilterBoundary {
      * <p><strong>Validation:</strong> Only accepts choices 1-4. Invalid input displays
      * error message.
      * 
-     * @param criteria the filter criteria object to update
+     * @param criteria the current filter criteria
+     * @return the updated criteria, or {@code criteria} if nothing changed
      */
-    private void setLevelFilter(FilterCriteria criteria) {
+    private FilterCriteria setLevelFilter(FilterCriteria criteria) {
         System.out.println("\nSelect Level:");
         System.out.println("1. Basic");
         System.out.println("2. Intermediate");
@@ -291,19 +295,19 @@ public class FilterBoundary {
             int choice = Integer.parseInt(scanner.nextLine());
             switch (choice) {
                 case 1:
-                    criteria.setLevel("Basic");
+                    criteria = criteria.toBuilder().level("Basic").build();
                     System.out.println("Level filter set to: Basic");
                     break;
                 case 2:
-                    criteria.setLevel("Intermediate");
+                    criteria = criteria.toBuilder().level("Intermediate").build();
                     System.out.println("Level filter set to: Intermediate");
                     break;
                 case 3:
-                    criteria.setLevel("Advanced");
+                    criteria = criteria.toBuilder().level("Advanced").build();
                     System.out.println("Level filter set to: Advanced");
                     break;
                 case 4:
-                    criteria.setLevel(null);
+                    criteria = criteria.toBuilder().level(null).build();
                     System.out.println("Level filter cleared.");
                     break;
                 default:
@@ -312,6 +316,7 @@ public class FilterBoundary {
         } catch (NumberFormatException e) {
             System.out.println("Please enter a valid number!");
         }
+        return criteria;
     }
     
     /**
@@ -326,19 +331,21 @@ public class FilterBoundary {
      *   <li>Empty input is ignored</li>
      * </ul>
      * 
-     * @param criteria the filter criteria object to update
+     * @param criteria the current filter criteria
+     * @return the updated criteria, or {@code criteria} if nothing changed
      */
-    private void setMajorFilter(FilterCriteria criteria) {
+    private FilterCriteria setMajorFilter(FilterCriteria criteria) {
         System.out.print("\nEnter preferred major (or 'clear' to remove filter): ");
         String major = scanner.nextLine().trim();
         
         if (major.equalsIgnoreCase("clear")) {
-            criteria.setMajor(null);
+            criteria = criteria.toBuilder().major(null).build();
             System.out.println("Major filter cleared.");
         } else if (!major.isEmpty()) {
-            criteria.setMajor(major);
+            criteria = criteria.toBuilder().major(major).build();
             System.out.println("Major filter set to: " + major);
         }
+        return criteria;
     }
     
     /**
@@ -358,9 +365,10 @@ public class FilterBoundary {
      * <p><strong>Validation:</strong> Only accepts choices 1-5. Invalid input displays
      * error message.
      * 
-     * @param criteria the filter criteria object to update
+     * @param criteria the current filter criteria
+     * @return the updated criteria, or {@code criteria} if nothing changed
      */
-    private void setStatusFilter(FilterCriteria criteria) {
+    private FilterCriteria setStatusFilter(FilterCriteria criteria) {
         System.out.println("\nSelect Status:");
         System.out.println("1. Pending");
         System.out.println("2. Approved");
@@ -373,23 +381,23 @@ public class FilterBoundary {
             int choice = Integer.parseInt(scanner.nextLine());
             switch (choice) {
                 case 1:
-                    criteria.setStatus("Pending");
+                    criteria = criteria.toBuilder().status("Pending").build();
                     System.out.println("Status filter set to: Pending");
                     break;
                 case 2:
-                    criteria.setStatus("Approved");
+                    criteria = criteria.toBuilder().status("Approved").build();
                     System.out.println("Status filter set to: Approved");
                     break;
                 case 3:
-                    criteria.setStatus("Rejected");
+                    criteria = criteria.toBuilder().status("Rejected").build();
                     System.out.println("Status filter set to: Rejected");
                     break;
                 case 4:
-                    criteria.setStatus("Filled");
+                    criteria = criteria.toBuilder().status("Filled").build();
                     System.out.println("Status filter set to: Filled");
                     break;
                 case 5:
-                    criteria.setStatus(null);
+                    criteria = criteria.toBuilder().status(null).build();
                     System.out.println("Status filter cleared.");
                     break;
                 default:
@@ -398,6 +406,7 @@ public class FilterBoundary {
         } catch (NumberFormatException e) {
             System.out.println("Please enter a valid number!");
         }
+        return criteria;
     }
     
     /**
@@ -417,24 +426,26 @@ public class FilterBoundary {
      * <p><strong>Validation:</strong> Parses date and handles DateTimeParseException
      * for invalid formats.
      * 
-     * @param criteria the filter criteria object to update
+     * @param criteria the current filter criteria
+     * @return the updated criteria, or {@code criteria} if nothing changed
      */
-    private void setClosingDateFilter(FilterCriteria criteria) {
+    private FilterCriteria setClosingDateFilter(FilterCriteria criteria) {
         System.out.print("\nEnter closing date (YYYY-MM-DD) or 'clear' to remove filter: ");
         String input = scanner.nextLine().trim();
         
         if (input.equalsIgnoreCase("clear")) {
-            criteria.setClosingDate(null);
+            criteria = criteria.toBuilder().closingDate(null).build();
             System.out.println("Closing date filter cleared.");
         } else {
             try {
                 LocalDate date = LocalDate.parse(input);
-                criteria.setClosingDate(date);
+                criteria = criteria.toBuilder().closingDate(date).build();
                 System.out.println("Closing date filter set to: " + date);
             } catch (DateTimeParseException e) {
                 System.out.println("Invalid date format! Please use YYYY-MM-DD.");
             }
         }
+        return criteria;
     }
     
     /**
@@ -457,34 +468,34 @@ public class FilterBoundary {
      * <p><strong>User Experience:</strong> Press Enter to skip any criterion. Only
      * non-empty inputs are applied to the filter.
      * 
-     * @param existingCriteria existing criteria to modify, or null to create new criteria
-     * @return the updated or new FilterCriteria object with user-specified filters
+     * @param existingCriteria existing criteria to start from, or null to start with no filter
+     * @return new criteria combining {@code existingCriteria} with the user-specified filters
      * 
      * @see ReportGenerator
      * @see CLIStaffBoundary#generateReport()
      */
     public FilterCriteria promptForCriteria(FilterCriteria existingCriteria) {
-        FilterCriteria criteria = existingCriteria != null ? existingCriteria : new FilterCriteria();
+        FilterCriteria.Builder criteria = existingCriteria != null ? existingCriteria.toBuilder() : FilterCriteria.builder();
         
         System.out.println("\n=== Set Filter Criteria ===");
         System.out.print("Filter by level? (Basic/Intermediate/Advanced or press Enter to skip): ");
         String level = scanner.nextLine().trim();
         if (!level.isEmpty()) {
-            criteria.setLevel(level);
+            criteria.level(level);
         }
         
         System.out.print("Filter by major? (Enter major or press Enter to skip): ");
         String major = scanner.nextLine().trim();
         if (!major.isEmpty()) {
-            criteria.setMajor(major);
+            criteria.major(major);
         }
         
         System.out.print("Filter by status? (Pending/Approved/Rejected/Filled or press Enter to skip): ");
         String status = scanner.nextLine().trim();
         if (!status.isEmpty()) {
-            criteria.setStatus(status);
+            criteria.status(status);
         }
         
-        return criteria;
+        return criteria.build();
     }
 }
@@ -1,4 +1,5 @@
 import java.time.LocalDate;
+import java.util.Objects;
 
 /**
  * Represents filter criteria for searching and filtering internship opportunities.
@@ -18,12 +19,17 @@ import java.time.LocalDate;
  * <p>
  * <b>Usage Pattern:</b>
  * <ul>
- *   <li>Create a FilterCriteria object with default (null) values</li>
- *   <li>Set desired filter criteria using setters</li>
- *   <li>Pass to filtering methods in InternshipFilter or InternshipManager</li>
- *   <li>Reset criteria when needed to clear all filters</li>
+ *   <li>Start from {@link #EMPTY}, the shared criteria with no filter set</li>
+ *   <li>Edit through a {@link Builder}: {@link #builder()} for new criteria,
+ *       {@link #toBuilder()} to change existing ones</li>
+ *   <li>Pass the built criteria to filtering methods in InternshipFilter or InternshipManager</li>
+ *   <li>Store the edited criteria back in the User with {@link User#setFilterCriteria}</li>
  * </ul>
  * <p>
+ * Criteria are immutable: an edit produces new criteria and never changes criteria a filter
+ * engine is reading. They compare and hash by value, so they can be used as cache keys.
+ * </p>
+ * <p>
  * <b>Note:</b> A null value for any criterion means "no filter applied" for that field.
  * Only non-null criteria are used during filtering operations.
  * </p>
@@ -36,24 +42,14 @@ import java.time.LocalDate;
  * @since 2025-11-20
  */
 public class FilterCriteria {
-    private String level;
-    private String major;
-    private String status;
-    private LocalDate closingDate;
+    /** The criteria with no filter set, shared by every user who has not set a filter */
+    public static final FilterCriteria EMPTY = new FilterCriteria(null, null, null, null);
 
-    /**
-     * Constructs a new FilterCriteria with all fields set to null.
-     * <p>
-     * This creates an empty filter where no criteria are applied, meaning
-     * all internships will pass through this filter initially.
-     * </p>
-     */
-    public FilterCriteria() {
-        this.level = null;
-        this.major = null;
-        this.status = null;
-        this.closingDate = null;
-    }
+    private final String level;
+    private final String major;
+    private final String status;
+    private final LocalDate closingDate;
+    private final int hash;
 
     /**
      * Constructs a new FilterCriteria with the specified filter values.
@@ -72,6 +68,25 @@ public class FilterCriteria {
         this.major = major;
         this.status = status;
         this.closingDate = closingDate;
+        this.hash = Objects.hash(level, major, status, closingDate);
+    }
+
+    /**
+     * Creates a builder with no filter set.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder starting from these criteria, for editing a copy of them.
+     *
+     * @return a new builder holding this object's values
+     */
+    public Builder toBuilder() {
+        return new Builder().level(level).major(major).status(status).closingDate(closingDate);
     }
 
     // Getters
@@ -111,67 +126,137 @@ public class FilterCriteria {
         return closingDate;
     }
 
-    // Setters
     /**
-     * Sets the level filter criterion.
+     * Checks if any filter criterion has been set.
+     * <p>
+     * This is useful for determining whether filtering is active or if
+     * all internships should be displayed without restriction.
+     * </p>
      *
-     * @param level the level to filter by (Basic, Intermediate, Advanced), or null to disable level filtering
+     * @return {@code true} if at least one filter criterion is set (non-null), {@code false} if all are null
      */
-    public void setLevel(String level) {
-        this.level = level;
+    public boolean hasFilters() {
+        return level != null || major != null || status != null || closingDate != null;
     }
 
     /**
-     * Sets the major filter criterion.
+     * Compares the criteria values.
      *
-     * @param major the preferred major to filter by, or null to disable major filtering
+     * @param o the object to compare with
+     * @return true if {@code o} is a FilterCriteria with the same values
      */
-    public void setMajor(String major) {
-        this.major = major;
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FilterCriteria)) {
+            return false;
+        }
+        FilterCriteria other = (FilterCriteria) o;
+        return hash == other.hash && Objects.equals(level, other.level) && Objects.equals(major, other.major)
+            && Objects.equals(status, other.status) && Objects.equals(closingDate, other.closingDate);
     }
 
     /**
-     * Sets the status filter criterion.
+     * Returns the hash of the criteria values, computed once at construction.
      *
-     * @param status the status to filter by (Pending, Approved, Rejected, Filled), or null to disable status filtering
+     * @return the hash code
      */
-    public void setStatus(String status) {
-        this.status = status;
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
-    /**
-     * Sets the closing date filter criterion.
-     *
-     * @param closingDate the closing date to filter by, or null to disable closing date filtering
-     */
-    public void setClosingDate(LocalDate closingDate) {
-        this.closingDate = closingDate;
+    @Override
+    public String toString() {
+        return "FilterCriteria[level=" + level + ", major=" + major + ", status=" + status
+            + ", closingDate=" + closingDate + "]";
     }
 
     /**
-     * Resets all filter criteria to null, effectively removing all filters.
+     * Mutable builder of {@link FilterCriteria}.
      * <p>
-     * After calling this method, the filter will not restrict any internships,
-     * and all opportunities will pass through when this criteria is applied.
+     * A null value clears that criterion. {@link #build()} returns {@link FilterCriteria#EMPTY}
+     * when no criterion is set, so unfiltered criteria are never allocated.
      * </p>
      */
-    public void reset() {
-        this.level = null;
-        this.major = null;
-        this.status = null;
-        this.closingDate = null;
-    }
+    public static final class Builder {
+        private String level;
+        private String major;
+        private String status;
+        private LocalDate closingDate;
 
-    /**
-     * Checks if any filter criterion has been set.
-     * <p>
-     * This is useful for determining whether filtering is active or if
-     * all internships should be displayed without restriction.
-     * </p>
-     *
-     * @return {@code true} if at least one filter criterion is set (non-null), {@code false} if all are null
-     */
-    public boolean hasFilters() {
-        return level != null || major != null || status != null || closingDate != null;
+        private Builder() {
+        }
+
+        /**
+         * Sets the level filter criterion.
+         *
+         * @param level the level to filter by (Basic, Intermediate, Advanced), or null to disable level filtering
+         * @return this builder
+         */
+        public Builder level(String level) {
+            this.level = level;
+            return this;
+        }
+
+        /**
+         * Sets the major filter criterion.
+         *
+         * @param major the preferred major to filter by, or null to disable major filtering
+         * @return this builder
+         */
+        public Builder major(String major) {
+            this.major = major;
+            return this;
+        }
+
+        /**
+         * Sets the status filter criterion.
+         *
+         * @param status the status to filter by (Pending, Approved, Rejected, Filled), or null to disable status filtering
+         * @return this builder
+         */
+        public Builder status(String status) {
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * Sets the closing date filter criterion.
+         *
+         * @param closingDate the closing date to filter by, or null to disable closing date filtering
+         * @return this builder
+         */
+        public Builder closingDate(LocalDate closingDate) {
+            this.closingDate = closingDate;
+            return this;
+        }
+
+        /**
+         * Clears every criterion.
+         *
+         * @return this builder
+         */
+        public Builder clear() {
+            this.level = null;
+            this.major = null;
+            this.status = null;
+            this.closingDate = null;
+            return this;
+        }
+
+        /**
+         * Creates criteria holding the builder's current values.
+         *
+         * @return new criteria, or {@link FilterCriteria#EMPTY} if no criterion is set
+         */
+        public FilterCriteria build() {
+            if (level == null && major == null && status == null && closingDate == null) {
+                return EMPTY;
+            }
+            return new FilterCriteria(level, major, status, closingDate);
+        }
     }
 }
@@ -0,0 +1,128 @@
+import java.util.List;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for an internship query: a criteria filter, a keyword search or
+ * a title prefix lookup.
+ * <p>
+ * The event carries the shape of the query (which criteria were set, and their values), the
+ * student it was run for and the number of results, so slow queries in a recording can be
+ * grouped by shape and traced to the criteria that caused them.
+ * </p>
+ *
+ * @see InternshipManager
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+@Name("sc2002.placement.FilterQuery")
+@Label("Internship Query")
+@Category({"Internship Placement", "Queries"})
+@Description("Filter, search or prefix lookup over the internship opportunities")
+public class FilterQueryEvent extends Event {
+    @Label("Operation")
+    @Description("The InternshipManager method, e.g. getVisibleInternshipsForStudent")
+    private String operation;
+
+    @Label("Student ID")
+    @Description("The student the results were restricted to; empty for staff queries")
+    private String studentID;
+
+    @Label("Criteria Shape")
+    @Description("The criteria that were set, e.g. level+closingDate; none if no criteria were set")
+    private String criteria;
+
+    @Label("Level")
+    private String level;
+
+    @Label("Major")
+    private String major;
+
+    @Label("Status")
+    private String status;
+
+    @Label("Closing Date")
+    private String closingDate;
+
+    @Label("Query")
+    @Description("The keywords or title prefix of a search")
+    private String query;
+
+    @Label("Result Size")
+    @Description("Number of internships returned; -1 if the query failed")
+    private int resultSize;
+
+    /**
+     * Commits the event for a criteria filter if it is enabled and over its threshold.
+     *
+     * @param operation the InternshipManager method
+     * @param student   the student the results were restricted to, or null
+     * @param filter    the criteria applied, or null for none
+     * @param results   the results, or null if the query failed
+     */
+    public void finish(String operation, Student student, FilterCriteria filter, List<?> results) {
+        if (shouldCommit()) {
+            describe(operation, student, results);
+            this.criteria = shapeOf(filter);
+            if (filter != null) {
+                this.level = filter.getLevel();
+                this.major = filter.getMajor();
+                this.status = filter.getStatus();
+                this.closingDate = filter.getClosingDate() == null ? null : filter.getClosingDate().toString();
+            }
+            commit();
+        }
+    }
+
+    /**
+     * Commits the event for a keyword search or title prefix lookup if it is enabled and over
+     * its threshold.
+     *
+     * @param operation the InternshipManager method
+     * @param student   the student the results were restricted to, or null
+     * @param query     the keywords or prefix
+     * @param results   the results, or null if the query failed
+     */
+    public void finish(String operation, Student student, String query, List<?> results) {
+        if (shouldCommit()) {
+            describe(operation, student, results);
+            this.criteria = "none";
+            this.query = query;
+            commit();
+        }
+    }
+
+    private void describe(String operation, Student student, List<?> results) {
+        this.operation = operation;
+        this.studentID = student == null ? "" : student.getUserID();
+        this.resultSize = results == null ? -1 : results.size();
+    }
+
+    /**
+     * Names the criteria that are set, joined with '+'.
+     *
+     * @param filter the criteria, or null
+     * @return for example "level+major", or "none"
+     */
+    static String shapeOf(FilterCriteria filter) {
+        if (filter == null) {
+            return "none";
+        }
+        StringBuilder sb = new StringBuilder();
+        appendIf(sb, filter.getLevel() != null, "level");
+        appendIf(sb, filter.getMajor() != null, "major");
+        appendIf(sb, filter.getStatus() != null, "status");
+        appendIf(sb, filter.getClosingDate() != null, "closingDate");
+        return sb.length() == 0 ? "none" : sb.toString();
+    }
+
+    private static void appendIf(StringBuilder sb, boolean set, String name) {
+        if (set) {
+            sb.append(sb.length() == 0 ? "" : "+").append(name);
+        }
+    }
+}
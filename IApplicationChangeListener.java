@@ -0,0 +1,35 @@
+/**
+ * Callback contract for observing status changes and withdrawal requests of an {@link Application}.
+ * <p>
+ * Applications can be updated directly through {@link Application#updateStatus(String)},
+ * bypassing {@link ApplicationManager}. Structures that group applications by status (for
+ * example the {@link InternshipApplicationIndex}) must be told about every change so their
+ * groups stay correct. The application invokes its registered listener after each change.
+ * </p>
+ * <p>
+ * <strong>Design Pattern:</strong> Observer - the application is the subject and the
+ * manager that owns it registers itself as the observer when the application is submitted.
+ * </p>
+ *
+ * @see Application#setChangeListener(IApplicationChangeListener)
+ * @see ApplicationManager
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public interface IApplicationChangeListener {
+    /**
+     * Called after the status of the application has been modified.
+     *
+     * @param app       the application that changed (already holding the new status)
+     * @param oldStatus the status the application held before the change
+     */
+    void applicationStatusChanged(Application app, String oldStatus);
+    
+    /**
+     * Called after the student has requested withdrawal from the application.
+     *
+     * @param app the application whose withdrawal was requested
+     */
+    void withdrawalRequested(Application app);
+}
@@ -78,4 +78,21 @@ public interface ICriteriaFilter {
      * @see InternshipOpportunity
      */
     List<InternshipOpportunity> applyFilter(List<InternshipOpportunity> list, FilterCriteria criteria);
+
+    /**
+     * Applies filter criteria to every opportunity mirrored in a column store.
+     * <p>
+     * The default implementation filters {@link InternshipColumnStore#getAll()} with
+     * {@link #applyFilter(List, FilterCriteria)}. Implementations whose criteria map onto the
+     * store's columns may scan the columns first, but must return the same opportunities.
+     * </p>
+     *
+     * @param store the column store holding all internship opportunities; must not be null
+     * @param criteria the filtering criteria; may be null or empty to indicate no filtering
+     * @return the opportunities matching all specified criteria
+     * @see InternshipColumnStore
+     */
+    default List<InternshipOpportunity> applyFilter(InternshipColumnStore store, FilterCriteria criteria) {
+        return applyFilter(store.getAll(), criteria);
+    }
 }
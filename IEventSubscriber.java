@@ -0,0 +1,27 @@
+import java.util.List;
+
+/**
+ * Callback contract for receiving {@link StateChangeEvent}s from the {@link EventBus}.
+ * <p>
+ * Events are delivered in batches, in the order they were published, whenever the
+ * subscription is delivered (see {@link EventBus.Subscription#deliver()}). A subscriber
+ * never receives events excluded by the type filter it subscribed with.
+ * </p>
+ * <p>
+ * <strong>Design Pattern:</strong> Observer (publish/subscribe) - views, caches and
+ * notifications update by push instead of re-scanning applications and internships.
+ * </p>
+ *
+ * @see EventBus#subscribe(IEventSubscriber, java.util.Set)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public interface IEventSubscriber {
+    /**
+     * Called with the next batch of events for this subscriber.
+     *
+     * @param events the events, oldest first; never empty
+     */
+    void onEvents(List<StateChangeEvent> events);
+}
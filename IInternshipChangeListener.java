@@ -0,0 +1,50 @@
+/**
+ * Callback contract for observing changes made to an {@link InternshipOpportunity}.
+ * <p>
+ * Internship opportunities can be modified directly through their setters, bypassing
+ * {@link InternshipManager}. Any structure that caches internship attributes (for example the
+ * {@link InternshipColumnStore}) must therefore be told when an attribute changes so it can
+ * refresh its copy. The opportunity invokes its registered listener after every mutation.
+ * </p>
+ * <p>
+ * <strong>Design Pattern:</strong> Observer - the opportunity is the subject and the
+ * manager that owns it registers itself as the observer when the opportunity is added.
+ * </p>
+ *
+ * @see InternshipOpportunity#setChangeListener(IInternshipChangeListener)
+ * @see InternshipManager
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public interface IInternshipChangeListener {
+    /** Field name reported when the title changes */
+    String TITLE = "title";
+    /** Field name reported when the description changes */
+    String DESCRIPTION = "description";
+    /** Field name reported when the level changes */
+    String LEVEL = "level";
+    /** Field name reported when the preferred major changes */
+    String PREFERRED_MAJOR = "preferredMajor";
+    /** Field name reported when the opening date changes */
+    String OPENING_DATE = "openingDate";
+    /** Field name reported when the closing date changes */
+    String CLOSING_DATE = "closingDate";
+    /** Field name reported when the status changes */
+    String STATUS = "status";
+    /** Field name reported when the visibility changes */
+    String VISIBILITY = "visibility";
+    /** Field name reported when the company name changes */
+    String COMPANY_NAME = "companyName";
+    /** Field name reported when the number of slots changes */
+    String NUM_SLOTS = "numSlots";
+
+    /**
+     * Called after a field of the opportunity has been modified.
+     *
+     * @param opportunity the opportunity that changed (already holding the new value)
+     * @param field       the name of the changed field, one of the constants in this interface
+     * @param oldValue    the value the field held before the change (may be null)
+     */
+    void internshipChanged(InternshipOpportunity opportunity, String field, Object oldValue);
+}
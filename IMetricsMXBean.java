@@ -0,0 +1,63 @@
+import java.util.Map;
+
+/**
+ * Management interface of the {@link MetricsRegistry}, published over JMX.
+ * <p>
+ * Attributes are keyed by metric name, for example
+ * {@code "ApplicationManager.submitApplication"}; JMX clients such as JConsole show them as
+ * tables. Latencies are in milliseconds.
+ * </p>
+ *
+ * @see MetricsRegistry#registerMBean()
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public interface IMetricsMXBean {
+    /**
+     * Retrieves the value of every counter.
+     *
+     * @return counter name -> value
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Retrieves the number of timed calls of every operation.
+     *
+     * @return operation name -> number of calls
+     */
+    Map<String, Long> getCallCounts();
+
+    /**
+     * Retrieves the mean latency of every operation.
+     *
+     * @return operation name -> mean latency in milliseconds
+     */
+    Map<String, Double> getMeanMillis();
+
+    /**
+     * Retrieves the 99th percentile latency of every operation.
+     *
+     * @return operation name -> 99th percentile latency in milliseconds
+     */
+    Map<String, Double> getP99Millis();
+
+    /**
+     * Retrieves the maximum latency of every operation.
+     *
+     * @return operation name -> maximum latency in milliseconds
+     */
+    Map<String, Double> getMaxMillis();
+
+    /**
+     * Formats every metric as text, one per line.
+     *
+     * @return the snapshot
+     */
+    String snapshot();
+
+    /**
+     * Resets every counter and latency histogram to zero.
+     */
+    void reset();
+}
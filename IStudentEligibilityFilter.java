@@ -1,3 +1,4 @@
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -86,4 +87,37 @@ public interface IStudentEligibilityFilter {
      * @see InternshipOpportunity#getLevel()
      */
     List<InternshipOpportunity> filterForStudent(List<InternshipOpportunity> list, Student student);
+
+    /**
+     * Filters every opportunity mirrored in a column store by student eligibility.
+     * <p>
+     * The default implementation filters {@link InternshipColumnStore#getAll()} with
+     * {@link #filterForStudent(List, Student)}. Implementations whose rules map onto the
+     * store's columns may scan the columns first, but must return the same opportunities.
+     * </p>
+     *
+     * @param store the column store holding all internship opportunities; must not be null
+     * @param student the student for whom to check eligibility; must not be null
+     * @return the opportunities the student is eligible to apply for
+     * @see InternshipColumnStore
+     */
+    default List<InternshipOpportunity> filterForStudent(InternshipColumnStore store, Student student) {
+        return filterForStudent(store.getAll(), student);
+    }
+
+    /**
+     * Checks whether a student is eligible for a single opportunity.
+     * <p>
+     * The default implementation filters a one-element list with
+     * {@link #filterForStudent(List, Student)}. Implementations may test the opportunity
+     * directly, but must agree with the list filter.
+     * </p>
+     *
+     * @param opportunity the opportunity to check; must not be null
+     * @param student the student for whom to check eligibility; must not be null
+     * @return true if the student is eligible to apply for the opportunity
+     */
+    default boolean isEligible(InternshipOpportunity opportunity, Student student) {
+        return !filterForStudent(Collections.singletonList(opportunity), student).isEmpty();
+    }
 }
@@ -0,0 +1,193 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Insertion-ordered collection of identified elements with constant-time lookup and removal.
+ * <p>
+ * The managers previously kept their records in an {@code ArrayList}, where
+ * {@code list.remove(element)} searches the whole list and shifts every later element.
+ * This collection stores elements in slots and keeps an ID-to-slot map beside them:
+ * <ul>
+ *   <li><strong>Lookup and existence checks:</strong> a single hash probe on the ID</li>
+ *   <li><strong>Removal:</strong> the slot is cleared (a tombstone) instead of shifting the
+ *       elements after it, so the remaining elements keep their relative order</li>
+ *   <li><strong>Compaction:</strong> once tombstones outnumber live elements the slots are
+ *       rewritten without gaps, keeping iteration proportional to the live element count
+ *       and the amortized cost of removal constant</li>
+ * </ul>
+ * Iteration visits live elements in the order they were added.
+ * </p>
+ *
+ * @param <T> the element type
+ * @see InternshipManager
+ * @see ApplicationManager
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class IndexedSlotList<T> implements Iterable<T> {
+    private final Function<T, String> idExtractor;
+    /** Elements in insertion order; removed elements leave a null tombstone */
+    private final List<T> slots;
+    /** ID -> position in {@link #slots} */
+    private final Map<String, Integer> slotByID;
+    private int tombstones;
+
+    /**
+     * Constructs an empty list whose elements are identified by the given function.
+     *
+     * @param idExtractor returns the unique, immutable ID of an element
+     */
+    public IndexedSlotList(Function<T, String> idExtractor) {
+        this.idExtractor = idExtractor;
+        this.slots = new ArrayList<>();
+        this.slotByID = new HashMap<>();
+        this.tombstones = 0;
+    }
+
+    /**
+     * Appends an element. An element whose ID is already present is not added again.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added
+     */
+    public boolean add(T element) {
+        String id = idExtractor.apply(element);
+        if (slotByID.containsKey(id)) {
+            return false;
+        }
+        slotByID.put(id, slots.size());
+        slots.add(element);
+        return true;
+    }
+
+    /**
+     * Removes the element with the given ID.
+     *
+     * @param id the ID of the element
+     * @return the removed element, or null if no element has that ID
+     */
+    public T remove(String id) {
+        Integer slot = slotByID.remove(id);
+        if (slot == null) {
+            return null;
+        }
+        T removed = slots.set(slot, null);
+        tombstones++;
+        if (tombstones > slotByID.size()) {
+            compact();
+        }
+        return removed;
+    }
+
+    /**
+     * Retrieves the element with the given ID.
+     *
+     * @param id the ID of the element
+     * @return the element, or null if no element has that ID
+     */
+    public T get(String id) {
+        Integer slot = slotByID.get(id);
+        return slot == null ? null : slots.get(slot);
+    }
+
+    /**
+     * Checks whether an element with the given ID is present.
+     *
+     * @param id the ID to look for
+     * @return {@code true} if present
+     */
+    public boolean containsID(String id) {
+        return slotByID.containsKey(id);
+    }
+
+    /**
+     * Retrieves the number of live elements.
+     *
+     * @return the element count
+     */
+    public int size() {
+        return slotByID.size();
+    }
+
+    /**
+     * Copies the live elements into a new list, in insertion order.
+     *
+     * @return a new modifiable list
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(slotByID.size());
+        for (T element : this) {
+            result.add(element);
+        }
+        return result;
+    }
+
+    /**
+     * Streams the live elements in insertion order.
+     *
+     * @return a sequential stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Iterates over the live elements in insertion order, skipping tombstones.
+     * The collection must not be modified during iteration.
+     *
+     * @return an iterator over the live elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int next = advance(0);
+
+            private int advance(int from) {
+                while (from < slots.size() && slots.get(from) == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < slots.size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T element = slots.get(next);
+                next = advance(next + 1);
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Rewrites the slots without tombstones and re-points the ID map.
+     */
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < slots.size(); read++) {
+            T element = slots.get(read);
+            if (element != null) {
+                slots.set(write, element);
+                slotByID.put(idExtractor.apply(element), write);
+                write++;
+            }
+        }
+        slots.subList(write, slots.size()).clear();
+        tombstones = 0;
+    }
+}
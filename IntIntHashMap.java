@@ -0,0 +1,261 @@
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from {@code int} keys to {@code int} values.
+ * <p>
+ * A {@code HashMap<Integer, Integer>} stores every entry as a node holding two boxed
+ * integers, and every lookup or update of a counter outside the small-integer cache
+ * allocates. This map keeps keys and values in two parallel {@code int[]} arrays:
+ * <ul>
+ *   <li><strong>Probing:</strong> linear probing from a mixed hash of the key, in a table
+ *       whose capacity is a power of two and which is at most three quarters full</li>
+ *   <li><strong>Removal:</strong> backward-shift deletion, so no tombstones accumulate and
+ *       probe sequences stay short under churn</li>
+ *   <li><strong>Counters:</strong> {@link #add(int, int)} updates a value in place and drops
+ *       the entry when it reaches zero</li>
+ * </ul>
+ * Lookups and updates do not allocate; only growing the table does.
+ * </p>
+ * <p>
+ * Keys are ordinals such as {@link User#getOrdinal()}; {@link Integer#MIN_VALUE} marks a free
+ * slot and cannot be used as a key. The map is not thread-safe.
+ * </p>
+ *
+ * @see IntIntListMap
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class IntIntHashMap {
+    /** Key stored in free slots */
+    static final int FREE = Integer.MIN_VALUE;
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * Constructs an empty map.
+     */
+    public IntIntHashMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Constructs an empty map sized to hold the given number of entries without growing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public IntIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Retrieves the value of a key.
+     *
+     * @param key          the key
+     * @param defaultValue the value returned if the key is absent
+     * @return the key's value, or {@code defaultValue}
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * Checks whether a key is present.
+     *
+     * @param key the key
+     * @return true if the key has a value
+     */
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Sets the value of a key.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(int key, int value) {
+        checkKey(key);
+        int slot = slotOf(key);
+        if (keys[slot] == FREE) {
+            insert(slot, key, value);
+        } else {
+            values[slot] = value;
+        }
+    }
+
+    /**
+     * Adds to the value of a key, treating an absent key as 0. The entry is removed when the
+     * result is 0, so counters of idle keys take no space.
+     *
+     * @param key   the key
+     * @param delta the amount to add
+     * @return the new value
+     */
+    public int add(int key, int delta) {
+        checkKey(key);
+        int slot = slotOf(key);
+        if (keys[slot] == FREE) {
+            if (delta != 0) {
+                insert(slot, key, delta);
+            }
+            return delta;
+        }
+        int value = values[slot] + delta;
+        if (value == 0) {
+            delete(slot);
+        } else {
+            values[slot] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     * @return true if the key was present
+     */
+    public boolean remove(int key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        delete(slot);
+        return true;
+    }
+
+    /**
+     * Retrieves the number of entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the map has no entries.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the table's capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    /**
+     * Spreads the bits of a key so that consecutive ordinals do not fill adjacent slots.
+     *
+     * @param key the key
+     * @return the mixed hash
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Computes the table capacity for a number of entries at three-quarters load.
+     *
+     * @param expectedSize the number of entries
+     * @return a power of two of at least {@link #MIN_CAPACITY}
+     */
+    static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) expectedSize * 4 / 3 + 1);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    static void checkKey(int key) {
+        if (key == FREE) {
+            throw new IllegalArgumentException("Integer.MIN_VALUE cannot be used as a key");
+        }
+    }
+
+    private int find(int key) {
+        if (key == FREE) {
+            return -1;
+        }
+        int slot = slotOf(key);
+        return keys[slot] == FREE ? -1 : slot;
+    }
+
+    /**
+     * Finds the slot holding a key, or the free slot where it would be inserted.
+     */
+    private int slotOf(int key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int slot, int key, int value) {
+        if (size >= resizeAt) {
+            grow();
+            slot = slotOf(key);
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    /**
+     * Empties a slot, moving later entries of the probe sequence back so that every entry
+     * stays reachable from its home slot without passing a free slot.
+     */
+    private void delete(int slot) {
+        int free = slot;
+        int next = (free + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - free) & mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[free] = FREE;
+        size--;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity / 4 * 3;
+    }
+}
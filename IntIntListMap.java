@@ -0,0 +1,180 @@
+/**
+ * Map from {@code int} keys to ordered lists of {@code int} values, for adjacency between
+ * ordinals (for example a student and the rows of their applications).
+ * <p>
+ * A {@code HashMap<Integer, List<Integer>>} boxes the key and every value. This map finds a
+ * key's list through an {@link IntIntHashMap} from key to list number and keeps each list
+ * in an {@link IntList}:
+ * <ul>
+ *   <li><strong>Order:</strong> values stay in the order they were added; removing a value
+ *       keeps the order of the others</li>
+ *   <li><strong>Reuse:</strong> a key whose last value is removed releases its list number,
+ *       and the next new key takes it over with its array</li>
+ * </ul>
+ * Values are read by position ({@link #size(int)}, {@link #get(int, int)}) so traversal does
+ * not allocate. Lists are expected to be short, as removal and {@link #contains(int, int)}
+ * scan the key's list.
+ * </p>
+ * <p>
+ * {@link Integer#MIN_VALUE} cannot be used as a key. The map is not thread-safe.
+ * </p>
+ *
+ * @see IntIntHashMap
+ * @see StudentApplicationIndex
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class IntIntListMap {
+    /** key -> position in {@link #lists} */
+    private final IntIntHashMap listByKey;
+    private IntList[] lists;
+    /** Positions in {@link #lists} whose key was removed */
+    private final IntList freeLists;
+    private int usedLists;
+
+    /**
+     * Constructs an empty map.
+     */
+    public IntIntListMap() {
+        this.listByKey = new IntIntHashMap();
+        this.lists = new IntList[8];
+        this.freeLists = new IntList();
+    }
+
+    /**
+     * Appends a value to a key's list, creating the list if needed.
+     *
+     * @param key   the key
+     * @param value the value to append
+     */
+    public void add(int key, int value) {
+        int list = listByKey.getOrDefault(key, -1);
+        if (list < 0) {
+            list = allocateList();
+            listByKey.put(key, list);
+        }
+        lists[list].add(value);
+    }
+
+    /**
+     * Removes the first occurrence of a value from a key's list. The key is removed with its
+     * last value.
+     *
+     * @param key   the key
+     * @param value the value to remove
+     * @return true if the value was in the key's list
+     */
+    public boolean remove(int key, int value) {
+        int list = listByKey.getOrDefault(key, -1);
+        if (list < 0) {
+            return false;
+        }
+        IntList values = lists[list];
+        int index = values.indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        values.removeAt(index);
+        if (values.isEmpty()) {
+            listByKey.remove(key);
+            freeLists.add(list);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the first occurrence of a value in a key's list, keeping its position.
+     *
+     * @param key      the key
+     * @param oldValue the value to replace
+     * @param newValue the replacement
+     * @return true if {@code oldValue} was in the key's list
+     */
+    public boolean replace(int key, int oldValue, int newValue) {
+        int list = listByKey.getOrDefault(key, -1);
+        if (list < 0) {
+            return false;
+        }
+        int index = lists[list].indexOf(oldValue);
+        if (index < 0) {
+            return false;
+        }
+        lists[list].set(index, newValue);
+        return true;
+    }
+
+    /**
+     * Checks whether a key's list holds a value.
+     *
+     * @param key   the key
+     * @param value the value to look for
+     * @return true if present
+     */
+    public boolean contains(int key, int value) {
+        int list = listByKey.getOrDefault(key, -1);
+        return list >= 0 && lists[list].indexOf(value) >= 0;
+    }
+
+    /**
+     * Retrieves the length of a key's list.
+     *
+     * @param key the key
+     * @return the number of values, 0 if the key is absent
+     */
+    public int size(int key) {
+        int list = listByKey.getOrDefault(key, -1);
+        return list < 0 ? 0 : lists[list].size();
+    }
+
+    /**
+     * Retrieves a value of a key's list by position.
+     *
+     * @param key   the key
+     * @param index the position, from 0 to {@code size(key) - 1}
+     * @return the value
+     * @throws IndexOutOfBoundsException if the key is absent or the index is out of range
+     */
+    public int get(int key, int index) {
+        int list = listByKey.getOrDefault(key, -1);
+        if (list < 0) {
+            throw new IndexOutOfBoundsException("No values for key " + key);
+        }
+        return lists[list].get(index);
+    }
+
+    /**
+     * Copies a key's list into a new array.
+     *
+     * @param key the key
+     * @return the values in order; empty if the key is absent
+     */
+    public int[] toArray(int key) {
+        int list = listByKey.getOrDefault(key, -1);
+        return list < 0 ? new int[0] : lists[list].toArray();
+    }
+
+    /**
+     * Retrieves the number of keys with at least one value.
+     *
+     * @return the key count
+     */
+    public int keyCount() {
+        return listByKey.size();
+    }
+
+    private int allocateList() {
+        if (!freeLists.isEmpty()) {
+            int list = freeLists.removeAt(freeLists.size() - 1);
+            lists[list].clear();
+            return list;
+        }
+        if (usedLists == lists.length) {
+            IntList[] grown = new IntList[lists.length * 2];
+            System.arraycopy(lists, 0, grown, 0, lists.length);
+            lists = grown;
+        }
+        lists[usedLists] = new IntList();
+        return usedLists++;
+    }
+}
@@ -0,0 +1,144 @@
+import java.util.Arrays;
+
+/**
+ * Growable list of {@code int} values backed by an {@code int[]}.
+ * <p>
+ * Replaces {@code List<Integer>} where the elements are ordinals or row numbers: each element
+ * takes four bytes instead of a reference to a boxed {@code Integer}, and reading or adding
+ * an element does not allocate except when the array grows.
+ * </p>
+ * <p>
+ * The list is not thread-safe.
+ * </p>
+ *
+ * @see IntIntListMap
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class IntList {
+    private static final int[] EMPTY = new int[0];
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty list; the array is allocated on the first addition.
+     */
+    public IntList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Constructs an empty list with room for the given number of elements.
+     *
+     * @param capacity the initial capacity
+     */
+    public IntList(int capacity) {
+        this.elements = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param value the value to add
+     */
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(4, size + (size >> 1)));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Retrieves the value at a position.
+     *
+     * @param index the position, from 0 to {@code size() - 1}
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return elements[index];
+    }
+
+    /**
+     * Replaces the value at a position.
+     *
+     * @param index the position, from 0 to {@code size() - 1}
+     * @param value the new value
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int set(int index, int value) {
+        int previous = get(index);
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Finds the first position of a value.
+     *
+     * @param value the value to look for
+     * @return its position, or -1 if absent
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the value at a position, shifting the later values down so that the order of the
+     * remaining values is kept.
+     *
+     * @param index the position, from 0 to {@code size() - 1}
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int removeAt(int index) {
+        int removed = get(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Retrieves the number of values.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the list has no values.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every value, keeping the array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Copies the values into a new array.
+     *
+     * @return an array of length {@code size()}
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
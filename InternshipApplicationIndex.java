@@ -0,0 +1,157 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applications grouped by internship and, within each internship, by application status.
+ * <p>
+ * Company representatives review applications one posting at a time, and slot checks count
+ * the "Successful" and "Accepted" applications of a posting. Both used to stream every
+ * application in the system. This index keeps, for each internship:
+ * <ul>
+ *   <li>all of its applications in submission order</li>
+ *   <li>one insertion-ordered set per application status, whose sizes are the per-status counts</li>
+ * </ul>
+ * so listing or counting the applications of a posting costs time proportional to that
+ * posting's applications only.
+ * </p>
+ * <p>
+ * {@link ApplicationManager} maintains the index when applications are submitted or removed,
+ * and on status changes reported through {@link IApplicationChangeListener}.
+ * </p>
+ *
+ * @see ApplicationManager#getApplicationsByInternship(InternshipOpportunity)
+ * @see RepresentativeDashboard
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class InternshipApplicationIndex {
+    /** Applications of a single internship */
+    private static final class Entry {
+        private final Set<Application> all = new LinkedHashSet<>();
+        private final Map<String, Set<Application>> byStatus = new HashMap<>();
+    }
+
+    private final Map<InternshipOpportunity, Entry> entries;
+
+    /**
+     * Constructs an empty index.
+     */
+    public InternshipApplicationIndex() {
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Adds an application under its internship and current status.
+     *
+     * @param app the application to add
+     */
+    public void add(Application app) {
+        Entry entry = entries.computeIfAbsent(app.getInternship(), k -> new Entry());
+        if (entry.all.add(app)) {
+            entry.byStatus.computeIfAbsent(app.getStatus(), k -> new LinkedHashSet<>()).add(app);
+        }
+    }
+
+    /**
+     * Removes an application from its internship's groups.
+     *
+     * @param app the application to remove
+     */
+    public void remove(Application app) {
+        Entry entry = entries.get(app.getInternship());
+        if (entry == null || !entry.all.remove(app)) {
+            return;
+        }
+        removeFromStatus(entry, app.getStatus(), app);
+        if (entry.all.isEmpty()) {
+            entries.remove(app.getInternship());
+        }
+    }
+
+    /**
+     * Moves an application from the group of its previous status to that of its current one.
+     *
+     * @param app       the application whose status changed
+     * @param oldStatus the status it was grouped under
+     */
+    public void statusChanged(Application app, String oldStatus) {
+        Entry entry = entries.get(app.getInternship());
+        if (entry == null || !entry.all.contains(app)) {
+            return;
+        }
+        removeFromStatus(entry, oldStatus, app);
+        entry.byStatus.computeIfAbsent(app.getStatus(), k -> new LinkedHashSet<>()).add(app);
+    }
+
+    /**
+     * Retrieves the internships that currently have applications.
+     *
+     * @return a new list of the internships
+     */
+    public List<InternshipOpportunity> getInternships() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    /**
+     * Retrieves every application for an internship, in submission order.
+     *
+     * @param internship the internship
+     * @return a new list; empty if the internship has no applications
+     */
+    public List<Application> getApplications(InternshipOpportunity internship) {
+        Entry entry = entries.get(internship);
+        return entry == null ? new ArrayList<>() : new ArrayList<>(entry.all);
+    }
+
+    /**
+     * Retrieves the applications for an internship that have the given status.
+     *
+     * @param internship the internship
+     * @param status     the exact application status
+     * @return a new list in the order the applications entered the status
+     */
+    public List<Application> getApplications(InternshipOpportunity internship, String status) {
+        Entry entry = entries.get(internship);
+        Set<Application> group = entry == null ? null : entry.byStatus.get(status);
+        return group == null ? new ArrayList<>() : new ArrayList<>(group);
+    }
+
+    /**
+     * Counts the applications for an internship.
+     *
+     * @param internship the internship
+     * @return the number of applications
+     */
+    public int count(InternshipOpportunity internship) {
+        Entry entry = entries.get(internship);
+        return entry == null ? 0 : entry.all.size();
+    }
+
+    /**
+     * Counts the applications for an internship that have the given status.
+     *
+     * @param internship the internship
+     * @param status     the exact application status
+     * @return the number of applications with that status
+     */
+    public int count(InternshipOpportunity internship, String status) {
+        Entry entry = entries.get(internship);
+        Set<Application> group = entry == null ? null : entry.byStatus.get(status);
+        return group == null ? 0 : group.size();
+    }
+
+    private static void removeFromStatus(Entry entry, String status, Application app) {
+        Set<Application> group = entry.byStatus.get(status);
+        if (group != null) {
+            group.remove(app);
+            if (group.isEmpty()) {
+                entry.byStatus.remove(status);
+            }
+        }
+    }
+}
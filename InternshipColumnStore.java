@@ -0,0 +1,290 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Struct-of-arrays mirror of the internship list used for fast filter scans.
+ * <p>
+ * Walking a {@code List<InternshipOpportunity>} dereferences every object and its
+ * {@code String}/{@code LocalDate} fields for each predicate, which scatters memory accesses
+ * across the heap. This store keeps the attributes that filters test in parallel primitive
+ * arrays so a scan touches a few contiguous arrays instead:
+ * <ul>
+ *   <li>{@code int[]} ordinals for level, preferred major and status</li>
+ *   <li>{@code long[]} epoch days for the opening and closing dates</li>
+ *   <li>{@code boolean[]} visibility flags</li>
+ *   <li>{@code int[]} number of slots</li>
+ * </ul>
+ * <p>
+ * String attributes are case-folded and interned into per-column dictionaries so that the
+ * case-insensitive comparisons used by {@link StudentEligibilityFilter} become integer
+ * comparisons. Selected values are resolved to ordinals once per scan.
+ * </p>
+ * <p>
+ * <strong>Consistency:</strong> {@link InternshipManager} adds and removes rows alongside its
+ * internship list and refreshes a row whenever the opportunity reports a change through
+ * {@link IInternshipChangeListener}. Row order is not preserved on removal (the last row is
+ * moved into the gap), which is harmless because every query result is sorted afterwards.
+ * </p>
+ * <p>
+ * The store only selects rows by column values; it holds no filtering rules of its own.
+ * {@link InternshipManager} hands it to the injected filter strategies, and a strategy that
+ * knows its rules in column terms (as {@link StudentEligibilityFilter} does) scans it, while
+ * any other strategy filters {@link #getAll()}.
+ * </p>
+ *
+ * @see InternshipManager
+ * @see StudentEligibilityFilter
+ * @see FilterCriteria
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class InternshipColumnStore {
+    /** Ordinal stored for a null attribute; never equal to a resolved criterion */
+    private static final int NULL_ORDINAL = -1;
+    /** Resolved criterion meaning "no filter on this column" */
+    private static final int ANY = -1;
+    /** Resolved criterion meaning "value never seen, nothing can match" */
+    private static final int UNKNOWN = -2;
+    /** Epoch day stored for a null date; makes the row fail every date test */
+    private static final long NO_DATE = Long.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private InternshipOpportunity[] rows;
+    private int[] levelOrdinals;
+    private int[] majorOrdinals;
+    private int[] statusOrdinals;
+    private long[] openingDays;
+    private long[] closingDays;
+    private boolean[] visible;
+    private int[] slots;
+    private int size;
+
+    /** internship ordinal -> row position of each stored opportunity */
+    private final IntIntHashMap rowIndex;
+    private final Map<String, Integer> levelDictionary;
+    private final Map<String, Integer> majorDictionary;
+    private final Map<String, Integer> statusDictionary;
+
+    /**
+     * Constructs an empty column store.
+     */
+    public InternshipColumnStore() {
+        this.rows = new InternshipOpportunity[INITIAL_CAPACITY];
+        this.levelOrdinals = new int[INITIAL_CAPACITY];
+        this.majorOrdinals = new int[INITIAL_CAPACITY];
+        this.statusOrdinals = new int[INITIAL_CAPACITY];
+        this.openingDays = new long[INITIAL_CAPACITY];
+        this.closingDays = new long[INITIAL_CAPACITY];
+        this.visible = new boolean[INITIAL_CAPACITY];
+        this.slots = new int[INITIAL_CAPACITY];
+        this.size = 0;
+        this.rowIndex = new IntIntHashMap();
+        this.levelDictionary = new HashMap<>();
+        this.majorDictionary = new HashMap<>();
+        this.statusDictionary = new HashMap<>();
+    }
+
+    /**
+     * Appends a row for the given opportunity. Adding an opportunity that is already
+     * stored simply refreshes its row.
+     *
+     * @param opportunity the opportunity to mirror
+     */
+    public void add(InternshipOpportunity opportunity) {
+        if (rowIndex.containsKey(opportunity.getOrdinal())) {
+            update(opportunity);
+            return;
+        }
+        ensureCapacity(size + 1);
+        rows[size] = opportunity;
+        rowIndex.put(opportunity.getOrdinal(), size);
+        writeRow(size, opportunity);
+        size++;
+    }
+
+    /**
+     * Removes the row of the given opportunity by moving the last row into its place.
+     *
+     * @param opportunity the opportunity to remove; ignored if not stored
+     */
+    public void remove(InternshipOpportunity opportunity) {
+        int row = rowIndex.getOrDefault(opportunity.getOrdinal(), -1);
+        if (row < 0) {
+            return;
+        }
+        rowIndex.remove(opportunity.getOrdinal());
+        int last = size - 1;
+        if (row != last) {
+            rows[row] = rows[last];
+            levelOrdinals[row] = levelOrdinals[last];
+            majorOrdinals[row] = majorOrdinals[last];
+            statusOrdinals[row] = statusOrdinals[last];
+            openingDays[row] = openingDays[last];
+            closingDays[row] = closingDays[last];
+            visible[row] = visible[last];
+            slots[row] = slots[last];
+            rowIndex.put(rows[row].getOrdinal(), row);
+        }
+        rows[last] = null;
+        size = last;
+    }
+
+    /**
+     * Re-reads every column of the given opportunity's row from the object.
+     *
+     * @param opportunity the opportunity whose attributes changed; ignored if not stored
+     */
+    public void update(InternshipOpportunity opportunity) {
+        int row = rowIndex.getOrDefault(opportunity.getOrdinal(), -1);
+        if (row >= 0) {
+            writeRow(row, opportunity);
+        }
+    }
+
+    /**
+     * Retrieves the number of rows in the store.
+     *
+     * @return the number of mirrored opportunities
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves every stored opportunity.
+     *
+     * @return the stored opportunities in row order
+     */
+    public List<InternshipOpportunity> getAll() {
+        return new ArrayList<>(Arrays.asList(rows).subList(0, size));
+    }
+
+    /**
+     * Scans all rows for opportunities whose columns match the given values.
+     * <p>
+     * Level, major and status are matched case-insensitively, and a null or empty value
+     * puts no restriction on its column. The store applies no rules of its own: filter
+     * strategies such as {@link StudentEligibilityFilter} decide which values to select
+     * and check the candidates against their exact rules afterwards.
+     * </p>
+     *
+     * @param level        the level to select, or null for any level
+     * @param major        the preferred major to select, or null for any major
+     * @param status       the status to select, or null for any status
+     * @param closingLimit keeps opportunities closing on or before this date; null for no limit
+     * @param openOn       keeps visible opportunities whose application window contains this
+     *                     date; null for no restriction
+     * @return the matching opportunities in row order
+     */
+    public List<InternshipOpportunity> select(String level, String major, String status,
+                                              LocalDate closingLimit, LocalDate openOn) {
+        int levelOrdinal = resolve(levelDictionary, level);
+        int majorOrdinal = resolve(majorDictionary, major);
+        int statusOrdinal = resolve(statusDictionary, status);
+        if (levelOrdinal == UNKNOWN || majorOrdinal == UNKNOWN || statusOrdinal == UNKNOWN) {
+            return new ArrayList<>();
+        }
+        long closingDay = closingLimit != null ? closingLimit.toEpochDay() : Long.MAX_VALUE;
+        boolean windowed = openOn != null;
+        long day = windowed ? openOn.toEpochDay() : 0;
+
+        List<InternshipOpportunity> result = new ArrayList<>();
+        for (int r = 0; r < size; r++) {
+            if ((levelOrdinal == ANY || levelOrdinals[r] == levelOrdinal)
+                    && (majorOrdinal == ANY || majorOrdinals[r] == majorOrdinal)
+                    && (statusOrdinal == ANY || statusOrdinals[r] == statusOrdinal)
+                    && closingDays[r] <= closingDay
+                    && (!windowed || (visible[r] && openingDays[r] <= day && day <= closingDays[r]))) {
+                result.add(rows[r]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the attributes of an opportunity into the given row of every column.
+     *
+     * @param row         the row to overwrite
+     * @param opportunity the source opportunity
+     */
+    private void writeRow(int row, InternshipOpportunity opportunity) {
+        levelOrdinals[row] = intern(levelDictionary, opportunity.getLevel());
+        majorOrdinals[row] = intern(majorDictionary, opportunity.getPreferredMajor());
+        statusOrdinals[row] = intern(statusDictionary, opportunity.getStatus());
+        openingDays[row] = toEpochDay(opportunity.getOpeningDate());
+        closingDays[row] = toEpochDay(opportunity.getClosingDate());
+        visible[row] = opportunity.getVisibility();
+        slots[row] = opportunity.getNumSlots();
+    }
+
+    /**
+     * Returns the ordinal of a value, assigning the next free ordinal on first sight.
+     *
+     * @param dictionary the column dictionary
+     * @param value      the attribute value (may be null)
+     * @return the ordinal, or {@link #NULL_ORDINAL} for null
+     */
+    private int intern(Map<String, Integer> dictionary, String value) {
+        if (value == null) {
+            return NULL_ORDINAL;
+        }
+        String key = value.toLowerCase(Locale.ROOT);
+        Integer ordinal = dictionary.get(key);
+        if (ordinal == null) {
+            ordinal = dictionary.size();
+            dictionary.put(key, ordinal);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Resolves a criterion value to an ordinal without adding it to the dictionary.
+     *
+     * @param dictionary the column dictionary
+     * @param value      the criterion value; null or empty means no filter
+     * @return the ordinal, {@link #ANY} for no filter, or {@link #UNKNOWN} if never stored
+     */
+    private int resolve(Map<String, Integer> dictionary, String value) {
+        if (value == null || value.isEmpty()) {
+            return ANY;
+        }
+        Integer ordinal = dictionary.get(value.toLowerCase(Locale.ROOT));
+        return ordinal != null ? ordinal : UNKNOWN;
+    }
+
+    /**
+     * Converts a date to its epoch day, mapping null to {@link #NO_DATE}.
+     *
+     * @param date the date to convert
+     * @return the epoch day
+     */
+    private static long toEpochDay(LocalDate date) {
+        return date != null ? date.toEpochDay() : NO_DATE;
+    }
+
+    /**
+     * Grows every column so that at least {@code required} rows fit.
+     *
+     * @param required the minimum row capacity
+     */
+    private void ensureCapacity(int required) {
+        if (required <= rows.length) {
+            return;
+        }
+        int capacity = Math.max(required, rows.length * 2);
+        rows = Arrays.copyOf(rows, capacity);
+        levelOrdinals = Arrays.copyOf(levelOrdinals, capacity);
+        majorOrdinals = Arrays.copyOf(majorOrdinals, capacity);
+        statusOrdinals = Arrays.copyOf(statusOrdinals, capacity);
+        openingDays = Arrays.copyOf(openingDays, capacity);
+        closingDays = Arrays.copyOf(closingDays, capacity);
+        visible = Arrays.copyOf(visible, capacity);
+        slots = Arrays.copyOf(slots, capacity);
+    }
+}
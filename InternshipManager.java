@@ -1,5 +1,11 @@
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Manages all internship opportunities in the Internship Placement Management System.
@@ -12,6 +18,7 @@ import java.util.List;
  *   <li>Student eligibility filtering based on year of study and major</li>
  *   <li>Criteria-based filtering (company, level, preferred major)</li>
  *   <li>Alphabetical sorting of filtered results</li>
+ *   <li>Keyword search over titles and descriptions, ranked by relevance</li>
  *   <li>Representative-specific internship limits (maximum 5 per representative)</li>
  *   <li>Automatic status updates when slots are filled or freed</li>
  * </ul>
@@ -25,8 +32,24 @@ import java.util.List;
  *       without modifying InternshipManager</li>
  *   <li><strong>Single Responsibility:</strong> Focuses solely on internship opportunity management,
  *       delegating filtering logic to injected dependencies</li>
+ *   <li><strong>Observer Pattern:</strong> Registers itself as the {@link IInternshipChangeListener}
+ *       of every managed opportunity so cached views are refreshed on direct setter calls</li>
  * </ul>
  * <p>
+ * <strong>Storage:</strong> Internships are held in an {@link IndexedSlotList} keyed by
+ * internship ID, so lookup, existence checks and removal are constant-time while
+ * iteration keeps the order in which internships were added.
+ * </p>
+ * <p>
+ * <strong>Scan Performance:</strong> Internship attributes are mirrored in an
+ * {@link InternshipColumnStore}. Queries over the whole list scan its primitive columns to
+ * produce a candidate list, and the injected strategies then run over those candidates only.
+ * Internships are also grouped by status in an {@link InternshipStatusPartition}, so the
+ * pending review list and other per-status views are read directly. Postings are indexed by
+ * representative ID as well, so representative dashboards and the creation limit check do
+ * not depend on the total number of postings.
+ * </p>
+ * <p>
  * <strong>SOLID Principles Demonstrated:</strong>
  * <ul>
  *   <li><strong>Single Responsibility:</strong> Manages only internship opportunities and their lifecycle</li>
@@ -41,15 +64,33 @@ import java.util.List;
  * @see IInternshipSorter
  * @see StudentEligibilityFilter
  * @see FilterCriteria
+ * @see InternshipColumnStore
+ * @see InternshipSearchIndex
+ * @see InternshipTitleIndex
+ * @see InternshipStatusPartition
  * @author SC2002 Group
  * @version 1.0
  * @since 2025-11-20
  */
-public class InternshipManager {
-    private List<InternshipOpportunity> internshipList;
+public class InternshipManager implements IInternshipChangeListener {
+    /** Maximum number of internship opportunities a company representative may create */
+    public static final int MAX_POSTINGS_PER_REPRESENTATIVE = 5;
+    
+    private IndexedSlotList<InternshipOpportunity> internships;
+    private InternshipColumnStore columnStore;
+    private InternshipSearchIndex searchIndex;
+    private InternshipTitleIndex titleIndex;
+    private InternshipStatusPartition statusPartition;
+    /** representative ID -> that representative's postings, in creation order */
+    private Map<String, Set<InternshipOpportunity>> postingsByRepresentative;
+    /** Opportunities whose column store rows are refreshed when the current batch ends; null outside a batch */
+    private Set<InternshipOpportunity> deferredRowUpdates;
     private ICriteriaFilter criteriaFilter;
     private IStudentEligibilityFilter studentEligibilityFilter;
     private IInternshipSorter sorter;
+    private EventBus eventBus;
+    private MetricsRegistry metrics = MetricsRegistry.DISABLED;
+    private StringPool stringPool = StringPool.NONE;
     
     /**
      * Constructs a new InternshipManager with dependency injection for filters and sorter.
@@ -77,7 +118,12 @@ public class InternshipManager {
     public InternshipManager(ICriteriaFilter criteriaFilter,
                             IStudentEligibilityFilter studentEligibilityFilter,
                             IInternshipSorter sorter) {
-        this.internshipList = new ArrayList<>();
+        this.internships = new IndexedSlotList<>(InternshipOpportunity::getInternshipID);
+        this.columnStore = new InternshipColumnStore();
+        this.searchIndex = new InternshipSearchIndex();
+        this.titleIndex = new InternshipTitleIndex();
+        this.statusPartition = new InternshipStatusPartition();
+        this.postingsByRepresentative = new HashMap<>();
         this.criteriaFilter = criteriaFilter;
         this.studentEligibilityFilter = studentEligibilityFilter;
         this.sorter = sorter;
@@ -88,12 +134,25 @@ public class InternshipManager {
      * <p>
      * New internships are created with "Pending" status by default and require
      * approval from Career Center Staff before becoming visible to students.
+     * Adding an internship that is already managed has no effect. The internship's level,
+     * preferred major, company name and status are replaced by their {@link StringPool}
+     * instances.
      * </p>
      *
      * @param opportunity the InternshipOpportunity object to add
      */
     public void addInternship(InternshipOpportunity opportunity) {
-        internshipList.add(opportunity);
+        if (!internships.add(opportunity)) {
+            return;
+        }
+        opportunity.canonicalize(stringPool);
+        columnStore.add(opportunity);
+        searchIndex.add(opportunity);
+        titleIndex.add(opportunity);
+        statusPartition.add(opportunity);
+        postingsByRepresentative.computeIfAbsent(opportunity.getCompanyRepID(), k -> new LinkedHashSet<>())
+                                .add(opportunity);
+        opportunity.setChangeListener(this);
     }
     
     /**
@@ -122,19 +181,85 @@ public class InternshipManager {
         opportunity.updateStatus("Rejected");
     }
     
+    /**
+     * Approves several pending internship opportunities in one operation.
+     * <p>
+     * Internships that are no longer pending (for example, already reviewed by another staff
+     * member) or not managed by this manager are skipped. The status partition is updated as
+     * each decision is applied; the column store row of each internship is refreshed once,
+     * after all decisions, instead of once per field change.
+     * </p>
+     *
+     * @param opportunities the internship opportunities to approve
+     * @return the number of internships approved
+     */
+    public int approveInternships(List<InternshipOpportunity> opportunities) {
+        return decideInternships(opportunities, "Approved");
+    }
+    
+    /**
+     * Rejects several pending internship opportunities in one operation.
+     * <p>
+     * Internships that are no longer pending or not managed by this manager are skipped.
+     * </p>
+     *
+     * @param opportunities the internship opportunities to reject
+     * @return the number of internships rejected
+     */
+    public int rejectInternships(List<InternshipOpportunity> opportunities) {
+        return decideInternships(opportunities, "Rejected");
+    }
+    
+    /**
+     * Applies a review decision to every pending internship in the list within one batch.
+     *
+     * @param opportunities the internships to decide
+     * @param status        the resulting status
+     * @return the number of internships updated
+     */
+    private int decideInternships(List<InternshipOpportunity> opportunities, String status) {
+        deferredRowUpdates = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            int decided = 0;
+            for (InternshipOpportunity opportunity : opportunities) {
+                if (containsInternship(opportunity) && "Pending".equals(opportunity.getStatus())) {
+                    opportunity.updateStatus(status);
+                    decided++;
+                }
+            }
+            return decided;
+        } finally {
+            for (InternshipOpportunity opportunity : deferredRowUpdates) {
+                columnStore.update(opportunity);
+            }
+            deferredRowUpdates = null;
+        }
+    }
+    
     /**
      * Filters internship opportunities based on specified criteria and sorts the results alphabetically.
      * <p>
      * This method demonstrates the Strategy Pattern by delegating to injected filter and sorter implementations.
-     * The filtering is performed by the criteriaFilter, and results are sorted by the sorter.
+     * The criteriaFilter is given the {@link InternshipColumnStore}, which it may scan by column,
+     * and results are sorted by the sorter.
      * </p>
      *
      * @param criteria the FilterCriteria object specifying company name, level, and/or preferred major
      * @return a filtered and sorted list of InternshipOpportunity objects matching the criteria
      */
     public List<InternshipOpportunity> filterInternships(FilterCriteria criteria) {
-        List<InternshipOpportunity> filtered = criteriaFilter.applyFilter(internshipList, criteria);
-        return sorter.sortAlphabetically(filtered);
+        long start = System.nanoTime();
+        FilterQueryEvent event = new FilterQueryEvent();
+        event.begin();
+        List<InternshipOpportunity> results = null;
+        try {
+            List<InternshipOpportunity> filtered = criteriaFilter.applyFilter(columnStore, criteria);
+            results = sorter.sortAlphabetically(filtered);
+            return results;
+        } finally {
+            metrics.record("InternshipManager.filterInternships", start);
+            event.finish("filterInternships", null, criteria, results);
+        }
     }
     
     /**
@@ -147,7 +272,27 @@ public class InternshipManager {
      * @return a new ArrayList containing all internship opportunities
      */
     public List<InternshipOpportunity> getAllInternships() {
-        return new ArrayList<>(internshipList);
+        return internships.toList();
+    }
+    
+    /**
+     * Retrieves an internship opportunity by its internship ID.
+     *
+     * @param internshipID the ID assigned to the internship (e.g. "INT001")
+     * @return the matching InternshipOpportunity, or null if not found
+     */
+    public InternshipOpportunity getInternshipByID(String internshipID) {
+        return internships.get(internshipID);
+    }
+    
+    /**
+     * Checks whether an internship opportunity is managed by this manager.
+     *
+     * @param opportunity the internship opportunity to check
+     * @return true if the internship has been added and not removed
+     */
+    public boolean containsInternship(InternshipOpportunity opportunity) {
+        return internships.containsID(opportunity.getInternshipID());
     }
     
     /**
@@ -165,74 +310,224 @@ public class InternshipManager {
      *   <li><strong>Criteria Filtering:</strong> Applies user-specified filters (company, level, major)</li>
      *   <li><strong>Alphabetical Sorting:</strong> Sorts results by title for easy browsing</li>
      * </ol>
+     * The eligibility filter is given the {@link InternshipColumnStore}; the default
+     * {@link StudentEligibilityFilter} scans its primitive columns, so the later stages only see
+     * the eligible opportunities.
      *
      * @param student  the Student object for which to filter internships
      * @param criteria the FilterCriteria object with optional company, level, and major filters
      * @return a filtered, eligibility-checked, and sorted list of InternshipOpportunity objects
      */
     public List<InternshipOpportunity> getVisibleInternshipsForStudent(Student student, FilterCriteria criteria) {
-        // First apply student eligibility filter
-        List<InternshipOpportunity> eligible = studentEligibilityFilter.filterForStudent(internshipList, student);
-        
-        // Then apply user's custom filter criteria
-        List<InternshipOpportunity> filtered = criteriaFilter.applyFilter(eligible, criteria);
-        
-        // Finally sort alphabetically
-        return sorter.sortAlphabetically(filtered);
+        long start = System.nanoTime();
+        FilterQueryEvent event = new FilterQueryEvent();
+        event.begin();
+        List<InternshipOpportunity> results = null;
+        try {
+            // First apply student eligibility filter
+            List<InternshipOpportunity> eligible = studentEligibilityFilter.filterForStudent(columnStore, student);
+            
+            // Then apply user's custom filter criteria
+            List<InternshipOpportunity> filtered = criteriaFilter.applyFilter(eligible, criteria);
+            
+            // Finally sort alphabetically
+            results = sorter.sortAlphabetically(filtered);
+            return results;
+        } finally {
+            metrics.record("InternshipManager.getVisibleInternshipsForStudent", start);
+            event.finish("getVisibleInternshipsForStudent", student, criteria, results);
+        }
+    }
+    
+    /**
+     * Searches all internship opportunities by keywords in their title and description.
+     * <p>
+     * Results are ranked by BM25 relevance (title matches weigh more than description matches)
+     * and include internships of every status, which suits staff oversight.
+     * </p>
+     *
+     * @param query free-text keywords
+     * @return matching internships, most relevant first; empty if nothing matches
+     * @see InternshipSearchIndex
+     */
+    public List<InternshipOpportunity> searchInternships(String query) {
+        long start = System.nanoTime();
+        FilterQueryEvent event = new FilterQueryEvent();
+        event.begin();
+        List<InternshipOpportunity> results = null;
+        try {
+            results = searchIndex.search(query);
+            return results;
+        } finally {
+            metrics.record("InternshipManager.searchInternships", start);
+            event.finish("searchInternships", null, query, results);
+        }
+    }
+    
+    /**
+     * Searches the internships a student is eligible for by keywords.
+     * <p>
+     * The ranked search results are passed through the student eligibility filter, which keeps
+     * their relevance order, so students only see postings they could apply for.
+     * </p>
+     *
+     * @param student the Student searching
+     * @param query   free-text keywords
+     * @return eligible matching internships, most relevant first
+     */
+    public List<InternshipOpportunity> searchInternshipsForStudent(Student student, String query) {
+        long start = System.nanoTime();
+        FilterQueryEvent event = new FilterQueryEvent();
+        event.begin();
+        List<InternshipOpportunity> results = null;
+        try {
+            results = studentEligibilityFilter.filterForStudent(searchIndex.search(query), student);
+            return results;
+        } finally {
+            metrics.record("InternshipManager.searchInternshipsForStudent", start);
+            event.finish("searchInternshipsForStudent", student, query, results);
+        }
+    }
+    
+    /**
+     * Finds internship opportunities whose title starts with the given prefix, ignoring case.
+     * <p>
+     * Intended for typeahead suggestions: the lookup walks a radix tree of titles, so its cost
+     * depends on the prefix length and the number of results rather than on the number of
+     * internships. Internships of every status are included.
+     * </p>
+     *
+     * @param prefix the beginning of a title
+     * @param limit  the maximum number of results
+     * @return up to {@code limit} internships in alphabetical order of title
+     * @see InternshipTitleIndex
+     */
+    public List<InternshipOpportunity> findInternshipsByTitlePrefix(String prefix, int limit) {
+        long start = metrics.startSampled("InternshipManager.findInternshipsByTitlePrefix");
+        FilterQueryEvent event = new FilterQueryEvent();
+        event.begin();
+        List<InternshipOpportunity> results = null;
+        try {
+            results = titleIndex.findByPrefix(prefix, limit);
+            return results;
+        } finally {
+            metrics.recordSampled("InternshipManager.findInternshipsByTitlePrefix", start);
+            event.finish("findInternshipsByTitlePrefix", null, prefix, results);
+        }
+    }
+    
+    /**
+     * Finds internships a student is eligible for whose title starts with the given prefix.
+     * <p>
+     * The student eligibility filter is tested on each prefix match during the radix tree
+     * walk, which stops after {@code limit} eligible postings, so ineligible postings never
+     * crowd out eligible ones and the rest of the subtree is not visited.
+     * </p>
+     *
+     * @param student the Student searching
+     * @param prefix  the beginning of a title
+     * @param limit   the maximum number of results
+     * @return up to {@code limit} eligible internships in alphabetical order of title
+     */
+    public List<InternshipOpportunity> findInternshipsByTitlePrefixForStudent(Student student, String prefix, int limit) {
+        long start = metrics.startSampled("InternshipManager.findInternshipsByTitlePrefixForStudent");
+        FilterQueryEvent event = new FilterQueryEvent();
+        event.begin();
+        List<InternshipOpportunity> results = null;
+        try {
+            results = titleIndex.findByPrefix(prefix, limit,
+                opp -> studentEligibilityFilter.isEligible(opp, student));
+            return results;
+        } finally {
+            metrics.recordSampled("InternshipManager.findInternshipsByTitlePrefixForStudent", start);
+            event.finish("findInternshipsByTitlePrefixForStudent", student, prefix, results);
+        }
     }
     
     /**
      * Retrieves all internship opportunities created by a specific company representative.
      * <p>
      * This method is used by representatives to view and manage their own internship postings.
+     * The postings are read from the per-representative index in creation order, so the cost
+     * depends only on the representative's own postings.
      * </p>
      *
      * @param repID the unique identifier of the company representative
      * @return a list of InternshipOpportunity objects created by the specified representative
      */
     public List<InternshipOpportunity> getInternshipsByRepresentative(String repID) {
-        List<InternshipOpportunity> result = new ArrayList<>();
-        for (InternshipOpportunity opp : internshipList) {
-            if (opp.getCompanyRepID().equals(repID)) {
-                result.add(opp);
-            }
+        long start = metrics.startSampled("InternshipManager.getInternshipsByRepresentative");
+        try {
+            Set<InternshipOpportunity> postings = postingsByRepresentative.get(repID);
+            return postings == null ? new ArrayList<>() : new ArrayList<>(postings);
+        } finally {
+            metrics.recordSampled("InternshipManager.getInternshipsByRepresentative", start);
         }
-        return result;
+    }
+    
+    /**
+     * Counts the internship opportunities created by a specific company representative.
+     *
+     * @param repID the unique identifier of the company representative
+     * @return the number of postings currently managed for the representative
+     */
+    public int getPostingCount(String repID) {
+        Set<InternshipOpportunity> postings = postingsByRepresentative.get(repID);
+        return postings == null ? 0 : postings.size();
     }
     
     /**
      * Retrieves all internship opportunities with "Pending" status awaiting staff approval.
      * <p>
      * This method is used by Career Center Staff to review and approve/reject new internship postings.
+     * The list is read from the status partition, so its cost depends only on the number of
+     * pending internships.
      * </p>
      *
      * @return a list of InternshipOpportunity objects with Pending status
      */
     public List<InternshipOpportunity> getPendingInternships() {
-        List<InternshipOpportunity> result = new ArrayList<>();
-        for (InternshipOpportunity opp : internshipList) {
-            if ("Pending".equals(opp.getStatus())) {
-                result.add(opp);
-            }
+        long start = metrics.startSampled("InternshipManager.getPendingInternships");
+        try {
+            return statusPartition.get("Pending");
+        } finally {
+            metrics.recordSampled("InternshipManager.getPendingInternships", start);
+        }
+    }
+    
+    /**
+     * Retrieves all internship opportunities with the given status.
+     * <p>
+     * The internships are read from the status partition without scanning the others, in the
+     * order they entered the status.
+     * </p>
+     *
+     * @param status the exact status ("Pending", "Approved", "Rejected", or "Filled")
+     * @return a list of InternshipOpportunity objects with that status
+     */
+    public List<InternshipOpportunity> getInternshipsByStatus(String status) {
+        long start = metrics.startSampled("InternshipManager.getInternshipsByStatus");
+        try {
+            return statusPartition.get(status);
+        } finally {
+            metrics.recordSampled("InternshipManager.getInternshipsByStatus", start);
         }
-        return result;
     }
     
     /**
      * Checks if a company representative has reached their internship creation limit.
      * <p>
-     * Company representatives are limited to creating a maximum of 5 internship opportunities
-     * to prevent system abuse and ensure quality postings.
+     * Company representatives are limited to creating a maximum of
+     * {@value #MAX_POSTINGS_PER_REPRESENTATIVE} internship opportunities to prevent system abuse
+     * and ensure quality postings. The check reads the maintained posting count, so it takes
+     * constant time.
      * </p>
      *
      * @param repID the unique identifier of the company representative
      * @return true if the representative has created 5 or more internships, false otherwise
      */
     public boolean hasReachedCreationLimit(String repID) {
-        long count = internshipList.stream()
-            .filter(opp -> opp.getCompanyRepID().equals(repID))
-            .count();
-        return count >= 5;
+        return getPostingCount(repID) >= MAX_POSTINGS_PER_REPRESENTATIVE;
     }
     
     /**
@@ -284,6 +579,8 @@ public class InternshipManager {
      * <p>
      * This method performs an exact match search (case-sensitive) for both title and company name.
      * Used for looking up specific internships during application or management operations.
+     * The lookup is a single hash probe on the (title, company name) pair; if several internships
+     * share the pair, the one added first is returned.
      * </p>
      *
      * @param title       the exact title of the internship
@@ -291,12 +588,7 @@ public class InternshipManager {
      * @return the matching InternshipOpportunity, or null if not found
      */
     public InternshipOpportunity findInternship(String title, String companyName) {
-        for (InternshipOpportunity opp : internshipList) {
-            if (opp.getTitle().equals(title) && opp.getCompanyName().equals(companyName)) {
-                return opp;
-            }
-        }
-        return null;
+        return titleIndex.find(title, companyName);
     }
     
     /**
@@ -309,6 +601,94 @@ public class InternshipManager {
      * @param opportunity the internship opportunity to remove
      */
     public void removeInternship(InternshipOpportunity opportunity) {
-        internshipList.remove(opportunity);
+        if (internships.remove(opportunity.getInternshipID()) != null) {
+            columnStore.remove(opportunity);
+            searchIndex.remove(opportunity);
+            titleIndex.remove(opportunity);
+            statusPartition.remove(opportunity);
+            Set<InternshipOpportunity> postings = postingsByRepresentative.get(opportunity.getCompanyRepID());
+            postings.remove(opportunity);
+            if (postings.isEmpty()) {
+                postingsByRepresentative.remove(opportunity.getCompanyRepID());
+            }
+            opportunity.setChangeListener(null);
+        }
+    }
+    
+    /**
+     * Refreshes cached views of an internship after one of its fields has changed.
+     * <p>
+     * Invoked by managed opportunities through {@link IInternshipChangeListener}; keeps the
+     * {@link InternshipColumnStore} row in sync with the object and re-indexes the text of the
+     * opportunity in the {@link InternshipSearchIndex} when its title or description changed.
+     * Title and company name changes also move the opportunity within the
+     * {@link InternshipTitleIndex}, and status changes within the {@link InternshipStatusPartition},
+     * using the previous value to locate the old entry. During a batch decision the column store
+     * refresh is deferred until the batch ends. Status and visibility changes are published on
+     * the event bus, if one is set.
+     * </p>
+     *
+     * @param opportunity the opportunity that changed
+     * @param field       the name of the changed field
+     * @param oldValue    the previous value of the field
+     */
+    @Override
+    public void internshipChanged(InternshipOpportunity opportunity, String field, Object oldValue) {
+        if (deferredRowUpdates != null) {
+            deferredRowUpdates.add(opportunity);
+        } else {
+            columnStore.update(opportunity);
+        }
+        if (STATUS.equals(field)) {
+            statusPartition.statusChanged(opportunity, (String) oldValue);
+        }
+        if (TITLE.equals(field) || DESCRIPTION.equals(field)) {
+            searchIndex.update(opportunity);
+        }
+        if (TITLE.equals(field)) {
+            titleIndex.titleChanged(opportunity, (String) oldValue);
+        } else if (COMPANY_NAME.equals(field)) {
+            titleIndex.companyChanged(opportunity, (String) oldValue);
+        }
+        if (eventBus != null && STATUS.equals(field)) {
+            eventBus.publish(StateChangeEvent.forInternship(
+                StateChangeEvent.Type.INTERNSHIP_STATUS_CHANGED, opportunity, oldValue, opportunity.getStatus()));
+        } else if (eventBus != null && VISIBILITY.equals(field)) {
+            eventBus.publish(StateChangeEvent.forInternship(
+                StateChangeEvent.Type.INTERNSHIP_VISIBILITY_CHANGED, opportunity, oldValue, opportunity.getVisibility()));
+        }
+    }
+    
+    /**
+     * Sets the bus on which status and visibility changes of managed internships are published.
+     *
+     * @param eventBus the event bus, or null to stop publishing
+     */
+    public void setEventBus(EventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+    
+    /**
+     * Sets the registry into which the queries are recorded.
+     * <p>
+     * Filters and searches, whose cost grows with the number of internships, are timed on every
+     * call. Index lookups take about as long as a timing would, so they are sampled with
+     * {@link MetricsRegistry#startSampled(String)}: every call is counted and one in
+     * {@link MetricsRegistry#getSampleRate()} is timed.
+     * </p>
+     *
+     * @param metrics the metrics registry; {@link MetricsRegistry#DISABLED} to stop timing
+     */
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Sets the pool whose instances replace the repeated values of added internships.
+     *
+     * @param stringPool the string pool; {@link StringPool#NONE} to keep values as given
+     */
+    public void setStringPool(StringPool stringPool) {
+        this.stringPool = stringPool;
     }
 }
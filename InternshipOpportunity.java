@@ -1,4 +1,5 @@
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents an internship opportunity posted by a company in the system.
@@ -15,6 +16,7 @@ import java.time.LocalDate;
  *   <li>Tracks approval status and visibility to students</li>
  *   <li>Controls number of available positions (slots)</li>
  *   <li>Links to the company and responsible representative</li>
+ *   <li>Carries a stable, system-assigned ID (e.g. "INT001") used for equality and lookup</li>
  * </ul>
  * <p>
  * <b>Status Flow:</b>
@@ -42,6 +44,13 @@ import java.time.LocalDate;
  * @since 2025-11-20
  */
 public class InternshipOpportunity {
+    /** Source of internship IDs; numbers are assigned in creation order and never reused */
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+    
+    /** Unique, immutable identifier in the form INT001, matching the InternshipID data column */
+    private final String internshipID;
+    /** The number in {@link #internshipID}; key of the primitive per-internship indexes */
+    private final int ordinal;
     private String title;
     private String description;
     /** Internship difficulty level: Basic, Intermediate, or Advanced */
@@ -58,12 +67,15 @@ public class InternshipOpportunity {
     private String companyRepID;
     /** Number of available positions for this internship */
     private int numSlots;
+    /** Observer notified after every mutation (set by the owning InternshipManager) */
+    private IInternshipChangeListener changeListener;
 
     /**
      * Constructs a new InternshipOpportunity with the specified details.
      * <p>
      * The internship is created with default status "Pending" and visibility set to false.
      * It will require Career Center Staff approval before becoming visible to students.
+     * A new internship ID is assigned from a monotonically increasing sequence.
      * </p>
      *
      * @param title          the job title of the internship position
@@ -79,6 +91,8 @@ public class InternshipOpportunity {
     public InternshipOpportunity(String title, String description, String level,
                                 String preferredMajor, LocalDate openingDate, LocalDate closingDate,
                                 String companyName, String companyRepID, int numSlots) {
+        this.ordinal = NEXT_ID.getAndIncrement();
+        this.internshipID = String.format("INT%03d", ordinal);
         this.title = title;
         this.description = description;
         this.level = level;
@@ -124,14 +138,35 @@ public class InternshipOpportunity {
      * @param newStatus the new status to set (Pending, Approved, Rejected, or Filled)
      */
     public void updateStatus(String newStatus) {
+        String oldStatus = this.status;
         this.status = newStatus;
+        fireChanged(IInternshipChangeListener.STATUS, oldStatus);
         // Automatically set visibility to true when approved
-        if ("Approved".equals(newStatus)) {
+        if ("Approved".equals(newStatus) && !this.visibility) {
             this.visibility = true;
+            fireChanged(IInternshipChangeListener.VISIBILITY, Boolean.FALSE);
         }
     }
     
     // Getters
+    /**
+     * Retrieves the unique identifier of this internship.
+     *
+     * @return the internship ID (e.g. "INT001")
+     */
+    public String getInternshipID() {
+        return internshipID;
+    }
+    
+    /**
+     * Retrieves the number of this internship, unique for the process and never reused.
+     *
+     * @return the ordinal, the numeric part of the internship ID
+     */
+    int getOrdinal() {
+        return ordinal;
+    }
+    
     /**
      * Retrieves the title of this internship position.
      *
@@ -238,7 +273,9 @@ public class InternshipOpportunity {
      * @param title the new job title
      */
     public void setTitle(String title) {
+        String oldTitle = this.title;
         this.title = title;
+        fireChanged(IInternshipChangeListener.TITLE, oldTitle);
     }
     
     /**
@@ -247,7 +284,9 @@ public class InternshipOpportunity {
      * @param description the new internship description
      */
     public void setDescription(String description) {
+        String oldDescription = this.description;
         this.description = description;
+        fireChanged(IInternshipChangeListener.DESCRIPTION, oldDescription);
     }
     
     /**
@@ -256,7 +295,9 @@ public class InternshipOpportunity {
      * @param level the new level (Basic, Intermediate, or Advanced)
      */
     public void setLevel(String level) {
+        String oldLevel = this.level;
         this.level = level;
+        fireChanged(IInternshipChangeListener.LEVEL, oldLevel);
     }
     
     /**
@@ -265,7 +306,9 @@ public class InternshipOpportunity {
      * @param preferredMajor the new preferred major
      */
     public void setPreferredMajor(String preferredMajor) {
+        String oldPreferredMajor = this.preferredMajor;
         this.preferredMajor = preferredMajor;
+        fireChanged(IInternshipChangeListener.PREFERRED_MAJOR, oldPreferredMajor);
     }
     
     /**
@@ -274,7 +317,9 @@ public class InternshipOpportunity {
      * @param openingDate the new opening date
      */
     public void setOpeningDate(LocalDate openingDate) {
+        LocalDate oldOpeningDate = this.openingDate;
         this.openingDate = openingDate;
+        fireChanged(IInternshipChangeListener.OPENING_DATE, oldOpeningDate);
     }
     
     /**
@@ -283,7 +328,9 @@ public class InternshipOpportunity {
      * @param closingDate the new closing date
      */
     public void setClosingDate(LocalDate closingDate) {
+        LocalDate oldClosingDate = this.closingDate;
         this.closingDate = closingDate;
+        fireChanged(IInternshipChangeListener.CLOSING_DATE, oldClosingDate);
     }
     
     /**
@@ -296,7 +343,9 @@ public class InternshipOpportunity {
      * @param status the new status (Pending, Approved, Rejected, or Filled)
      */
     public void setStatus(String status) {
+        String oldStatus = this.status;
         this.status = status;
+        fireChanged(IInternshipChangeListener.STATUS, oldStatus);
     }
     
     /**
@@ -305,7 +354,9 @@ public class InternshipOpportunity {
      * @param visibility {@code true} to make visible to students, {@code false} to hide
      */
     public void setVisibility(boolean visibility) {
+        boolean oldVisibility = this.visibility;
         this.visibility = visibility;
+        fireChanged(IInternshipChangeListener.VISIBILITY, oldVisibility);
     }
     
     /**
@@ -314,7 +365,9 @@ public class InternshipOpportunity {
      * @param companyName the new company name
      */
     public void setCompanyName(String companyName) {
+        String oldCompanyName = this.companyName;
         this.companyName = companyName;
+        fireChanged(IInternshipChangeListener.COMPANY_NAME, oldCompanyName);
     }
     
     /**
@@ -323,6 +376,75 @@ public class InternshipOpportunity {
      * @param numSlots the new number of slots
      */
     public void setNumSlots(int numSlots) {
+        int oldNumSlots = this.numSlots;
         this.numSlots = numSlots;
+        fireChanged(IInternshipChangeListener.NUM_SLOTS, oldNumSlots);
+    }
+    
+    /**
+     * Registers the observer to notify after every change to this opportunity.
+     * <p>
+     * {@link InternshipManager} registers itself when the opportunity is added so that its
+     * cached views stay consistent with direct setter calls. Pass {@code null} to detach.
+     * </p>
+     *
+     * @param changeListener the listener to notify, or null to stop notifications
+     */
+    public void setChangeListener(IInternshipChangeListener changeListener) {
+        this.changeListener = changeListener;
+    }
+    
+    /**
+     * Replaces the level, preferred major, company name and status by their pooled instances.
+     * <p>
+     * The values stay equal, so no listener is notified.
+     * </p>
+     *
+     * @param pool the pool of canonical instances
+     */
+    void canonicalize(StringPool pool) {
+        this.level = pool.intern(level);
+        this.preferredMajor = pool.intern(preferredMajor);
+        this.companyName = pool.intern(companyName);
+        this.status = pool.intern(status);
+    }
+    
+    /**
+     * Compares internships by their internship ID.
+     *
+     * @param other the object to compare with
+     * @return {@code true} if {@code other} is an internship with the same ID
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof InternshipOpportunity)) {
+            return false;
+        }
+        return internshipID.equals(((InternshipOpportunity) other).internshipID);
+    }
+    
+    /**
+     * Computes the hash code from the internship ID, consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return internshipID.hashCode();
+    }
+    
+    /**
+     * Notifies the registered listener, if any, that a field has changed.
+     *
+     * @param field    the name of the changed field
+     * @param oldValue the value held before the change
+     */
+    private void fireChanged(String field, Object oldValue) {
+        if (changeListener != null) {
+            changeListener.internshipChanged(this, field, oldValue);
+        }
     }
-}
\ No newline at end of file
+}
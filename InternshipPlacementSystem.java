@@ -47,6 +47,12 @@
  * @since 2025-11-20
  */
 public class InternshipPlacementSystem {
+    /** File in which user notifications are persisted between runs */
+    private static final String NOTIFICATION_FILE = "notifications_outbox.txt";
+    /** File to which the operation metrics snapshot is written */
+    private static final String METRICS_FILE = "metrics_snapshot.txt";
+    /** Seconds between metrics snapshots */
+    private static final long METRICS_PERIOD_SECONDS = 60;
     
     /**
      * Main method - entry point for the Internship Placement Management System.
@@ -55,6 +61,9 @@ public class InternshipPlacementSystem {
      * <ol>
      *   <li>Creates the {@link SystemManager} with injected filter dependencies</li>
      *   <li>Loads user data from CSV files using {@link SystemManager#initializeSystem}</li>
+     *   <li>Restores user notifications from the notification file and keeps persisting them</li>
+     *   <li>Enables the on-disk archive for finalized applications</li>
+     *   <li>Publishes operation metrics over JMX and to a snapshot file</li>
      *   <li>Creates the {@link CLILoginBoundary} for user authentication</li>
      *   <li>Displays the welcome menu and enters the main application loop</li>
      *   <li>Handles application shutdown when user logs out</li>
@@ -82,10 +91,20 @@ public class InternshipPlacementSystem {
             "sample_company_representative_list.csv"
         );
         
+        // Restore and persist user notification inboxes
+        systemManager.enableNotificationOutbox(NOTIFICATION_FILE);
+        
+        // Keep finalized applications of closed postings out of memory
+        systemManager.enableApplicationArchive();
+        
+        // Publish operation metrics over JMX and to a snapshot file
+        systemManager.enableMetrics(METRICS_FILE, METRICS_PERIOD_SECONDS);
+        
         // Create and display login boundary
         CLILoginBoundary loginBoundary = new CLILoginBoundary(systemManager);
         loginBoundary.displayWelcomeMenu();
         
+        systemManager.getMetrics().stopPeriodicDump();
         System.out.println("System shutdown complete.");
     }
 }
\ No newline at end of file
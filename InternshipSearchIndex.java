@@ -0,0 +1,216 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory inverted index over internship titles and descriptions with BM25 ranking.
+ * <p>
+ * {@link FilterCriteria} only narrows internships by level, major, status and closing date.
+ * This index lets users find postings by keyword instead of scrolling the full list:
+ * <ul>
+ *   <li><strong>Tokenization:</strong> text is case-folded and split on every character that
+ *       is not a letter or digit ("Java/Spring-Boot" yields "java", "spring", "boot")</li>
+ *   <li><strong>Posting lists:</strong> each term maps to the opportunities containing it and
+ *       the term frequency in each</li>
+ *   <li><strong>Ranking:</strong> Okapi BM25 over a single weighted field, where title terms
+ *       count {@value #TITLE_WEIGHT} times as much as description terms</li>
+ * </ul>
+ * <p>
+ * <strong>Incremental Maintenance:</strong> {@link InternshipManager} calls {@link #add},
+ * {@link #remove} and {@link #update} when internships are added, removed, or their title or
+ * description changes. Each opportunity's term frequencies are kept so an update only touches
+ * the posting lists of the terms involved.
+ * </p>
+ *
+ * @see InternshipManager#searchInternships(String)
+ * @see InternshipManager#searchInternshipsForStudent(Student, String)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class InternshipSearchIndex {
+    /** Multiplier applied to term frequencies from the title */
+    public static final int TITLE_WEIGHT = 2;
+    /** BM25 term frequency saturation parameter */
+    private static final double K1 = 1.2;
+    /** BM25 document length normalization parameter */
+    private static final double B = 0.75;
+
+    /** term -> (opportunity -> weighted term frequency) */
+    private final Map<String, Map<InternshipOpportunity, Integer>> postings;
+    /** opportunity -> (term -> weighted term frequency), used to undo an indexing */
+    private final Map<InternshipOpportunity, Map<String, Integer>> documentTerms;
+    /** opportunity -> weighted document length */
+    private final Map<InternshipOpportunity, Integer> documentLengths;
+    private long totalLength;
+
+    /**
+     * Constructs an empty search index.
+     */
+    public InternshipSearchIndex() {
+        this.postings = new HashMap<>();
+        this.documentTerms = new IdentityHashMap<>();
+        this.documentLengths = new IdentityHashMap<>();
+        this.totalLength = 0;
+    }
+
+    /**
+     * Indexes the title and description of an opportunity.
+     * Adding an already indexed opportunity re-indexes it.
+     *
+     * @param opportunity the opportunity to index
+     */
+    public void add(InternshipOpportunity opportunity) {
+        if (documentTerms.containsKey(opportunity)) {
+            remove(opportunity);
+        }
+        Map<String, Integer> terms = new HashMap<>();
+        int length = countTerms(opportunity.getTitle(), TITLE_WEIGHT, terms)
+                   + countTerms(opportunity.getDescription(), 1, terms);
+        for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new IdentityHashMap<>())
+                    .put(opportunity, entry.getValue());
+        }
+        documentTerms.put(opportunity, terms);
+        documentLengths.put(opportunity, length);
+        totalLength += length;
+    }
+
+    /**
+     * Removes an opportunity from every posting list.
+     *
+     * @param opportunity the opportunity to remove; ignored if not indexed
+     */
+    public void remove(InternshipOpportunity opportunity) {
+        Map<String, Integer> terms = documentTerms.remove(opportunity);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<InternshipOpportunity, Integer> list = postings.get(term);
+            list.remove(opportunity);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= documentLengths.remove(opportunity);
+    }
+
+    /**
+     * Re-indexes an opportunity after its title or description changed.
+     *
+     * @param opportunity the opportunity to re-index; ignored if not indexed
+     */
+    public void update(InternshipOpportunity opportunity) {
+        if (documentTerms.containsKey(opportunity)) {
+            add(opportunity);
+        }
+    }
+
+    /**
+     * Retrieves the number of indexed opportunities.
+     *
+     * @return the document count
+     */
+    public int size() {
+        return documentTerms.size();
+    }
+
+    /**
+     * Finds opportunities containing any of the query terms, best matches first.
+     * <p>
+     * Scores are BM25 sums over the distinct query terms. Ties are broken alphabetically by
+     * title so results are stable between runs.
+     * </p>
+     *
+     * @param query free-text keywords
+     * @return the matching opportunities ranked by relevance; empty if no term matches
+     */
+    public List<InternshipOpportunity> search(String query) {
+        List<String> queryTerms = new ArrayList<>();
+        for (String term : tokenize(query)) {
+            if (!queryTerms.contains(term)) {
+                queryTerms.add(term);
+            }
+        }
+        int documentCount = documentTerms.size();
+        if (queryTerms.isEmpty() || documentCount == 0) {
+            return new ArrayList<>();
+        }
+        double averageLength = (double) totalLength / documentCount;
+
+        Map<InternshipOpportunity, Double> scores = new IdentityHashMap<>();
+        for (String term : queryTerms) {
+            Map<InternshipOpportunity, Integer> list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            int df = list.size();
+            double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            for (Map.Entry<InternshipOpportunity, Integer> entry : list.entrySet()) {
+                int tf = entry.getValue();
+                int length = documentLengths.get(entry.getKey());
+                double norm = K1 * (1 - B + B * length / averageLength);
+                double score = idf * tf * (K1 + 1) / (tf + norm);
+                scores.merge(entry.getKey(), score, Double::sum);
+            }
+        }
+
+        List<InternshipOpportunity> ranked = new ArrayList<>(scores.keySet());
+        ranked.sort((o1, o2) -> {
+            int byScore = Double.compare(scores.get(o2), scores.get(o1));
+            return byScore != 0 ? byScore : compareTitles(o1, o2);
+        });
+        return ranked;
+    }
+
+    /**
+     * Splits text into lower-case terms made of letters and digits.
+     *
+     * @param text the text to tokenize (may be null)
+     * @return the terms in order of appearance, including repeats
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String folded = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Adds the weighted frequencies of the terms in a text to the given map.
+     *
+     * @param text   the text to count (may be null)
+     * @param weight the weight of each occurrence
+     * @param terms  the accumulated term frequencies
+     * @return the weighted number of terms counted
+     */
+    private static int countTerms(String text, int weight, Map<String, Integer> terms) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            terms.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private static int compareTitles(InternshipOpportunity o1, InternshipOpportunity o2) {
+        String t1 = o1.getTitle() != null ? o1.getTitle() : "";
+        String t2 = o2.getTitle() != null ? o2.getTitle() : "";
+        return t1.compareToIgnoreCase(t2);
+    }
+}
@@ -0,0 +1,108 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Internships grouped by status so each status group can be enumerated directly.
+ * <p>
+ * Staff review repeatedly asks for the "Pending" internships, and reports ask for
+ * "Approved" or "Filled" ones. Instead of scanning every internship for a status, this
+ * partition keeps one insertion-ordered set per status value:
+ * <ul>
+ *   <li><strong>Enumeration:</strong> listing a status touches only the internships in it</li>
+ *   <li><strong>Moves:</strong> a status change removes the internship from the set of its
+ *       previous status and appends it to the set of its new one, both constant-time</li>
+ * </ul>
+ * <p>
+ * {@link InternshipManager} reports status changes with the previous status through
+ * {@link #statusChanged}, which it receives from {@link IInternshipChangeListener}. Status
+ * values are matched exactly (case-sensitive), as in the rest of the system.
+ * </p>
+ *
+ * @see InternshipManager#getInternshipsByStatus(String)
+ * @see InternshipManager#getPendingInternships()
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class InternshipStatusPartition {
+    private final Map<String, Set<InternshipOpportunity>> byStatus;
+
+    /**
+     * Constructs an empty partition.
+     */
+    public InternshipStatusPartition() {
+        this.byStatus = new HashMap<>();
+    }
+
+    /**
+     * Adds an internship to the group of its current status.
+     *
+     * @param opportunity the internship to add
+     */
+    public void add(InternshipOpportunity opportunity) {
+        byStatus.computeIfAbsent(opportunity.getStatus(), k -> new LinkedHashSet<>()).add(opportunity);
+    }
+
+    /**
+     * Removes an internship from the group of its current status.
+     *
+     * @param opportunity the internship to remove
+     */
+    public void remove(InternshipOpportunity opportunity) {
+        removeFrom(opportunity.getStatus(), opportunity);
+    }
+
+    /**
+     * Moves an internship from the group of its previous status to that of its current one.
+     *
+     * @param opportunity the internship whose status changed
+     * @param oldStatus   the status it was grouped under
+     */
+    public void statusChanged(InternshipOpportunity opportunity, String oldStatus) {
+        if (removeFrom(oldStatus, opportunity)) {
+            add(opportunity);
+        }
+    }
+
+    /**
+     * Retrieves the internships with the given status, in the order they entered it.
+     *
+     * @param status the exact status value
+     * @return a new list; empty if no internship has the status
+     */
+    public List<InternshipOpportunity> get(String status) {
+        Set<InternshipOpportunity> group = byStatus.get(status);
+        return group == null ? new ArrayList<>() : new ArrayList<>(group);
+    }
+
+    /**
+     * Counts the internships with the given status.
+     *
+     * @param status the exact status value
+     * @return the group size
+     */
+    public int count(String status) {
+        return byStatus.getOrDefault(status, Collections.emptySet()).size();
+    }
+
+    /**
+     * Removes an internship from the group of the given status.
+     *
+     * @return {@code true} if it was in that group
+     */
+    private boolean removeFrom(String status, InternshipOpportunity opportunity) {
+        Set<InternshipOpportunity> group = byStatus.get(status);
+        if (group == null || !group.remove(opportunity)) {
+            return false;
+        }
+        if (group.isEmpty()) {
+            byStatus.remove(status);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,351 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Title lookup structures for internship opportunities.
+ * <p>
+ * Two complementary indexes are kept in sync by {@link InternshipManager}:
+ * <ul>
+ *   <li><strong>Composite hash index:</strong> maps the exact (title, company name) pair to
+ *       the opportunities carrying it, so {@link InternshipManager#findInternship(String, String)}
+ *       is a constant-time lookup instead of a scan</li>
+ *   <li><strong>Radix tree (compressed trie):</strong> indexes case-folded titles for prefix
+ *       ("typeahead") queries. Reaching the node for a prefix costs time proportional to the
+ *       prefix length; the first N matches are then collected in alphabetical order</li>
+ * </ul>
+ * <p>
+ * The manager reports title and company name changes through {@link #titleChanged} and
+ * {@link #companyChanged} with the previous value, so entries can be moved without
+ * remembering what was indexed.
+ * </p>
+ *
+ * @see InternshipManager#findInternship(String, String)
+ * @see InternshipManager#findInternshipsByTitlePrefix(String, int)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class InternshipTitleIndex {
+    /** Separates title and company in composite keys; cannot appear in CLI input */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, List<InternshipOpportunity>> byTitleAndCompany;
+    private final Node root;
+
+    /**
+     * A radix tree node. The edge leading into the node is labelled with {@code label};
+     * opportunities whose folded title ends exactly at this node are held in {@code values}.
+     */
+    private static final class Node {
+        private String label;
+        private TreeMap<Character, Node> children;
+        private List<InternshipOpportunity> values;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            return children == null ? null : children.get(first);
+        }
+
+        void putChild(Node child) {
+            if (children == null) {
+                children = new TreeMap<>();
+            }
+            children.put(child.label.charAt(0), child);
+        }
+
+        void removeChild(Node child) {
+            children.remove(child.label.charAt(0));
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        int childCount() {
+            return children == null ? 0 : children.size();
+        }
+
+        boolean hasValues() {
+            return values != null && !values.isEmpty();
+        }
+    }
+
+    /**
+     * Constructs an empty title index.
+     */
+    public InternshipTitleIndex() {
+        this.byTitleAndCompany = new HashMap<>();
+        this.root = new Node("");
+    }
+
+    /**
+     * Indexes an opportunity under its current title and company name.
+     *
+     * @param opportunity the opportunity to index
+     */
+    public void add(InternshipOpportunity opportunity) {
+        byTitleAndCompany.computeIfAbsent(key(opportunity.getTitle(), opportunity.getCompanyName()),
+                                          k -> new ArrayList<>(1)).add(opportunity);
+        insert(fold(opportunity.getTitle()), opportunity);
+    }
+
+    /**
+     * Removes an opportunity indexed under its current title and company name.
+     *
+     * @param opportunity the opportunity to remove
+     */
+    public void remove(InternshipOpportunity opportunity) {
+        removeComposite(opportunity.getTitle(), opportunity.getCompanyName(), opportunity);
+        delete(fold(opportunity.getTitle()), opportunity);
+    }
+
+    /**
+     * Moves an opportunity from its previous title to its current one.
+     *
+     * @param opportunity the opportunity whose title changed
+     * @param oldTitle    the title it was indexed under
+     */
+    public void titleChanged(InternshipOpportunity opportunity, String oldTitle) {
+        if (removeComposite(oldTitle, opportunity.getCompanyName(), opportunity)) {
+            byTitleAndCompany.computeIfAbsent(key(opportunity.getTitle(), opportunity.getCompanyName()),
+                                              k -> new ArrayList<>(1)).add(opportunity);
+            delete(fold(oldTitle), opportunity);
+            insert(fold(opportunity.getTitle()), opportunity);
+        }
+    }
+
+    /**
+     * Moves an opportunity from its previous company name to its current one.
+     *
+     * @param opportunity    the opportunity whose company name changed
+     * @param oldCompanyName the company name it was indexed under
+     */
+    public void companyChanged(InternshipOpportunity opportunity, String oldCompanyName) {
+        if (removeComposite(opportunity.getTitle(), oldCompanyName, opportunity)) {
+            byTitleAndCompany.computeIfAbsent(key(opportunity.getTitle(), opportunity.getCompanyName()),
+                                              k -> new ArrayList<>(1)).add(opportunity);
+        }
+    }
+
+    /**
+     * Finds the opportunity with exactly the given title and company name (case-sensitive).
+     * If several share the pair, the earliest indexed one is returned.
+     *
+     * @param title       the exact title
+     * @param companyName the exact company name
+     * @return the matching opportunity, or null if none
+     */
+    public InternshipOpportunity find(String title, String companyName) {
+        List<InternshipOpportunity> matches = byTitleAndCompany.get(key(title, companyName));
+        return matches == null ? null : matches.get(0);
+    }
+
+    /**
+     * Finds opportunities whose title starts with the given prefix, ignoring case.
+     * <p>
+     * Results are ordered alphabetically by case-folded title; opportunities sharing a
+     * title keep the order in which they were indexed.
+     * </p>
+     *
+     * @param prefix the title prefix (an empty prefix matches every title)
+     * @param limit  the maximum number of results
+     * @return up to {@code limit} matching opportunities
+     */
+    public List<InternshipOpportunity> findByPrefix(String prefix, int limit) {
+        return findByPrefix(prefix, limit, opp -> true);
+    }
+
+    /**
+     * Finds opportunities whose title starts with the given prefix, ignoring case, and that
+     * are accepted by a predicate.
+     * <p>
+     * The predicate is tested during the walk of the subtree, which stops as soon as
+     * {@code limit} opportunities have been accepted, so rejected opportunities never crowd
+     * out accepted ones and no more of the subtree is visited than needed.
+     * </p>
+     *
+     * @param prefix the title prefix (an empty prefix matches every title)
+     * @param limit  the maximum number of results
+     * @param accept the test each matching opportunity must pass
+     * @return up to {@code limit} matching and accepted opportunities
+     */
+    public List<InternshipOpportunity> findByPrefix(String prefix, int limit,
+                                                    Predicate<InternshipOpportunity> accept) {
+        List<InternshipOpportunity> result = new ArrayList<>();
+        if (limit <= 0) {
+            return result;
+        }
+        String key = fold(prefix);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                return result;
+            }
+            int remaining = key.length() - i;
+            if (remaining <= child.label.length()) {
+                // Prefix ends inside (or at the end of) this edge
+                if (!child.label.regionMatches(0, key, i, remaining)) {
+                    return result;
+                }
+                node = child;
+                break;
+            }
+            if (!key.regionMatches(i, child.label, 0, child.label.length())) {
+                return result;
+            }
+            i += child.label.length();
+            node = child;
+        }
+        collect(node, limit, accept, result);
+        return result;
+    }
+
+    /**
+     * Appends up to {@code limit} accepted values of the subtree rooted at {@code start}, in order.
+     */
+    private void collect(Node start, int limit, Predicate<InternshipOpportunity> accept,
+                         List<InternshipOpportunity> result) {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(start);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.values != null) {
+                for (InternshipOpportunity opp : node.values) {
+                    if (!accept.test(opp)) {
+                        continue;
+                    }
+                    result.add(opp);
+                    if (result.size() >= limit) {
+                        return;
+                    }
+                }
+            }
+            if (node.children != null) {
+                for (Node child : node.children.descendingMap().values()) {
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts a value under a folded key, splitting an edge where the key diverges from it.
+     */
+    private void insert(String key, InternshipOpportunity opportunity) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                Node leaf = new Node(key.substring(i));
+                node.putChild(leaf);
+                node = leaf;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                node.putChild(split);
+                split.putChild(child);
+                child = split;
+            }
+            node = child;
+            i += common;
+        }
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        node.values.add(opportunity);
+    }
+
+    /**
+     * Deletes a value stored under a folded key, pruning and re-merging nodes left empty.
+     */
+    private void delete(String key, InternshipOpportunity opportunity) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            i += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        if (node.values == null || !node.values.removeIf(opp -> opp == opportunity)) {
+            return;
+        }
+        if (node.values.isEmpty()) {
+            node.values = null;
+        }
+        // Restore the radix invariant: non-root nodes without values have two or more children
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node current = path.get(depth);
+            Node parent = path.get(depth - 1);
+            if (current.hasValues()) {
+                break;
+            }
+            if (current.childCount() == 0) {
+                parent.removeChild(current);
+            } else if (current.childCount() == 1) {
+                Node only = current.children.firstEntry().getValue();
+                current.label = current.label + only.label;
+                current.children = only.children;
+                current.values = only.values;
+                break;
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Removes an opportunity from the composite index entry for the given pair.
+     *
+     * @return {@code true} if the opportunity was indexed under that pair
+     */
+    private boolean removeComposite(String title, String companyName, InternshipOpportunity opportunity) {
+        String key = key(title, companyName);
+        List<InternshipOpportunity> matches = byTitleAndCompany.get(key);
+        if (matches == null) {
+            return false;
+        }
+        boolean removed = matches.removeIf(opp -> opp == opportunity);
+        if (matches.isEmpty()) {
+            byTitleAndCompany.remove(key);
+        }
+        return removed;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int n = 0;
+        while (n < max && label.charAt(n) == key.charAt(offset + n)) {
+            n++;
+        }
+        return n;
+    }
+
+    private static String key(String title, String companyName) {
+        return title + KEY_SEPARATOR + companyName;
+    }
+
+    private static String fold(String title) {
+        return title == null ? "" : title.toLowerCase(Locale.ROOT);
+    }
+}
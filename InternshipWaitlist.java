@@ -0,0 +1,158 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Per-internship waitlists of applications, ordered by the rank the representative assigned.
+ * <p>
+ * When a slot is released (an offer or placement is withdrawn), the best-ranked waitlisted
+ * candidate should be promoted without anyone scanning the applications. Each internship
+ * keeps its waitlist in a priority queue:
+ * <ul>
+ *   <li><strong>Order:</strong> lower rank first; equal ranks in the order they were waitlisted</li>
+ *   <li><strong>Promotion:</strong> {@link #poll(InternshipOpportunity)} takes the next
+ *       candidate in O(log n)</li>
+ *   <li><strong>Removal:</strong> {@link #remove(Application)} is O(1); the queue entry is
+ *       marked stale and discarded when it reaches the head, and a queue is rebuilt once
+ *       stale entries outnumber live ones</li>
+ * </ul>
+ * </p>
+ *
+ * @see ApplicationManager#waitlistApplication(Application, int)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class InternshipWaitlist {
+    /** A waitlisted application with its rank and waitlisting order */
+    private static final class Entry {
+        private final Application app;
+        private final int rank;
+        private final long sequence;
+
+        private Entry(Application app, int rank, long sequence) {
+            this.app = app;
+            this.rank = rank;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final Comparator<Entry> ORDER =
+        Comparator.<Entry>comparingInt(e -> e.rank).thenComparingLong(e -> e.sequence);
+
+    private final Map<InternshipOpportunity, PriorityQueue<Entry>> queues;
+    /** internship ordinal -> number of live entries in its queue */
+    private final IntIntHashMap liveCounts;
+    private final Map<Application, Entry> entries;
+    private long nextSequence;
+
+    /**
+     * Constructs empty waitlists.
+     */
+    public InternshipWaitlist() {
+        this.queues = new HashMap<>();
+        this.liveCounts = new IntIntHashMap();
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Adds an application to the waitlist of its internship, or re-ranks it if already waitlisted.
+     *
+     * @param app  the application to waitlist
+     * @param rank the representative's rank; lower ranks are promoted first
+     */
+    public void add(Application app, int rank) {
+        remove(app);
+        Entry entry = new Entry(app, rank, nextSequence++);
+        entries.put(app, entry);
+        queues.computeIfAbsent(app.getInternship(), k -> new PriorityQueue<>(ORDER)).add(entry);
+        liveCounts.add(app.getInternship().getOrdinal(), 1);
+    }
+
+    /**
+     * Removes an application from its waitlist.
+     *
+     * @param app the application to remove
+     * @return true if the application was waitlisted
+     */
+    public boolean remove(Application app) {
+        if (entries.remove(app) == null) {
+            return false;
+        }
+        InternshipOpportunity internship = app.getInternship();
+        int live = liveCounts.add(internship.getOrdinal(), -1);
+        PriorityQueue<Entry> queue = queues.get(internship);
+        if (live == 0) {
+            queues.remove(internship);
+        } else if (queue.size() > 2 * live) {
+            queue.removeIf(e -> entries.get(e.app) != e);
+        }
+        return true;
+    }
+
+    /**
+     * Removes and returns the best-ranked waitlisted application of an internship.
+     *
+     * @param internship the internship with a released slot
+     * @return the next candidate, or null if the waitlist is empty
+     */
+    public Application poll(InternshipOpportunity internship) {
+        PriorityQueue<Entry> queue = queues.get(internship);
+        while (queue != null && !queue.isEmpty()) {
+            Entry entry = queue.poll();
+            if (entries.get(entry.app) == entry) {
+                remove(entry.app);
+                return entry.app;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether an application is waitlisted.
+     *
+     * @param app the application to check
+     * @return true if it is on a waitlist
+     */
+    public boolean contains(Application app) {
+        return entries.containsKey(app);
+    }
+
+    /**
+     * Retrieves the rank of a waitlisted application.
+     *
+     * @param app the application
+     * @return its rank, or -1 if it is not waitlisted
+     */
+    public int getRank(Application app) {
+        Entry entry = entries.get(app);
+        return entry == null ? -1 : entry.rank;
+    }
+
+    /**
+     * Retrieves the waitlist of an internship in promotion order.
+     *
+     * @param internship the internship
+     * @return a new list of the waitlisted applications
+     */
+    public List<Application> getWaitlist(InternshipOpportunity internship) {
+        List<Entry> live = new ArrayList<>();
+        PriorityQueue<Entry> queue = queues.get(internship);
+        if (queue != null) {
+            for (Entry entry : queue) {
+                if (entries.get(entry.app) == entry) {
+                    live.add(entry);
+                }
+            }
+        }
+        live.sort(ORDER);
+        List<Application> result = new ArrayList<>(live.size());
+        for (Entry entry : live) {
+            result.add(entry.app);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for a login attempt.
+ * <p>
+ * Emitted by {@link SystemManager#authenticateUser(String, String)} for every attempt,
+ * successful or not. The password is never recorded.
+ * </p>
+ *
+ * @see SystemManager#authenticateUser(String, String)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+@Name("sc2002.placement.Login")
+@Label("Login Attempt")
+@Category({"Internship Placement", "Users"})
+@Description("Authentication of a user ID and password")
+public class LoginEvent extends Event {
+    @Label("User ID")
+    private String userID;
+
+    @Label("User Type")
+    @Description("Student, CareerCenterStaff or CompanyRepresentative; empty for unknown IDs")
+    private String userType;
+
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * Commits the event if it is enabled and over its threshold.
+     *
+     * @param userID the user ID entered
+     * @param user   the user found for the ID, or null if there is none
+     * @param success true if the credentials were valid
+     */
+    public void finish(String userID, User user, boolean success) {
+        if (shouldCommit()) {
+            this.userID = userID;
+            this.userType = user == null ? "" : user.getClass().getSimpleName();
+            this.success = success;
+            commit();
+        }
+    }
+}
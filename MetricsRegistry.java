@@ -0,0 +1,353 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Low-overhead registry of operation counters and latency histograms.
+ * <p>
+ * The managers record their public operations into the registry set with their
+ * {@code setMetrics} method. Operations whose cost grows with the data are timed on every
+ * call. Operations that cost about as much as a timing (index lookups, changes to one
+ * application) are sampled: every call is counted, and one call in {@link #getSampleRate()},
+ * picked at random, is timed under the same {@code Class.method} name, so their histograms
+ * keep an unbiased latency distribution at a fraction of the cost.
+ * <ul>
+ *   <li><strong>Counters:</strong> striped {@link LongAdder}s, so concurrent increments do
+ *       not contend on one memory location</li>
+ *   <li><strong>Timers:</strong> one fixed-memory {@link LatencyHistogram} per operation,
+ *       named {@code Class.method}</li>
+ * </ul>
+ * Recording is lock-free and allocation-free once a metric exists. The metrics can be read
+ * in-process, over JMX ({@link #registerMBean()}) and from a snapshot file rewritten
+ * periodically ({@link #startPeriodicDump(String, long)}).
+ * </p>
+ * <p>
+ * {@link #DISABLED} ignores every recording; it is the default of every manager, so code
+ * that does not ask for metrics does not pay for them.
+ * </p>
+ *
+ * @see SystemManager#enableMetrics(String, long)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class MetricsRegistry implements IMetricsMXBean {
+    /** Default number of calls of a sampled operation per timed call */
+    public static final int DEFAULT_SAMPLE_RATE = 16;
+
+    /** Start time returned by {@link #startSampled(String)} for a call that is not timed */
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    /** A registry that ignores every recording */
+    public static final MetricsRegistry DISABLED = new MetricsRegistry(false, DEFAULT_SAMPLE_RATE);
+
+    /** JMX object name under which {@link #registerMBean()} publishes the registry */
+    public static final String OBJECT_NAME = "sc2002.placement:type=Metrics";
+
+    private final boolean enabled;
+    private final int sampleRate;
+    private final Map<String, LongAdder> counters;
+    private final Map<String, LatencyHistogram> timers;
+    private ScheduledExecutorService dumpExecutor;
+    private Path dumpFile;
+
+    /**
+     * Constructs an empty, enabled registry with the default sample rate.
+     */
+    public MetricsRegistry() {
+        this(true, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Constructs an empty, enabled registry.
+     *
+     * @param sampleRate the number of calls of a sampled operation per timed call; 1 times every call
+     */
+    public MetricsRegistry(int sampleRate) {
+        this(true, sampleRate);
+    }
+
+    private MetricsRegistry(boolean enabled, int sampleRate) {
+        this.enabled = enabled;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.counters = new ConcurrentHashMap<>();
+        this.timers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Checks whether recordings are kept.
+     *
+     * @return false for {@link #DISABLED}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Adds one to a counter, creating it on first use.
+     *
+     * @param name the counter name
+     */
+    public void increment(String name) {
+        if (!enabled) {
+            return;
+        }
+        LongAdder counter = counters.get(name);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(name, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Records the latency of an operation that started at {@code startNanos}, creating its
+     * timer on first use.
+     * <p>
+     * Typical use:
+     * <pre>
+     * long start = System.nanoTime();
+     * try {
+     *     ...
+     * } finally {
+     *     metrics.record("InternshipManager.filterInternships", start);
+     * }
+     * </pre>
+     * </p>
+     *
+     * @param name       the operation name
+     * @param startNanos the {@link System#nanoTime()} at the start of the operation
+     */
+    public void record(String name, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        LatencyHistogram timer = timers.get(name);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(name, k -> new LatencyHistogram());
+        }
+        timer.record(elapsed);
+    }
+
+    /**
+     * Starts a sampled operation: counts the call under {@code name} and decides at random
+     * whether to time it.
+     * <p>
+     * Unsampled calls skip the clock read and the histogram update. Typical use:
+     * <pre>
+     * long start = metrics.startSampled("ApplicationManager.submitApplication");
+     * try {
+     *     ...
+     * } finally {
+     *     metrics.recordSampled("ApplicationManager.submitApplication", start);
+     * }
+     * </pre>
+     * </p>
+     *
+     * @param name the operation name
+     * @return the {@link System#nanoTime()} at the start of a timed call, or {@link #NOT_SAMPLED}
+     */
+    public long startSampled(String name) {
+        if (!enabled) {
+            return NOT_SAMPLED;
+        }
+        increment(name);
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Ends a sampled operation, recording its latency if {@link #startSampled(String)} chose
+     * to time it.
+     *
+     * @param name       the operation name
+     * @param startNanos the value returned by {@link #startSampled(String)}
+     */
+    public void recordSampled(String name, long startNanos) {
+        if (startNanos != NOT_SAMPLED) {
+            record(name, startNanos);
+        }
+    }
+
+    /**
+     * Retrieves the number of calls of a sampled operation per timed call.
+     *
+     * @return the sample rate; 1 if every call is timed
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Reads a counter.
+     *
+     * @param name the counter name
+     * @return the counter's value, or 0 if it was never incremented
+     */
+    public long getCount(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Retrieves the latency histogram of an operation.
+     *
+     * @param name the operation name
+     * @return the histogram, or null if the operation was never recorded
+     */
+    public LatencyHistogram getTimer(String name) {
+        return timers.get(name);
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> values = new TreeMap<>();
+        timers.forEach((name, timer) -> values.put(name, timer.getCount()));
+        return values;
+    }
+
+    @Override
+    public Map<String, Double> getMeanMillis() {
+        return timerValues(LatencyHistogram::getMean);
+    }
+
+    @Override
+    public Map<String, Double> getP99Millis() {
+        return timerValues(timer -> timer.getPercentile(99));
+    }
+
+    @Override
+    public Map<String, Double> getMaxMillis() {
+        return timerValues(LatencyHistogram::getMax);
+    }
+
+    @Override
+    public String snapshot() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Metrics snapshot ").append(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)).append('\n');
+        getCounters().forEach((name, value) -> sb.append("counter ").append(name).append(' ').append(value).append('\n'));
+        new TreeMap<>(timers).forEach((name, timer) -> sb.append("timer ").append(name).append(' ').append(timer).append('\n'));
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        counters.values().forEach(LongAdder::reset);
+        timers.values().forEach(LatencyHistogram::reset);
+    }
+
+    /**
+     * Writes a snapshot to a file, replacing it atomically where the file system allows.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            writer.write(snapshot());
+        }
+        try {
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Rewrites a snapshot file periodically on a background daemon thread.
+     * <p>
+     * Any previous periodic dump is stopped first. Write errors are reported and the dump
+     * carries on.
+     * </p>
+     *
+     * @param filename      the snapshot file
+     * @param periodSeconds the time between snapshots
+     */
+    public synchronized void startPeriodicDump(String filename, long periodSeconds) {
+        stopPeriodicDump();
+        dumpFile = Paths.get(filename);
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(this::dump, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic dump, writing one last snapshot. Does nothing if no dump is running.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpExecutor == null) {
+            return;
+        }
+        dumpExecutor.shutdownNow();
+        dumpExecutor = null;
+        dump();
+    }
+
+    /**
+     * Publishes the registry to the platform MBean server under {@link #OBJECT_NAME}.
+     *
+     * @return true if the registry was registered
+     */
+    public boolean registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new StandardMBean(this, IMetricsMXBean.class, true), name);
+            return true;
+        } catch (JMException e) {
+            System.out.println("Error registering metrics MBean: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void dump() {
+        try {
+            writeSnapshot(dumpFile);
+        } catch (IOException e) {
+            System.out.println("Error writing metrics snapshot: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Double> timerValues(ToDoubleFunction<LatencyHistogram> nanos) {
+        Map<String, Double> values = new TreeMap<>();
+        timers.forEach((name, timer) -> values.put(name, nanos.applyAsDouble(timer) / 1e6));
+        return values;
+    }
+}
@@ -0,0 +1,190 @@
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes state change events from the {@link EventBus} into per-user notification inboxes.
+ * <p>
+ * Each user has a {@link NotificationInbox}, created on first use. Events are routed as follows:
+ * <ul>
+ *   <li><strong>Company representatives:</strong> new applications for their postings,
+ *       status changes of their postings and offers accepted by students</li>
+ *   <li><strong>Students:</strong> decisions on their applications (any status change other
+ *       than their own acceptance)</li>
+ *   <li><strong>Career Center Staff:</strong> withdrawal requests and representative
+ *       registrations, delivered to every registered staff member</li>
+ * </ul>
+ * The center subscribes synchronously, so every event is routed as it is published, however
+ * many events one operation publishes.
+ * When an outbox is set, every notification and every "marked as read" is also persisted
+ * through the batched {@link NotificationOutbox}.
+ * </p>
+ *
+ * @see SystemManager#getNotificationInbox(String)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class NotificationCenter implements IEventSubscriber {
+    /** Event types that produce notifications */
+    public static final Set<StateChangeEvent.Type> NOTIFIED_TYPES = EnumSet.of(
+        StateChangeEvent.Type.APPLICATION_SUBMITTED,
+        StateChangeEvent.Type.APPLICATION_STATUS_CHANGED,
+        StateChangeEvent.Type.WITHDRAWAL_REQUESTED,
+        StateChangeEvent.Type.INTERNSHIP_STATUS_CHANGED,
+        StateChangeEvent.Type.REPRESENTATIVE_REGISTERED);
+
+    private final Map<String, NotificationInbox> inboxes;
+    private final Set<String> staffIDs;
+    private final int inboxCapacity;
+    private NotificationOutbox outbox;
+
+    /**
+     * Constructs a notification center with the default inbox capacity and no outbox.
+     */
+    public NotificationCenter() {
+        this(NotificationInbox.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a notification center without an outbox.
+     *
+     * @param inboxCapacity the number of notifications kept per user
+     */
+    public NotificationCenter(int inboxCapacity) {
+        this.inboxes = new ConcurrentHashMap<>();
+        this.staffIDs = ConcurrentHashMap.newKeySet();
+        this.inboxCapacity = inboxCapacity;
+    }
+
+    /**
+     * Restores notifications from an outbox file and persists all further notifications to it.
+     * <p>
+     * After the replay the file is rewritten with only the notifications the inboxes kept,
+     * dropping records that rolled out of the inboxes.
+     * </p>
+     *
+     * @param outbox the outbox to replay and write to
+     * @return the number of notifications restored
+     */
+    public int setOutbox(NotificationOutbox outbox) {
+        this.outbox = null;
+        int restored = outbox.replay(this);
+        if (restored > 0) {
+            outbox.rewrite(inboxes);
+        }
+        this.outbox = outbox;
+        return restored;
+    }
+
+    /**
+     * Registers a Career Center Staff member as a recipient of staff notifications.
+     *
+     * @param staffID the staff member's user ID
+     */
+    public void addStaff(String staffID) {
+        staffIDs.add(staffID);
+    }
+
+    /**
+     * Routes a batch of events to the inboxes of the users they concern.
+     *
+     * @param events the events delivered by the event bus
+     */
+    @Override
+    public void onEvents(List<StateChangeEvent> events) {
+        for (StateChangeEvent event : events) {
+            long timestamp = event.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            String message = event.getDescription();
+            switch (event.getType()) {
+                case APPLICATION_SUBMITTED:
+                case INTERNSHIP_STATUS_CHANGED:
+                    notify(event.getInternship().getCompanyRepID(), timestamp, message);
+                    break;
+                case APPLICATION_STATUS_CHANGED:
+                    if ("Accepted".equals(event.getNewValue())) {
+                        notify(event.getInternship().getCompanyRepID(), timestamp, message);
+                    } else {
+                        notify(event.getApplication().getStudent().getUserID(), timestamp, message);
+                    }
+                    break;
+                case WITHDRAWAL_REQUESTED:
+                case REPRESENTATIVE_REGISTERED:
+                    for (String staffID : staffIDs) {
+                        notify(staffID, timestamp, message);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Adds a notification to a user's inbox and persists it.
+     *
+     * @param userID    the recipient
+     * @param timestamp the time of the notification in epoch milliseconds
+     * @param message   the notification text
+     */
+    public void notify(String userID, long timestamp, String message) {
+        getInbox(userID).add(timestamp, message);
+        if (outbox != null) {
+            outbox.appendNotification(userID, timestamp, message);
+        }
+    }
+
+    /**
+     * Marks every notification of a user as read and persists that.
+     *
+     * @param userID the user
+     */
+    public void markRead(String userID) {
+        getInbox(userID).markAllRead();
+        if (outbox != null) {
+            outbox.appendRead(userID, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Retrieves a user's inbox, creating an empty one on first use.
+     *
+     * @param userID the user
+     * @return the user's inbox
+     */
+    public NotificationInbox getInbox(String userID) {
+        return inboxes.computeIfAbsent(userID, k -> new NotificationInbox(inboxCapacity));
+    }
+
+    /**
+     * Writes buffered notifications to the outbox file, if an outbox is set.
+     */
+    public void flush() {
+        if (outbox != null) {
+            outbox.flush();
+        }
+    }
+
+    /**
+     * Restores a persisted notification without writing it again.
+     *
+     * @param userID    the recipient
+     * @param timestamp the time of the notification in epoch milliseconds
+     * @param message   the notification text
+     */
+    void restore(String userID, long timestamp, String message) {
+        getInbox(userID).add(timestamp, message);
+    }
+
+    /**
+     * Restores a persisted "marked as read" record without writing it again.
+     *
+     * @param userID the user
+     */
+    void restoreRead(String userID) {
+        getInbox(userID).markAllRead();
+    }
+}
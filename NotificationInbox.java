@@ -0,0 +1,144 @@
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A user's notification inbox holding the most recent notifications in a fixed-size ring buffer.
+ * <p>
+ * Each inbox keeps the last {@code capacity} notifications as two parallel arrays (timestamp
+ * and message), overwriting the oldest entry once full, so its memory is bounded regardless
+ * of how many notifications a user receives. The number of unread notifications is a counter,
+ * so {@link #getUnreadCount()} is O(1) and never scans applications or notifications.
+ * </p>
+ * <p>
+ * All methods are synchronized; notifications may be added on a delivering thread while the
+ * user's session reads them.
+ * </p>
+ *
+ * @see NotificationCenter
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class NotificationInbox {
+    /** Default number of notifications kept per user */
+    public static final int DEFAULT_CAPACITY = 50;
+
+    private final long[] timestamps;
+    private final String[] messages;
+    /** Slot of the oldest notification */
+    private int head;
+    private int size;
+    private int unread;
+
+    /**
+     * Constructs an empty inbox with the default capacity.
+     */
+    public NotificationInbox() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty inbox.
+     *
+     * @param capacity the number of most recent notifications to keep
+     */
+    public NotificationInbox(int capacity) {
+        this.timestamps = new long[Math.max(1, capacity)];
+        this.messages = new String[timestamps.length];
+    }
+
+    /**
+     * Adds an unread notification, overwriting the oldest one if the inbox is full.
+     *
+     * @param timestamp the time of the notification in epoch milliseconds
+     * @param message   the notification text
+     */
+    public synchronized void add(long timestamp, String message) {
+        int slot = (head + size) % messages.length;
+        if (size == messages.length) {
+            head = (head + 1) % messages.length;
+        } else {
+            size++;
+        }
+        timestamps[slot] = timestamp;
+        messages[slot] = message;
+        unread = Math.min(unread + 1, size);
+    }
+
+    /**
+     * Counts the unread notifications still held by the inbox.
+     *
+     * @return the unread count
+     */
+    public synchronized int getUnreadCount() {
+        return unread;
+    }
+
+    /**
+     * Counts the notifications held by the inbox.
+     *
+     * @return the number of notifications, at most the capacity
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the unread notifications, oldest first, prefixed with their time.
+     *
+     * @return a new list of formatted notifications
+     */
+    public synchronized List<String> getUnread() {
+        return format(size - unread);
+    }
+
+    /**
+     * Retrieves every notification held by the inbox, oldest first, prefixed with its time.
+     *
+     * @return a new list of formatted notifications
+     */
+    public synchronized List<String> getAll() {
+        return format(0);
+    }
+
+    /**
+     * Retrieves the time of a held notification.
+     *
+     * @param index the position, 0 for the oldest held notification
+     * @return the time in epoch milliseconds
+     */
+    synchronized long getTimestamp(int index) {
+        return timestamps[(head + index) % messages.length];
+    }
+
+    /**
+     * Retrieves the text of a held notification, without its time.
+     *
+     * @param index the position, 0 for the oldest held notification
+     * @return the notification text
+     */
+    synchronized String getMessage(int index) {
+        return messages[(head + index) % messages.length];
+    }
+
+    /**
+     * Marks every notification as read.
+     */
+    public synchronized void markAllRead() {
+        unread = 0;
+    }
+
+    private List<String> format(int from) {
+        List<String> result = new ArrayList<>(size - from);
+        for (int i = from; i < size; i++) {
+            int slot = (head + i) % messages.length;
+            LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamps[slot]), ZoneId.systemDefault());
+            result.add("[" + time.truncatedTo(ChronoUnit.SECONDS) + "] " + messages[slot]);
+        }
+        return result;
+    }
+}
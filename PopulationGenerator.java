@@ -0,0 +1,563 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator of synthetic populations (students, staff, company representatives,
+ * internships and application histories) for load tests and benchmarks.
+ * <p>
+ * Every entity is a pure function of the seed, the base date and its index: entity
+ * {@code i} is drawn from its own random stream, so any entity can be produced on its own,
+ * in any order, and the same seed always gives the same population. Nothing is kept in
+ * memory while writing except one slot counter per internship, so populations of any size
+ * can be streamed straight to CSV files:
+ * <ul>
+ *   <li><strong>Students:</strong> {@code sample_student_list.csv} format; majors and years
+ *       follow {@link #MAJOR_WEIGHTS} and {@link #YEAR_WEIGHTS}</li>
+ *   <li><strong>Career Center Staff:</strong> {@code sample_staff_list.csv} format</li>
+ *   <li><strong>Company representatives:</strong> {@code sample_company_representative_list.csv}
+ *       format, two per company, mostly approved</li>
+ *   <li><strong>Internships:</strong> {@code test_internships.csv} format; postings of
+ *       representatives that are not approved stay pending and hidden</li>
+ *   <li><strong>Application histories:</strong> up to 3 applications per student to visible
+ *       postings the student is eligible for, mostly in the student's major. Statuses follow
+ *       {@link #STATUS_WEIGHTS}; no posting gets more "Successful" and "Accepted" applications
+ *       than it has slots, and a student with an "Accepted" placement has no other
+ *       applications, as after {@link ApplicationManager#acceptInternshipPlacement}</li>
+ * </ul>
+ * IDs in the files ({@code INT001}, {@code APP001}, ...) are those the system assigns when
+ * the entities are created in file order in a fresh run.
+ * </p>
+ * <p>
+ * Usage: {@code java PopulationGenerator <directory> <students> <representatives> <internships> [seed] [staff]}
+ * </p>
+ *
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class PopulationGenerator {
+    /** Majors of generated students and internships */
+    public static final String[] MAJORS = {
+        "Computer Science", "Computer Engineering", "Data Science & AI",
+        "Information Engineering & Media", "Business Analytics", "Information Systems"
+    };
+    /** Share of each entry of {@link #MAJORS}, in percent */
+    public static final int[] MAJOR_WEIGHTS = {35, 20, 18, 10, 9, 8};
+    /** Share of Year 1 to 4 students, in percent */
+    public static final int[] YEAR_WEIGHTS = {22, 26, 30, 22};
+    /** Application statuses drawn for each application before slot limits and acceptance */
+    public static final String[] STATUSES = {"Pending", "Shortlisted", "Successful", "Unsuccessful", "Waitlisted"};
+    /** Share of each entry of {@link #STATUSES}, in percent */
+    public static final int[] STATUS_WEIGHTS = {35, 10, 20, 30, 5};
+    /** Company representatives per company */
+    public static final int REPRESENTATIVES_PER_COMPANY = 2;
+
+    /** Student file written by {@link #writeAll(Path, int)} */
+    public static final String STUDENT_FILE = "sample_student_list.csv";
+    /** Staff file written by {@link #writeAll(Path, int)} */
+    public static final String STAFF_FILE = "sample_staff_list.csv";
+    /** Company representative file written by {@link #writeAll(Path, int)} */
+    public static final String REPRESENTATIVE_FILE = "sample_company_representative_list.csv";
+    /** Internship file written by {@link #writeAll(Path, int)} */
+    public static final String INTERNSHIP_FILE = "internships.csv";
+    /** Application history file written by {@link #writeAll(Path, int)} */
+    public static final String APPLICATION_FILE = "applications.csv";
+
+    private static final String[] FIRST_NAMES = {
+        "Wei Ling", "Jia Hao", "Yi Xuan", "Kai Wen", "Hui Min", "Jun Jie", "Xin Yi", "Zhi Hao",
+        "Priya", "Arjun", "Nur Aisyah", "Muhammad Irfan", "Sarah", "Daniel", "Rachel", "Marcus"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Ng", "Lim", "Lee", "Wong", "Goh", "Chua", "Koh", "Teo", "Ong", "Kumar", "Rahman"
+    };
+    private static final String[] LEVELS = {"Basic", "Intermediate", "Advanced"};
+    private static final int[] LEVEL_WEIGHTS = {45, 35, 20};
+    private static final String[] AREAS = {
+        "Software", "Data", "Cloud", "Security", "Mobile", "Web", "Machine Learning", "Product", "Systems", "Quant"
+    };
+    private static final String[] ROLES = {"Engineering", "Analyst", "Developer", "Research", "Operations"};
+    private static final String[] SKILLS = {
+        "Java", "Python", "SQL", "Git", "React", "Spring Boot", "Docker", "AWS", "Pandas", "Statistics",
+        "C++", "Linux", "REST APIs", "Kubernetes", "Tableau"
+    };
+    private static final String[] LOCATIONS = {"Singapore", "Singapore", "Singapore", "Remote", "Kuala Lumpur"};
+    private static final String[] DEPARTMENTS = {"Human Resources", "Talent Acquisition", "Engineering", "People Operations"};
+    private static final String[] POSITIONS = {"HR Manager", "Recruiter", "Senior Recruiter", "Talent Lead"};
+    private static final String[] INTERNSHIP_STATUSES = {"Approved", "Pending", "Rejected", "Filled"};
+    private static final int[] INTERNSHIP_STATUS_WEIGHTS = {75, 10, 5, 10};
+    /** Number of applications per student (0 to 3), in percent */
+    private static final int[] APPLICATION_COUNT_WEIGHTS = {15, 25, 25, 35};
+
+    private static final int STUDENT = 1;
+    private static final int REPRESENTATIVE = 2;
+    private static final int INTERNSHIP = 3;
+    private static final int APPLICATION = 4;
+    private static final int STAFF = 5;
+
+    private final long seed;
+    private final LocalDate baseDate;
+    private final int students;
+    private final int representatives;
+    private final int internships;
+
+    /**
+     * A generated application, referring to its student and internship by index.
+     */
+    public static final class GeneratedApplication {
+        private final String applicationID;
+        private final int studentIndex;
+        private final int internshipIndex;
+        private final String status;
+        private final boolean withdrawalRequested;
+
+        GeneratedApplication(String applicationID, int studentIndex, int internshipIndex, String status,
+                             boolean withdrawalRequested) {
+            this.applicationID = applicationID;
+            this.studentIndex = studentIndex;
+            this.internshipIndex = internshipIndex;
+            this.status = status;
+            this.withdrawalRequested = withdrawalRequested;
+        }
+
+        /** @return the application ID assigned in generation order */
+        public String getApplicationID() { return applicationID; }
+        /** @return the index of the applicant */
+        public int getStudentIndex() { return studentIndex; }
+        /** @return the index of the internship */
+        public int getInternshipIndex() { return internshipIndex; }
+        /** @return the application status */
+        public String getStatus() { return status; }
+        /** @return true if the student requested withdrawal */
+        public boolean isWithdrawalRequested() { return withdrawalRequested; }
+    }
+
+    /** The generated fields of one internship */
+    private static final class InternshipRow {
+        private String title;
+        private String description;
+        private String requirements;
+        private String location;
+        private int salary;
+        private int numSlots;
+        private String companyName;
+        private String companyRepID;
+        private String level;
+        private String preferredMajor;
+        private LocalDate openingDate;
+        private LocalDate closingDate;
+        private String status;
+        private boolean visible;
+    }
+
+    /**
+     * Constructs a generator for a population of the given size.
+     *
+     * @param seed            the seed; equal seeds give equal populations
+     * @param baseDate        the "today" of the population; posting dates are relative to it
+     * @param students        the number of students
+     * @param representatives the number of company representatives (at least 1 if there are internships)
+     * @param internships     the number of internships
+     */
+    public PopulationGenerator(long seed, LocalDate baseDate, int students, int representatives, int internships) {
+        this.seed = seed;
+        this.baseDate = baseDate;
+        this.students = students;
+        this.representatives = Math.max(representatives, internships > 0 ? 1 : 0);
+        this.internships = internships;
+    }
+
+    /**
+     * Creates student {@code index}.
+     *
+     * @param index the student's index, from 0
+     * @return a new Student with the default password
+     */
+    public Student student(int index) {
+        SplittableRandom random = random(STUDENT, index);
+        String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        String major = MAJORS[weighted(random, MAJOR_WEIGHTS)];
+        int year = 1 + weighted(random, YEAR_WEIGHTS);
+        return new Student(studentID(index), name, "password", year, major);
+    }
+
+    /**
+     * Creates company representative {@code index}, with its registration status.
+     *
+     * @param index the representative's index, from 0
+     * @return a new CompanyRepresentative with the default password
+     */
+    public CompanyRepresentative representative(int index) {
+        SplittableRandom random = random(REPRESENTATIVE, index);
+        String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        CompanyRepresentative rep = new CompanyRepresentative(representativeID(index), name, "password",
+            companyName(index), pick(random, DEPARTMENTS), pick(random, POSITIONS));
+        rep.setStatus(representativeStatus(index));
+        return rep;
+    }
+
+    /**
+     * Creates internship {@code index}, with its status and visibility.
+     * <p>
+     * The internship ID is assigned by {@link InternshipOpportunity}, so it matches
+     * {@link #internshipID(int)} only if internships are created in index order in a fresh run.
+     * </p>
+     *
+     * @param index the internship's index, from 0
+     * @return a new InternshipOpportunity
+     */
+    public InternshipOpportunity internship(int index) {
+        InternshipRow row = internshipRow(index);
+        InternshipOpportunity opp = new InternshipOpportunity(row.title, row.description, row.level,
+            row.preferredMajor, row.openingDate, row.closingDate, row.companyName, row.companyRepID, row.numSlots);
+        opp.updateStatus(row.status);
+        opp.setVisibility(row.visible);
+        return opp;
+    }
+
+    /**
+     * Generates the application history, student by student, without storing it.
+     *
+     * @param consumer receives each application in ID order
+     */
+    public void generateApplications(Consumer<GeneratedApplication> consumer) {
+        int[] slotsTaken = new int[internships];
+        int[] chosen = new int[3];
+        int nextID = 1;
+        for (int s = 0; s < students && internships > 0; s++) {
+            Student student = student(s);
+            SplittableRandom random = random(APPLICATION, s);
+            int wanted = weighted(random, APPLICATION_COUNT_WEIGHTS);
+            int count = 0;
+            for (int attempt = 0; attempt < 10 * wanted && count < wanted; attempt++) {
+                int candidate = random.nextInt(internships);
+                InternshipRow row = internshipRow(candidate);
+                boolean open = row.visible && ("Approved".equals(row.status) || "Filled".equals(row.status));
+                boolean eligible = student.getYearOfStudy() > 2 || "Basic".equals(row.level);
+                boolean inMajor = row.preferredMajor.equals(student.getMajor()) || random.nextInt(5) == 0;
+                if (open && eligible && inMajor && !contains(chosen, count, candidate)) {
+                    chosen[count++] = candidate;
+                }
+            }
+
+            String[] statuses = new String[count];
+            int accepted = -1;
+            for (int k = 0; k < count; k++) {
+                String status = STATUSES[weighted(random, STATUS_WEIGHTS)];
+                int internship = chosen[k];
+                if ("Successful".equals(status)) {
+                    if (slotsTaken[internship] >= internshipRow(internship).numSlots) {
+                        status = "Unsuccessful";
+                    } else {
+                        slotsTaken[internship]++;
+                        if (accepted < 0 && random.nextInt(2) == 0) {
+                            accepted = k;
+                            status = "Accepted";
+                        }
+                    }
+                }
+                statuses[k] = status;
+            }
+            for (int k = 0; k < count; k++) {
+                if (accepted >= 0 && k != accepted) {
+                    // Accepting a placement removes the student's other applications
+                    if ("Successful".equals(statuses[k])) {
+                        slotsTaken[chosen[k]]--;
+                    }
+                    continue;
+                }
+                boolean placed = "Successful".equals(statuses[k]) || "Accepted".equals(statuses[k]);
+                boolean withdrawalRequested = placed && random.nextInt(30) == 0;
+                consumer.accept(new GeneratedApplication(String.format("APP%03d", nextID++), s, chosen[k],
+                                                         statuses[k], withdrawalRequested));
+            }
+        }
+    }
+
+    /**
+     * Writes every file of the population into a directory, using the file names of the
+     * sample data ({@link #STUDENT_FILE}, {@link #STAFF_FILE}, {@link #REPRESENTATIVE_FILE}),
+     * plus {@link #INTERNSHIP_FILE} and {@link #APPLICATION_FILE}.
+     *
+     * @param directory an existing directory
+     * @param staff     the number of Career Center Staff
+     * @return the number of rows written, excluding headers
+     * @throws IOException if a file cannot be written
+     */
+    public long writeAll(Path directory, int staff) throws IOException {
+        return writeStudents(directory.resolve(STUDENT_FILE))
+            + writeStaff(directory.resolve(STAFF_FILE), staff)
+            + writeRepresentatives(directory.resolve(REPRESENTATIVE_FILE))
+            + writeInternships(directory.resolve(INTERNSHIP_FILE))
+            + writeApplications(directory.resolve(APPLICATION_FILE));
+    }
+
+    /**
+     * Writes the students: {@code StudentID,Name,Major,Year,Email}.
+     *
+     * @param file the file to write
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public long writeStudents(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("StudentID,Name,Major,Year,Email");
+            writer.newLine();
+            for (int i = 0; i < students; i++) {
+                Student student = student(i);
+                writer.write(String.join(",", student.getUserID(), student.getName(), student.getMajor(),
+                    String.valueOf(student.getYearOfStudy()), emailOf(student.getName(), i, "e.ntu.edu.sg")));
+                writer.newLine();
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Writes the Career Center Staff: {@code StaffID,Name,Role,Department,Email}.
+     *
+     * @param file  the file to write
+     * @param count the number of staff members
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public long writeStaff(Path file, int count) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("StaffID,Name,Role,Department,Email");
+            writer.newLine();
+            for (int i = 0; i < count; i++) {
+                SplittableRandom random = random(STAFF, i);
+                String last = pick(random, LAST_NAMES);
+                String id = String.format("%s%03d", last.toLowerCase(), i + 1);
+                writer.write(String.join(",", id, pick(random, FIRST_NAMES) + " " + last,
+                    "Career Center Staff", "CCDS", id + "@ntu.edu.sg"));
+                writer.newLine();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes the company representatives:
+     * {@code CompanyRepID,Name,CompanyName,Department,Position,Email,Status}.
+     *
+     * @param file the file to write
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public long writeRepresentatives(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("CompanyRepID,Name,CompanyName,Department,Position,Email,Status");
+            writer.newLine();
+            for (int i = 0; i < representatives; i++) {
+                CompanyRepresentative rep = representative(i);
+                writer.write(String.join(",", rep.getUserID(), rep.getName(), rep.getCompanyName(),
+                    rep.getDepartment(), rep.getPosition(), rep.getUserID(), rep.getStatus()));
+                writer.newLine();
+            }
+        }
+        return representatives;
+    }
+
+    /**
+     * Writes the internships in the {@code test_internships.csv} format.
+     *
+     * @param file the file to write
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public long writeInternships(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("InternshipID,Title,Description,Requirements,Location,Salary,NumSlots,CompanyName,"
+                + "CompanyRepID,Level,PreferredMajor,StartDate,EndDate,Status,Visibility");
+            writer.newLine();
+            for (int i = 0; i < internships; i++) {
+                InternshipRow row = internshipRow(i);
+                writer.write(String.join(",", internshipID(i), row.title, row.description, row.requirements,
+                    row.location, row.salary + ".0", String.valueOf(row.numSlots), row.companyName,
+                    row.companyRepID, row.level, row.preferredMajor, row.openingDate.toString(),
+                    row.closingDate.toString(), row.status, String.valueOf(row.visible)));
+                writer.newLine();
+            }
+        }
+        return internships;
+    }
+
+    /**
+     * Writes the application history:
+     * {@code ApplicationID,StudentID,InternshipID,Status,WithdrawalRequested}.
+     *
+     * @param file the file to write
+     * @return the number of rows written
+     * @throws IOException if the file cannot be written
+     */
+    public long writeApplications(Path file) throws IOException {
+        long[] rows = {0};
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("ApplicationID,StudentID,InternshipID,Status,WithdrawalRequested");
+            writer.newLine();
+            IOException[] failure = new IOException[1];
+            generateApplications(app -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    writer.write(String.join(",", app.getApplicationID(), studentID(app.getStudentIndex()),
+                        internshipID(app.getInternshipIndex()), app.getStatus(),
+                        String.valueOf(app.isWithdrawalRequested())));
+                    writer.newLine();
+                    rows[0]++;
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+        return rows[0];
+    }
+
+    /**
+     * Returns the user ID of student {@code index}.
+     *
+     * @param index the student's index, from 0
+     * @return the student ID, e.g. "U2300001B"
+     */
+    public String studentID(int index) {
+        return String.format("U23%05d%c", index + 1, (char) ('A' + index % 26));
+    }
+
+    /**
+     * Returns the user ID (and email) of company representative {@code index}.
+     *
+     * @param index the representative's index, from 0
+     * @return the representative ID, e.g. "hr1@company1.com"
+     */
+    public String representativeID(int index) {
+        return "hr" + (index % REPRESENTATIVES_PER_COMPANY + 1) + "@company"
+            + (index / REPRESENTATIVES_PER_COMPANY + 1) + ".com";
+    }
+
+    /**
+     * Returns the ID of internship {@code index} in the generated files.
+     *
+     * @param index the internship's index, from 0
+     * @return the internship ID, e.g. "INT001"
+     */
+    public String internshipID(int index) {
+        return String.format("INT%03d", index + 1);
+    }
+
+    /**
+     * Runs the generator from the command line.
+     *
+     * @param args directory, students, representatives, internships, optional seed and staff count
+     */
+    public static void main(String[] args) {
+        if (args.length < 4) {
+            System.out.println("Usage: java PopulationGenerator <directory> <students> <representatives> "
+                + "<internships> [seed] [staff]");
+            return;
+        }
+        try {
+            Path directory = Files.createDirectories(Paths.get(args[0]));
+            long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+            int staff = args.length > 5 ? Integer.parseInt(args[5]) : 10;
+            PopulationGenerator generator = new PopulationGenerator(seed, LocalDate.now(),
+                Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+            long rows = generator.writeAll(directory, staff);
+            System.out.println("Wrote " + rows + " rows to " + directory);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Error writing population: " + e.getMessage());
+        }
+    }
+
+    private InternshipRow internshipRow(int index) {
+        SplittableRandom random = random(INTERNSHIP, index);
+        InternshipRow row = new InternshipRow();
+        String area = pick(random, AREAS);
+        row.title = area + " " + pick(random, ROLES) + " Intern";
+        row.description = area + " projects with " + pick(random, SKILLS) + " and " + pick(random, SKILLS);
+        StringBuilder requirements = new StringBuilder(pick(random, SKILLS));
+        for (int k = 2 + random.nextInt(3); k > 0; k--) {
+            requirements.append('|').append(pick(random, SKILLS));
+        }
+        row.requirements = requirements.toString();
+        row.location = pick(random, LOCATIONS);
+        row.salary = 1000 + 100 * random.nextInt(21);
+        row.numSlots = 1 + random.nextInt(10);
+        int rep = random.nextInt(representatives);
+        row.companyName = companyName(rep);
+        row.companyRepID = representativeID(rep);
+        row.level = LEVELS[weighted(random, LEVEL_WEIGHTS)];
+        row.preferredMajor = MAJORS[weighted(random, MAJOR_WEIGHTS)];
+        row.openingDate = baseDate.minusDays(random.nextInt(60));
+        row.closingDate = row.openingDate.plusDays(30 + random.nextInt(60));
+        if ("Approved".equals(representativeStatus(rep))) {
+            row.status = INTERNSHIP_STATUSES[weighted(random, INTERNSHIP_STATUS_WEIGHTS)];
+            row.visible = random.nextInt(10) != 0;
+        } else {
+            row.status = "Pending";
+            row.visible = false;
+        }
+        return row;
+    }
+
+    private String representativeStatus(int index) {
+        int roll = random(REPRESENTATIVE, -1 - (long) index).nextInt(100);
+        return roll < 90 ? "Approved" : roll < 97 ? "Pending" : "Rejected";
+    }
+
+    private static String companyName(int representativeIndex) {
+        return "Company " + (representativeIndex / REPRESENTATIVES_PER_COMPANY + 1);
+    }
+
+    private static String emailOf(String name, int index, String domain) {
+        String[] parts = name.split(" ");
+        return parts[parts.length - 1].toLowerCase() + String.format("%05d", index + 1) + "@" + domain;
+    }
+
+    /**
+     * Creates the random stream of one entity.
+     */
+    private SplittableRandom random(int kind, long index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + kind * 0xC2B2AE3D27D4EB4FL + index);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
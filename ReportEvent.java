@@ -0,0 +1,41 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for the generation of a staff report.
+ *
+ * @see ReportGenerator
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+@Name("sc2002.placement.Report")
+@Label("Report Generation")
+@Category({"Internship Placement", "Reports"})
+@Description("Rendering of a ReportGenerator report")
+public class ReportEvent extends Event {
+    @Label("Report")
+    @Description("The ReportGenerator method, e.g. displaySummaryStats")
+    private String report;
+
+    @Label("Rows")
+    @Description("Number of internships or archived applications covered")
+    private long rows;
+
+    /**
+     * Commits the event if it is enabled and over its threshold.
+     *
+     * @param report the ReportGenerator method
+     * @param rows   the number of internships or archived applications covered
+     */
+    public void finish(String report, long rows) {
+        if (shouldCommit()) {
+            this.report = report;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
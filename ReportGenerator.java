@@ -1,4 +1,8 @@
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Generates comprehensive reports for Career Center Staff in the Internship Placement Management System.
@@ -35,6 +39,16 @@ import java.util.List;
  * @since 2025-11-20
  */
 public class ReportGenerator {
+    private MetricsRegistry metrics = MetricsRegistry.DISABLED;
+    
+    /**
+     * Sets the registry into which report rendering is timed.
+     *
+     * @param metrics the metrics registry; {@link MetricsRegistry#DISABLED} to stop timing
+     */
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
     
     /**
      * Generates a report from a list of internship opportunities.
@@ -74,19 +88,27 @@ public class ReportGenerator {
      * @param opportunities the list of InternshipOpportunity objects to display
      */
     public void displayReport(List<InternshipOpportunity> opportunities) {
-        System.out.println("\n=== Internship Opportunities Report ===");
-        System.out.println("Total Opportunities: " + opportunities.size());
-        System.out.println("========================================\n");
-        
-        if (opportunities.isEmpty()) {
-            System.out.println("No opportunities found matching the criteria.");
-            return;
-        }
-        
-        for (int i = 0; i < opportunities.size(); i++) {
-            InternshipOpportunity opp = opportunities.get(i);
-            System.out.println((i + 1) + ". " + formatOpportunity(opp));
-            System.out.println("   " + "-".repeat(80));
+        long start = System.nanoTime();
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        try {
+            System.out.println("\n=== Internship Opportunities Report ===");
+            System.out.println("Total Opportunities: " + opportunities.size());
+            System.out.println("========================================\n");
+            
+            if (opportunities.isEmpty()) {
+                System.out.println("No opportunities found matching the criteria.");
+                return;
+            }
+            
+            for (int i = 0; i < opportunities.size(); i++) {
+                InternshipOpportunity opp = opportunities.get(i);
+                System.out.println((i + 1) + ". " + formatOpportunity(opp));
+                System.out.println("   " + "-".repeat(80));
+            }
+        } finally {
+            metrics.record("ReportGenerator.displayReport", start);
+            event.finish("displayReport", opportunities.size());
         }
     }
     
@@ -129,26 +151,68 @@ public class ReportGenerator {
      * @param opportunities the list of InternshipOpportunity objects to analyze
      */
     public void displaySummaryStats(List<InternshipOpportunity> opportunities) {
-        System.out.println("\n=== Summary Statistics ===");
-        System.out.println("Total Opportunities: " + opportunities.size());
-        
-        long pending = opportunities.stream().filter(o -> "Pending".equals(o.getStatus())).count();
-        long approved = opportunities.stream().filter(o -> "Approved".equals(o.getStatus())).count();
-        long rejected = opportunities.stream().filter(o -> "Rejected".equals(o.getStatus())).count();
-        long filled = opportunities.stream().filter(o -> "Filled".equals(o.getStatus())).count();
-        
-        System.out.println("Pending: " + pending);
-        System.out.println("Approved: " + approved);
-        System.out.println("Rejected: " + rejected);
-        System.out.println("Filled: " + filled);
-        
-        long basic = opportunities.stream().filter(o -> "Basic".equals(o.getLevel())).count();
-        long intermediate = opportunities.stream().filter(o -> "Intermediate".equals(o.getLevel())).count();
-        long advanced = opportunities.stream().filter(o -> "Advanced".equals(o.getLevel())).count();
-        
-        System.out.println("\nBy Level:");
-        System.out.println("Basic: " + basic);
-        System.out.println("Intermediate: " + intermediate);
-        System.out.println("Advanced: " + advanced);
+        long start = System.nanoTime();
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        try {
+            System.out.println("\n=== Summary Statistics ===");
+            System.out.println("Total Opportunities: " + opportunities.size());
+            
+            long pending = opportunities.stream().filter(o -> "Pending".equals(o.getStatus())).count();
+            long approved = opportunities.stream().filter(o -> "Approved".equals(o.getStatus())).count();
+            long rejected = opportunities.stream().filter(o -> "Rejected".equals(o.getStatus())).count();
+            long filled = opportunities.stream().filter(o -> "Filled".equals(o.getStatus())).count();
+            
+            System.out.println("Pending: " + pending);
+            System.out.println("Approved: " + approved);
+            System.out.println("Rejected: " + rejected);
+            System.out.println("Filled: " + filled);
+            
+            long basic = opportunities.stream().filter(o -> "Basic".equals(o.getLevel())).count();
+            long intermediate = opportunities.stream().filter(o -> "Intermediate".equals(o.getLevel())).count();
+            long advanced = opportunities.stream().filter(o -> "Advanced".equals(o.getLevel())).count();
+            
+            System.out.println("\nBy Level:");
+            System.out.println("Basic: " + basic);
+            System.out.println("Intermediate: " + intermediate);
+            System.out.println("Advanced: " + advanced);
+        } finally {
+            metrics.record("ReportGenerator.displaySummaryStats", start);
+            event.finish("displaySummaryStats", opportunities.size());
+        }
+    }
+    
+    /**
+     * Displays summary statistics for the applications in the application archive.
+     * <p>
+     * The archive is read lazily segment by segment, so only the counts are held in memory:
+     * <ul>
+     *   <li><strong>Total:</strong> number of archived applications and segment files</li>
+     *   <li><strong>Status Distribution:</strong> count of archived applications by final status</li>
+     * </ul>
+     * </p>
+     *
+     * @param archive the application archive to summarize
+     */
+    public void displayArchiveReport(ApplicationArchive archive) {
+        long start = System.nanoTime();
+        ReportEvent event = new ReportEvent();
+        event.begin();
+        try {
+            System.out.println("\n=== Archived Applications ===");
+            System.out.println("Total Archived: " + archive.size() + " (" + archive.getSegmentCount() + " segment(s))");
+            
+            Map<String, Long> byStatus;
+            try (Stream<ArchivedApplication> archived = archive.stream()) {
+                byStatus = archived.collect(Collectors.groupingBy(ArchivedApplication::getStatus,
+                                                                  TreeMap::new, Collectors.counting()));
+            }
+            for (Map.Entry<String, Long> entry : byStatus.entrySet()) {
+                System.out.println(entry.getKey() + ": " + entry.getValue());
+            }
+        } finally {
+            metrics.record("ReportGenerator.displayArchiveReport", start);
+            event.finish("displayArchiveReport", archive.size());
+        }
     }
 }
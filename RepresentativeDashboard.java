@@ -0,0 +1,138 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * View model of a company representative's postings and the applications they received.
+ * <p>
+ * The representative menus list postings with their application counts, find the postings
+ * that still have applications to review, and check slot usage before approving. The
+ * dashboard answers all of these from the {@link InternshipApplicationIndex}, which
+ * {@link ApplicationManager} updates incrementally on every application event, so building
+ * and using a dashboard costs time proportional to the representative's own postings and
+ * applications rather than to every application in the system.
+ * </p>
+ * <p>
+ * The dashboard holds the representative's postings as they were when it was created; the
+ * application lists and counts it returns are always current.
+ * </p>
+ *
+ * @see ApplicationManager#getRepresentativeDashboard(List)
+ * @see SystemManager#getRepresentativeDashboard(String)
+ * @see CLICompanyRepBoundary
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class RepresentativeDashboard {
+    private final List<InternshipOpportunity> postings;
+    private final InternshipApplicationIndex applicationIndex;
+
+    /**
+     * Constructs a dashboard over the given postings.
+     *
+     * @param postings         the representative's internship opportunities
+     * @param applicationIndex the index of applications by internship and status
+     */
+    public RepresentativeDashboard(List<InternshipOpportunity> postings,
+                                   InternshipApplicationIndex applicationIndex) {
+        this.postings = new ArrayList<>(postings);
+        this.applicationIndex = applicationIndex;
+    }
+
+    /**
+     * Retrieves the representative's postings in creation order.
+     *
+     * @return a new list of the postings
+     */
+    public List<InternshipOpportunity> getPostings() {
+        return new ArrayList<>(postings);
+    }
+
+    /**
+     * Retrieves every application for one of the postings, in submission order.
+     *
+     * @param posting the internship opportunity
+     * @return the applications received
+     */
+    public List<Application> getApplications(InternshipOpportunity posting) {
+        return applicationIndex.getApplications(posting);
+    }
+
+    /**
+     * Retrieves the applications for a posting that still await a decision, in submission order.
+     * <p>
+     * Applications that are "Successful", "Unsuccessful" or "Accepted" are finalized and
+     * excluded.
+     * </p>
+     *
+     * @param posting the internship opportunity
+     * @return the applications that can still be approved or rejected
+     */
+    public List<Application> getReviewableApplications(InternshipOpportunity posting) {
+        List<Application> reviewable = new ArrayList<>();
+        for (Application app : applicationIndex.getApplications(posting)) {
+            if (!isFinalized(app.getStatus())) {
+                reviewable.add(app);
+            }
+        }
+        return reviewable;
+    }
+
+    /**
+     * Counts the applications for a posting that still await a decision.
+     *
+     * @param posting the internship opportunity
+     * @return the number of non-finalized applications
+     */
+    public int getReviewableCount(InternshipOpportunity posting) {
+        return applicationIndex.count(posting)
+            - applicationIndex.count(posting, "Successful")
+            - applicationIndex.count(posting, "Unsuccessful")
+            - applicationIndex.count(posting, "Accepted");
+    }
+
+    /**
+     * Counts all applications received for a posting.
+     *
+     * @param posting the internship opportunity
+     * @return the number of applications
+     */
+    public int getApplicationCount(InternshipOpportunity posting) {
+        return applicationIndex.count(posting);
+    }
+
+    /**
+     * Counts the slots of a posting taken by "Successful" and "Accepted" applications.
+     *
+     * @param posting the internship opportunity
+     * @return the number of slots taken
+     */
+    public int getSlotsTaken(InternshipOpportunity posting) {
+        return applicationIndex.count(posting, "Successful") + applicationIndex.count(posting, "Accepted");
+    }
+
+    /**
+     * Retrieves the postings that have at least one application awaiting a decision.
+     *
+     * @return the postings in creation order
+     */
+    public List<InternshipOpportunity> getPostingsWithReviewableApplications() {
+        List<InternshipOpportunity> result = new ArrayList<>();
+        for (InternshipOpportunity posting : postings) {
+            if (getReviewableCount(posting) > 0) {
+                result.add(posting);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether an application status is final.
+     *
+     * @param status the application status
+     * @return true for "Successful", "Unsuccessful" and "Accepted"
+     */
+    public static boolean isFinalized(String status) {
+        return "Successful".equals(status) || "Unsuccessful".equals(status) || "Accepted".equals(status);
+    }
+}
@@ -0,0 +1,151 @@
+import java.time.LocalDateTime;
+
+/**
+ * A state change of an application, internship or user, published on the {@link EventBus}.
+ * <p>
+ * Events are immutable and typed by {@link Type}. Application events carry the
+ * {@link Application}; internship events carry the {@link InternshipOpportunity}; user events
+ * carry the {@link User}. All record the value before and after the change and the time the
+ * change was published.
+ * </p>
+ *
+ * @see EventBus
+ * @see IEventSubscriber
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public final class StateChangeEvent {
+
+    /**
+     * The kinds of state change that are published.
+     */
+    public enum Type {
+        /** a student submitted a new application */
+        APPLICATION_SUBMITTED,
+        /** {@link Application#updateStatus(String)} changed an application's status */
+        APPLICATION_STATUS_CHANGED,
+        /** {@link Application#markWithdrawalRequested()} flagged a withdrawal request */
+        WITHDRAWAL_REQUESTED,
+        /** {@link InternshipOpportunity#updateStatus(String)} changed an internship's status */
+        INTERNSHIP_STATUS_CHANGED,
+        /** an internship was shown to or hidden from students */
+        INTERNSHIP_VISIBILITY_CHANGED,
+        /** a company representative registered and awaits approval */
+        REPRESENTATIVE_REGISTERED
+    }
+
+    private final Type type;
+    private final Application application;
+    private final InternshipOpportunity internship;
+    private final User user;
+    private final Object oldValue;
+    private final Object newValue;
+    private final LocalDateTime timestamp;
+
+    private StateChangeEvent(Type type, Application application, InternshipOpportunity internship,
+                             User user, Object oldValue, Object newValue) {
+        this.type = type;
+        this.application = application;
+        this.internship = internship;
+        this.user = user;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    /**
+     * Creates an event for a change of an application.
+     *
+     * @param type        {@link Type#APPLICATION_SUBMITTED}, {@link Type#APPLICATION_STATUS_CHANGED}
+     *                    or {@link Type#WITHDRAWAL_REQUESTED}
+     * @param application the application that changed
+     * @param oldValue    the value before the change
+     * @param newValue    the value after the change
+     * @return the event
+     */
+    public static StateChangeEvent forApplication(Type type, Application application,
+                                                  Object oldValue, Object newValue) {
+        return new StateChangeEvent(type, application, application.getInternship(), application.getStudent(),
+                                    oldValue, newValue);
+    }
+
+    /**
+     * Creates an event for a change of an internship.
+     *
+     * @param type       {@link Type#INTERNSHIP_STATUS_CHANGED} or {@link Type#INTERNSHIP_VISIBILITY_CHANGED}
+     * @param internship the internship that changed
+     * @param oldValue   the value before the change
+     * @param newValue   the value after the change
+     * @return the event
+     */
+    public static StateChangeEvent forInternship(Type type, InternshipOpportunity internship,
+                                                 Object oldValue, Object newValue) {
+        return new StateChangeEvent(type, null, internship, null, oldValue, newValue);
+    }
+
+    /**
+     * Creates an event for a change of a user.
+     *
+     * @param type     {@link Type#REPRESENTATIVE_REGISTERED}
+     * @param user     the user that changed
+     * @param oldValue the value before the change
+     * @param newValue the value after the change
+     * @return the event
+     */
+    public static StateChangeEvent forUser(Type type, User user, Object oldValue, Object newValue) {
+        return new StateChangeEvent(type, null, null, user, oldValue, newValue);
+    }
+
+    /** @return the kind of change */
+    public Type getType() { return type; }
+
+    /** @return the application that changed, or null for internship and user events */
+    public Application getApplication() { return application; }
+
+    /** @return the internship that changed, the internship of the application that changed, or null for user events */
+    public InternshipOpportunity getInternship() { return internship; }
+
+    /** @return the user that changed, the student of the application that changed, or null for internship events */
+    public User getUser() { return user; }
+
+    /** @return the value before the change */
+    public Object getOldValue() { return oldValue; }
+
+    /** @return the value after the change */
+    public Object getNewValue() { return newValue; }
+
+    /** @return the time the change was published */
+    public LocalDateTime getTimestamp() { return timestamp; }
+
+    /**
+     * Describes the change in a form suitable for user notifications.
+     *
+     * @return a one-line description
+     */
+    public String getDescription() {
+        switch (type) {
+            case APPLICATION_SUBMITTED:
+                return "New application " + application.getApplicationID() + " for " + internship.getTitle()
+                    + " from " + application.getStudent().getName();
+            case APPLICATION_STATUS_CHANGED:
+                return "Application " + application.getApplicationID() + " for " + internship.getTitle()
+                    + " (" + application.getStudent().getName() + "): " + oldValue + " -> " + newValue;
+            case WITHDRAWAL_REQUESTED:
+                return "Withdrawal requested for application " + application.getApplicationID()
+                    + " (" + application.getStudent().getName() + ", " + internship.getTitle() + ")";
+            case INTERNSHIP_STATUS_CHANGED:
+                return "Internship " + internship.getTitle() + ": " + oldValue + " -> " + newValue;
+            case REPRESENTATIVE_REGISTERED:
+                return "Company representative " + user.getName() + " (" + user.getUserID() + ") registered and awaits approval";
+            default:
+                return "Internship " + internship.getTitle() + " is now "
+                    + (Boolean.TRUE.equals(newValue) ? "visible" : "hidden");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return timestamp + " " + type + " " + getDescription();
+    }
+}
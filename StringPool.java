@@ -0,0 +1,74 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizing pool of strings (the Flyweight pattern).
+ * <p>
+ * Data loaded from CSV files repeats the same few hundred values (majors, company names,
+ * departments, levels, statuses) across hundreds of thousands of objects, and every parsed
+ * field is a new {@code String}. Passing such values through {@link #intern(String)} returns
+ * one shared instance per distinct value, so the duplicates can be collected right after
+ * loading.
+ * </p>
+ * <p>
+ * Unlike {@link String#intern()}, the pool is an ordinary object: its size can be inspected,
+ * and it is collected with the {@link SystemManager} that owns it. It should only be used for
+ * low-cardinality values; unique values such as names and IDs would only grow it.
+ * {@link #NONE} returns every value unchanged.
+ * </p>
+ *
+ * @see SystemManager
+ * @see InternshipManager#addInternship(InternshipOpportunity)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class StringPool {
+    /** A pool that returns every value unchanged */
+    public static final StringPool NONE = new StringPool(false);
+
+    private final boolean enabled;
+    private final Map<String, String> values;
+
+    /**
+     * Constructs an empty pool.
+     */
+    public StringPool() {
+        this(true);
+    }
+
+    private StringPool(boolean enabled) {
+        this.enabled = enabled;
+        this.values = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the pool's instance of a value, adding the value if it is new.
+     *
+     * @param value the value, or null
+     * @return an instance equal to {@code value} that is shared by every equal value passed
+     *         in; null for null
+     */
+    public String intern(String value) {
+        if (!enabled || value == null) {
+            return value;
+        }
+        String canonical = values.get(value);
+        if (canonical == null) {
+            canonical = values.putIfAbsent(value, value);
+            if (canonical == null) {
+                canonical = value;
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * Counts the distinct values in the pool.
+     *
+     * @return the number of distinct values
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,178 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applications grouped by student, with each student's count of active applications.
+ * <p>
+ * Submitting an application checks for a duplicate and counts the student's active
+ * applications against the limit of three, and the student menus list a student's
+ * applications. Each of these used to stream every application in the system. This index
+ * keeps, keyed by {@link User#getOrdinal()}:
+ * <ul>
+ *   <li>the rows of the student's applications in submission order, in an
+ *       {@link IntIntListMap}</li>
+ *   <li>the number of the student's applications that are not "Withdrawn", in an
+ *       {@link IntIntHashMap}</li>
+ * </ul>
+ * The applications themselves sit in a dense array of rows, found from an application by
+ * its ordinal. A removed row is filled with the last row, as in
+ * {@link InternshipColumnStore}. No index structure boxes its keys or values, so
+ * maintaining the index allocates only when an array grows.
+ * </p>
+ * <p>
+ * {@link ApplicationManager} maintains the index when applications are submitted or removed,
+ * and on status changes reported through {@link IApplicationChangeListener}.
+ * </p>
+ *
+ * @see ApplicationManager#getApplicationsByStudent(Student)
+ * @see InternshipApplicationIndex
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class StudentApplicationIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Application[] rows;
+    private int size;
+    /** application ordinal -> row */
+    private final IntIntHashMap rowByApplication;
+    /** student ordinal -> rows of the student's applications, in submission order */
+    private final IntIntListMap rowsByStudent;
+    /** student ordinal -> number of the student's applications that are not withdrawn */
+    private final IntIntHashMap activeByStudent;
+
+    /**
+     * Constructs an empty index.
+     */
+    public StudentApplicationIndex() {
+        this.rows = new Application[INITIAL_CAPACITY];
+        this.rowByApplication = new IntIntHashMap();
+        this.rowsByStudent = new IntIntListMap();
+        this.activeByStudent = new IntIntHashMap();
+    }
+
+    /**
+     * Adds an application under its student. Adding an application twice has no effect.
+     *
+     * @param app the application to add
+     */
+    public void add(Application app) {
+        if (rowByApplication.containsKey(app.getOrdinal())) {
+            return;
+        }
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+        }
+        int student = app.getStudent().getOrdinal();
+        rows[size] = app;
+        rowByApplication.put(app.getOrdinal(), size);
+        rowsByStudent.add(student, size);
+        if (isActive(app.getStatus())) {
+            activeByStudent.add(student, 1);
+        }
+        size++;
+    }
+
+    /**
+     * Removes an application from its student's group.
+     *
+     * @param app the application to remove
+     */
+    public void remove(Application app) {
+        int row = rowByApplication.getOrDefault(app.getOrdinal(), -1);
+        if (row < 0) {
+            return;
+        }
+        int student = app.getStudent().getOrdinal();
+        rowByApplication.remove(app.getOrdinal());
+        rowsByStudent.remove(student, row);
+        if (isActive(app.getStatus())) {
+            activeByStudent.add(student, -1);
+        }
+        int last = --size;
+        if (row != last) {
+            Application moved = rows[last];
+            rows[row] = moved;
+            rowByApplication.put(moved.getOrdinal(), row);
+            rowsByStudent.replace(moved.getStudent().getOrdinal(), last, row);
+        }
+        rows[last] = null;
+    }
+
+    /**
+     * Updates the student's active count when an application is withdrawn or leaves
+     * "Withdrawn".
+     *
+     * @param app       the application whose status changed
+     * @param oldStatus the status it had before
+     */
+    public void statusChanged(Application app, String oldStatus) {
+        if (!rowByApplication.containsKey(app.getOrdinal())) {
+            return;
+        }
+        boolean wasActive = isActive(oldStatus);
+        boolean active = isActive(app.getStatus());
+        if (wasActive != active) {
+            activeByStudent.add(app.getStudent().getOrdinal(), active ? 1 : -1);
+        }
+    }
+
+    /**
+     * Retrieves every application of a student, in submission order.
+     *
+     * @param student the student
+     * @return a new list; empty if the student has no applications
+     */
+    public List<Application> getApplications(Student student) {
+        int key = student.getOrdinal();
+        int count = rowsByStudent.size(key);
+        List<Application> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(rows[rowsByStudent.get(key, i)]);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a student has an application for an internship.
+     *
+     * @param student    the student
+     * @param internship the internship
+     * @return true if one of the student's applications is for the internship
+     */
+    public boolean contains(Student student, InternshipOpportunity internship) {
+        int key = student.getOrdinal();
+        int count = rowsByStudent.size(key);
+        for (int i = 0; i < count; i++) {
+            if (rows[rowsByStudent.get(key, i)].getInternship().equals(internship)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts a student's applications that are not "Withdrawn".
+     *
+     * @param student the student
+     * @return the number of active applications
+     */
+    public int countActive(Student student) {
+        return activeByStudent.getOrDefault(student.getOrdinal(), 0);
+    }
+
+    /**
+     * Counts the applications in the index.
+     *
+     * @return the number of applications
+     */
+    public int size() {
+        return size;
+    }
+
+    private static boolean isActive(String status) {
+        return !"Withdrawn".equals(status);
+    }
+}
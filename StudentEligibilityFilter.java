@@ -168,14 +168,57 @@ public class StudentEligibilityFilter implements ICriteriaFilter, IStudentEligib
     @Override
     public List<InternshipOpportunity> filterForStudent(List<InternshipOpportunity> list, Student student) {
         return list.stream()
-            .filter(opp -> isEligibleForStudent(opp, student))
+            .filter(opp -> isEligible(opp, student))
             .collect(Collectors.toList());
     }
     
+    /**
+     * Applies filter criteria to the opportunities of a column store.
+     * <p>
+     * Level, major, status and closing date are all columns of the store, so a single column
+     * scan selects the matching rows; {@link #applyFilter(List, FilterCriteria)} then checks
+     * the (much smaller) candidate list with the exact rules.
+     * </p>
+     *
+     * @param store the column store holding all internship opportunities; must not be null
+     * @param criteria the filtering criteria; if null or empty, every opportunity is returned
+     * @return the opportunities matching all specified criteria
+     */
+    @Override
+    public List<InternshipOpportunity> applyFilter(InternshipColumnStore store, FilterCriteria criteria) {
+        if (criteria == null || !criteria.hasFilters()) {
+            return store.getAll();
+        }
+        List<InternshipOpportunity> candidates = store.select(criteria.getLevel(), criteria.getMajor(),
+            criteria.getStatus(), criteria.getClosingDate(), null);
+        return applyFilter(candidates, criteria);
+    }
+
+    /**
+     * Filters the opportunities of a column store by student eligibility.
+     * <p>
+     * The eligibility rules are expressed as a column scan: approved postings of the student's
+     * major that are visible and open today, restricted to the Basic level for Year 1-2
+     * students. {@link #filterForStudent(List, Student)} then checks the candidates with the
+     * exact rules.
+     * </p>
+     *
+     * @param store the column store holding all internship opportunities; must not be null
+     * @param student the student for whom to check eligibility; must not be null
+     * @return the opportunities the student is eligible to apply for
+     */
+    @Override
+    public List<InternshipOpportunity> filterForStudent(InternshipColumnStore store, Student student) {
+        String level = student.getYearOfStudy() <= 2 ? "Basic" : null;
+        List<InternshipOpportunity> candidates = store.select(level, student.getMajor(), "Approved",
+            null, LocalDate.now());
+        return filterForStudent(candidates, student);
+    }
+    
     /**
      * Determines if a specific student is eligible for a specific opportunity.
      * <p>
-     * This helper method encapsulates the complete eligibility checking logic, evaluating
+     * This method encapsulates the complete eligibility checking logic, evaluating
      * multiple criteria in sequence. All criteria must pass for the student to be eligible.
      * </p>
      * <p>
@@ -198,7 +241,8 @@ public class StudentEligibilityFilter implements ICriteriaFilter, IStudentEligib
      * @param student the student to check eligibility for
      * @return true if the student meets all eligibility requirements; false otherwise
      */
-    private boolean isEligibleForStudent(InternshipOpportunity opp, Student student) {
+    @Override
+    public boolean isEligible(InternshipOpportunity opp, Student student) {
         // Must be visible and open for applications
         if (!opp.getVisibility() || !opp.isOpenForApplications()) {
             return false;
@@ -0,0 +1,112 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cached list of the internships a logged-in student may apply for.
+ * <p>
+ * The student menu shows this list for browsing and again for applying. Instead of re-running
+ * {@link InternshipManager#getVisibleInternshipsForStudent(Student, FilterCriteria)} on every
+ * visit, the view keeps the last result and subscribes to internship status and visibility
+ * changes through a queued {@link EventBus} subscription:
+ * <ul>
+ *   <li><strong>Batched delivery:</strong> queued events are delivered at the start of
+ *       {@link #getInternships(FilterCriteria)}, on the menu thread; any delivered event marks
+ *       the cached list stale</li>
+ *   <li><strong>Loss policy:</strong> a full queue drops its oldest events, which is harmless
+ *       here because the queue still holds the newest event and one event is enough to
+ *       rebuild the list</li>
+ *   <li><strong>Other inputs:</strong> the list is also rebuilt when the criteria differ from
+ *       the cached ones or the date has changed, since application windows depend on it</li>
+ * </ul>
+ * Approved postings are only changed through their status and visibility, so these events
+ * cover every change that can affect the list.
+ * </p>
+ *
+ * @see CLIStudentBoundary
+ * @see EventBus#subscribe(IEventSubscriber, Set, int)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class StudentInternshipView implements IEventSubscriber {
+    /** Event types that make the cached list stale */
+    public static final Set<StateChangeEvent.Type> REFRESHED_BY = EnumSet.of(
+        StateChangeEvent.Type.INTERNSHIP_STATUS_CHANGED,
+        StateChangeEvent.Type.INTERNSHIP_VISIBILITY_CHANGED);
+    /** Events buffered between two visits; more are dropped, oldest first */
+    public static final int QUEUE_CAPACITY = 16;
+
+    private final InternshipManager internshipManager;
+    private final Student student;
+    private final EventBus.Subscription subscription;
+    /** Last result; null when stale */
+    private List<InternshipOpportunity> internships;
+    private FilterCriteria criteria;
+    private LocalDate day;
+    private int rebuildCount;
+
+    /**
+     * Constructs a view for a student and subscribes it to the bus.
+     *
+     * @param internshipManager the manager the list is read from
+     * @param eventBus          the bus on which internship changes are published
+     * @param student           the logged-in student
+     */
+    public StudentInternshipView(InternshipManager internshipManager, EventBus eventBus, Student student) {
+        this.internshipManager = internshipManager;
+        this.student = student;
+        this.subscription = eventBus.subscribe(this, REFRESHED_BY, QUEUE_CAPACITY);
+    }
+
+    /**
+     * Retrieves the internships the student may apply for, sorted by title.
+     * <p>
+     * Delivers the queued events first, then returns the cached list unless an event, other
+     * criteria or a new day made it stale.
+     * </p>
+     *
+     * @param criteria the student's filter criteria
+     * @return a new list of the visible internships
+     */
+    public List<InternshipOpportunity> getInternships(FilterCriteria criteria) {
+        subscription.deliver();
+        LocalDate today = LocalDate.now();
+        if (internships == null || !Objects.equals(criteria, this.criteria) || !today.equals(day)) {
+            internships = internshipManager.getVisibleInternshipsForStudent(student, criteria);
+            this.criteria = criteria;
+            this.day = today;
+            rebuildCount++;
+        }
+        return new ArrayList<>(internships);
+    }
+
+    /**
+     * Marks the cached list stale.
+     *
+     * @param events the delivered internship events
+     */
+    @Override
+    public void onEvents(List<StateChangeEvent> events) {
+        internships = null;
+    }
+
+    /**
+     * Counts how often the list was rebuilt from the internship manager.
+     *
+     * @return the number of rebuilds
+     */
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    /**
+     * Cancels the subscription; called when the student logs out.
+     */
+    public void close() {
+        subscription.cancel();
+    }
+}
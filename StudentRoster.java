@@ -0,0 +1,333 @@
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only roster of students kept off the Java heap in memory-mapped files.
+ * <p>
+ * At multi-campus scale most students never log in during a run, yet loading them as
+ * {@link Student} objects keeps every one of them, with its strings, in the old generation.
+ * The roster instead stores each student in two files mapped into memory:
+ * <ul>
+ *   <li><strong>Records</strong> ({@code <file>}): a header, one fixed-width record of
+ *       {@link #RECORD_SIZE} bytes per student (ID hash, year of study, and the offset and
+ *       length of each string), and an open-addressing hash table from student ID to record</li>
+ *   <li><strong>String heap</strong> ({@code <file>.strings}): the UTF-8 bytes of IDs, names,
+ *       majors and passwords; repeated majors and passwords are stored once</li>
+ * </ul>
+ * {@link #load(String)} finds a record through the hash table and hydrates a new Student from
+ * it, so only the students that are actually used become heap objects. The files are paged in
+ * and out by the operating system and add nothing to garbage collection work.
+ * </p>
+ * <p>
+ * Each mapping is limited to 2 GB, which allows about 60 million students.
+ * </p>
+ *
+ * @see SystemManager#enableStudentRoster(String)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class StudentRoster {
+    /** Bytes per student record */
+    public static final int RECORD_SIZE = 32;
+
+    private static final int MAGIC = 0x53524F53; // "SROS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final String DEFAULT_PASSWORD = "password";
+
+    // Record layout
+    private static final int ID_HASH = 0;
+    private static final int ID_OFFSET = 4;
+    private static final int NAME_OFFSET = 8;
+    private static final int MAJOR_OFFSET = 12;
+    private static final int PASSWORD_OFFSET = 16;
+    private static final int ID_LENGTH = 20;
+    private static final int NAME_LENGTH = 22;
+    private static final int MAJOR_LENGTH = 24;
+    private static final int PASSWORD_LENGTH = 26;
+    private static final int YEAR = 28;
+
+    private final MappedByteBuffer records;
+    private final MappedByteBuffer strings;
+    private final int size;
+    private final int tableCapacity;
+    private final int tableStart;
+    /** string heap offset -> decoded value, for the majors and passwords shared by many records */
+    private final Map<Integer, String> sharedStrings;
+
+    private StudentRoster(MappedByteBuffer records, MappedByteBuffer strings) throws IOException {
+        if (records.capacity() < HEADER_SIZE || records.getInt(0) != MAGIC || records.getInt(4) != VERSION) {
+            throw new IOException("Not a student roster file");
+        }
+        this.records = records;
+        this.strings = strings;
+        this.size = records.getInt(8);
+        this.tableCapacity = records.getInt(12);
+        this.tableStart = HEADER_SIZE + size * RECORD_SIZE;
+        this.sharedStrings = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Builds a roster from a student CSV file and opens it.
+     * <p>
+     * The CSV has the format read by {@link SystemManager#initializeSystem}: a header row, then
+     * UserID, Name, Major, Year. Every student gets the default password "password". The
+     * records and strings are streamed to disk, so building takes little heap beyond the
+     * hash table. If an ID occurs twice, lookups find its first record.
+     * </p>
+     *
+     * @param csvFile    the student CSV file
+     * @param rosterFile the records file to write; the string heap is written next to it
+     * @return the opened roster
+     * @throws IOException if a file cannot be read or written, or a string is longer than
+     *                     32,767 bytes
+     */
+    public static StudentRoster build(String csvFile, Path rosterFile) throws IOException {
+        Path stringFile = stringFileOf(rosterFile);
+        int count = 0;
+        try (BufferedReader br = new BufferedReader(new FileReader(csvFile));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(rosterFile)));
+             StringHeapWriter heap = new StringHeapWriter(Files.newOutputStream(stringFile))) {
+            out.write(new byte[HEADER_SIZE]); // Written once the count is known
+            String line;
+            boolean firstLine = true;
+            while ((line = br.readLine()) != null) {
+                if (firstLine) {
+                    firstLine = false;
+                    continue; // Skip header
+                }
+                String[] parts = line.split(",");
+                if (parts.length >= 4) {
+                    String id = parts[0].trim();
+                    String major = parts[2].trim();
+                    byte[] idBytes = heap.bytesOf(id);
+                    byte[] nameBytes = heap.bytesOf(parts[1].trim());
+                    byte[] majorBytes = heap.bytesOf(major);
+                    byte[] passwordBytes = heap.bytesOf(DEFAULT_PASSWORD);
+                    out.writeInt(hash(id));
+                    out.writeInt(heap.write(idBytes));
+                    out.writeInt(heap.write(nameBytes));
+                    out.writeInt(heap.writeShared(major, majorBytes));
+                    out.writeInt(heap.writeShared(DEFAULT_PASSWORD, passwordBytes));
+                    out.writeShort(idBytes.length);
+                    out.writeShort(nameBytes.length);
+                    out.writeShort(majorBytes.length);
+                    out.writeShort(passwordBytes.length);
+                    out.writeByte(Integer.parseInt(parts[3].trim()));
+                    out.write(new byte[RECORD_SIZE - YEAR - 1]);
+                    count++;
+                }
+            }
+        }
+
+        // The table is built against the written records so duplicate IDs can be compared
+        int capacity = Integer.highestOneBit(Math.max(2, count) * 2 - 1) << 1;
+        try (FileChannel channel = FileChannel.open(rosterFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer written = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE + (long) count * RECORD_SIZE);
+            ByteBuffer table = ByteBuffer.allocate(capacity * 4);
+            try (FileChannel stringChannel = FileChannel.open(stringFile, StandardOpenOption.READ)) {
+                MappedByteBuffer heap = stringChannel.map(FileChannel.MapMode.READ_ONLY, 0, stringChannel.size());
+                for (int index = 0; index < count; index++) {
+                    int record = HEADER_SIZE + index * RECORD_SIZE;
+                    int hash = written.getInt(record + ID_HASH);
+                    String id = null;
+                    int slot = hash & (capacity - 1);
+                    boolean duplicate = false;
+                    while (table.getInt(slot * 4) != 0) {
+                        int other = HEADER_SIZE + (table.getInt(slot * 4) - 1) * RECORD_SIZE;
+                        if (id == null && written.getInt(other + ID_HASH) == hash) {
+                            id = decode(heap, written.getInt(record + ID_OFFSET), written.getShort(record + ID_LENGTH));
+                        }
+                        if (id != null && written.getInt(other + ID_HASH) == hash
+                                && id.equals(decode(heap, written.getInt(other + ID_OFFSET), written.getShort(other + ID_LENGTH)))) {
+                            duplicate = true;
+                            break;
+                        }
+                        slot = (slot + 1) & (capacity - 1);
+                    }
+                    if (!duplicate) {
+                        table.putInt(slot * 4, index + 1);
+                    }
+                }
+            }
+            channel.write(table, HEADER_SIZE + (long) count * RECORD_SIZE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(capacity).flip();
+            channel.write(header, 0);
+        }
+        return open(rosterFile);
+    }
+
+    /**
+     * Opens a roster written by {@link #build(String, Path)}.
+     *
+     * @param rosterFile the records file; the string heap is read from next to it
+     * @return the opened roster
+     * @throws IOException if the files cannot be read or are not a roster
+     */
+    public static StudentRoster open(Path rosterFile) throws IOException {
+        try (FileChannel recordChannel = FileChannel.open(rosterFile, StandardOpenOption.READ);
+             FileChannel stringChannel = FileChannel.open(stringFileOf(rosterFile), StandardOpenOption.READ)) {
+            // Mappings stay valid after their channels are closed
+            return new StudentRoster(recordChannel.map(FileChannel.MapMode.READ_ONLY, 0, recordChannel.size()),
+                                     stringChannel.map(FileChannel.MapMode.READ_ONLY, 0, stringChannel.size()));
+        }
+    }
+
+    /**
+     * Counts the students in the roster.
+     *
+     * @return the number of records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether a student ID is in the roster, without hydrating the student.
+     *
+     * @param userID the student ID
+     * @return true if the roster holds the ID
+     */
+    public boolean contains(String userID) {
+        return indexOf(userID) >= 0;
+    }
+
+    /**
+     * Hydrates a student from its record.
+     * <p>
+     * Every call creates a new Student; callers that need one object per student, such as
+     * {@link SystemManager}, keep the hydrated students.
+     * </p>
+     *
+     * @param userID the student ID
+     * @return a new Student with the record's name, password, year and major, or null if the
+     *         ID is not in the roster
+     */
+    public Student load(String userID) {
+        int index = indexOf(userID);
+        if (index < 0) {
+            return null;
+        }
+        int record = HEADER_SIZE + index * RECORD_SIZE;
+        String name = decode(strings, records.getInt(record + NAME_OFFSET), records.getShort(record + NAME_LENGTH));
+        String major = shared(records.getInt(record + MAJOR_OFFSET), records.getShort(record + MAJOR_LENGTH));
+        String password = shared(records.getInt(record + PASSWORD_OFFSET), records.getShort(record + PASSWORD_LENGTH));
+        return new Student(userID, name, password, records.get(record + YEAR), major);
+    }
+
+    private int indexOf(String userID) {
+        if (userID == null || size == 0) {
+            return -1;
+        }
+        int hash = hash(userID);
+        byte[] idBytes = userID.getBytes(StandardCharsets.UTF_8);
+        int slot = hash & (tableCapacity - 1);
+        int entry;
+        while ((entry = records.getInt(tableStart + slot * 4)) != 0) {
+            int record = HEADER_SIZE + (entry - 1) * RECORD_SIZE;
+            if (records.getInt(record + ID_HASH) == hash && matches(record, idBytes)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & (tableCapacity - 1);
+        }
+        return -1;
+    }
+
+    private boolean matches(int record, byte[] idBytes) {
+        if (records.getShort(record + ID_LENGTH) != idBytes.length) {
+            return false;
+        }
+        int offset = records.getInt(record + ID_OFFSET);
+        for (int i = 0; i < idBytes.length; i++) {
+            if (strings.get(offset + i) != idBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String shared(int offset, int length) {
+        String value = sharedStrings.get(offset);
+        if (value == null) {
+            value = decode(strings, offset, length);
+            sharedStrings.putIfAbsent(offset, value);
+        }
+        return value;
+    }
+
+    private static String decode(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int hash(String userID) {
+        int h = userID.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static Path stringFileOf(Path rosterFile) {
+        return rosterFile.resolveSibling(rosterFile.getFileName() + ".strings");
+    }
+
+    /**
+     * Appends strings to the string heap file, storing each shared value once.
+     */
+    private static final class StringHeapWriter implements AutoCloseable {
+        private final OutputStream out;
+        private final Map<String, Integer> sharedOffsets = new HashMap<>();
+        private long offset;
+
+        StringHeapWriter(OutputStream out) {
+            this.out = new BufferedOutputStream(out);
+        }
+
+        byte[] bytesOf(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > Short.MAX_VALUE) {
+                throw new IOException("String too long for the roster: " + value.substring(0, 40) + "...");
+            }
+            return bytes;
+        }
+
+        int write(byte[] bytes) throws IOException {
+            if (offset + bytes.length > Integer.MAX_VALUE) {
+                throw new IOException("String heap exceeds 2 GB");
+            }
+            int start = (int) offset;
+            out.write(bytes);
+            offset += bytes.length;
+            return start;
+        }
+
+        int writeShared(String value, byte[] bytes) throws IOException {
+            Integer start = sharedOffsets.get(value);
+            if (start == null) {
+                start = write(bytes);
+                sharedOffsets.put(value, start);
+            }
+            return start;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
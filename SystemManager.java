@@ -1,6 +1,11 @@
 import java.io.*;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Central controller for the Internship Placement Management System.
@@ -15,6 +20,12 @@ import java.util.List;
  *   <li>Approval workflow for new Company Representative registrations</li>
  * </ul>
  * <p>
+ * <strong>User Lookup:</strong> Besides the ordered user list, users are indexed by user ID
+ * so authentication, duplicate checks and {@link #findUserByID(String)} are a single hash
+ * probe. Company Representatives awaiting approval are kept in a separate queue in
+ * registration order, so staff review does not scan every student and staff member.
+ * </p>
+ * <p>
  * <strong>Design Patterns:</strong>
  * <ul>
  *   <li><strong>Dependency Inversion Principle (DIP):</strong> Injects filter implementations
@@ -46,9 +57,22 @@ import java.util.List;
  */
 public class SystemManager {
     private List<User> users;
+    /** user ID -> user; the first user loaded with an ID wins, as with the former linear search */
+    private Map<String, User> usersByID;
+    /** user ID -> representative with "Pending" status, in registration order */
+    private Map<String, CompanyRepresentative> pendingRepresentatives;
     private InternshipManager internshipManager;
     private ApplicationManager applicationManager;
     private ReportGenerator reportGenerator;
+    private EventBus eventBus;
+    private NotificationCenter notificationCenter;
+    private MetricsRegistry metrics;
+    /** Canonical instances of the repeated values of loaded users and created internships */
+    private StringPool stringPool;
+    /** Roster file to load students into instead of the heap; null to load Student objects */
+    private String studentRosterFile;
+    /** Off-heap students, hydrated into the user list when first used; null if not enabled */
+    private StudentRoster studentRoster;
     private User currentUser;
     
     /**
@@ -66,11 +90,15 @@ public class SystemManager {
      *   <li>InternshipManager with injected filter dependencies</li>
      *   <li>ApplicationManager for handling student applications</li>
      *   <li>ReportGenerator for generating system reports</li>
+     *   <li>MetricsRegistry timing logins and manager operations</li>
+     *   <li>StringPool sharing the repeated values of loaded users and created internships</li>
      *   <li>Current user session (initially null)</li>
      * </ul>
      */
     public SystemManager() {
         this.users = new ArrayList<>();
+        this.usersByID = new HashMap<>();
+        this.pendingRepresentatives = new LinkedHashMap<>();
         
         // Create filter implementations
         // StudentEligibilityFilter implements all three interfaces
@@ -82,6 +110,23 @@ public class SystemManager {
         
         this.applicationManager = new ApplicationManager();
         this.reportGenerator = new ReportGenerator();
+        
+        // Managers publish state changes so views can update by push
+        this.eventBus = new EventBus();
+        this.internshipManager.setEventBus(eventBus);
+        this.applicationManager.setEventBus(eventBus);
+        this.notificationCenter = new NotificationCenter();
+        eventBus.subscribeSynchronous(notificationCenter, NotificationCenter.NOTIFIED_TYPES);
+        
+        // Every manager times its operations into one registry
+        this.metrics = new MetricsRegistry();
+        this.internshipManager.setMetrics(metrics);
+        this.applicationManager.setMetrics(metrics);
+        this.reportGenerator.setMetrics(metrics);
+        
+        // One instance per distinct major, company, level, etc.
+        this.stringPool = new StringPool();
+        this.internshipManager.setStringPool(stringPool);
         this.currentUser = null;
     }
     
@@ -121,6 +166,14 @@ public class SystemManager {
      * @param filename the path to the student CSV file
      */
     private void loadStudents(String filename) {
+        if (studentRosterFile != null) {
+            loadStudentRoster(filename);
+            return;
+        }
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int count = 0;
+        boolean loaded = false;
         try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
             String line;
             boolean firstLine = true;
@@ -133,16 +186,40 @@ public class SystemManager {
                 if (parts.length >= 4) {
                     String id = parts[0].trim();
                     String name = parts[1].trim();
-                    String major = parts[2].trim();
+                    String major = stringPool.intern(parts[2].trim());
                     int year = Integer.parseInt(parts[3].trim());
                     Student student = new Student(id, name, "password", year, major);
-                    users.add(student);
+                    addUser(student);
+                    count++;
                 }
             }
             System.out.println("Loaded " + users.size() + " students.");
+            loaded = true;
         } catch (IOException e) {
             System.out.println("Error loading students: " + e.getMessage());
         }
+        event.finish(filename, "Students", count, loaded);
+    }
+    
+    /**
+     * Builds the off-heap student roster from the student CSV file.
+     * <p>
+     * No Student objects are created; students are hydrated from the roster when they log in
+     * or are looked up by ID.
+     * </p>
+     *
+     * @param filename the path to the student CSV file
+     */
+    private void loadStudentRoster(String filename) {
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        try {
+            studentRoster = StudentRoster.build(filename, Paths.get(studentRosterFile));
+            System.out.println("Loaded " + studentRoster.size() + " students into the student roster.");
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Error loading students: " + e.getMessage());
+        }
+        event.finish(filename, "Students", studentRoster == null ? 0 : studentRoster.size(), studentRoster != null);
     }
     
     /**
@@ -158,10 +235,13 @@ public class SystemManager {
      * @param filename the path to the staff CSV file
      */
     private void loadStaff(String filename) {
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int count = 0;
+        boolean loaded = false;
         try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
             String line;
             boolean firstLine = true;
-            int count = 0;
             while ((line = br.readLine()) != null) {
                 if (firstLine) {
                     firstLine = false;
@@ -171,16 +251,18 @@ public class SystemManager {
                 if (parts.length >= 4) {
                     String id = parts[0].trim();
                     String name = parts[1].trim();
-                    String department = parts[3].trim();
+                    String department = stringPool.intern(parts[3].trim());
                     CareerCenterStaff staff = new CareerCenterStaff(id, name, "password", department);
-                    users.add(staff);
+                    addUser(staff);
                     count++;
                 }
             }
             System.out.println("Loaded " + count + " staff members.");
+            loaded = true;
         } catch (IOException e) {
             System.out.println("Error loading staff: " + e.getMessage());
         }
+        event.finish(filename, "Staff", count, loaded);
     }
     
     /**
@@ -198,10 +280,13 @@ public class SystemManager {
      * @param filename the path to the company representative CSV file
      */
     private void loadCompanyRepresentatives(String filename) {
+        CsvLoadEvent event = new CsvLoadEvent();
+        event.begin();
+        int count = 0;
+        boolean loaded = false;
         try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
             String line;
             boolean firstLine = true;
-            int count = 0;
             while ((line = br.readLine()) != null) {
                 if (firstLine) {
                     firstLine = false;
@@ -214,28 +299,30 @@ public class SystemManager {
                 if (parts.length >= 6) {
                     String id = parts[0].trim();
                     String name = parts[1].trim();
-                    String companyName = parts[2].trim();
-                    String department = parts[3].trim();
-                    String position = parts[4].trim();
+                    String companyName = stringPool.intern(parts[2].trim());
+                    String department = stringPool.intern(parts[3].trim());
+                    String position = stringPool.intern(parts[4].trim());
                     CompanyRepresentative rep = new CompanyRepresentative(id, name, "password", 
                                                                          companyName, department, position);
                     if (parts.length >= 7) {
-                        rep.setStatus(parts[6].trim());
+                        rep.setStatus(stringPool.intern(parts[6].trim()));
                     }
-                    users.add(rep);
+                    addUser(rep);
                     count++;
                 }
             }
             System.out.println("Loaded " + count + " company representatives.");
+            loaded = true;
         } catch (IOException e) {
             System.out.println("Error loading company representatives: " + e.getMessage());
         }
+        event.finish(filename, "CompanyRepresentatives", count, loaded);
     }
     
     /**
      * Authenticates a user by verifying their credentials against the system's user list.
      * <p>
-     * This method iterates through all registered users and calls their login method
+     * This method looks up the user with the given ID and calls their login method
      * to validate credentials. Authentication is case-sensitive for both ID and password.
      * </p>
      *
@@ -244,12 +331,24 @@ public class SystemManager {
      * @return the authenticated User object if credentials are valid, null otherwise
      */
     public User authenticateUser(String id, String pwd) {
-        for (User user : users) {
-            if (user.login(id, pwd)) {
+        long start = System.nanoTime();
+        LoginEvent event = new LoginEvent();
+        event.begin();
+        User user = null;
+        boolean success = false;
+        try {
+            user = findUserByID(id);
+            if (user != null && user.login(id, pwd)) {
+                metrics.increment("login.success");
+                success = true;
                 return user;
             }
+            metrics.increment("login.failure");
+            return null;
+        } finally {
+            metrics.record("SystemManager.authenticateUser", start);
+            event.finish(id, user, success);
         }
-        return null;
     }
     
     /**
@@ -285,15 +384,15 @@ public class SystemManager {
                                                                String companyName, String department, 
                                                                String position) {
         // Check if ID already exists
-        for (User user : users) {
-            if (user.getUserID().equals(id)) {
-                return null; // ID already exists
-            }
+        if (usersByID.containsKey(id) || (studentRoster != null && studentRoster.contains(id))) {
+            return null; // ID already exists
         }
         
-        CompanyRepresentative rep = new CompanyRepresentative(id, name, password, 
-                                                             companyName, department, position);
-        users.add(rep);
+        CompanyRepresentative rep = new CompanyRepresentative(id, name, password, stringPool.intern(companyName),
+                                                             stringPool.intern(department), stringPool.intern(position));
+        addUser(rep);
+        eventBus.publish(StateChangeEvent.forUser(
+            StateChangeEvent.Type.REPRESENTATIVE_REGISTERED, rep, null, rep.getStatus()));
         return rep;
     }
     
@@ -301,24 +400,92 @@ public class SystemManager {
      * Retrieves all Company Representatives with "Pending" status awaiting staff approval.
      * <p>
      * This method is used by Career Center Staff to view and process pending registration requests.
-     * Only representatives with exactly "Pending" status (case-sensitive) are returned.
+     * Only representatives with exactly "Pending" status (case-sensitive) are returned, in the
+     * order they registered. The list is read from the pending-registration queue; entries whose
+     * status was changed directly through {@link CompanyRepresentative#setStatus(String)} are
+     * dropped from the queue here.
      * </p>
      *
      * @return a list of CompanyRepresentative objects with Pending status, empty list if none exist
      */
     public List<CompanyRepresentative> getPendingRepresentatives() {
         List<CompanyRepresentative> pending = new ArrayList<>();
-        for (User user : users) {
-            if (user instanceof CompanyRepresentative) {
-                CompanyRepresentative rep = (CompanyRepresentative) user;
-                if ("Pending".equals(rep.getStatus())) {
-                    pending.add(rep);
-                }
+        Iterator<CompanyRepresentative> it = pendingRepresentatives.values().iterator();
+        while (it.hasNext()) {
+            CompanyRepresentative rep = it.next();
+            if ("Pending".equals(rep.getStatus())) {
+                pending.add(rep);
+            } else {
+                it.remove();
             }
         }
         return pending;
     }
     
+    /**
+     * Changes the approval status of a Company Representative and updates the pending queue.
+     * <p>
+     * Setting "Pending" places the representative at the end of the pending-registration
+     * queue; any other status removes them from it.
+     * </p>
+     *
+     * @param rep    the representative to update
+     * @param status the new status ("Pending", "Approved", or "Rejected")
+     */
+    public void updateRepresentativeStatus(CompanyRepresentative rep, String status) {
+        rep.setStatus(status);
+        if ("Pending".equals(status)) {
+            pendingRepresentatives.putIfAbsent(rep.getUserID(), rep);
+        } else {
+            pendingRepresentatives.remove(rep.getUserID());
+        }
+    }
+    
+    /**
+     * Approves several pending Company Representatives in one operation.
+     * <p>
+     * Representatives that are no longer pending (for example, already processed by another
+     * staff member) are skipped.
+     * </p>
+     *
+     * @param reps the representatives to approve
+     * @return the number of representatives approved
+     */
+    public int approveRepresentatives(List<CompanyRepresentative> reps) {
+        return decideRepresentatives(reps, "Approved");
+    }
+    
+    /**
+     * Rejects several pending Company Representatives in one operation.
+     * <p>
+     * Representatives that are no longer pending are skipped.
+     * </p>
+     *
+     * @param reps the representatives to reject
+     * @return the number of representatives rejected
+     */
+    public int rejectRepresentatives(List<CompanyRepresentative> reps) {
+        return decideRepresentatives(reps, "Rejected");
+    }
+    
+    /**
+     * Applies an approval decision to every still-pending representative in the list.
+     *
+     * @param reps   the representatives to decide
+     * @param status the resulting status
+     * @return the number of representatives updated
+     */
+    private int decideRepresentatives(List<CompanyRepresentative> reps, String status) {
+        int decided = 0;
+        for (CompanyRepresentative rep : reps) {
+            if ("Pending".equals(rep.getStatus())) {
+                updateRepresentativeStatus(rep, status);
+                decided++;
+            }
+        }
+        return decided;
+    }
+    
     /**
      * Starts the main system execution.
      * <p>
@@ -359,6 +526,157 @@ public class SystemManager {
         return reportGenerator;
     }
     
+    /**
+     * Retrieves the event bus on which application and internship state changes are published.
+     *
+     * @return the EventBus instance
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+    
+    /**
+     * Persists notifications to a file and restores the notifications saved there earlier.
+     * <p>
+     * Without an outbox, inboxes live only as long as this SystemManager.
+     * </p>
+     *
+     * @param filename the path of the notification file
+     * @return the number of notifications restored
+     */
+    public int enableNotificationOutbox(String filename) {
+        return notificationCenter.setOutbox(new NotificationOutbox(filename));
+    }
+    
+    /**
+     * Retrieves the registry into which logins and manager operations are timed.
+     *
+     * @return the metrics registry
+     */
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Retrieves the pool holding the canonical instances of repeated user and internship values.
+     *
+     * @return the string pool
+     */
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+    
+    /**
+     * Replaces the pool used by the CSV loaders, representative registration and internship
+     * creation. Values already loaded keep their instances.
+     *
+     * @param stringPool the string pool; {@link StringPool#NONE} to stop sharing values
+     */
+    public void setStringPool(StringPool stringPool) {
+        this.stringPool = stringPool;
+        internshipManager.setStringPool(stringPool);
+    }
+    
+    /**
+     * Loads students into an off-heap {@link StudentRoster} instead of the heap.
+     * <p>
+     * Must be called before {@link #initializeSystem(String, String, String)}, which then
+     * writes the roster files from the student CSV file. Students become Student objects only
+     * when they log in or are looked up with {@link #findUserByID(String)}, for example to
+     * resolve the applicant of an application.
+     * </p>
+     *
+     * @param rosterFile the roster file to write; the string heap is written next to it
+     */
+    public void enableStudentRoster(String rosterFile) {
+        this.studentRosterFile = rosterFile;
+    }
+    
+    /**
+     * Retrieves the off-heap student roster.
+     *
+     * @return the roster, or null if it is not enabled or not yet loaded
+     */
+    public StudentRoster getStudentRoster() {
+        return studentRoster;
+    }
+    
+    /**
+     * Publishes the metrics over JMX and rewrites a snapshot file periodically.
+     * <p>
+     * Metrics are always recorded; this only makes them visible outside the process. Call
+     * {@link MetricsRegistry#stopPeriodicDump()} on shutdown to write a final snapshot.
+     * </p>
+     *
+     * @param snapshotFile  the file the snapshot is written to
+     * @param periodSeconds the time between snapshots
+     * @return true if the metrics were also registered with JMX
+     * @see MetricsRegistry#OBJECT_NAME
+     */
+    public boolean enableMetrics(String snapshotFile, long periodSeconds) {
+        metrics.startPeriodicDump(snapshotFile, periodSeconds);
+        return metrics.registerMBean();
+    }
+    
+    /**
+     * Moves finalized applications of closed postings to an on-disk archive from now on.
+     * <p>
+     * The archive is placed in a temporary directory and removed when the program exits,
+     * because applications themselves are not persisted between runs. Archiving runs at the
+     * end of every session.
+     * </p>
+     *
+     * @return true if the archive was created
+     * @see ApplicationManager#archiveFinalizedApplications()
+     */
+    public boolean enableApplicationArchive() {
+        try {
+            applicationManager.setArchive(ApplicationArchive.createTemporary());
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error creating application archive: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Retrieves a user's notification inbox.
+     * <p>
+     * State changes are routed into the inboxes as they are published, so the inbox is always
+     * up to date. The unread count of the inbox is available in O(1).
+     * </p>
+     *
+     * @param userID the user's unique identifier
+     * @return the user's inbox
+     */
+    public NotificationInbox getNotificationInbox(String userID) {
+        return notificationCenter.getInbox(userID);
+    }
+    
+    /**
+     * Marks every notification of a user as read.
+     *
+     * @param userID the user's unique identifier
+     */
+    public void markNotificationsRead(String userID) {
+        notificationCenter.markRead(userID);
+    }
+    
+    /**
+     * Builds the dashboard view model for a company representative.
+     * <p>
+     * Combines the representative's postings from the InternshipManager with the
+     * per-internship application index of the ApplicationManager.
+     * </p>
+     *
+     * @param repID the unique identifier of the company representative
+     * @return a dashboard over the representative's postings
+     */
+    public RepresentativeDashboard getRepresentativeDashboard(String repID) {
+        return applicationManager.getRepresentativeDashboard(
+            internshipManager.getInternshipsByRepresentative(repID));
+    }
+    
     /**
      * Retrieves the currently authenticated user.
      *
@@ -372,6 +690,8 @@ public class SystemManager {
      * Retrieves all users in the system.
      * <p>
      * Returns a defensive copy to prevent external modification of the internal user list.
+     * With a student roster, only the students hydrated so far are included; the others are
+     * counted by {@link StudentRoster#size()}.
      * </p>
      *
      * @return a new ArrayList containing all registered users
@@ -383,27 +703,55 @@ public class SystemManager {
     /**
      * Searches for a user by their unique identifier.
      * <p>
-     * This method performs a linear search through the user list to find a matching user ID.
-     * The search is case-sensitive.
+     * This method looks the ID up in the user index. The search is case-sensitive. With a
+     * student roster, a student not yet on the heap is hydrated from the roster and added to
+     * the user list, so later lookups return the same object.
      * </p>
      *
      * @param userID the unique identifier to search for
      * @return the User object with the matching ID, or null if not found
      */
     public User findUserByID(String userID) {
-        for (User user : users) {
-            if (user.getUserID().equals(userID)) {
-                return user;
+        User user = usersByID.get(userID);
+        if (user == null && studentRoster != null) {
+            user = studentRoster.load(userID);
+            if (user != null) {
+                addUser(user);
+            }
+        }
+        return user;
+    }
+    
+    /**
+     * Adds a user to the user list and lookup indexes.
+     * <p>
+     * Company Representatives with "Pending" status are also appended to the
+     * pending-registration queue.
+     * </p>
+     *
+     * @param user the user to add
+     */
+    private void addUser(User user) {
+        users.add(user);
+        usersByID.putIfAbsent(user.getUserID(), user);
+        if (user instanceof CareerCenterStaff) {
+            notificationCenter.addStaff(user.getUserID());
+        }
+        if (user instanceof CompanyRepresentative) {
+            CompanyRepresentative rep = (CompanyRepresentative) user;
+            if ("Pending".equals(rep.getStatus())) {
+                pendingRepresentatives.putIfAbsent(rep.getUserID(), rep);
             }
         }
-        return null;
     }
     
     /**
      * Ends the current user session and logs out the active user.
      * <p>
      * This method calls the logout method on the current user and clears the session.
-     * It is safe to call this method even if no user is currently logged in.
+     * Buffered notifications are written to the notification outbox, if one is enabled, and finalized applications of closed postings are moved to
+     * the application archive, if one is enabled. It is safe to call this method even if no
+     * user is currently logged in.
      * </p>
      */
     public void endSession() {
@@ -411,5 +759,7 @@ public class SystemManager {
             currentUser.logout();
             currentUser = null;
         }
+        notificationCenter.flush();
+        applicationManager.archiveFinalizedApplications();
     }
 }
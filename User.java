@@ -1,3 +1,5 @@
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Abstract base class representing a user in the Internship Placement Management System.
  * <p>
@@ -23,23 +25,32 @@
  * @since 2025-11-20
  */
 public abstract class User {
+    /** Source of user ordinals; assigned in creation order and never reused */
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger(1);
+
+    /** Process-unique number of this user object; key of the primitive per-user indexes */
+    private final int ordinal;
     private String userID;
     private String name;
     private String password;
     private FilterCriteria filterCriteria;
 
     /**
-     * Constructs a new User with the specified credentials and initializes default filter criteria.
+     * Constructs a new User with the specified credentials.
+     * <p>
+     * The default filter criteria are created on first use, so users that never browse
+     * internships do not carry them.
+     * </p>
      *
      * @param userID   the unique identifier for this user (e.g., "U2310001A")
      * @param name     the display name of the user
      * @param password the authentication password for this user
      */
     public User(String userID, String name, String password) {
+        this.ordinal = NEXT_ORDINAL.getAndIncrement();
         this.userID = userID;
         this.name = name;
         this.password = password;
-        this.filterCriteria = new FilterCriteria();
     }
 
     /**
@@ -83,20 +94,28 @@ public abstract class User {
 
     /**
      * Retrieves the user's current filter criteria for viewing internships.
+     * <p>
+     * A user who never set a filter shares {@link FilterCriteria#EMPTY}, so idle accounts
+     * hold no criteria of their own.
+     * </p>
      *
      * @return the {@link FilterCriteria} object containing the user's filter settings
      */
     public FilterCriteria getFilterCriteria() {
-        return filterCriteria;
+        return filterCriteria != null ? filterCriteria : FilterCriteria.EMPTY;
     }
 
     /**
-     * Sets new filter criteria for this user.
+     * Replaces this user's filter criteria.
+     * <p>
+     * Criteria are immutable; edit them with {@link FilterCriteria#toBuilder()} and store the
+     * result here.
+     * </p>
      *
-     * @param fc the {@link FilterCriteria} object containing the new filter settings
+     * @param fc the {@link FilterCriteria} object containing the new filter settings, or null to clear them
      */
     public void setFilterCriteria(FilterCriteria fc) {
-        this.filterCriteria = fc;
+        this.filterCriteria = fc == null || !fc.hasFilters() ? null : fc;
     }
 
     // Getters
@@ -110,6 +129,19 @@ public abstract class User {
         return userID;
     }
 
+    /**
+     * Retrieves the number of this user object, unique for the process and never reused.
+     * <p>
+     * Users are compared by identity, so the ordinal identifies a user exactly as
+     * {@link Object#equals(Object)} does, without hashing the user ID.
+     * </p>
+     *
+     * @return the ordinal
+     */
+    int getOrdinal() {
+        return ordinal;
+    }
+
     /**
      * Retrieves the display name of this user.
      *
@@ -0,0 +1,70 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event for a withdrawal request, or the approval or rejection of
+ * withdrawal requests.
+ *
+ * @see ApplicationManager#handleWithdrawal(Application)
+ * @see ApplicationManager#approveWithdrawals(java.util.List, InternshipManager)
+ * @see ApplicationManager#rejectWithdrawals(java.util.List)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+@Name("sc2002.placement.Withdrawal")
+@Label("Withdrawal")
+@Category({"Internship Placement", "Applications"})
+@Description("Withdrawal request, approval or rejection")
+public class WithdrawalEvent extends Event {
+    @Label("Action")
+    @Description("Request, Approve or Reject")
+    private String action;
+
+    @Label("Application ID")
+    @Description("The application of a request; empty for approvals and rejections")
+    private String applicationID;
+
+    @Label("Applications")
+    @Description("Number of applications passed in")
+    private int applications;
+
+    @Label("Processed")
+    @Description("Number of applications requested, removed or kept")
+    private int processed;
+
+    /**
+     * Commits the event for a request if it is enabled and over its threshold.
+     *
+     * @param app the application whose withdrawal is requested
+     */
+    public void finishRequest(Application app) {
+        if (shouldCommit()) {
+            this.action = "Request";
+            this.applicationID = app.getApplicationID();
+            this.applications = 1;
+            this.processed = 1;
+            commit();
+        }
+    }
+
+    /**
+     * Commits the event for an approval or rejection if it is enabled and over its threshold.
+     *
+     * @param action       "Approve" or "Reject"
+     * @param applications the number of applications passed in
+     * @param processed    the number of applications removed (approvals) or kept (rejections)
+     */
+    public void finish(String action, int applications, int processed) {
+        if (shouldCommit()) {
+            this.action = action;
+            this.applicationID = "";
+            this.applications = applications;
+            this.processed = processed;
+            commit();
+        }
+    }
+}
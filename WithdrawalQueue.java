@@ -0,0 +1,122 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * First-come, first-served queue of applications awaiting a withdrawal decision.
+ * <p>
+ * Staff used to find withdrawal requests by streaming every application in the system each
+ * time the menu opened. {@link ApplicationManager} now feeds this queue from
+ * {@link ApplicationManager#handleWithdrawal(Application)} and drains it when a request is
+ * approved or rejected, so listing the outstanding requests only touches the requests
+ * themselves.
+ * </p>
+ * <p>
+ * <strong>Ordering and Concurrency:</strong> every request is stamped with a sequence number
+ * when it is enqueued and kept in a {@link ConcurrentSkipListMap}, so requests are listed in
+ * the order they were made. A {@link ConcurrentHashMap} from application ID to sequence
+ * number gives duplicate detection and removal of a specific request without a scan. Both
+ * maps are thread-safe, so requests may be submitted and processed from different threads.
+ * </p>
+ *
+ * @see ApplicationManager#getWithdrawalRequests()
+ * @see ApplicationManager#approveWithdrawals(List, InternshipManager)
+ * @see ApplicationManager#rejectWithdrawals(List)
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public class WithdrawalQueue {
+    private final AtomicLong nextSequence;
+    /** sequence number -> queued application, in request order */
+    private final ConcurrentSkipListMap<Long, Application> requests;
+    /** application ID -> sequence number of its queued request */
+    private final Map<String, Long> sequenceByApplication;
+
+    /**
+     * Constructs an empty withdrawal queue.
+     */
+    public WithdrawalQueue() {
+        this.nextSequence = new AtomicLong();
+        this.requests = new ConcurrentSkipListMap<>();
+        this.sequenceByApplication = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Appends a withdrawal request to the end of the queue.
+     *
+     * @param app the application whose withdrawal was requested
+     * @return {@code true} if queued, {@code false} if a request for it is already queued
+     */
+    public boolean enqueue(Application app) {
+        long sequence = nextSequence.getAndIncrement();
+        if (sequenceByApplication.putIfAbsent(app.getApplicationID(), sequence) != null) {
+            return false;
+        }
+        requests.put(sequence, app);
+        return true;
+    }
+
+    /**
+     * Removes the queued request for an application.
+     *
+     * @param app the application whose request has been decided
+     * @return {@code true} if a request was queued for it
+     */
+    public boolean remove(Application app) {
+        Long sequence = sequenceByApplication.remove(app.getApplicationID());
+        if (sequence == null) {
+            return false;
+        }
+        requests.remove(sequence);
+        return true;
+    }
+
+    /**
+     * Removes the queued requests for several applications.
+     *
+     * @param apps the applications whose requests have been decided
+     * @return the number of requests removed
+     */
+    public int removeAll(Collection<Application> apps) {
+        int removed = 0;
+        for (Application app : apps) {
+            if (remove(app)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Checks whether a withdrawal request is queued for an application.
+     *
+     * @param app the application to check
+     * @return {@code true} if its request is awaiting a decision
+     */
+    public boolean contains(Application app) {
+        return sequenceByApplication.containsKey(app.getApplicationID());
+    }
+
+    /**
+     * Retrieves the number of queued requests.
+     *
+     * @return the queue length
+     */
+    public int size() {
+        return sequenceByApplication.size();
+    }
+
+    /**
+     * Copies the queued applications in the order their withdrawals were requested.
+     *
+     * @return a new list, oldest request first
+     */
+    public List<Application> snapshot() {
+        return new ArrayList<>(requests.values());
+    }
+}
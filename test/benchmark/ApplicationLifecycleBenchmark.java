@@ -0,0 +1,213 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the {@link ApplicationManager} application lifecycle against large populations of
+ * existing applications.
+ * <p>
+ * The population is loaded directly (three applications per Year 3 student, spread over one
+ * posting per 20 applications) with "Pending" and "Shortlisted" statuses, so the operations
+ * below can run indefinitely without exhausting it. Operations that add an application also
+ * remove it again, keeping the population size constant:
+ * <ul>
+ *   <li>{@code getApplicationsByStudent} for a random student</li>
+ *   <li>{@code updateApplicationStatus} toggling a random application between "Pending" and
+ *       "Shortlisted"</li>
+ *   <li>{@code submitApplication} followed by {@code handleWithdrawal} and
+ *       {@code approveWithdrawal}</li>
+ *   <li>The full lifecycle: submit, approve ("Successful"), {@code acceptInternshipPlacement},
+ *       request and approve the withdrawal</li>
+ * </ul>
+ * Every operation runs single-threaded, and on several threads in two variants: all threads
+ * sharing one manager behind a lock (the manager is not thread-safe), and each thread owning
+ * a manager with its share of the population.
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <classes> ApplicationLifecycleBenchmark [applications...]}
+ * (defaults to 10,000, 100,000 and 1,000,000 applications). The thread count defaults to the
+ * number of processors, at least 2, and can be set with {@code -Dthreads=N}.
+ * </p>
+ *
+ * @see ApplicationManager
+ * @see MicroBenchmark
+ */
+public class ApplicationLifecycleBenchmark {
+    private static final int APPLICATIONS_PER_STUDENT = 3;
+    private static final int APPLICATIONS_PER_POSTING = 20;
+    private static final String[] LEVELS = {"Basic", "Intermediate", "Advanced"};
+
+    /** Operations of the benchmark, applied to one thread's population */
+    enum Operation {
+        GET_BY_STUDENT("getApplicationsByStudent"),
+        UPDATE_STATUS("updateApplicationStatus"),
+        SUBMIT("submitApplication+approveWithdrawal"),
+        LIFECYCLE("lifecycle(submit..approveWithdrawal)");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * A manager loaded with a population of applications.
+     */
+    static final class Population {
+        private final ApplicationManager manager = new ApplicationManager();
+        private final InternshipManager internshipManager;
+        private final List<Student> students = new ArrayList<>();
+        private final List<Application> applications = new ArrayList<>();
+        private final List<InternshipOpportunity> internships = new ArrayList<>();
+
+        Population(int size, Random random) {
+            StudentEligibilityFilter filter = new StudentEligibilityFilter();
+            internshipManager = new InternshipManager(filter, filter, filter);
+            LocalDate today = LocalDate.now();
+            int postings = Math.max(APPLICATIONS_PER_STUDENT, size / APPLICATIONS_PER_POSTING);
+            for (int i = 0; i < postings; i++) {
+                InternshipOpportunity opp = new InternshipOpportunity("Internship " + i, "Description " + i,
+                    LEVELS[i % LEVELS.length], "Computer Science", today.minusDays(7), today.plusDays(60),
+                    "Company " + (i % 500), "rep" + (i % 2000) + "@company.com", 10);
+                opp.updateStatus("Approved");
+                internships.add(opp);
+            }
+            for (int s = 0; applications.size() < size; s++) {
+                Student student = new Student(String.format("U%07dX", s), "Student " + s, "password", 3,
+                                              "Computer Science");
+                students.add(student);
+                int first = random.nextInt(postings);
+                for (int k = 0; k < APPLICATIONS_PER_STUDENT && applications.size() < size; k++) {
+                    Application app = new Application(student, internships.get((first + k) % postings));
+                    if (random.nextBoolean()) {
+                        app.updateStatus("Shortlisted");
+                    }
+                    manager.loadApplication(app);
+                    applications.add(app);
+                }
+            }
+        }
+
+        /**
+         * Sets the registry into which the population's managers time their operations.
+         *
+         * @param metrics the metrics registry
+         */
+        void setMetrics(MetricsRegistry metrics) {
+            manager.setMetrics(metrics);
+            internshipManager.setMetrics(metrics);
+        }
+
+        /**
+         * Creates the workload of one thread.
+         *
+         * @param operation the operation to run
+         * @param thread    the thread's index, which selects its own applicant for submissions
+         * @param lock      the lock held around each operation, or null for none
+         * @return the workload
+         */
+        MicroBenchmark.Workload workload(Operation operation, int thread, Object lock) {
+            Random random = new Random(1000 + thread);
+            Student applicant = new Student(String.format("B%07dX", thread), "Benchmark " + thread, "password", 3,
+                                            "Computer Science");
+            MicroBenchmark.Workload op = operation(operation, random, applicant);
+            if (lock == null) {
+                return op;
+            }
+            return () -> {
+                synchronized (lock) {
+                    return op.run();
+                }
+            };
+        }
+
+        private MicroBenchmark.Workload operation(Operation operation, Random random, Student applicant) {
+            switch (operation) {
+                case GET_BY_STUDENT:
+                    return () -> manager.getApplicationsByStudent(students.get(random.nextInt(students.size())));
+                case UPDATE_STATUS:
+                    return () -> {
+                        Application app = applications.get(random.nextInt(applications.size()));
+                        manager.updateApplicationStatus(app, "Pending".equals(app.getStatus()) ? "Shortlisted" : "Pending");
+                        return app;
+                    };
+                case SUBMIT:
+                    return () -> {
+                        Application app = submit(applicant, random);
+                        manager.handleWithdrawal(app);
+                        manager.approveWithdrawal(app, internshipManager);
+                        return app;
+                    };
+                default:
+                    return () -> {
+                        Application app = submit(applicant, random);
+                        manager.updateApplicationStatus(app, "Successful");
+                        manager.acceptInternshipPlacement(applicant, app);
+                        manager.handleWithdrawal(app);
+                        manager.approveWithdrawal(app, internshipManager);
+                        return app;
+                    };
+            }
+        }
+
+        private Application submit(Student applicant, Random random) {
+            InternshipOpportunity internship = internships.get(random.nextInt(internships.size()));
+            if (!manager.submitApplication(applicant, internship)) {
+                throw new IllegalStateException("Submission refused for " + internship.getInternshipID());
+            }
+            List<Application> apps = manager.getApplicationsByInternship(internship);
+            return apps.get(apps.size() - 1);
+        }
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = {10_000, 100_000, 1_000_000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        int threads = Integer.getInteger("threads", Math.max(2, Runtime.getRuntime().availableProcessors()));
+        for (int size : sizes) {
+            runAt(size, threads);
+        }
+    }
+
+    private static void runAt(int size, int threads) {
+        Population shared = new Population(size, new Random(42));
+
+        MicroBenchmark.header("Application lifecycle, " + size + " applications, 1 thread");
+        for (Operation operation : Operation.values()) {
+            MicroBenchmark.run(operation.label, shared.workload(operation, 0, null));
+        }
+
+        MicroBenchmark.header("Application lifecycle, " + size + " applications, " + threads + " threads, shared manager");
+        for (Operation operation : Operation.values()) {
+            int[] next = {0};
+            MicroBenchmark.runThreads(operation.label, threads, () -> {
+                synchronized (next) {
+                    return shared.workload(operation, next[0]++, shared.manager);
+                }
+            });
+        }
+
+        MicroBenchmark.header("Application lifecycle, " + size + " applications, " + threads + " threads, manager per thread");
+        for (Operation operation : Operation.values()) {
+            int[] next = {0};
+            MicroBenchmark.runThreads(operation.label, threads, () -> {
+                int thread;
+                synchronized (next) {
+                    thread = next[0]++;
+                }
+                return new Population(size / threads, new Random(42 + thread)).workload(operation, thread, null);
+            });
+        }
+    }
+}
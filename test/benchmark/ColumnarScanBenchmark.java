@@ -0,0 +1,95 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares filter scan throughput of the object-graph path against the
+ * {@link InternshipColumnStore} columnar path.
+ * <p>
+ * Both paths are given the same deterministic population of internships. The object-graph
+ * path is what {@link InternshipManager} used to run over its whole list: the
+ * {@link StudentEligibilityFilter} strategies streaming through {@code InternshipOpportunity}
+ * objects. The columnar path gives the same strategies the store, which they scan by column
+ * before checking the candidates.
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <classes> ColumnarScanBenchmark [postings...]}
+ * (defaults to 1,000 and 100,000 postings).
+ * </p>
+ *
+ * @see InternshipColumnStore
+ * @see MicroBenchmark
+ */
+public class ColumnarScanBenchmark {
+    private static final String[] LEVELS = {"Basic", "Intermediate", "Advanced"};
+    private static final String[] MAJORS = {
+        "Computer Science", "Computer Engineering", "Data Science & AI",
+        "Information Systems", "Business Analytics", "Electrical Engineering"
+    };
+    private static final String[] STATUSES = {"Approved", "Approved", "Approved", "Pending", "Rejected", "Filled"};
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? parseSizes(args) : new int[] {1_000, 100_000};
+        for (int postings : sizes) {
+            runAt(postings);
+        }
+    }
+
+    private static void runAt(int postings) {
+        List<InternshipOpportunity> internships = generate(postings, new Random(42));
+        InternshipColumnStore store = new InternshipColumnStore();
+        for (InternshipOpportunity opp : internships) {
+            store.add(opp);
+        }
+        StudentEligibilityFilter filter = new StudentEligibilityFilter();
+        Student senior = new Student("U0000001A", "Senior", "password", 3, "Computer Science");
+        Student junior = new Student("U0000002B", "Junior", "password", 1, "Data Science & AI");
+        FilterCriteria byLevel = new FilterCriteria("Intermediate", null, null, null);
+        FilterCriteria staffCriteria = new FilterCriteria(null, "Information Systems", "Approved",
+                                                          LocalDate.now().plusDays(60));
+
+        MicroBenchmark.header("Filter scans, " + postings + " postings");
+        MicroBenchmark.run("objectGraph.studentView(senior, level)",
+            () -> filter.applyFilter(filter.filterForStudent(internships, senior), byLevel));
+        MicroBenchmark.run("columnar.studentView(senior, level)",
+            () -> filter.applyFilter(filter.filterForStudent(store, senior), byLevel));
+        MicroBenchmark.run("objectGraph.studentView(junior)",
+            () -> filter.filterForStudent(internships, junior));
+        MicroBenchmark.run("columnar.studentView(junior)",
+            () -> filter.filterForStudent(store, junior));
+        MicroBenchmark.run("objectGraph.criteria(major, status, date)",
+            () -> filter.applyFilter(internships, staffCriteria));
+        MicroBenchmark.run("columnar.criteria(major, status, date)",
+            () -> filter.applyFilter(store, staffCriteria));
+    }
+
+    static List<InternshipOpportunity> generate(int count, Random random) {
+        LocalDate today = LocalDate.now();
+        List<InternshipOpportunity> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate opening = today.minusDays(random.nextInt(60));
+            LocalDate closing = opening.plusDays(14 + random.nextInt(90));
+            InternshipOpportunity opp = new InternshipOpportunity(
+                "Internship " + i, "Description " + i,
+                LEVELS[random.nextInt(LEVELS.length)],
+                MAJORS[random.nextInt(MAJORS.length)],
+                opening, closing, "Company " + (i % 500), "rep" + (i % 2000) + "@company.com",
+                1 + random.nextInt(10));
+            opp.updateStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            if (random.nextInt(10) == 0) {
+                opp.setVisibility(false);
+            }
+            list.add(opp);
+        }
+        return list;
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
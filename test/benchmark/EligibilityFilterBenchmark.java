@@ -0,0 +1,96 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the student-facing filter pipeline at increasing population sizes and criteria
+ * selectivities.
+ * <p>
+ * Covers the building blocks of the pipeline on the full posting list
+ * ({@link StudentEligibilityFilter#applyFilter}, {@link StudentEligibilityFilter#filterForStudent}
+ * and {@link StudentEligibilityFilter#sortAlphabetically}) and the complete
+ * {@link InternshipManager#getVisibleInternshipsForStudent} call, which first narrows the
+ * candidates with the columnar store. Each criteria set is labelled with the share of postings
+ * it matches, from every posting down to well under one percent.
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <classes> EligibilityFilterBenchmark [postings...]}
+ * (defaults to 1,000, 100,000 and 1,000,000 postings; the largest needs a heap of a few GB).
+ * </p>
+ *
+ * @see StudentEligibilityFilter
+ * @see InternshipManager
+ * @see MicroBenchmark
+ */
+public class EligibilityFilterBenchmark {
+
+    public static void main(String[] args) {
+        int[] sizes = {1_000, 100_000, 1_000_000};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        for (int postings : sizes) {
+            runAt(postings);
+        }
+    }
+
+    private static void runAt(int postings) {
+        List<InternshipOpportunity> internships = ColumnarScanBenchmark.generate(postings, new Random(42));
+        StudentEligibilityFilter filter = new StudentEligibilityFilter();
+        InternshipManager manager = new InternshipManager(filter, filter, filter);
+        for (InternshipOpportunity opp : internships) {
+            manager.addInternship(opp);
+        }
+        List<InternshipOpportunity> shuffled = new ArrayList<>(internships);
+        Collections.shuffle(shuffled, new Random(7));
+        Student senior = new Student("U0000001A", "Senior", "password", 3, "Computer Science");
+        Student junior = new Student("U0000002B", "Junior", "password", 1, "Data Science & AI");
+        List<InternshipOpportunity> seniorView = filter.filterForStudent(internships, senior);
+
+        String[] names = {"all", "status", "level+major", "narrow"};
+        FilterCriteria[] criteria = {
+            FilterCriteria.EMPTY,
+            new FilterCriteria(null, null, "Approved", null),
+            new FilterCriteria("Intermediate", "Computer Science", null, null),
+            new FilterCriteria("Advanced", "Information Systems", "Approved", LocalDate.now().plusDays(20))
+        };
+
+        MicroBenchmark.header("Filter building blocks, " + postings + " postings");
+        for (int i = 0; i < criteria.length; i++) {
+            FilterCriteria c = criteria[i];
+            MicroBenchmark.run("applyFilter(" + label(names[i], filter.applyFilter(internships, c), postings) + ")",
+                () -> filter.applyFilter(internships, c));
+        }
+        MicroBenchmark.run("filterForStudent(senior, " + percent(seniorView.size(), postings) + ")",
+            () -> filter.filterForStudent(internships, senior));
+        MicroBenchmark.run("filterForStudent(junior, "
+                + percent(filter.filterForStudent(internships, junior).size(), postings) + ")",
+            () -> filter.filterForStudent(internships, junior));
+        MicroBenchmark.run("sortAlphabetically(all, shuffled)",
+            () -> filter.sortAlphabetically(shuffled));
+        MicroBenchmark.run("sortAlphabetically(senior view)",
+            () -> filter.sortAlphabetically(seniorView));
+
+        MicroBenchmark.header("getVisibleInternshipsForStudent, " + postings + " postings");
+        for (int i = 0; i < criteria.length; i++) {
+            FilterCriteria c = criteria[i];
+            MicroBenchmark.run("senior(" + label(names[i], manager.getVisibleInternshipsForStudent(senior, c), postings) + ")",
+                () -> manager.getVisibleInternshipsForStudent(senior, c));
+        }
+        MicroBenchmark.run("junior(" + label("all", manager.getVisibleInternshipsForStudent(junior, criteria[0]), postings) + ")",
+            () -> manager.getVisibleInternshipsForStudent(junior, criteria[0]));
+    }
+
+    private static String label(String name, List<InternshipOpportunity> matches, int postings) {
+        return name + ", " + percent(matches.size(), postings);
+    }
+
+    private static String percent(int matches, int postings) {
+        return String.format("%.2f%%", 100.0 * matches / postings);
+    }
+}
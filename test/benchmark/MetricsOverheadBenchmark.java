@@ -0,0 +1,151 @@
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Measures the cost of timing manager operations into a {@link MetricsRegistry}.
+ * <p>
+ * The cost of one timing, one sampled call and one counter increment is measured first. Each
+ * operation is then run alternately on the same population with the managers' default
+ * {@link MetricsRegistry#DISABLED} registry and with an enabled one, and the throughput
+ * difference is printed, together with the share of the operation's time spent recording
+ * (timings, sampled calls and increments per operation times their cost), which is steadier
+ * than the measured difference on a noisy machine. Operations on one application and index
+ * lookups are sampled (counted on every call, timed on one in
+ * {@link MetricsRegistry#DEFAULT_SAMPLE_RATE}), while the queries over all postings are timed
+ * on every call; all should stay within a few percent.
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <classes> MetricsOverheadBenchmark [applications] [postings]}
+ * (defaults to 10,000 applications and 10,000 postings). {@code -Drounds=N} sets the number of
+ * alternating runs per operation (default 3).
+ * </p>
+ *
+ * @see MetricsRegistry
+ * @see MicroBenchmark
+ */
+public class MetricsOverheadBenchmark {
+    private static final int ROUNDS = Integer.getInteger("rounds", 3);
+    private static final int COUNTED_CALLS = 1000;
+
+    /** Nanoseconds per timing into an enabled registry, less the harness's own cost per call */
+    private static double recordNanos;
+    /** Nanoseconds per sampled call (count, and time one in the sample rate), less the harness's own cost */
+    private static double sampledNanos;
+    /** Nanoseconds per counter increment into an enabled registry, less the harness's own cost */
+    private static double incrementNanos;
+
+    public static void main(String[] args) {
+        int applications = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int postings = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+
+        MicroBenchmark.header("Metrics recording cost");
+        MetricsRegistry registry = new MetricsRegistry();
+        double harness = MicroBenchmark.run("empty workload (harness baseline)", () -> registry).getOpsPerSecond();
+        double recording = MicroBenchmark.run("MetricsRegistry.record", () -> {
+            registry.record("MetricsOverheadBenchmark.record", System.nanoTime());
+            return registry;
+        }).getOpsPerSecond();
+        double sampled = MicroBenchmark.run("MetricsRegistry.startSampled/recordSampled", () -> {
+            registry.recordSampled("MetricsOverheadBenchmark.sampled",
+                                   registry.startSampled("MetricsOverheadBenchmark.sampled"));
+            return registry;
+        }).getOpsPerSecond();
+        double increment = MicroBenchmark.run("MetricsRegistry.increment", () -> {
+            registry.increment("MetricsOverheadBenchmark.increment");
+            return registry;
+        }).getOpsPerSecond();
+        recordNanos = 1e9 / recording - 1e9 / harness;
+        sampledNanos = 1e9 / sampled - 1e9 / harness;
+        incrementNanos = 1e9 / increment - 1e9 / harness;
+        System.out.println(String.format("%-55s %13.1f ns", "  cost of one timing", recordNanos));
+        System.out.println(String.format("%-55s %13.1f ns", "  cost of one sampled call", sampledNanos));
+        System.out.println(String.format("%-55s %13.1f ns", "  cost of one increment", incrementNanos));
+
+        ApplicationLifecycleBenchmark.Population population =
+            new ApplicationLifecycleBenchmark.Population(applications, new Random(42));
+        MicroBenchmark.header("Metrics overhead, " + applications + " applications");
+        for (ApplicationLifecycleBenchmark.Operation operation : ApplicationLifecycleBenchmark.Operation.values()) {
+            compare(operation.getLabel(), metrics -> {
+                population.setMetrics(metrics);
+                return population.workload(operation, 0, null);
+            });
+        }
+
+        List<InternshipOpportunity> internships = ColumnarScanBenchmark.generate(postings, new Random(42));
+        StudentEligibilityFilter filter = new StudentEligibilityFilter();
+        InternshipManager manager = new InternshipManager(filter, filter, filter);
+        internships.forEach(manager::addInternship);
+        Student senior = new Student("U0000001A", "Senior", "password", 3, "Computer Science");
+        FilterCriteria byLevel = new FilterCriteria("Intermediate", null, null, null);
+        MicroBenchmark.header("Metrics overhead, " + postings + " postings");
+        compare("getVisibleInternshipsForStudent", metrics -> {
+            manager.setMetrics(metrics);
+            return () -> manager.getVisibleInternshipsForStudent(senior, byLevel);
+        });
+        compare("filterInternships", metrics -> {
+            manager.setMetrics(metrics);
+            return () -> manager.filterInternships(byLevel);
+        });
+        compare("findInternshipsByTitlePrefix", metrics -> {
+            manager.setMetrics(metrics);
+            return () -> manager.findInternshipsByTitlePrefix("Internship 12", 10);
+        });
+    }
+
+    /** Builds a workload whose managers record into the given registry */
+    private interface Setup {
+        MicroBenchmark.Workload with(MetricsRegistry metrics);
+    }
+
+    /**
+     * Runs a workload alternately without and with metrics (off, on, on, off, ...), so neither
+     * setting always runs first, and prints the overhead of the best run of each.
+     */
+    private static void compare(String name, Setup setup) {
+        double off = 0;
+        double on = 0;
+        for (int round = 0; round < 2 * ROUNDS; round++) {
+            if ((round + round / 2) % 2 == 0) {
+                off = Math.max(off, MicroBenchmark.run(name + " [metrics off]", setup.with(MetricsRegistry.DISABLED))
+                                                  .getOpsPerSecond());
+            } else {
+                on = Math.max(on, MicroBenchmark.run(name + " [metrics on]", setup.with(new MetricsRegistry()))
+                                                .getOpsPerSecond());
+            }
+        }
+        MetricsRegistry counted = new MetricsRegistry();
+        MicroBenchmark.Workload workload = setup.with(counted);
+        for (int i = 0; i < COUNTED_CALLS; i++) {
+            workload.run();
+        }
+        // A sampled operation has a counter and a timer of the same name
+        Map<String, Long> counters = counted.getCounters();
+        Map<String, Long> timings = counted.getCallCounts();
+        long timed = 0;
+        long sampledCalls = 0;
+        long increments = 0;
+        for (Map.Entry<String, Long> timer : timings.entrySet()) {
+            if (!counters.containsKey(timer.getKey())) {
+                timed += timer.getValue();
+            }
+        }
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            if (timings.containsKey(counter.getKey())) {
+                sampledCalls += counter.getValue();
+            } else {
+                increments += counter.getValue();
+            }
+        }
+        double timingsPerOp = timed / (double) COUNTED_CALLS;
+        double sampledPerOp = sampledCalls / (double) COUNTED_CALLS;
+        double incrementsPerOp = increments / (double) COUNTED_CALLS;
+        System.out.println(String.format("%-55s %13.1f%%", "  measured overhead (best of " + ROUNDS + ")",
+                                         100 * (1 - on / off)));
+        System.out.println(String.format("%-55s %13.1f%%",
+                                         "  recording cost (" + timingsPerOp + " timings, " + sampledPerOp + " sampled, "
+                                         + incrementsPerOp + " increments per op)",
+                                         100 * (timingsPerOp * recordNanos + sampledPerOp * sampledNanos
+                                                + incrementsPerOp * incrementNanos) * off / 1e9));
+    }
+}
@@ -0,0 +1,283 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.Supplier;
+
+/**
+ * Minimal micro-benchmark harness for the performance benchmarks in {@code test/benchmark}.
+ * <p>
+ * JMH cannot host benchmark classes in the default package, which is where every class of
+ * this system lives, so the benchmarks use this harness instead. It follows the same
+ * structure as a JMH throughput run:
+ * <ul>
+ *   <li>Warm-up iterations that are executed but not reported</li>
+ *   <li>Timed measurement iterations of fixed wall-clock length</li>
+ *   <li>Results consumed by a sink so the JIT cannot eliminate the workload</li>
+ *   <li>Allocation per operation measured with the thread allocation counter
+ *       (the equivalent of JMH's {@code -prof gc} {@code gc.alloc.rate.norm})</li>
+ * </ul>
+ * Benchmarks should be run in a fresh JVM per class (the equivalent of a JMH fork).
+ * {@link #runThreads(String, int, Supplier)} runs a workload on several threads at once
+ * (the equivalent of JMH's {@code -t}); each thread builds its own workload, like a
+ * {@code Scope.Thread} state.
+ *
+ * @author SC2002 Group
+ * @version 1.0
+ * @since 2025-11-20
+ */
+public final class MicroBenchmark {
+    /** Default number of warm-up iterations */
+    public static final int WARMUP_ITERATIONS = 3;
+    /** Default number of measurement iterations */
+    public static final int MEASUREMENT_ITERATIONS = 5;
+    /** Default length of one iteration in milliseconds */
+    public static final long ITERATION_MILLIS = 1000;
+
+    /** Accumulates results so the JIT cannot treat the workload as dead code */
+    private static volatile long sink;
+
+    /**
+     * A unit of work to benchmark. The returned value is consumed by the harness.
+     */
+    public interface Workload {
+        /**
+         * Executes one operation.
+         *
+         * @return the result of the operation (may be null)
+         */
+        Object run();
+    }
+
+    /**
+     * Summary of a benchmark run.
+     */
+    public static final class Result {
+        private final String name;
+        private final double opsPerSecond;
+        private final double errorPercent;
+        private final double bytesPerOp;
+
+        Result(String name, double opsPerSecond, double errorPercent, double bytesPerOp) {
+            this.name = name;
+            this.opsPerSecond = opsPerSecond;
+            this.errorPercent = errorPercent;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        /** @return the benchmark label */
+        public String getName() { return name; }
+        /** @return the mean throughput over the measurement iterations */
+        public double getOpsPerSecond() { return opsPerSecond; }
+        /** @return the relative standard deviation of the throughput, in percent */
+        public double getErrorPercent() { return errorPercent; }
+        /** @return the mean number of bytes allocated per operation */
+        public double getBytesPerOp() { return bytesPerOp; }
+
+        @Override
+        public String toString() {
+            return String.format("%-55s %14.1f ops/s  +-%5.1f%%  %12.1f B/op",
+                                 name, opsPerSecond, errorPercent, bytesPerOp);
+        }
+    }
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * Runs a workload with the default iteration settings and prints the result.
+     *
+     * @param name     the label to print
+     * @param workload the operation to measure
+     * @return the measured result
+     */
+    public static Result run(String name, Workload workload) {
+        return run(name, workload, WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS, ITERATION_MILLIS);
+    }
+
+    /**
+     * Runs a workload and prints the result.
+     *
+     * @param name                  the label to print
+     * @param workload              the operation to measure
+     * @param warmupIterations      number of unreported iterations
+     * @param measurementIterations number of reported iterations
+     * @param iterationMillis       wall-clock length of each iteration
+     * @return the measured result
+     */
+    public static Result run(String name, Workload workload, int warmupIterations,
+                             int measurementIterations, long iterationMillis) {
+        for (int i = 0; i < warmupIterations; i++) {
+            iterate(workload, iterationMillis);
+        }
+        double[] throughput = new double[measurementIterations];
+        double totalBytes = 0;
+        long totalOps = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            long[] measured = iterate(workload, iterationMillis);
+            throughput[i] = measured[0] * 1e9 / measured[1];
+            totalOps += measured[0];
+            totalBytes += measured[2];
+        }
+        Result result = new Result(name, mean(throughput), relativeStdDev(throughput),
+                                   totalOps == 0 ? 0 : totalBytes / totalOps);
+        System.out.println(result);
+        return result;
+    }
+
+    /**
+     * Runs a workload on several threads with the default iteration settings and prints the result.
+     *
+     * @param name     the label to print
+     * @param threads  the number of threads
+     * @param workload creates the workload of one thread; called on that thread
+     * @return the measured result, with the throughput summed over all threads
+     */
+    public static Result runThreads(String name, int threads, Supplier<Workload> workload) {
+        return runThreads(name, threads, workload, WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS, ITERATION_MILLIS);
+    }
+
+    /**
+     * Runs a workload on several threads and prints the result.
+     * <p>
+     * All threads start every iteration together. The throughput of an iteration is the sum
+     * of the threads' throughputs, and the allocation per operation is averaged over all
+     * threads' operations.
+     * </p>
+     *
+     * @param name                  the label to print
+     * @param threads               the number of threads
+     * @param workload              creates the workload of one thread; called on that thread
+     * @param warmupIterations      number of unreported iterations
+     * @param measurementIterations number of reported iterations
+     * @param iterationMillis       wall-clock length of each iteration
+     * @return the measured result
+     */
+    public static Result runThreads(String name, int threads, Supplier<Workload> workload, int warmupIterations,
+                                    int measurementIterations, long iterationMillis) {
+        int iterations = warmupIterations + measurementIterations;
+        long[][][] measured = new long[threads][iterations][];
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        Throwable[] failure = new Throwable[1];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    Workload local = workload.get();
+                    for (int i = 0; i < iterations; i++) {
+                        barrier.await();
+                        measured[index][i] = iterate(local, iterationMillis);
+                    }
+                } catch (InterruptedException | BrokenBarrierException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException | Error e) {
+                    synchronized (failure) {
+                        failure[0] = e;
+                    }
+                    barrier.reset();
+                }
+            }, name + "-" + t);
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while running " + name, e);
+            }
+        }
+        synchronized (failure) {
+            if (failure[0] != null) {
+                throw new IllegalStateException("Benchmark " + name + " failed", failure[0]);
+            }
+        }
+
+        double[] throughput = new double[measurementIterations];
+        double totalBytes = 0;
+        long totalOps = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            for (int t = 0; t < threads; t++) {
+                long[] m = measured[t][warmupIterations + i];
+                throughput[i] += m[0] * 1e9 / m[1];
+                totalOps += m[0];
+                totalBytes += m[2];
+            }
+        }
+        Result result = new Result(name, mean(throughput), relativeStdDev(throughput),
+                                   totalOps == 0 ? 0 : totalBytes / totalOps);
+        System.out.println(result);
+        return result;
+    }
+
+    /**
+     * Prints a header line in the same column layout as {@link Result#toString()}.
+     *
+     * @param title the benchmark group title
+     */
+    public static void header(String title) {
+        System.out.println();
+        System.out.println("=== " + title + " ===");
+        System.out.println(String.format("%-55s %20s  %7s  %15s", "Benchmark", "Throughput", "Error", "Allocation"));
+    }
+
+    /**
+     * Executes the workload repeatedly for the given duration.
+     *
+     * @param workload       the operation to execute
+     * @param iterationMillis the duration of the iteration
+     * @return {operations, elapsed nanoseconds, allocated bytes}
+     */
+    private static long[] iterate(Workload workload, long iterationMillis) {
+        long deadline = System.nanoTime() + iterationMillis * 1_000_000L;
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long ops = 0;
+        long local = 0;
+        long now;
+        do {
+            Object result = workload.run();
+            local += result == null ? 0 : System.identityHashCode(result);
+            ops++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        long allocated = allocatedBytes() - allocatedBefore;
+        sink += local;
+        return new long[] {ops, now - start, allocated};
+    }
+
+    /**
+     * Reads the number of bytes allocated so far by the current thread.
+     *
+     * @return allocated bytes, or 0 if the JVM does not support the measurement
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean)
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double v : values) {
+            sum += v;
+        }
+        return values.length == 0 ? 0 : sum / values.length;
+    }
+
+    private static double relativeStdDev(double[] values) {
+        if (values.length < 2) {
+            return 0;
+        }
+        double mean = mean(values);
+        double squares = 0;
+        for (double v : values) {
+            squares += (v - mean) * (v - mean);
+        }
+        return mean == 0 ? 0 : Math.sqrt(squares / (values.length - 1)) / mean * 100;
+    }
+}
@@ -0,0 +1,329 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Closed-loop load simulator for the moment a popular batch of postings opens.
+ * <p>
+ * Thousands of simulated students arrive within a few seconds of the opening and follow a
+ * script with random think times between steps; each student waits for the response to one
+ * step before thinking and taking the next (closed loop):
+ * <ol>
+ *   <li>browse: {@link InternshipManager#getVisibleInternshipsForStudent}, unfiltered or by level</li>
+ *   <li>submit: {@link ApplicationManager#submitApplication} to a posting from the results,
+ *       mostly from the popular batch; repeat browse and submit up to 3 applications</li>
+ *   <li>check: {@link ApplicationManager#getApplicationsByStudent} until an offer arrives, then
+ *       accept it with {@link ApplicationManager#acceptInternshipPlacement}</li>
+ * </ol>
+ * One representative per popular posting periodically approves pending applications into the
+ * free slots with {@link ApplicationManager#decideApplications}.
+ * </p>
+ * <p>
+ * The managers are not thread-safe, so every operation holds one fair lock, as a server
+ * serving them would have to. Latencies are measured from the moment a step was due to start,
+ * so they include waiting for a scheduler thread and for the lock. At the end, every student
+ * and posting is audited: no student may hold more than 3 active applications, no posting
+ * more "Successful" and "Accepted" applications than its slots, and an accepted student no
+ * other application.
+ * </p>
+ * <p>
+ * Students are steps scheduled on a small pool of platform threads rather than one thread
+ * each, which keeps thousands of concurrent scripts cheap on any JDK.
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <classes> OpeningHourLoadSimulator [students] [seconds] [postings] [popular]}
+ * (defaults to 5,000 students for 30 seconds, 2,000 postings of which 50 are popular).
+ * </p>
+ *
+ * @see PopulationGenerator
+ * @see LatencyHistogram
+ */
+public class OpeningHourLoadSimulator {
+    /** Seconds over which the students arrive */
+    private static final double ARRIVAL_SECONDS = 5;
+    /** Mean think times in seconds */
+    private static final double THINK_BROWSE = 3;
+    private static final double THINK_SUBMIT = 1.5;
+    private static final double THINK_CHECK = 4;
+    private static final double THINK_DECIDE = 2;
+    /** Share of submissions aimed at the popular batch */
+    private static final double POPULAR_SHARE = 0.7;
+
+    private final SystemManager system = new SystemManager();
+    private final InternshipManager internshipManager = system.getInternshipManager();
+    private final ApplicationManager applicationManager = system.getApplicationManager();
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final AtomicInteger refusedSubmissions = new AtomicInteger();
+    private final AtomicInteger acceptedOffers = new AtomicInteger();
+    private final List<Student> students = new ArrayList<>();
+    private final List<InternshipOpportunity> popular = new ArrayList<>();
+    private volatile long endNanos;
+
+    /**
+     * One simulated student's script, advanced one step per scheduled run.
+     */
+    private final class StudentScript implements Runnable {
+        private final Student student;
+        private final Random random;
+        private List<InternshipOpportunity> results = new ArrayList<>();
+        private final List<InternshipOpportunity> appliedTo = new ArrayList<>();
+        private boolean browsing = true;
+        private long dueNanos;
+
+        StudentScript(Student student, long seed) {
+            this.student = student;
+            this.random = new Random(seed);
+        }
+
+        @Override
+        public void run() {
+            if (System.nanoTime() >= endNanos) {
+                return;
+            }
+            double think;
+            if (appliedTo.size() < 3 && browsing) {
+                FilterCriteria criteria = random.nextBoolean() ? FilterCriteria.EMPTY
+                    : new FilterCriteria(student.getYearOfStudy() <= 2 ? "Basic" : "Intermediate", null, null, null);
+                results = timed("browse", dueNanos,
+                    () -> internshipManager.getVisibleInternshipsForStudent(student, criteria));
+                browsing = false;
+                think = THINK_BROWSE;
+            } else if (appliedTo.size() < 3) {
+                InternshipOpportunity target = chooseTarget();
+                if (target != null) {
+                    boolean submitted = timed("submit", dueNanos,
+                        () -> applicationManager.submitApplication(student, target));
+                    if (!submitted) {
+                        refusedSubmissions.incrementAndGet();
+                    }
+                    appliedTo.add(target);
+                }
+                browsing = true;
+                think = THINK_SUBMIT;
+            } else {
+                boolean accepted = timed("checkAndAccept", dueNanos, this::acceptOffer);
+                if (accepted) {
+                    acceptedOffers.incrementAndGet();
+                    return;
+                }
+                think = THINK_CHECK;
+            }
+            scheduleNext(this, think, random, t -> dueNanos = t);
+        }
+
+        private InternshipOpportunity chooseTarget() {
+            if (random.nextDouble() < POPULAR_SHARE) {
+                InternshipOpportunity candidate = popular.get(random.nextInt(popular.size()));
+                if (results.contains(candidate) && !appliedTo.contains(candidate)) {
+                    return candidate;
+                }
+            }
+            List<InternshipOpportunity> fresh = new ArrayList<>(results);
+            fresh.removeAll(appliedTo);
+            return fresh.isEmpty() ? null : fresh.get(random.nextInt(fresh.size()));
+        }
+
+        private boolean acceptOffer() {
+            for (Application app : applicationManager.getApplicationsByStudent(student)) {
+                if ("Successful".equals(app.getStatus())) {
+                    applicationManager.acceptInternshipPlacement(student, app);
+                    InternshipOpportunity internship = app.getInternship();
+                    internshipManager.updateFilledStatus(internship, applicationManager.getAcceptedCount(internship));
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A representative approving pending applications of one popular posting into its free slots.
+     */
+    private final class RepresentativeScript implements Runnable {
+        private final InternshipOpportunity internship;
+        private final Random random;
+        private long dueNanos;
+
+        RepresentativeScript(InternshipOpportunity internship, long seed) {
+            this.internship = internship;
+            this.random = new Random(seed);
+        }
+
+        @Override
+        public void run() {
+            if (System.nanoTime() >= endNanos) {
+                return;
+            }
+            timed("decide", dueNanos, () -> {
+                int taken = 0;
+                List<Application> pending = new ArrayList<>();
+                for (Application app : applicationManager.getApplicationsByInternship(internship)) {
+                    if ("Successful".equals(app.getStatus()) || "Accepted".equals(app.getStatus())) {
+                        taken++;
+                    } else if ("Pending".equals(app.getStatus())) {
+                        pending.add(app);
+                    }
+                }
+                int free = Math.max(0, internship.getNumSlots() - taken);
+                List<Application> approve = pending.subList(0, Math.min(free, pending.size()));
+                return approve.isEmpty() ? 0 : applicationManager.decideApplications(
+                    internship.getCompanyRepID(), approve, new ArrayList<>());
+            });
+            scheduleNext(this, THINK_DECIDE, random, t -> dueNanos = t);
+        }
+    }
+
+    /** A step of a script whose latency is measured */
+    private interface Step<T> {
+        T run();
+    }
+
+    /** Receives the time at which a rescheduled script is due */
+    private interface DueTime {
+        void set(long nanos);
+    }
+
+    private OpeningHourLoadSimulator(int threads) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.scheduler = executor;
+        for (String operation : new String[] {"browse", "submit", "checkAndAccept", "decide"}) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int postings = args.length > 2 ? Integer.parseInt(args[2]) : 2_000;
+        int popularCount = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+        int threads = Integer.getInteger("threads", Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+
+        OpeningHourLoadSimulator simulator = new OpeningHourLoadSimulator(threads);
+        simulator.populate(studentCount, postings, popularCount);
+        PrintStream out = System.out;
+        out.printf("Opening hour: %d students, %d postings (%d popular), %d s, %d threads%n",
+                   studentCount, postings, popularCount, seconds, threads);
+
+        // The managers report refused operations on standard output; keep the report readable
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long start = System.nanoTime();
+        try {
+            simulator.run(seconds);
+        } finally {
+            System.setOut(out);
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        simulator.report(out, elapsed);
+    }
+
+    private void populate(int studentCount, int postings, int popularCount) {
+        PopulationGenerator generator = new PopulationGenerator(42, LocalDate.now(), studentCount,
+                                                                Math.max(1, postings / 5), postings);
+        for (int i = 0; i < postings; i++) {
+            InternshipOpportunity opp = generator.internship(i);
+            // Everything opens today; the first postings form the popular batch
+            opp.setOpeningDate(LocalDate.now());
+            opp.setClosingDate(LocalDate.now().plusDays(30));
+            internshipManager.addInternship(opp);
+            internshipManager.approveInternship(opp);
+            opp.setVisibility(true);
+            if (i < popularCount) {
+                popular.add(opp);
+            }
+        }
+        for (int i = 0; i < studentCount; i++) {
+            students.add(generator.student(i));
+        }
+    }
+
+    private void run(int seconds) throws InterruptedException {
+        long now = System.nanoTime();
+        endNanos = now + TimeUnit.SECONDS.toNanos(seconds);
+        Random arrivals = new Random(7);
+        for (int i = 0; i < students.size(); i++) {
+            StudentScript script = new StudentScript(students.get(i), 1000L + i);
+            long delay = (long) (arrivals.nextDouble() * ARRIVAL_SECONDS * 1e9);
+            script.dueNanos = now + delay;
+            scheduler.schedule(script, delay, TimeUnit.NANOSECONDS);
+        }
+        for (int i = 0; i < popular.size(); i++) {
+            RepresentativeScript script = new RepresentativeScript(popular.get(i), 5000L + i);
+            long delay = (long) (arrivals.nextDouble() * THINK_DECIDE * 1e9);
+            script.dueNanos = now + delay;
+            scheduler.schedule(script, delay, TimeUnit.NANOSECONDS);
+        }
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, endNanos - System.nanoTime()));
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private void scheduleNext(Runnable script, double meanThinkSeconds, Random random, DueTime due) {
+        // Exponentially distributed think time, capped at five times the mean
+        double think = Math.min(-Math.log(1 - random.nextDouble()) * meanThinkSeconds, 5 * meanThinkSeconds);
+        long delay = (long) (think * 1e9);
+        due.set(System.nanoTime() + delay);
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(script, delay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> T timed(String operation, long dueNanos, Step<T> step) {
+        lock.lock();
+        try {
+            return step.run();
+        } finally {
+            lock.unlock();
+            latencies.get(operation).record(System.nanoTime() - dueNanos);
+        }
+    }
+
+    private void report(PrintStream out, double elapsedSeconds) {
+        out.println();
+        out.println(String.format("%-16s %10s %10s %10s %10s %10s %10s",
+                                  "Operation", "Count", "ops/s", "Mean ms", "p50 ms", "p99 ms", "Max ms"));
+        for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            out.println(String.format("%-16s %10d %10.1f %10.3f %10.3f %10.3f %10.3f", entry.getKey(),
+                h.getCount(), h.getCount() / elapsedSeconds, h.getMean() / 1e6,
+                h.getPercentile(50) / 1e6, h.getPercentile(99) / 1e6, h.getMax() / 1e6));
+        }
+        out.println();
+        out.println("Applications held: " + applicationManager.getAllApplications().size()
+            + ", refused submissions: " + refusedSubmissions.get() + ", offers accepted: " + acceptedOffers.get());
+
+        int violations = 0;
+        for (Student student : students) {
+            List<Application> apps = applicationManager.getApplicationsByStudent(student);
+            long active = apps.stream().filter(a -> !"Withdrawn".equals(a.getStatus())).count();
+            boolean accepted = apps.stream().anyMatch(a -> "Accepted".equals(a.getStatus()));
+            if (active > 3 || (accepted && apps.size() > 1)) {
+                violations++;
+                out.println("VIOLATION: " + student.getUserID() + " holds " + apps.size() + " applications");
+            }
+        }
+        for (InternshipOpportunity internship : internshipManager.getAllInternships()) {
+            long placed = applicationManager.getApplicationsByInternship(internship).stream()
+                .filter(a -> "Successful".equals(a.getStatus()) || "Accepted".equals(a.getStatus()))
+                .count();
+            if (placed > internship.getNumSlots()) {
+                violations++;
+                out.println("VIOLATION: " + internship.getInternshipID() + " has " + placed + " placements for "
+                    + internship.getNumSlots() + " slots");
+            }
+        }
+        out.println(violations == 0 ? "Correctness checks PASSED" : "Correctness checks FAILED: " + violations);
+    }
+}
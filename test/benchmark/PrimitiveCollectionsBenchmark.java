@@ -0,0 +1,175 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares the primitive ordinal-keyed collections with the boxed {@code java.util}
+ * collections they replace, for throughput, allocation per operation and retained heap.
+ * <p>
+ * Keys are ordinals beyond the {@code Integer} cache, visited in a precomputed random order:
+ * <ul>
+ *   <li><strong>Counters:</strong> {@code HashMap<Integer, Integer>.merge} against
+ *       {@link IntIntHashMap#add(int, int)}, plus counter lookups</li>
+ *   <li><strong>Adjacency:</strong> appending a value to a key's list and removing it again,
+ *       {@code HashMap<Integer, List<Integer>>} against {@link IntIntListMap}; every key keeps
+ *       three values, like a student with three applications</li>
+ *   <li><strong>Retained heap:</strong> the heap held by each structure once filled</li>
+ *   <li><strong>ApplicationManager:</strong> {@code getApplicationsByStudent} and a
+ *       submission, which now read the {@link StudentApplicationIndex}, over an
+ *       {@link ApplicationLifecycleBenchmark} population</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <classes> PrimitiveCollectionsBenchmark [keys] [applications]}
+ * (defaults to 100,000 keys and 100,000 applications).
+ * </p>
+ *
+ * @see IntIntHashMap
+ * @see IntIntListMap
+ * @see MicroBenchmark
+ */
+public class PrimitiveCollectionsBenchmark {
+    private static final int FIRST_ORDINAL = 1_000;
+    private static final int VALUES_PER_KEY = 3;
+    /** Length of the precomputed key sequence; a power of two */
+    private static final int SEQUENCE = 1 << 20;
+
+    /**
+     * Sums the values the counter workloads read, and is returned instead of the value so
+     * that boxing the workload's result does not count as the collection's allocation.
+     */
+    private static final long[] SINK = new long[1];
+
+    public static void main(String[] args) {
+        int keys = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int applications = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int[] sequence = new int[SEQUENCE];
+        Random random = new Random(42);
+        for (int i = 0; i < SEQUENCE; i++) {
+            sequence[i] = FIRST_ORDINAL + random.nextInt(keys);
+        }
+
+        counters(keys, sequence);
+        adjacency(keys, sequence);
+        retainedHeap(keys);
+
+        ApplicationLifecycleBenchmark.Population population =
+            new ApplicationLifecycleBenchmark.Population(applications, new Random(42));
+        MicroBenchmark.header("ApplicationManager, " + applications + " applications");
+        for (ApplicationLifecycleBenchmark.Operation operation : new ApplicationLifecycleBenchmark.Operation[] {
+                ApplicationLifecycleBenchmark.Operation.GET_BY_STUDENT,
+                ApplicationLifecycleBenchmark.Operation.SUBMIT}) {
+            MicroBenchmark.run(operation.getLabel(), population.workload(operation, 0, null));
+        }
+    }
+
+    private static void counters(int keys, int[] sequence) {
+        Map<Integer, Integer> boxed = new HashMap<>();
+        IntIntHashMap primitive = new IntIntHashMap();
+        for (int k = 0; k < keys; k++) {
+            boxed.put(FIRST_ORDINAL + k, 1);
+            primitive.put(FIRST_ORDINAL + k, 1);
+        }
+        int[] next = {0};
+
+        MicroBenchmark.header("Counters, " + keys + " keys");
+        MicroBenchmark.run("HashMap<Integer,Integer>.merge",
+            () -> sink(boxed.merge(sequence[next[0]++ & (SEQUENCE - 1)], 1, Integer::sum)));
+        MicroBenchmark.run("IntIntHashMap.add",
+            () -> sink(primitive.add(sequence[next[0]++ & (SEQUENCE - 1)], 1)));
+        MicroBenchmark.run("HashMap<Integer,Integer>.getOrDefault",
+            () -> sink(boxed.getOrDefault(sequence[next[0]++ & (SEQUENCE - 1)], 0)));
+        MicroBenchmark.run("IntIntHashMap.getOrDefault",
+            () -> sink(primitive.getOrDefault(sequence[next[0]++ & (SEQUENCE - 1)], 0)));
+    }
+
+    private static Object sink(long value) {
+        SINK[0] += value;
+        return SINK;
+    }
+
+    private static void adjacency(int keys, int[] sequence) {
+        Map<Integer, List<Integer>> boxed = new HashMap<>();
+        IntIntListMap primitive = new IntIntListMap();
+        fill(boxed, primitive, keys);
+        int[] next = {0};
+        int[] value = {keys * VALUES_PER_KEY};
+
+        MicroBenchmark.header("Adjacency, " + keys + " keys x " + VALUES_PER_KEY + " values");
+        MicroBenchmark.run("HashMap<Integer,List<Integer>> add+remove", () -> {
+            Integer key = sequence[next[0]++ & (SEQUENCE - 1)];
+            Integer v = value[0]++;
+            boxed.computeIfAbsent(key, k -> new ArrayList<>()).add(v);
+            return boxed.get(key).remove(v);
+        });
+        MicroBenchmark.run("IntIntListMap add+remove", () -> {
+            int key = sequence[next[0]++ & (SEQUENCE - 1)];
+            int v = value[0]++;
+            primitive.add(key, v);
+            return primitive.remove(key, v);
+        });
+    }
+
+    private static void retainedHeap(int keys) {
+        System.out.println("\n=== Retained heap, " + keys + " keys ===");
+        long baseline = usedHeap();
+        Object[] keep = new Object[1];
+
+        Map<Integer, Integer> boxed = new HashMap<>();
+        for (int k = 0; k < keys; k++) {
+            boxed.put(FIRST_ORDINAL + k, FIRST_ORDINAL + k);
+        }
+        keep[0] = boxed;
+        report("HashMap<Integer,Integer>", usedHeap() - baseline, keys);
+        boxed = null;
+
+        IntIntHashMap primitive = new IntIntHashMap();
+        for (int k = 0; k < keys; k++) {
+            primitive.put(FIRST_ORDINAL + k, FIRST_ORDINAL + k);
+        }
+        keep[0] = primitive;
+        report("IntIntHashMap", usedHeap() - baseline, keys);
+        primitive = null;
+
+        Map<Integer, List<Integer>> boxedLists = new HashMap<>();
+        IntIntListMap lists = new IntIntListMap();
+        fill(boxedLists, null, keys);
+        keep[0] = boxedLists;
+        report("HashMap<Integer,List<Integer>>", usedHeap() - baseline, keys);
+        boxedLists = null;
+
+        fill(null, lists, keys);
+        keep[0] = lists;
+        report("IntIntListMap", usedHeap() - baseline, keys);
+        keep[0] = null;
+    }
+
+    private static void fill(Map<Integer, List<Integer>> boxed, IntIntListMap primitive, int keys) {
+        for (int k = 0; k < keys; k++) {
+            for (int v = 0; v < VALUES_PER_KEY; v++) {
+                int value = k * VALUES_PER_KEY + v;
+                if (boxed != null) {
+                    boxed.computeIfAbsent(FIRST_ORDINAL + k, key -> new ArrayList<>()).add(value);
+                }
+                if (primitive != null) {
+                    primitive.add(FIRST_ORDINAL + k, value);
+                }
+            }
+        }
+    }
+
+    private static void report(String label, long bytes, int keys) {
+        System.out.println(String.format("%-55s %10.1f MB  %6.1f bytes/key", label, bytes / 1e6,
+                                         (double) bytes / keys));
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,78 @@
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Measures the {@link PlacementMatcher} on a large oversubscribed placement cycle.
+ * <p>
+ * Every student applies to three distinct postings, chosen with a skew towards low-numbered
+ * postings so that popular internships are heavily oversubscribed. Students rank their
+ * applications randomly, and each posting ranks its applicants by a random score. Postings
+ * offer 1 to 10 slots, giving roughly one slot for every two students.
+ * </p>
+ * <p>
+ * Usage: {@code java -cp <classes> StableMatchingBenchmark [students postings]}
+ * (defaults to 100,000 students and 10,000 postings).
+ * </p>
+ *
+ * @see PlacementMatcher
+ * @see MicroBenchmark
+ */
+public class StableMatchingBenchmark {
+    private static final int APPLICATIONS_PER_STUDENT = 3;
+
+    public static void main(String[] args) {
+        int students = args.length >= 2 ? Integer.parseInt(args[0]) : 100_000;
+        int postings = args.length >= 2 ? Integer.parseInt(args[1]) : 10_000;
+        Random random = new Random(42);
+
+        List<InternshipOpportunity> internships = new ArrayList<>(postings);
+        Map<InternshipOpportunity, List<Application>> rankings = new LinkedHashMap<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < postings; i++) {
+            InternshipOpportunity opp = new InternshipOpportunity(
+                "Internship " + i, "Description " + i, "Basic", "Computer Science",
+                today, today.plusDays(30), "Company " + (i % 500), "rep" + i + "@company.com",
+                1 + random.nextInt(10));
+            internships.add(opp);
+            rankings.put(opp, new ArrayList<>());
+        }
+
+        Map<Student, List<Application>> preferences = new LinkedHashMap<>();
+        Map<Application, Double> score = new java.util.IdentityHashMap<>();
+        for (int s = 0; s < students; s++) {
+            Student student = new Student(String.format("U%07d", s), "Student " + s, "password", 3, "Computer Science");
+            Set<Integer> chosen = new HashSet<>();
+            while (chosen.size() < APPLICATIONS_PER_STUDENT) {
+                chosen.add(random.nextInt(1 + random.nextInt(postings)));
+            }
+            List<Application> apps = new ArrayList<>();
+            for (int posting : chosen) {
+                Application app = new Application(student, internships.get(posting));
+                score.put(app, random.nextDouble());
+                rankings.get(internships.get(posting)).add(app);
+                apps.add(app);
+            }
+            Collections.shuffle(apps, random);
+            preferences.put(student, apps);
+        }
+        for (List<Application> ranking : rankings.values()) {
+            ranking.sort((a, b) -> Double.compare(score.get(b), score.get(a)));
+        }
+
+        PlacementMatcher matcher = new PlacementMatcher();
+        int matched = matcher.match(preferences, rankings, InternshipOpportunity::getNumSlots).size();
+        System.out.println("Matched " + matched + " of " + students + " students ("
+                           + students * APPLICATIONS_PER_STUDENT + " applications, " + postings + " postings)");
+
+        MicroBenchmark.header("Stable matching, " + students + " students x " + postings + " postings");
+        MicroBenchmark.run("PlacementMatcher.match",
+            () -> matcher.match(preferences, rankings, InternshipOpportunity::getNumSlots), 2, 5, 2000);
+    }
+}
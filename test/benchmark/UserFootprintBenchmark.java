@@ -0,0 +1,98 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Measures the heap taken by loaded users, and what a {@link StringPool} and an off-heap
+ * {@link StudentRoster} save.
+ * <p>
+ * A synthetic population (99% students, 1% company representatives, 10 staff) is written with
+ * the {@link PopulationGenerator} and loaded by {@link SystemManager#initializeSystem} three
+ * times: with {@link StringPool#NONE}, with the default pool, and into a student roster. For
+ * each load the heap in use after a full collection is printed, with the loaded users still
+ * reachable, together with the load time. The cost of hydrating a student from the roster is
+ * then compared with a lookup of a student already on the heap.
+ * </p>
+ * <p>
+ * Usage: {@code java -Xmx2g -cp <classes> UserFootprintBenchmark [users]}
+ * (defaults to 500,000 users).
+ * </p>
+ *
+ * @see StringPool
+ * @see StudentRoster
+ * @see MicroBenchmark
+ */
+public class UserFootprintBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int representatives = Math.max(PopulationGenerator.REPRESENTATIVES_PER_COMPANY, users / 100);
+        int students = users - representatives;
+        Path dir = Files.createTempDirectory("footprint");
+        PopulationGenerator generator = new PopulationGenerator(42, LocalDate.of(2025, 6, 1), students, representatives, 10);
+        generator.writeAll(dir, 10);
+        String[] files = {dir.resolve(PopulationGenerator.STUDENT_FILE).toString(),
+                          dir.resolve(PopulationGenerator.STAFF_FILE).toString(),
+                          dir.resolve(PopulationGenerator.REPRESENTATIVE_FILE).toString()};
+        String roster = dir.resolve("students.roster").toString();
+
+        System.out.println("\n=== User heap footprint, " + users + " users ===");
+        long baseline = usedHeap();
+        long unpooled = load("heap, unpooled", StringPool.NONE, null, files) - baseline;
+        long pooled = load("heap, pooled", null, null, files) - baseline;
+        long rostered = load("student roster", null, roster, files) - baseline;
+        System.out.println(String.format("%-30s %10.1f MB (%.1f%%)", "saved by pooling",
+                                         (unpooled - pooled) / 1e6, 100.0 * (unpooled - pooled) / unpooled));
+        System.out.println(String.format("%-30s %10.1f MB (%.1f%%)", "saved by the roster",
+                                         (unpooled - rostered) / 1e6, 100.0 * (unpooled - rostered) / unpooled));
+        System.out.println(String.format("%-30s %10.1f MB", "roster files (off-heap)",
+                                         (Files.size(Path.of(roster)) + Files.size(Path.of(roster + ".strings"))) / 1e6));
+
+        SystemManager onHeap = new SystemManager();
+        onHeap.initializeSystem(files[0], files[1], files[2]);
+        StudentRoster offHeap = StudentRoster.open(Path.of(roster));
+        String[] ids = new String[4096];
+        Random random = new Random(42);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = generator.studentID(random.nextInt(students));
+        }
+        int[] next = {0};
+        MicroBenchmark.header("Student lookup, " + students + " students");
+        MicroBenchmark.run("findUserByID (on heap)", () -> onHeap.findUserByID(ids[next[0]++ & (ids.length - 1)]));
+        MicroBenchmark.run("StudentRoster.load (hydration)", () -> offHeap.load(ids[next[0]++ & (ids.length - 1)]));
+    }
+
+    /**
+     * Loads the population into a new SystemManager and reports the heap it occupies.
+     *
+     * @param pool   the pool to load with, or null for the SystemManager's own pool
+     * @param roster the student roster file, or null to load students onto the heap
+     * @return the heap in use after a full collection, with the SystemManager still reachable
+     */
+    private static long load(String label, StringPool pool, String roster, String[] files) {
+        SystemManager manager = new SystemManager();
+        if (pool != null) {
+            manager.setStringPool(pool);
+        }
+        if (roster != null) {
+            manager.enableStudentRoster(roster);
+        }
+        long start = System.nanoTime();
+        manager.initializeSystem(files[0], files[1], files[2]);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long used = usedHeap();
+        System.out.println(String.format("%-30s %10.1f MB   load %5d ms   %d users on heap", label, used / 1e6,
+                                         millis, manager.getAllUsers().size()));
+        return used;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -253,5 +253,402 @@ public class ApplicationTest {
         java.util.List<Application> remainingApps = applicationManager.getApplicationsByStudent(testStudent);
         assertEquals("Student should have no applications after withdrawal", 0, remainingApps.size());
     }
+    
+    /**
+     * Test Case: UT-APP-009
+     * Verify application IDs support lookup and reflect removal on placement acceptance
+     */
+    @Test
+    public void testApplicationIDs() {
+        InternshipOpportunity otherInternship = new InternshipOpportunity(
+            "Backend Intern", "Build services", "Intermediate", "Computer Science",
+            LocalDate.now(), LocalDate.now().plusDays(30), "Other Corp", "hr@other.com", 2);
+        internshipManager.addInternship(otherInternship);
+        internshipManager.approveInternship(otherInternship);
+        
+        applicationManager.submitApplication(testStudent, testInternship);
+        applicationManager.submitApplication(testStudent, otherInternship);
+        java.util.List<Application> apps = applicationManager.getApplicationsByStudent(testStudent);
+        Application accepted = apps.get(0);
+        Application other = apps.get(1);
+        assertTrue("ID should follow the APP### format", accepted.getApplicationID().matches("APP\\d{3,}"));
+        assertNotEquals(accepted.getApplicationID(), other.getApplicationID());
+        assertSame(other, applicationManager.getApplicationByID(other.getApplicationID()));
+        
+        applicationManager.updateApplicationStatus(accepted, "Successful");
+        applicationManager.acceptInternshipPlacement(testStudent, accepted);
+        
+        assertTrue(applicationManager.containsApplication(accepted));
+        assertFalse("Competing application should be removed", applicationManager.containsApplication(other));
+        assertNull(applicationManager.getApplicationByID(other.getApplicationID()));
+    }
+    
+    /**
+     * Test Case: UT-APP-010
+     * Verify withdrawal requests are queued in order and can be approved or rejected in batch
+     */
+    @Test
+    public void testBatchWithdrawalProcessing() {
+        testInternship.setNumSlots(2);
+        Student second = new Student("S002", "Second Student", "password", 3, "Computer Science");
+        Student third = new Student("S003", "Third Student", "password", 4, "Computer Science");
+        Application[] apps = new Application[3];
+        Student[] students = {testStudent, second, third};
+        for (int i = 0; i < students.length; i++) {
+            applicationManager.submitApplication(students[i], testInternship);
+            apps[i] = applicationManager.getApplicationsByStudent(students[i]).get(0);
+            applicationManager.updateApplicationStatus(apps[i], "Successful");
+        }
+        applicationManager.acceptInternshipPlacement(testStudent, apps[0]);
+        applicationManager.acceptInternshipPlacement(second, apps[1]);
+        internshipManager.updateFilledStatus(testInternship, applicationManager.getAcceptedCount(testInternship));
+        assertEquals("Filled", testInternship.getStatus());
+        
+        applicationManager.handleWithdrawal(apps[2]);
+        applicationManager.handleWithdrawal(apps[0]);
+        applicationManager.handleWithdrawal(apps[1]);
+        applicationManager.handleWithdrawal(apps[2]);
+        java.util.List<Application> queue = applicationManager.getWithdrawalRequests();
+        assertEquals("Repeated request should not be queued twice", 3, queue.size());
+        assertSame("Requests should be listed oldest first", apps[2], queue.get(0));
+        assertSame(apps[1], queue.get(2));
+        
+        assertEquals(1, applicationManager.rejectWithdrawals(java.util.Arrays.asList(apps[2])));
+        assertFalse(apps[2].isWithdrawalRequested());
+        
+        int removed = applicationManager.approveWithdrawals(java.util.Arrays.asList(apps[0], apps[1]), internshipManager);
+        assertEquals(2, removed);
+        assertTrue("Queue should be drained", applicationManager.getWithdrawalRequests().isEmpty());
+        assertEquals("Freed internship should reopen", "Approved", testInternship.getStatus());
+        assertTrue(applicationManager.containsApplication(apps[2]));
+    }
+    
+    /**
+     * Test Case: UT-APP-011
+     * Verify the representative dashboard tracks submissions, status changes and removals
+     */
+    @Test
+    public void testRepresentativeDashboardCounts() {
+        Student second = new Student("S002", "Second Student", "password", 3, "Computer Science");
+        applicationManager.submitApplication(testStudent, testInternship);
+        applicationManager.submitApplication(second, testInternship);
+        Application first = applicationManager.getApplicationsByStudent(testStudent).get(0);
+        Application other = applicationManager.getApplicationsByStudent(second).get(0);
+        RepresentativeDashboard dashboard = applicationManager.getRepresentativeDashboard(
+            java.util.Arrays.asList(testInternship));
+        assertEquals(2, dashboard.getApplicationCount(testInternship));
+        assertEquals(2, dashboard.getReviewableCount(testInternship));
+        assertEquals(1, dashboard.getPostingsWithReviewableApplications().size());
+        
+        applicationManager.updateApplicationStatus(first, "Successful");
+        other.updateStatus("Unsuccessful");
+        assertEquals("Direct status updates should be tracked", 0, dashboard.getReviewableCount(testInternship));
+        assertEquals(1, dashboard.getSlotsTaken(testInternship));
+        assertTrue(dashboard.getPostingsWithReviewableApplications().isEmpty());
+        
+        applicationManager.acceptInternshipPlacement(testStudent, first);
+        assertEquals(1, dashboard.getSlotsTaken(testInternship));
+        assertEquals(1, applicationManager.getAcceptedCount(testInternship));
+        
+        applicationManager.handleWithdrawal(first);
+        applicationManager.approveWithdrawal(first, internshipManager);
+        assertEquals(0, dashboard.getSlotsTaken(testInternship));
+        assertEquals(1, dashboard.getApplicationCount(testInternship));
+        assertSame(other, dashboard.getApplications(testInternship).get(0));
+    }
+    
+    /**
+     * Test Case: UT-APP-012
+     * Verify batch application decisions are applied all-or-nothing with one slot check, and
+     * only to the deciding representative's internships
+     */
+    @Test
+    public void testBatchApplicationDecisions() throws java.io.IOException {
+        testInternship.setNumSlots(2);
+        Application[] apps = new Application[4];
+        for (int i = 0; i < apps.length; i++) {
+            Student student = new Student("S10" + i, "Student " + i, "password", 3, "Computer Science");
+            applicationManager.submitApplication(student, testInternship);
+            apps[i] = applicationManager.getApplicationsByStudent(student).get(0);
+        }
+        
+        assertEquals("Approvals beyond free slots should refuse the batch", 0,
+            applicationManager.approveTopApplications(testInternship, 3));
+        for (Application app : apps) {
+            assertEquals("Pending", app.getStatus());
+        }
+        
+        java.io.File file = java.io.File.createTempFile("decisions", ".csv");
+        file.deleteOnExit();
+        java.nio.file.Files.write(file.toPath(), java.util.Arrays.asList(
+            "ApplicationID,Decision",
+            apps[3].getApplicationID() + ",Approve",
+            apps[2].getApplicationID() + ",Maybe"));
+        assertEquals("Invalid line should refuse the file", 0,
+            applicationManager.applyDecisionFile(file.getPath(), java.util.Arrays.asList(testInternship)));
+        assertEquals("Pending", apps[3].getStatus());
+        
+        java.nio.file.Files.write(file.toPath(), java.util.Arrays.asList(
+            "ApplicationID,Decision",
+            apps[3].getApplicationID() + ",Approve",
+            apps[2].getApplicationID() + ",reject"));
+        assertEquals(2, applicationManager.applyDecisionFile(file.getPath(), java.util.Arrays.asList(testInternship)));
+        assertEquals("Successful", apps[3].getStatus());
+        assertEquals("Unsuccessful", apps[2].getStatus());
+        
+        assertEquals(2, applicationManager.approveTopApplications(testInternship, 1));
+        assertEquals("Successful", apps[0].getStatus());
+        assertEquals("Unsuccessful", apps[1].getStatus());
+        assertEquals(0, applicationManager.decideApplications(
+            java.util.Arrays.asList(apps[1]), java.util.Collections.emptyList()));
+        
+        InternshipOpportunity otherPosting = new InternshipOpportunity("Other Intern", "Desc", "Basic",
+            "Computer Science", LocalDate.now(), LocalDate.now().plusDays(30), "Other Corp", "hr@othercorp.com", 2);
+        internshipManager.addInternship(otherPosting);
+        internshipManager.approveInternship(otherPosting);
+        Student student = new Student("S200", "Other Applicant", "password", 3, "Computer Science");
+        applicationManager.submitApplication(student, otherPosting);
+        Application foreign = applicationManager.getApplicationsByStudent(student).get(0);
+        assertEquals("Another representative's application should refuse the batch", 0,
+            applicationManager.decideApplications(testInternship.getCompanyRepID(),
+                java.util.Collections.emptyList(), java.util.Arrays.asList(foreign)));
+        assertEquals("Pending", foreign.getStatus());
+        assertEquals(1, applicationManager.decideApplications(otherPosting.getCompanyRepID(),
+            java.util.Arrays.asList(foreign), java.util.Collections.emptyList()));
+        assertEquals("Successful", foreign.getStatus());
+    }
+    
+    /**
+     * Test Case: UT-APP-013
+     * Verify stable matching assigns slots by student preferences and posting rankings
+     */
+    @Test
+    public void testStableMatchingPlacements() {
+        testInternship.setNumSlots(1);
+        InternshipOpportunity other = new InternshipOpportunity("Data Analyst Intern", "Analyse data",
+            "Intermediate", "Computer Science", LocalDate.now(), LocalDate.now().plusDays(30),
+            "Data Corp", "hr@datacorp.com", 1);
+        internshipManager.addInternship(other);
+        internshipManager.approveInternship(other);
+        
+        Student[] students = new Student[3];
+        Application[][] apps = new Application[3][2];
+        for (int i = 0; i < students.length; i++) {
+            students[i] = new Student("S20" + i, "Student " + i, "password", 3, "Computer Science");
+            applicationManager.submitApplication(students[i], testInternship);
+            applicationManager.submitApplication(students[i], other);
+            java.util.List<Application> submitted = applicationManager.getApplicationsByStudent(students[i]);
+            apps[i][0] = submitted.get(0);
+            apps[i][1] = submitted.get(1);
+        }
+        
+        // Students 0 and 1 keep submission order; student 2 prefers the other internship
+        java.util.Map<Student, java.util.List<Application>> preferences = new java.util.HashMap<>();
+        preferences.put(students[2], java.util.Arrays.asList(apps[2][1], apps[2][0]));
+        java.util.Map<InternshipOpportunity, java.util.List<Application>> rankings = new java.util.LinkedHashMap<>();
+        rankings.put(testInternship, java.util.Arrays.asList(apps[1][0], apps[0][0], apps[2][0]));
+        rankings.put(other, java.util.Arrays.asList(apps[0][1], apps[2][1], apps[1][1]));
+        
+        assertEquals(6, applicationManager.matchPlacements(preferences, rankings));
+        assertEquals("Successful", apps[1][0].getStatus());
+        assertEquals("Successful", apps[0][1].getStatus());
+        assertEquals("Unsuccessful", apps[0][0].getStatus());
+        assertEquals("Unsuccessful", apps[2][0].getStatus());
+        assertEquals("Unsuccessful", apps[2][1].getStatus());
+        assertEquals("Unsuccessful", apps[1][1].getStatus());
+    }
+    
+    /**
+     * Test Case: UT-APP-014
+     * Verify a released slot promotes the best-ranked eligible waitlisted application
+     */
+    @Test
+    public void testWaitlistPromotionOnWithdrawal() {
+        testInternship.setNumSlots(1);
+        Student holder = new Student("S301", "Holder", "password", 3, "Computer Science");
+        Student other = new Student("S302", "Other Major", "password", 3, "Business");
+        Student second = new Student("S303", "Second", "password", 3, "Computer Science");
+        Student third = new Student("S304", "Third", "password", 3, "Computer Science");
+        Student[] students = {holder, other, second, third};
+        Application[] apps = new Application[students.length];
+        for (int i = 0; i < students.length; i++) {
+            applicationManager.submitApplication(students[i], testInternship);
+            apps[i] = applicationManager.getApplicationsByStudent(students[i]).get(0);
+        }
+        applicationManager.updateApplicationStatus(apps[0], "Successful");
+        applicationManager.acceptInternshipPlacement(holder, apps[0]);
+        internshipManager.updateFilledStatus(testInternship, applicationManager.getAcceptedCount(testInternship));
+        
+        assertTrue(applicationManager.waitlistApplication(apps[3], 2));
+        assertTrue(applicationManager.waitlistApplication(apps[2], 2));
+        assertTrue(applicationManager.waitlistApplication(apps[1], 1));
+        assertTrue(applicationManager.waitlistApplication(apps[3], 1));
+        assertFalse("Slot holders cannot be waitlisted", applicationManager.waitlistApplication(apps[0], 1));
+        assertEquals(java.util.Arrays.asList(apps[1], apps[3], apps[2]),
+            applicationManager.getWaitlist(testInternship));
+        
+        applicationManager.handleWithdrawal(apps[0]);
+        applicationManager.approveWithdrawal(apps[0], internshipManager);
+        assertEquals("Approved", testInternship.getStatus());
+        assertEquals("Ineligible candidate is skipped", "Unsuccessful", apps[1].getStatus());
+        assertEquals("Successful", apps[3].getStatus());
+        assertEquals("Waitlisted", apps[2].getStatus());
+        assertEquals(java.util.Arrays.asList(apps[2]), applicationManager.getWaitlist(testInternship));
+        assertEquals(2, applicationManager.getChangeLog().size());
+        assertTrue(applicationManager.getChangeLog().get(1).contains(apps[3].getApplicationID()));
+    }
+    
+    /**
+     * Test Case: UT-APP-015
+     * Verify state changes are published as typed events to bounded, filtered subscriptions
+     */
+    @Test
+    public void testEventBusPublishesStateChanges() {
+        EventBus bus = new EventBus();
+        applicationManager.setEventBus(bus);
+        internshipManager.setEventBus(bus);
+        java.util.List<StateChangeEvent> received = new java.util.ArrayList<>();
+        java.util.List<Integer> batchSizes = new java.util.ArrayList<>();
+        EventBus.Subscription applicationEvents = bus.subscribe(events -> {
+            batchSizes.add(events.size());
+            received.addAll(events);
+        }, java.util.EnumSet.of(StateChangeEvent.Type.APPLICATION_STATUS_CHANGED,
+                                StateChangeEvent.Type.WITHDRAWAL_REQUESTED), 3);
+        java.util.List<StateChangeEvent> internshipEvents = new java.util.ArrayList<>();
+        EventBus.Subscription internshipSubscription = bus.subscribe(internshipEvents::addAll,
+            java.util.EnumSet.of(StateChangeEvent.Type.INTERNSHIP_VISIBILITY_CHANGED));
+        
+        applicationManager.submitApplication(testStudent, testInternship);
+        Application app = applicationManager.getApplicationsByStudent(testStudent).get(0);
+        app.updateStatus("Shortlisted");
+        applicationManager.updateApplicationStatus(app, "Successful");
+        applicationManager.acceptInternshipPlacement(testStudent, app);
+        applicationManager.handleWithdrawal(app);
+        applicationManager.handleWithdrawal(app);
+        internshipManager.toggleVisibility(testInternship);
+        assertTrue("Nothing is delivered before the subscription is delivered", received.isEmpty());
+        
+        assertEquals(3, applicationEvents.getPendingCount());
+        assertEquals("Oldest event is dropped when the queue is full", 1, applicationEvents.getDroppedCount());
+        assertEquals(3, bus.deliverAll() - internshipEvents.size());
+        assertEquals(java.util.Arrays.asList(3), batchSizes);
+        assertEquals("Successful", received.get(0).getNewValue());
+        assertEquals("Accepted", received.get(1).getNewValue());
+        assertEquals(StateChangeEvent.Type.WITHDRAWAL_REQUESTED, received.get(2).getType());
+        assertSame(app, received.get(2).getApplication());
+        assertEquals(1, internshipEvents.size());
+        assertEquals(Boolean.FALSE, internshipEvents.get(0).getNewValue());
+        
+        internshipSubscription.cancel();
+        assertEquals(1, bus.getSubscriberCount());
+    }
+    
+    /**
+     * Test Case: UT-APP-016
+     * Verify finalized applications of closed or filled postings move to the archive one by
+     * one, without waiting for undecided applications of the same posting, and still count
+     * towards the application limit
+     */
+    @Test
+    public void testArchiveFinalizedApplications() throws java.io.IOException {
+        ApplicationArchive archive = ApplicationArchive.createTemporary();
+        applicationManager.setArchive(archive);
+        InternshipOpportunity filled = new InternshipOpportunity("Data Intern", "Analyse data",
+            "Basic", "Computer Science", LocalDate.now(), LocalDate.now().plusDays(30),
+            "Data Corp", "hr@datacorp.com", 1);
+        internshipManager.addInternship(filled);
+        internshipManager.approveInternship(filled);
+        Student other = new Student("S002", "Other Student", "password", 3, "Computer Science");
+        Student runnerUp = new Student("S003", "Runner Up", "password", 3, "Computer Science");
+        Student undecided = new Student("S004", "Undecided Student", "password", 3, "Computer Science");
+        
+        applicationManager.submitApplication(testStudent, testInternship);
+        applicationManager.submitApplication(undecided, testInternship);
+        applicationManager.submitApplication(other, filled);
+        applicationManager.submitApplication(runnerUp, filled);
+        Application rejected = applicationManager.getApplicationsByStudent(testStudent).get(0);
+        Application accepted = applicationManager.getApplicationsByStudent(other).get(0);
+        Application passedOver = applicationManager.getApplicationsByStudent(runnerUp).get(0);
+        applicationManager.updateApplicationStatus(rejected, "Unsuccessful");
+        applicationManager.updateApplicationStatus(passedOver, "Unsuccessful");
+        applicationManager.updateApplicationStatus(accepted, "Successful");
+        applicationManager.acceptInternshipPlacement(other, accepted);
+        internshipManager.updateFilledStatus(filled, applicationManager.getAcceptedCount(filled));
+        assertEquals("Filled", filled.getStatus());
+        assertEquals("Only the rejection of the filled posting is archived while postings are open",
+                     1, applicationManager.archiveFinalizedApplications());
+        assertTrue(applicationManager.getApplicationsByStudent(runnerUp).isEmpty());
+        assertEquals("Accepted placement of an open posting stays in memory",
+                     1, applicationManager.getApplicationsByStudent(other).size());
+        assertEquals(1, applicationManager.getApplicationsByStudent(testStudent).size());
+        
+        testInternship.setClosingDate(LocalDate.now().minusDays(1));
+        assertEquals("A pending application does not hold back a rejection of the same posting",
+                     1, applicationManager.archiveFinalizedApplications());
+        assertTrue(applicationManager.getApplicationsByStudent(testStudent).isEmpty());
+        assertEquals("Pending", applicationManager.getApplicationsByStudent(undecided).get(0).getStatus());
+        assertEquals(2, archive.size());
+        java.util.List<ArchivedApplication> archived = archive.findByStudent(testStudent.getUserID());
+        assertEquals(1, archived.size());
+        assertEquals(rejected.getApplicationID(), archived.get(0).getApplicationID());
+        assertEquals("Unsuccessful", archived.get(0).getStatus());
+        assertEquals("Software Engineer Intern", archived.get(0).getInternshipTitle());
+        
+        for (int i = 0; i < 3; i++) {
+            InternshipOpportunity opp = new InternshipOpportunity("Intern " + i, "Work",
+                "Basic", "Computer Science", LocalDate.now(), LocalDate.now().plusDays(30),
+                "Tech Corp", "hr@techcorp.com", 1);
+            internshipManager.addInternship(opp);
+            internshipManager.approveInternship(opp);
+            assertEquals("Archived application counts towards the limit",
+                         i < 2, applicationManager.submitApplication(testStudent, opp));
+        }
+        
+        applicationManager.handleWithdrawal(accepted);
+        applicationManager.approveWithdrawal(accepted, internshipManager);
+        assertEquals("Withdrawing the placement reopens the posting", "Approved", filled.getStatus());
+        assertFalse("An archived rejection still blocks applying again",
+                    applicationManager.submitApplication(runnerUp, filled));
+        assertTrue(applicationManager.getApplicationsByStudent(runnerUp).isEmpty());
+    }
+    
+    /**
+     * Test Case: UT-APP-017
+     * Verify the per-student index tracks submissions, withdrawals and removals
+     */
+    @Test
+    public void testStudentApplicationIndex() {
+        Student other = new Student("S002", "Other Student", "password", 3, "Computer Science");
+        InternshipOpportunity[] postings = new InternshipOpportunity[4];
+        for (int i = 0; i < postings.length; i++) {
+            postings[i] = new InternshipOpportunity("Intern " + i, "Desc", "Basic", "Computer Science",
+                LocalDate.now(), LocalDate.now().plusDays(30), "Company", "hr@company.com", 2);
+            internshipManager.addInternship(postings[i]);
+            internshipManager.approveInternship(postings[i]);
+        }
+        assertTrue(applicationManager.submitApplication(other, postings[0]));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(applicationManager.submitApplication(testStudent, postings[i]));
+        }
+        assertFalse("Limit of 3 active applications", applicationManager.submitApplication(testStudent, postings[3]));
+        assertFalse("Duplicate application", applicationManager.submitApplication(other, postings[0]));
+        
+        java.util.List<Application> apps = applicationManager.getApplicationsByStudent(testStudent);
+        assertEquals(3, apps.size());
+        for (int i = 0; i < 3; i++) {
+            assertSame("Submission order is kept", postings[i], apps.get(i).getInternship());
+        }
+        
+        // A withdrawn application frees a place even before it is removed
+        apps.get(0).updateStatus("Withdrawn");
+        assertTrue(applicationManager.submitApplication(testStudent, postings[3]));
+        applicationManager.handleWithdrawal(apps.get(1));
+        applicationManager.approveWithdrawal(apps.get(1), internshipManager);
+        apps = applicationManager.getApplicationsByStudent(testStudent);
+        assertEquals(3, apps.size());
+        assertSame(postings[0], apps.get(0).getInternship());
+        assertSame(postings[2], apps.get(1).getInternship());
+        assertSame(postings[3], apps.get(2).getInternship());
+        assertEquals(1, applicationManager.getApplicationsByStudent(other).size());
+    }
 }
-
@@ -10,6 +10,8 @@ import java.io.File;
  * - User authentication for Students, Company Representatives, and Staff
  * - Company representative registration
  * - Password validation
+ * - Pending representative queue
+ * - String pool sharing of repeated user values
  * 
  * @see SystemManager
  * @see User
@@ -176,4 +178,99 @@ public class AuthenticationTest {
         User userWithOldPassword = systemManager.authenticateUser("U2310001A", "password");
         assertNull("Login with old password should fail", userWithOldPassword);
     }
+    
+    /**
+     * Test Case: UT-AUTH-009
+     * Verify pending representatives are queued in registration order and can be decided in bulk
+     */
+    @Test
+    public void testPendingRepresentativeQueue() {
+        int initialPending = systemManager.getPendingRepresentatives().size();
+        CompanyRepresentative first = systemManager.registerCompanyRepresentative(
+            "first@fair.com", "First Rep", "password", "Fair Co", "HR", "Recruiter");
+        CompanyRepresentative second = systemManager.registerCompanyRepresentative(
+            "second@fair.com", "Second Rep", "password", "Fair Co", "HR", "Recruiter");
+        CompanyRepresentative third = systemManager.registerCompanyRepresentative(
+            "third@fair.com", "Third Rep", "password", "Fair Co", "HR", "Recruiter");
+        
+        java.util.List<CompanyRepresentative> pending = systemManager.getPendingRepresentatives();
+        assertEquals(initialPending + 3, pending.size());
+        assertSame("Queue should keep registration order", first, pending.get(initialPending));
+        assertSame(third, pending.get(initialPending + 2));
+        assertSame(second, systemManager.findUserByID("second@fair.com"));
+        
+        assertEquals(2, systemManager.approveRepresentatives(java.util.Arrays.asList(first, second)));
+        assertTrue(first.isApproved());
+        assertEquals("Already decided representatives should be skipped",
+                     0, systemManager.rejectRepresentatives(java.util.Arrays.asList(first)));
+        
+        third.setStatus("Rejected");
+        assertEquals("Direct status changes should leave the queue", initialPending, systemManager.getPendingRepresentatives().size());
+        
+        systemManager.updateRepresentativeStatus(third, "Pending");
+        assertTrue(systemManager.getPendingRepresentatives().contains(third));
+    }
+    
+    /**
+     * Test Case: UT-AUTH-010
+     * Verify users loaded with the string pool share one instance of each repeated major,
+     * company name and department, and that loading without the pool does not
+     */
+    @Test
+    public void testStringPoolSharesRepeatedValues() throws java.io.IOException {
+        java.nio.file.Path dir = TemporaryDirectory.create("pool");
+        try {
+            PopulationGenerator generator = new PopulationGenerator(7, java.time.LocalDate.of(2025, 6, 1), 200, 20, 10);
+            generator.writeAll(dir, 5);
+            String[] files = {dir.resolve(PopulationGenerator.STUDENT_FILE).toString(),
+                              dir.resolve(PopulationGenerator.STAFF_FILE).toString(),
+                              dir.resolve(PopulationGenerator.REPRESENTATIVE_FILE).toString()};
+            
+            SystemManager pooled = new SystemManager();
+            pooled.initializeSystem(files[0], files[1], files[2]);
+            assertEquals(225, pooled.getAllUsers().size());
+            assertTrue("Only distinct values are pooled", pooled.getStringPool().size() < 100);
+            java.util.Map<String, String> first = new java.util.HashMap<>();
+            for (User user : pooled.getAllUsers()) {
+                for (String value : repeatedValues(user)) {
+                    assertSame("Equal values share one instance", first.computeIfAbsent(value, v -> value), value);
+                }
+            }
+            
+            SystemManager unpooled = new SystemManager();
+            unpooled.setStringPool(StringPool.NONE);
+            unpooled.initializeSystem(files[0], files[1], files[2]);
+            java.util.Set<String> instances = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>());
+            for (User user : unpooled.getAllUsers()) {
+                instances.addAll(repeatedValues(user));
+            }
+            assertTrue("Without the pool every user holds its own copies", instances.size() > first.size());
+            
+            InternshipOpportunity firstPosting = new InternshipOpportunity("A", "A", new String("Basic"), new String("Computer Science"),
+                java.time.LocalDate.now(), java.time.LocalDate.now(), new String("Company 1"), "hr1@company1.com", 1);
+            InternshipOpportunity secondPosting = new InternshipOpportunity("B", "B", new String("Basic"), new String("Computer Science"),
+                java.time.LocalDate.now(), java.time.LocalDate.now(), new String("Company 1"), "hr1@company1.com", 1);
+            pooled.getInternshipManager().addInternship(firstPosting);
+            pooled.getInternshipManager().addInternship(secondPosting);
+            assertSame(firstPosting.getLevel(), secondPosting.getLevel());
+            assertSame(firstPosting.getPreferredMajor(), secondPosting.getPreferredMajor());
+            assertSame(firstPosting.getCompanyName(), secondPosting.getCompanyName());
+        } finally {
+            TemporaryDirectory.delete(dir);
+        }
+    }
+    
+    /**
+     * Collects the fields of a user whose values repeat across users: majors, company names,
+     * departments and positions.
+     */
+    private static java.util.List<String> repeatedValues(User user) {
+        if (user instanceof Student) {
+            return java.util.Arrays.asList(((Student) user).getMajor());
+        } else if (user instanceof CompanyRepresentative) {
+            CompanyRepresentative rep = (CompanyRepresentative) user;
+            return java.util.Arrays.asList(rep.getCompanyName(), rep.getDepartment(), rep.getPosition());
+        }
+        return java.util.Arrays.asList(((CareerCenterStaff) user).getStaffDepartment());
+    }
 }
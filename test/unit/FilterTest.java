@@ -13,6 +13,7 @@ import java.time.LocalDate;
  * - Student eligibility filtering (year and major)
  * - Alphabetical sorting by title
  * - Multiple criteria filtering
+ * - Custom filter strategies injected into the manager
  * 
  * @see InternshipFilter
  * @see StudentEligibilityFilter
@@ -111,8 +112,7 @@ public class FilterTest {
      */
     @Test
     public void testFilterByLevel() {
-        FilterCriteria criteria = new FilterCriteria();
-        criteria.setLevel("Basic");
+        FilterCriteria criteria = FilterCriteria.builder().level("Basic").build();
         
         List<InternshipOpportunity> filtered = internshipManager.filterInternships(criteria);
         
@@ -128,8 +128,7 @@ public class FilterTest {
      */
     @Test
     public void testFilterByMajor() {
-        FilterCriteria criteria = new FilterCriteria();
-        criteria.setMajor("Computer Science");
+        FilterCriteria criteria = FilterCriteria.builder().major("Computer Science").build();
         
         List<InternshipOpportunity> filtered = internshipManager.filterInternships(criteria);
         
@@ -145,8 +144,7 @@ public class FilterTest {
      */
     @Test
     public void testFilterByStatus() {
-        FilterCriteria criteria = new FilterCriteria();
-        criteria.setStatus("Approved");
+        FilterCriteria criteria = FilterCriteria.builder().status("Approved").build();
         
         List<InternshipOpportunity> filtered = internshipManager.filterInternships(criteria);
         
@@ -163,9 +161,7 @@ public class FilterTest {
      */
     @Test
     public void testMultipleCriteriaFiltering() {
-        FilterCriteria criteria = new FilterCriteria();
-        criteria.setLevel("Intermediate");
-        criteria.setMajor("Computer Science");
+        FilterCriteria criteria = FilterCriteria.builder().level("Intermediate").major("Computer Science").build();
         
         List<InternshipOpportunity> filtered = internshipManager.filterInternships(criteria);
         
@@ -182,7 +178,7 @@ public class FilterTest {
         // Year 2 student can only see Basic level
         Student juniorStudent = new Student("S002", "Junior", "password", 2, "Computer Science");
         
-        FilterCriteria criteria = new FilterCriteria();
+        FilterCriteria criteria = FilterCriteria.EMPTY;
         List<InternshipOpportunity> eligible = internshipManager.getVisibleInternshipsForStudent(juniorStudent, criteria);
         
         // Year 2 CS student should only see Basic CS internships (there are none in our test data)
@@ -202,7 +198,7 @@ public class FilterTest {
         // Year 3 student can see all levels
         Student seniorStudent = new Student("S003", "Senior", "password", 3, "Computer Science");
         
-        FilterCriteria criteria = new FilterCriteria();
+        FilterCriteria criteria = FilterCriteria.EMPTY;
         List<InternshipOpportunity> eligible = internshipManager.getVisibleInternshipsForStudent(seniorStudent, criteria);
         
         // Year 3 CS student should see all CS internships (Basic, Intermediate, Advanced)
@@ -218,7 +214,7 @@ public class FilterTest {
      */
     @Test
     public void testAlphabeticalSorting() {
-        FilterCriteria criteria = new FilterCriteria();
+        FilterCriteria criteria = FilterCriteria.EMPTY;
         List<InternshipOpportunity> filtered = internshipManager.filterInternships(criteria);
         
         // Sort alphabetically
@@ -238,11 +234,253 @@ public class FilterTest {
      */
     @Test
     public void testNoCriteriaReturnsAll() {
-        FilterCriteria criteria = new FilterCriteria();
+        FilterCriteria criteria = FilterCriteria.EMPTY;
         // No criteria set - should return all approved internships
         
         List<InternshipOpportunity> filtered = internshipManager.filterInternships(criteria);
         
         assertEquals("Should return all internships when no criteria", 5, filtered.size());
     }
+    
+    /**
+     * Test Case: UT-FILTER-009
+     * Verify filters see changes made directly through internship setters
+     */
+    @Test
+    public void testFilterReflectsDirectChanges() {
+        InternshipOpportunity analyst = testInternships.get(3); // Business Analyst (Basic, Business)
+        analyst.setPreferredMajor("Computer Science");
+        analyst.setLevel("Advanced");
+        
+        FilterCriteria criteria = FilterCriteria.builder().level("advanced").major("computer science").build();
+        List<InternshipOpportunity> filtered = internshipManager.filterInternships(criteria);
+        assertEquals("Should match case-insensitively after the change", 2, filtered.size());
+        
+        analyst.setVisibility(false);
+        Student seniorStudent = new Student("S003", "Senior", "password", 3, "Computer Science");
+        List<InternshipOpportunity> eligible = internshipManager.getVisibleInternshipsForStudent(seniorStudent, FilterCriteria.EMPTY);
+        assertFalse("Hidden internship should not be eligible", eligible.contains(analyst));
+        assertEquals("Should return the 2 visible CS internships", 2, eligible.size());
+    }
+    
+    /**
+     * Test Case: UT-FILTER-010
+     * Verify removed internships no longer appear in filter results
+     */
+    @Test
+    public void testRemovedInternshipNotFiltered() {
+        internshipManager.removeInternship(testInternships.get(0));
+        
+        List<InternshipOpportunity> filtered = internshipManager.filterInternships(FilterCriteria.EMPTY);
+        assertEquals("Should return remaining 4 internships", 4, filtered.size());
+        assertFalse("Removed internship should be absent", filtered.contains(testInternships.get(0)));
+        
+        FilterCriteria criteria = FilterCriteria.builder().level("Intermediate").build();
+        filtered = internshipManager.filterInternships(criteria);
+        assertEquals("Only Machine Learning Intern should remain Intermediate", 1, filtered.size());
+        assertEquals("Machine Learning Intern", filtered.get(0).getTitle());
+    }
+    
+    /**
+     * Test Case: UT-FILTER-011
+     * Verify keyword search ranks title matches first and tracks edits
+     */
+    @Test
+    public void testKeywordSearch() {
+        List<InternshipOpportunity> results = internshipManager.searchInternships("DATA");
+        assertEquals("Should find the internship mentioning data", 1, results.size());
+        
+        InternshipOpportunity business = testInternships.get(3);
+        business.setDescription("Business operations and data reporting");
+        results = internshipManager.searchInternships("data");
+        assertEquals("Edited description should be searchable", 2, results.size());
+        assertEquals("Title match should rank first", "Data Analyst Intern", results.get(0).getTitle());
+        
+        business.setTitle("Operations Associate");
+        results = internshipManager.searchInternships("analyst");
+        assertEquals("Old title should no longer match", 1, results.size());
+        
+        internshipManager.removeInternship(testInternships.get(1));
+        assertTrue("Removed internship should not be found", internshipManager.searchInternships("analyst").isEmpty());
+        assertTrue("Unknown keyword should find nothing", internshipManager.searchInternships("quantum").isEmpty());
+    }
+    
+    /**
+     * Test Case: UT-FILTER-012
+     * Verify student keyword search only returns eligible internships
+     */
+    @Test
+    public void testStudentKeywordSearch() {
+        Student juniorStudent = new Student("S004", "Junior", "password", 2, "Data Science & AI");
+        
+        List<InternshipOpportunity> results = internshipManager.searchInternshipsForStudent(juniorStudent, "intern");
+        assertEquals("Only the Basic Data Science internship is eligible", 1, results.size());
+        assertEquals("Data Analyst Intern", results.get(0).getTitle());
+    }
+    
+    /**
+     * Test Case: UT-FILTER-013
+     * Verify exact title and company lookup tracks title and company edits
+     */
+    @Test
+    public void testFindInternshipByTitleAndCompany() {
+        InternshipOpportunity developer = testInternships.get(2);
+        assertSame(developer, internshipManager.findInternship("Advanced Developer", "Tech Corp"));
+        assertNull("Lookup should be case-sensitive", internshipManager.findInternship("advanced developer", "Tech Corp"));
+        assertNull("Company must match", internshipManager.findInternship("Advanced Developer", "Data Company"));
+        
+        developer.setTitle("Lead Developer");
+        developer.setCompanyName("Tech Holdings");
+        assertNull("Old title should no longer match", internshipManager.findInternship("Advanced Developer", "Tech Corp"));
+        assertSame(developer, internshipManager.findInternship("Lead Developer", "Tech Holdings"));
+        
+        internshipManager.removeInternship(developer);
+        assertNull("Removed internship should not be found", internshipManager.findInternship("Lead Developer", "Tech Holdings"));
+    }
+    
+    /**
+     * Test Case: UT-FILTER-014
+     * Verify title prefix lookup is case-insensitive, ordered, limited and tracks edits
+     */
+    @Test
+    public void testTitlePrefixLookup() {
+        InternshipOpportunity dataEngineer = new InternshipOpportunity(
+            "Data Engineer Intern", "Build pipelines", "Basic", "Data Science & AI",
+            LocalDate.now(), LocalDate.now().plusDays(10), "Data Company", "rep2@data.com", 1);
+        internshipManager.addInternship(dataEngineer);
+        
+        List<InternshipOpportunity> results = internshipManager.findInternshipsByTitlePrefix("DATA ", 10);
+        assertEquals(2, results.size());
+        assertEquals("Data Analyst Intern", results.get(0).getTitle());
+        assertEquals("Data Engineer Intern", results.get(1).getTitle());
+        assertEquals("Limit should cap the results", 1, internshipManager.findInternshipsByTitlePrefix("data", 1).size());
+        assertTrue("Unmatched prefix should find nothing", internshipManager.findInternshipsByTitlePrefix("datum", 10).isEmpty());
+        
+        testInternships.get(1).setTitle("Analytics Lead");
+        results = internshipManager.findInternshipsByTitlePrefix("data", 10);
+        assertEquals(1, results.size());
+        assertSame(dataEngineer, results.get(0));
+        assertEquals("Analytics Lead", internshipManager.findInternshipsByTitlePrefix("an", 10).get(0).getTitle());
+        
+        internshipManager.removeInternship(dataEngineer);
+        assertTrue(internshipManager.findInternshipsByTitlePrefix("data", 10).isEmpty());
+        
+        results = internshipManager.findInternshipsByTitlePrefix("", 3);
+        assertEquals("Advanced Developer", results.get(0).getTitle());
+        assertEquals("Analytics Lead", results.get(1).getTitle());
+        assertEquals("Business Analyst", results.get(2).getTitle());
+    }
+    
+    /**
+     * Test Case: UT-FILTER-017
+     * Verify the student title prefix lookup applies eligibility before the limit and stops at it
+     */
+    @Test
+    public void testStudentTitlePrefixLookup() {
+        // Ineligible matches sort before the eligible ones
+        for (int i = 0; i < 5; i++) {
+            internshipManager.addInternship(new InternshipOpportunity(
+                "Data A" + i, "Hidden", "Basic", "Computer Science",
+                LocalDate.now(), LocalDate.now().plusDays(10), "Data Company", "rep2@data.com", 1));
+        }
+        InternshipOpportunity[] eligible = new InternshipOpportunity[3];
+        for (int i = 0; i < eligible.length; i++) {
+            eligible[i] = new InternshipOpportunity(
+                "Data B" + i, "Open", "Basic", "Computer Science",
+                LocalDate.now(), LocalDate.now().plusDays(10), "Data Company", "rep2@data.com", 1);
+            internshipManager.addInternship(eligible[i]);
+            internshipManager.approveInternship(eligible[i]);
+        }
+        Student junior = new Student("S006", "Junior", "password", 1, "Computer Science");
+        
+        List<InternshipOpportunity> results = internshipManager.findInternshipsByTitlePrefixForStudent(junior, "data", 2);
+        assertEquals(java.util.Arrays.asList(eligible[0], eligible[1]), results);
+        assertEquals(3, internshipManager.findInternshipsByTitlePrefixForStudent(junior, "DATA B", 10).size());
+        assertTrue(internshipManager.findInternshipsByTitlePrefixForStudent(junior, "data a", 10).isEmpty());
+        assertTrue(internshipManager.findInternshipsByTitlePrefixForStudent(junior, "data", 0).isEmpty());
+        
+        // The walk stops once the limit is reached
+        List<InternshipOpportunity> tested = new ArrayList<>();
+        IStudentEligibilityFilter recording = (list, student) -> {
+            tested.addAll(list);
+            return filter.filterForStudent(list, student);
+        };
+        InternshipManager custom = new InternshipManager(filter, recording, filter);
+        for (InternshipOpportunity internship : internshipManager.getAllInternships()) {
+            custom.addInternship(internship);
+        }
+        assertEquals(java.util.Arrays.asList(eligible[0]), custom.findInternshipsByTitlePrefixForStudent(junior, "data", 1));
+        assertEquals("Only the hidden postings, the Data Analyst Intern and the first eligible one are tested", 7, tested.size());
+    }
+    
+    /**
+     * Test Case: UT-FILTER-015
+     * Verify criteria are immutable values shared through EMPTY and edited with a builder
+     */
+    @Test
+    public void testImmutableCriteria() {
+        Student student = new Student("S004", "Idle", "password", 3, "Computer Science");
+        assertSame("Idle users should share the empty criteria", FilterCriteria.EMPTY, student.getFilterCriteria());
+        assertSame("Building no filter should reuse EMPTY", FilterCriteria.EMPTY, FilterCriteria.builder().build());
+        
+        FilterCriteria basic = FilterCriteria.builder().level("Basic").build();
+        FilterCriteria basicCs = basic.toBuilder().major("Computer Science").build();
+        assertNull("Editing a copy must not change the original", basic.getMajor());
+        assertEquals("Computer Science", basicCs.getMajor());
+        assertEquals(new FilterCriteria("Basic", "Computer Science", null, null), basicCs);
+        assertEquals(new FilterCriteria("Basic", "Computer Science", null, null).hashCode(), basicCs.hashCode());
+        assertNotEquals(basic, basicCs);
+        assertSame(FilterCriteria.EMPTY, basicCs.toBuilder().clear().build());
+        
+        student.setFilterCriteria(basicCs);
+        assertSame(basicCs, student.getFilterCriteria());
+        student.setFilterCriteria(FilterCriteria.builder().build());
+        assertSame("Cleared filters should fall back to EMPTY", FilterCriteria.EMPTY, student.getFilterCriteria());
+        
+        java.util.Map<FilterCriteria, Integer> counts = new java.util.HashMap<>();
+        counts.put(basicCs, internshipManager.filterInternships(basicCs).size());
+        assertEquals("Equal criteria should hit the same cache entry", Integer.valueOf(0),
+                     counts.get(FilterCriteria.builder().major("Computer Science").level("Basic").build()));
+    }
+    
+    /**
+     * Test Case: UT-FILTER-016
+     * Verify injected strategies with other rules than the default filter lose no postings
+     */
+    @Test
+    public void testCustomStrategiesSeeEveryPosting() {
+        // Any visible posting regardless of major and level
+        IStudentEligibilityFilter anyMajor = (list, student) -> {
+            List<InternshipOpportunity> visible = new ArrayList<>();
+            for (InternshipOpportunity opp : list) {
+                if (opp.getVisibility()) {
+                    visible.add(opp);
+                }
+            }
+            return visible;
+        };
+        // Level criterion also admits the level above
+        ICriteriaFilter levelOrAbove = (list, criteria) -> {
+            List<InternshipOpportunity> matching = new ArrayList<>();
+            for (InternshipOpportunity opp : list) {
+                if (criteria.getLevel() == null || opp.getLevel().equals(criteria.getLevel())
+                        || ("Basic".equals(criteria.getLevel()) && "Intermediate".equals(opp.getLevel()))) {
+                    matching.add(opp);
+                }
+            }
+            return matching;
+        };
+        InternshipManager custom = new InternshipManager(levelOrAbove, anyMajor, filter);
+        for (InternshipOpportunity internship : testInternships) {
+            custom.addInternship(internship);
+        }
+        
+        Student junior = new Student("S005", "Junior", "password", 1, "Computer Science");
+        assertEquals("Eligibility comes from the injected filter only", testInternships.size(),
+                     custom.getVisibleInternshipsForStudent(junior, FilterCriteria.EMPTY).size());
+        FilterCriteria basic = FilterCriteria.builder().level("Basic").build();
+        assertEquals("Criteria come from the injected filter only", 4, custom.filterInternships(basic).size());
+        assertEquals(4, custom.getVisibleInternshipsForStudent(junior, basic).size());
+        assertEquals("Default strategy is unchanged", 2, internshipManager.filterInternships(basic).size());
+    }
 }
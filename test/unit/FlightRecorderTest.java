@@ -0,0 +1,94 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for Flight Recorder events
+ * Tests that domain operations are recorded with their key attributes
+ *
+ * Test Coverage:
+ * - Successful and failed logins
+ * - CSV loads, including a missing file
+ * - Filter queries
+ * - Reports
+ *
+ * @see LoginEvent
+ * @see CsvLoadEvent
+ * @see FilterQueryEvent
+ * @see ReportEvent
+ */
+public class FlightRecorderTest {
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = Files.createTempFile("placement", ".jfr");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Test Case: UT-JFR-001
+     * Verify logins, CSV loads, filter queries and reports are emitted as Flight Recorder
+     * events with their key attributes
+     */
+    @Test
+    public void testFlightRecorderEvents() throws Exception {
+        try (Recording recording = new Recording()) {
+            for (String event : new String[] {"Login", "CsvLoad", "FilterQuery", "Report"}) {
+                recording.enable("sc2002.placement." + event);
+            }
+            recording.start();
+            SystemManager recorded = new SystemManager();
+            recorded.initializeSystem("sample_student_list.csv", "sample_staff_list.csv", "missing.csv");
+            Student student = (Student) recorded.authenticateUser("U2310001A", "password");
+            recorded.authenticateUser("U2310001A", "wrong");
+            FilterCriteria criteria = new FilterCriteria("Basic", null, null, LocalDate.now());
+            recorded.getInternshipManager().getVisibleInternshipsForStudent(student, criteria);
+            recorded.getReportGenerator().displaySummaryStats(Collections.emptyList());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> logins = new ArrayList<>();
+        Map<String, RecordedEvent> loads = new HashMap<>();
+        RecordedEvent query = null;
+        RecordedEvent report = null;
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            switch (event.getEventType().getName()) {
+                case "sc2002.placement.Login": logins.add(event); break;
+                case "sc2002.placement.CsvLoad": loads.put(event.getString("content"), event); break;
+                case "sc2002.placement.FilterQuery": query = event; break;
+                case "sc2002.placement.Report": report = event; break;
+                default: break;
+            }
+        }
+
+        assertEquals(2, logins.size());
+        assertTrue(logins.stream().anyMatch(e -> e.getBoolean("success") && "Student".equals(e.getString("userType"))));
+        assertTrue(logins.stream().anyMatch(e -> !e.getBoolean("success")));
+        assertEquals(5, loads.get("Students").getInt("rows"));
+        assertTrue(loads.get("Staff").getBoolean("success"));
+        assertFalse("A missing file is recorded as a failed load", loads.get("CompanyRepresentatives").getBoolean("success"));
+        assertNotNull(query);
+        assertEquals("getVisibleInternshipsForStudent", query.getString("operation"));
+        assertEquals("level+closingDate", query.getString("criteria"));
+        assertEquals("U2310001A", query.getString("studentID"));
+        assertEquals(0, query.getInt("resultSize"));
+        assertNotNull(report);
+        assertEquals("displaySummaryStats", report.getString("report"));
+    }
+}
@@ -12,6 +12,7 @@ import java.time.LocalDate;
  * - Visibility toggle
  * - Status management
  * - Representative internship limits
+ * - Student internship view refreshed by events
  * 
  * @see InternshipManager
  * @see InternshipOpportunity
@@ -189,8 +190,7 @@ public class InternshipTest {
         internshipManager.rejectInternship(rejected);
         
         // Filter with no criteria (should return only approved and visible)
-        FilterCriteria criteria = new FilterCriteria();
-        criteria.setStatus("Approved");
+        FilterCriteria criteria = FilterCriteria.builder().status("Approved").build();
         var filteredList = internshipManager.filterInternships(criteria);
         
         // Only approved1 should be in the list
@@ -242,4 +242,138 @@ public class InternshipTest {
         // Check if internship is closed
         assertFalse("Internship with past closing date should not be open", closedInternship.isOpenForApplications());
     }
+    
+    /**
+     * Test Case: UT-INT-007
+     * Verify internship IDs are unique, increasing and usable for lookup and removal
+     */
+    @Test
+    public void testInternshipIDs() {
+        InternshipOpportunity first = new InternshipOpportunity(
+            "First Intern", "Description", "Basic", "Computer Science",
+            LocalDate.now(), LocalDate.now().plusDays(30), "Test Corp", testCompanyRep.getUserID(), 1);
+        InternshipOpportunity second = new InternshipOpportunity(
+            "Second Intern", "Description", "Basic", "Computer Science",
+            LocalDate.now(), LocalDate.now().plusDays(30), "Test Corp", testCompanyRep.getUserID(), 1);
+        
+        assertTrue("ID should follow the INT### format", first.getInternshipID().matches("INT\\d{3,}"));
+        assertTrue("IDs should increase in creation order",
+                   Integer.parseInt(second.getInternshipID().substring(3)) > Integer.parseInt(first.getInternshipID().substring(3)));
+        assertNotEquals(first, second);
+        
+        internshipManager.addInternship(first);
+        internshipManager.addInternship(second);
+        internshipManager.addInternship(first);
+        assertEquals("Adding the same internship twice should keep one copy", 2, internshipManager.getAllInternships().size());
+        assertSame(second, internshipManager.getInternshipByID(second.getInternshipID()));
+        
+        internshipManager.removeInternship(first);
+        assertFalse(internshipManager.containsInternship(first));
+        assertNull(internshipManager.getInternshipByID(first.getInternshipID()));
+        assertEquals("Remaining internships should keep their order", second, internshipManager.getAllInternships().get(0));
+    }
+    
+    /**
+     * Test Case: UT-INT-008
+     * Verify internships are enumerable by status and can be reviewed in batch
+     */
+    @Test
+    public void testStatusPartitionAndBatchReview() {
+        InternshipOpportunity[] opps = new InternshipOpportunity[4];
+        for (int i = 0; i < opps.length; i++) {
+            opps[i] = new InternshipOpportunity(
+                "Batch Intern " + i, "Description", "Basic", "Computer Science",
+                LocalDate.now(), LocalDate.now().plusDays(30), "Test Corp", testCompanyRep.getUserID(), 1);
+            internshipManager.addInternship(opps[i]);
+        }
+        assertEquals(4, internshipManager.getPendingInternships().size());
+        
+        assertEquals(2, internshipManager.approveInternships(java.util.Arrays.asList(opps[0], opps[1])));
+        assertEquals(1, internshipManager.rejectInternships(java.util.Arrays.asList(opps[1], opps[2])));
+        assertEquals("Approved", opps[1].getStatus());
+        assertEquals(java.util.Arrays.asList(opps[3]), internshipManager.getPendingInternships());
+        assertEquals(java.util.Arrays.asList(opps[0], opps[1]), internshipManager.getInternshipsByStatus("Approved"));
+        assertEquals(java.util.Arrays.asList(opps[2]), internshipManager.getInternshipsByStatus("Rejected"));
+        
+        internshipManager.updateFilledStatus(opps[0], 1);
+        assertEquals(java.util.Arrays.asList(opps[0]), internshipManager.getInternshipsByStatus("Filled"));
+        internshipManager.revertFilledStatus(opps[0]);
+        assertTrue(internshipManager.getInternshipsByStatus("Filled").isEmpty());
+        
+        FilterCriteria approved = new FilterCriteria(null, null, "Approved", null);
+        assertEquals("Batch decisions should reach the filter scans", 2, internshipManager.filterInternships(approved).size());
+        
+        internshipManager.removeInternship(opps[3]);
+        assertTrue(internshipManager.getPendingInternships().isEmpty());
+    }
+    
+    /**
+     * Test Case: UT-INT-009
+     * Verify per-representative postings and the creation limit track additions and removals
+     */
+    @Test
+    public void testPostingsByRepresentative() {
+        InternshipOpportunity otherRepPosting = new InternshipOpportunity(
+            "Other Rep Intern", "Description", "Basic", "Computer Science",
+            LocalDate.now(), LocalDate.now().plusDays(30), "Other Corp", "hr@other.com", 1);
+        internshipManager.addInternship(otherRepPosting);
+        
+        InternshipOpportunity[] postings = new InternshipOpportunity[InternshipManager.MAX_POSTINGS_PER_REPRESENTATIVE];
+        for (int i = 0; i < postings.length; i++) {
+            assertFalse(internshipManager.hasReachedCreationLimit(testCompanyRep.getUserID()));
+            postings[i] = new InternshipOpportunity(
+                "Posting " + i, "Description", "Basic", "Computer Science",
+                LocalDate.now(), LocalDate.now().plusDays(30), "Test Corp", testCompanyRep.getUserID(), 1);
+            internshipManager.addInternship(postings[i]);
+        }
+        assertTrue(internshipManager.hasReachedCreationLimit(testCompanyRep.getUserID()));
+        assertEquals(java.util.Arrays.asList(postings),
+                     internshipManager.getInternshipsByRepresentative(testCompanyRep.getUserID()));
+        assertEquals(1, internshipManager.getPostingCount("hr@other.com"));
+        
+        internshipManager.removeInternship(postings[2]);
+        assertFalse("Removing a posting should free a slot", internshipManager.hasReachedCreationLimit(testCompanyRep.getUserID()));
+        assertEquals(postings.length - 1, internshipManager.getInternshipsByRepresentative(testCompanyRep.getUserID()).size());
+        assertTrue(internshipManager.getInternshipsByRepresentative("nobody@none.com").isEmpty());
+    }
+    
+    /**
+     * Test Case: UT-INT-010
+     * Verify the student internship view is reused until internship events mark it stale
+     */
+    @Test
+    public void testStudentInternshipViewRefreshedByEvents() {
+        EventBus bus = new EventBus();
+        internshipManager.setEventBus(bus);
+        InternshipOpportunity[] opps = new InternshipOpportunity[StudentInternshipView.QUEUE_CAPACITY + 1];
+        for (int i = 0; i < opps.length; i++) {
+            opps[i] = new InternshipOpportunity("View Intern " + i, "Description", "Basic", "Computer Science",
+                LocalDate.now(), LocalDate.now().plusDays(30), "Test Corp", testCompanyRep.getUserID(), 1);
+            internshipManager.addInternship(opps[i]);
+        }
+        internshipManager.approveInternship(opps[0]);
+        Student student = new Student("U1234567A", "Viewer", "password", 2, "Computer Science");
+        StudentInternshipView view = new StudentInternshipView(internshipManager, bus, student);
+        
+        assertEquals(1, view.getInternships(FilterCriteria.EMPTY).size());
+        assertEquals(1, view.getInternships(FilterCriteria.EMPTY).size());
+        assertEquals("Unchanged list is reused", 1, view.getRebuildCount());
+        
+        // More events than the queue holds: the oldest are dropped, the list is still rebuilt
+        for (int i = 1; i < opps.length; i++) {
+            internshipManager.approveInternship(opps[i]);
+        }
+        assertEquals(opps.length, view.getInternships(FilterCriteria.EMPTY).size());
+        assertEquals(2, view.getRebuildCount());
+        
+        internshipManager.toggleVisibility(opps[0]);
+        assertEquals(opps.length - 1, view.getInternships(FilterCriteria.EMPTY).size());
+        FilterCriteria other = FilterCriteria.builder().level("Basic").build();
+        assertEquals(opps.length - 1, view.getInternships(other).size());
+        assertEquals("Visibility change and new criteria rebuild the list", 4, view.getRebuildCount());
+        
+        view.close();
+        internshipManager.toggleVisibility(opps[1]);
+        assertEquals("A closed view no longer receives events", 0, bus.getSubscriberCount());
+    }
 }
@@ -0,0 +1,120 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+/**
+ * Unit tests for operation metrics
+ * Tests counters, latency histograms and the ways metrics are published
+ *
+ * Test Coverage:
+ * - Logins and manager operations counted, timed or sampled
+ * - Disabled registry ignoring recordings
+ * - Latency histogram percentiles
+ * - Publishing over JMX and to the snapshot file
+ *
+ * @see MetricsRegistry
+ * @see LatencyHistogram
+ */
+public class MetricsTest {
+    private SystemManager systemManager;
+    private MetricsRegistry metrics;
+
+    @Before
+    public void setUp() {
+        systemManager = new SystemManager();
+
+        // Load test data from CSV files
+        systemManager.initializeSystem(
+            "sample_student_list.csv",
+            "sample_staff_list.csv",
+            "sample_company_representative_list.csv"
+        );
+        metrics = systemManager.getMetrics();
+        systemManager.authenticateUser("U2310001A", "password");
+        systemManager.authenticateUser("U2310001A", "wrong");
+        systemManager.authenticateUser("nobody", "password");
+    }
+
+    @After
+    public void tearDown() {
+        systemManager = null;
+    }
+
+    /**
+     * Test Case: UT-METRICS-001
+     * Verify logins and queries are timed, and index lookups counted and sampled
+     */
+    @Test
+    public void testOperationsCountedAndTimed() {
+        int lookups = 1000;
+        systemManager.getInternshipManager().filterInternships(FilterCriteria.EMPTY);
+        for (int i = 0; i < lookups; i++) {
+            systemManager.getInternshipManager().getPendingInternships();
+        }
+
+        assertEquals(1, metrics.getCount("login.success"));
+        assertEquals(2, metrics.getCount("login.failure"));
+        assertEquals(3, metrics.getTimer("SystemManager.authenticateUser").getCount());
+        assertEquals(1, metrics.getTimer("InternshipManager.filterInternships").getCount());
+        assertNull("Operations that never ran have no timer", metrics.getTimer("ApplicationManager.matchPlacements"));
+        assertEquals("Every index lookup is counted", lookups, metrics.getCount("InternshipManager.getPendingInternships"));
+        long sampled = metrics.getTimer("InternshipManager.getPendingInternships").getCount();
+        assertTrue("Some index lookups are timed", sampled > 0);
+        assertTrue("Not every index lookup is timed", sampled < lookups);
+
+        MetricsRegistry everyCall = new MetricsRegistry(1);
+        for (int i = 0; i < 3; i++) {
+            everyCall.recordSampled("op", everyCall.startSampled("op"));
+        }
+        assertEquals(3, everyCall.getCount("op"));
+        assertEquals("A sample rate of 1 times every call", 3, everyCall.getTimer("op").getCount());
+
+        MetricsRegistry.DISABLED.increment("login.success");
+        assertEquals(0, MetricsRegistry.DISABLED.getCount("login.success"));
+        assertEquals(MetricsRegistry.NOT_SAMPLED, MetricsRegistry.DISABLED.startSampled("op"));
+    }
+
+    /**
+     * Test Case: UT-METRICS-002
+     * Verify histogram percentiles stay within the bucket resolution
+     */
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000_000; nanos++) {
+            histogram.record(nanos * 1000);
+        }
+        assertEquals(500_000_000.0, histogram.getPercentile(50), 500_000_000.0 * 0.04);
+        assertEquals(990_000_000.0, histogram.getPercentile(99), 990_000_000.0 * 0.04);
+        assertEquals(1_000_000_000L, histogram.getMax());
+    }
+
+    /**
+     * Test Case: UT-METRICS-003
+     * Verify metrics are published over JMX and to the snapshot file
+     */
+    @Test
+    public void testMetricsPublished() throws Exception {
+        assertTrue(metrics.registerMBean());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(MetricsRegistry.OBJECT_NAME);
+        TabularData calls = (TabularData) server.getAttribute(name, "CallCounts");
+        assertEquals(3L, calls.get(new Object[] {"SystemManager.authenticateUser"}).get("value"));
+
+        File snapshot = File.createTempFile("metrics", ".txt");
+        try {
+            metrics.startPeriodicDump(snapshot.getPath(), 3600);
+            metrics.stopPeriodicDump();
+            String text = new String(Files.readAllBytes(snapshot.toPath()));
+            assertTrue(text.contains("counter login.failure 2"));
+            assertTrue(text.contains("timer SystemManager.authenticateUser count=3"));
+        } finally {
+            snapshot.delete();
+        }
+    }
+}
@@ -0,0 +1,197 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for Notification functionality
+ * Tests routing of state changes into inboxes and their persistence through the outbox
+ *
+ * Test Coverage:
+ * - Notifications reaching the right users
+ * - Restoring inboxes and read state after a restart
+ * - Inbox ring buffer keeping the newest notifications
+ * - No notification lost when one operation publishes many events
+ * - Outbox compaction after a replay
+ *
+ * @see NotificationCenter
+ * @see NotificationInbox
+ * @see NotificationOutbox
+ */
+public class NotificationTest {
+    private SystemManager systemManager;
+    private File outboxFile;
+
+    @Before
+    public void setUp() throws IOException {
+        systemManager = new SystemManager();
+
+        // Load test data from CSV files
+        systemManager.initializeSystem(
+            "sample_student_list.csv",
+            "sample_staff_list.csv",
+            "sample_company_representative_list.csv"
+        );
+
+        outboxFile = File.createTempFile("notifications", ".txt");
+        outboxFile.delete();
+    }
+
+    @After
+    public void tearDown() {
+        outboxFile.delete();
+        new File(outboxFile.getPath() + ".tmp").delete();
+        systemManager = null;
+    }
+
+    /**
+     * Test Case: UT-NOTIF-001
+     * Verify notifications reach the right inboxes and survive a restart through the outbox
+     */
+    @Test
+    public void testNotificationInboxesPersistAcrossRestart() {
+        systemManager.enableNotificationOutbox(outboxFile.getPath());
+
+        CompanyRepresentative rep = systemManager.registerCompanyRepresentative(
+            "rep@notify.com", "Notify Rep", "password", "Notify Corp", "HR", "Recruiter");
+        assertEquals("Staff are told about registrations", 1,
+            systemManager.getNotificationInbox("sng001").getUnreadCount());
+        systemManager.approveRepresentatives(Arrays.asList(rep));
+
+        InternshipOpportunity opp = createInternship(rep);
+        Student student = (Student) systemManager.findUserByID("U2310001A");
+        assertTrue(systemManager.getApplicationManager().submitApplication(student, opp));
+        Application app = systemManager.getApplicationManager().getApplicationsByStudent(student).get(0);
+        systemManager.getApplicationManager().updateApplicationStatus(app, "Successful");
+
+        assertEquals("Rep is told about approval and the new application", 2,
+            systemManager.getNotificationInbox(rep.getUserID()).getUnreadCount());
+        assertEquals(1, systemManager.getNotificationInbox(student.getUserID()).getUnreadCount());
+        assertTrue(systemManager.getNotificationInbox(student.getUserID()).getUnread().get(0).contains("Successful"));
+        systemManager.markNotificationsRead(student.getUserID());
+        systemManager.endSession();
+
+        // One registration notice per staff member, two for the rep and one for the student
+        long staffNotifications = systemManager.getAllUsers().stream()
+            .filter(u -> u instanceof CareerCenterStaff).count();
+        long repNotifications = 2;
+        long studentNotifications = 1;
+        SystemManager restarted = new SystemManager();
+        assertEquals("Every notification is restored", staffNotifications + repNotifications + studentNotifications,
+            restarted.enableNotificationOutbox(outboxFile.getPath()));
+        assertEquals(2, restarted.getNotificationInbox(rep.getUserID()).getUnreadCount());
+        assertEquals("Read state is restored", 0, restarted.getNotificationInbox(student.getUserID()).getUnreadCount());
+        assertEquals(1, restarted.getNotificationInbox(student.getUserID()).size());
+    }
+
+    /**
+     * Test Case: UT-NOTIF-002
+     * Verify a full inbox drops its oldest notification and keeps the unread count in range
+     */
+    @Test
+    public void testInboxKeepsNewestNotifications() {
+        NotificationInbox ring = new NotificationInbox(2);
+        ring.add(1L, "first");
+        ring.add(2L, "second");
+        ring.add(3L, "third");
+
+        assertEquals("Capacity is never exceeded", 2, ring.size());
+        assertEquals(2, ring.getUnreadCount());
+        assertTrue("Oldest notification was dropped", ring.getAll().get(0).endsWith("second"));
+        assertTrue(ring.getAll().get(1).endsWith("third"));
+
+        ring.markAllRead();
+        ring.add(4L, "fourth");
+        assertEquals(1, ring.getUnreadCount());
+        assertTrue(ring.getUnread().get(0).endsWith("fourth"));
+    }
+
+    /**
+     * Test Case: UT-NOTIF-003
+     * Verify no notification is lost when one operation publishes more events than a
+     * buffered subscription holds
+     */
+    @Test
+    public void testBurstOfEventsIsNotLost() throws IOException {
+        systemManager.enableNotificationOutbox(outboxFile.getPath());
+        Application app = createApplication();
+        int events = EventBus.DEFAULT_QUEUE_CAPACITY * 40;
+
+        for (int i = 0; i < events; i++) {
+            systemManager.getEventBus().publish(StateChangeEvent.forApplication(
+                StateChangeEvent.Type.APPLICATION_STATUS_CHANGED, app, "Pending", "Unsuccessful " + i));
+        }
+        NotificationInbox inbox = systemManager.getNotificationInbox(app.getStudent().getUserID());
+        assertEquals("Inbox is up to date without a delivery step", NotificationInbox.DEFAULT_CAPACITY,
+            inbox.getUnreadCount());
+        assertTrue(inbox.getAll().get(NotificationInbox.DEFAULT_CAPACITY - 1).contains("Unsuccessful " + (events - 1)));
+
+        systemManager.endSession();
+        assertEquals("Every notification reaches the outbox", events,
+            countNotifications(app.getStudent().getUserID()));
+    }
+
+    /**
+     * Test Case: UT-NOTIF-004
+     * Verify the outbox is rewritten after a replay with only what the inboxes kept
+     */
+    @Test
+    public void testOutboxCompactedAfterReplay() throws IOException {
+        systemManager.enableNotificationOutbox(outboxFile.getPath());
+        Application app = createApplication();
+        String studentID = app.getStudent().getUserID();
+        int events = NotificationInbox.DEFAULT_CAPACITY * 3;
+        int unread = 5;
+
+        for (int i = 0; i < events; i++) {
+            if (i == events - unread) {
+                systemManager.markNotificationsRead(studentID);
+            }
+            systemManager.getEventBus().publish(StateChangeEvent.forApplication(
+                StateChangeEvent.Type.APPLICATION_STATUS_CHANGED, app, "Pending", "Unsuccessful " + i));
+        }
+        systemManager.endSession();
+        assertEquals(events, countNotifications(studentID));
+
+        SystemManager restarted = new SystemManager();
+        assertTrue("The first replay reads the whole file",
+            restarted.enableNotificationOutbox(outboxFile.getPath()) > events);
+        assertEquals("Only the inbox contents are kept", NotificationInbox.DEFAULT_CAPACITY,
+            countNotifications(studentID));
+
+        SystemManager compacted = new SystemManager();
+        compacted.enableNotificationOutbox(outboxFile.getPath());
+        assertEquals("Replaying the compacted file changes nothing", NotificationInbox.DEFAULT_CAPACITY,
+            countNotifications(studentID));
+        NotificationInbox inbox = compacted.getNotificationInbox(studentID);
+        assertEquals(NotificationInbox.DEFAULT_CAPACITY, inbox.size());
+        assertEquals("Read state survives the rewrite", unread, inbox.getUnreadCount());
+        assertTrue(inbox.getUnread().get(unread - 1).contains("Unsuccessful " + (events - 1)));
+        assertTrue(inbox.getAll().get(0).contains("Unsuccessful " + (events - NotificationInbox.DEFAULT_CAPACITY)));
+    }
+
+    private InternshipOpportunity createInternship(CompanyRepresentative rep) {
+        InternshipOpportunity opp = new InternshipOpportunity("Notify Intern", "Desc", "Basic", "Computer Science",
+            LocalDate.now(), LocalDate.now().plusDays(10), "Notify Corp", rep.getUserID(), 1);
+        systemManager.getInternshipManager().addInternship(opp);
+        systemManager.getInternshipManager().approveInternship(opp);
+        return opp;
+    }
+
+    private Application createApplication() {
+        CompanyRepresentative rep = systemManager.registerCompanyRepresentative(
+            "burst@notify.com", "Burst Rep", "password", "Notify Corp", "HR", "Recruiter");
+        systemManager.approveRepresentatives(Arrays.asList(rep));
+        Student student = (Student) systemManager.findUserByID("U2310001A");
+        return new Application(student, createInternship(rep));
+    }
+
+    private long countNotifications(String userID) throws IOException {
+        List<String> lines = Files.readAllLines(outboxFile.toPath());
+        return lines.stream().filter(line -> line.startsWith("N\t") && line.split("\t")[2].equals(userID)).count();
+    }
+}
@@ -0,0 +1,89 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Unit tests for the synthetic population generator
+ * Tests generated users, internships and application histories
+ *
+ * Test Coverage:
+ * - Deterministic output for a seed
+ * - Slot and 3-application limits in the generated history
+ * - Generated CSV files loading as user data
+ *
+ * @see PopulationGenerator
+ */
+public class PopulationGeneratorTest {
+    private Path dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = TemporaryDirectory.create("population");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        TemporaryDirectory.delete(dir);
+    }
+
+    /**
+     * Test Case: UT-POP-001
+     * Verify a generated population is deterministic, respects slot limits and loads as user data
+     */
+    @Test
+    public void testGeneratedPopulationLoads() throws IOException {
+        LocalDate base = LocalDate.of(2025, 6, 1);
+        PopulationGenerator generator = new PopulationGenerator(7, base, 500, 20, 100);
+        long rows = generator.writeAll(dir, 4);
+        int applicationRows = Files.readAllLines(dir.resolve(PopulationGenerator.APPLICATION_FILE)).size() - 1;
+        assertEquals(500 + 4 + 20 + 100, rows - applicationRows);
+
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        Map<Integer, Integer> placed = new HashMap<>();
+        Set<Integer> accepted = new HashSet<>();
+        Map<Integer, Integer> perStudent = new HashMap<>();
+        generator.generateApplications(app -> {
+            first.add(app.getApplicationID() + app.getStudentIndex() + app.getInternshipIndex() + app.getStatus());
+            perStudent.merge(app.getStudentIndex(), 1, Integer::sum);
+            if ("Successful".equals(app.getStatus()) || "Accepted".equals(app.getStatus())) {
+                placed.merge(app.getInternshipIndex(), 1, Integer::sum);
+            }
+            if ("Accepted".equals(app.getStatus())) {
+                accepted.add(app.getStudentIndex());
+            }
+        });
+        new PopulationGenerator(7, base, 500, 20, 100).generateApplications(app ->
+            second.add(app.getApplicationID() + app.getStudentIndex() + app.getInternshipIndex() + app.getStatus()));
+        assertFalse(first.isEmpty());
+        assertEquals("Same seed gives the same history", first, second);
+        for (Map.Entry<Integer, Integer> entry : placed.entrySet()) {
+            assertTrue(entry.getValue() <= generator.internship(entry.getKey()).getNumSlots());
+        }
+        for (Map.Entry<Integer, Integer> entry : perStudent.entrySet()) {
+            assertTrue(entry.getValue() <= 3);
+            if (accepted.contains(entry.getKey())) {
+                assertEquals("Accepted students keep only their placement", 1, (int) entry.getValue());
+            }
+        }
+
+        SystemManager generated = new SystemManager();
+        generated.initializeSystem(dir.resolve(PopulationGenerator.STUDENT_FILE).toString(),
+                                   dir.resolve(PopulationGenerator.STAFF_FILE).toString(),
+                                   dir.resolve(PopulationGenerator.REPRESENTATIVE_FILE).toString());
+        assertEquals(500 + 4 + 20, generated.getAllUsers().size());
+        Student student = (Student) generated.authenticateUser(generator.studentID(42), "password");
+        assertNotNull(student);
+        assertEquals(generator.student(42).getMajor(), student.getMajor());
+        assertEquals(generator.student(42).getYearOfStudy(), student.getYearOfStudy());
+    }
+}
@@ -0,0 +1,77 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for the primitive ordinal-keyed collections
+ * Tests the maps against java.util maps under random churn
+ *
+ * Test Coverage:
+ * - Counter updates and removal of zero counts
+ * - Per-key lists with appends and removals
+ *
+ * @see IntIntHashMap
+ * @see IntIntListMap
+ */
+public class PrimitiveCollectionsTest {
+    private static final int OPERATIONS = 100_000;
+    private static final int KEYS = 500;
+    /** Spacing of the keys, so that they collide in the hash table */
+    private static final int STRIDE = 64;
+
+    /**
+     * Test Case: UT-PRIM-001
+     * Verify counters agree with a HashMap and drop entries that reach zero
+     */
+    @Test
+    public void testIntIntHashMapCounters() {
+        IntIntHashMap counts = new IntIntHashMap();
+        Map<Integer, Integer> expectedCounts = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < OPERATIONS; i++) {
+            int key = random.nextInt(KEYS) * STRIDE;
+            int delta = random.nextInt(3) - 1;
+            assertEquals(expectedCounts.merge(key, delta, Integer::sum).intValue(), counts.add(key, delta));
+            expectedCounts.remove(key, 0);
+        }
+        assertEquals(expectedCounts.size(), counts.size());
+        for (int key = 0; key < KEYS * STRIDE; key += STRIDE) {
+            assertEquals(expectedCounts.getOrDefault(key, 0).intValue(), counts.getOrDefault(key, 0));
+        }
+    }
+
+    /**
+     * Test Case: UT-PRIM-002
+     * Verify per-key lists agree with a HashMap of lists and keep insertion order
+     */
+    @Test
+    public void testIntIntListMapChurn() {
+        IntIntListMap lists = new IntIntListMap();
+        Map<Integer, List<Integer>> expectedLists = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < OPERATIONS; i++) {
+            int key = random.nextInt(KEYS) * STRIDE;
+            if (random.nextBoolean()) {
+                lists.add(key, i);
+                expectedLists.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            } else if (expectedLists.containsKey(key)) {
+                List<Integer> list = expectedLists.get(key);
+                int value = list.remove(random.nextInt(list.size()));
+                assertTrue(lists.remove(key, value));
+                if (list.isEmpty()) {
+                    expectedLists.remove(key);
+                }
+            }
+        }
+        assertEquals(expectedLists.size(), lists.keyCount());
+        for (int key = 0; key < KEYS * STRIDE; key += STRIDE) {
+            List<Integer> list = expectedLists.getOrDefault(key, Collections.emptyList());
+            assertArrayEquals(list.stream().mapToInt(Integer::intValue).toArray(), lists.toArray(key));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Unit tests for the off-heap student roster
+ * Tests loading students into the roster and hydrating them on demand
+ *
+ * Test Coverage:
+ * - No student object created at load time
+ * - Hydration on login and lookup, with the CSV details
+ * - One object per hydrated student
+ * - Reopening a roster file
+ *
+ * @see StudentRoster
+ * @see SystemManager#enableStudentRoster(String)
+ */
+public class StudentRosterTest {
+    private Path dir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = TemporaryDirectory.create("roster");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        TemporaryDirectory.delete(dir);
+    }
+
+    /**
+     * Test Case: UT-ROSTER-001
+     * Verify an off-heap student roster hydrates students only when they log in or are looked
+     * up, with the same details as the CSV and one object per student
+     */
+    @Test
+    public void testStudentRosterHydratesOnDemand() throws IOException {
+        PopulationGenerator generator = new PopulationGenerator(7, LocalDate.of(2025, 6, 1), 20_000, 20, 10);
+        generator.writeAll(dir, 4);
+
+        SystemManager manager = new SystemManager();
+        manager.enableStudentRoster(dir.resolve("students.roster").toString());
+        manager.initializeSystem(dir.resolve(PopulationGenerator.STUDENT_FILE).toString(),
+                                 dir.resolve(PopulationGenerator.STAFF_FILE).toString(),
+                                 dir.resolve(PopulationGenerator.REPRESENTATIVE_FILE).toString());
+        assertEquals(20_000, manager.getStudentRoster().size());
+        assertEquals("No student is on the heap before use", 4 + 20, manager.getAllUsers().size());
+
+        Student student = (Student) manager.authenticateUser(generator.studentID(12_345), "password");
+        assertNotNull(student);
+        assertEquals(generator.student(12_345).getName(), student.getName());
+        assertEquals(generator.student(12_345).getMajor(), student.getMajor());
+        assertEquals(generator.student(12_345).getYearOfStudy(), student.getYearOfStudy());
+        assertNull(manager.authenticateUser(generator.studentID(7), "wrong"));
+        assertSame(student, manager.findUserByID(generator.studentID(12_345)));
+        assertEquals("Hydrated students join the user list", 4 + 20 + 2, manager.getAllUsers().size());
+
+        assertNull(manager.findUserByID("U9999999Z"));
+        assertNull("Student IDs cannot be registered again",
+                   manager.registerCompanyRepresentative(generator.studentID(19_999), "X", "pw", "Co", "HR", "Rec"));
+        StudentRoster reopened = StudentRoster.open(dir.resolve("students.roster"));
+        assertTrue(reopened.contains(generator.studentID(0)));
+        assertEquals(generator.student(0).getMajor(), reopened.load(generator.studentID(0)).getMajor());
+    }
+}
@@ -0,0 +1,46 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Helper for tests that write generated data files to a temporary directory.
+ * <p>
+ * Tests create the directory with {@link #create(String)} and remove it with everything in
+ * it through {@link #delete(Path)} in {@code @After} or a {@code finally} block, so repeated
+ * runs do not fill the system temporary directory.
+ * </p>
+ */
+public final class TemporaryDirectory {
+    private TemporaryDirectory() {
+    }
+
+    /**
+     * Creates an empty directory in the system temporary directory.
+     *
+     * @param prefix the prefix of the directory name
+     * @return the new directory
+     * @throws IOException if the directory cannot be created
+     */
+    public static Path create(String prefix) throws IOException {
+        return Files.createTempDirectory(prefix);
+    }
+
+    /**
+     * Deletes a directory and everything in it. Does nothing if the path is null or absent.
+     *
+     * @param directory the directory to delete
+     * @throws IOException if a file cannot be deleted
+     */
+    public static void delete(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}